@@ -0,0 +1,91 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.benchmarks.model.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+/**
+ * Compares bean property access through method handles and through reflection.
+ *
+ * @see BeanContext#BEAN_useMethodHandles
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class BeanAccessorBenchmark {
+
+	/** The value of {@link BeanContext#BEAN_useMethodHandles}. */
+	@Param({"true", "false"})
+	public boolean useMethodHandles;
+
+	private BeanMap<FlatBean> m;
+	private String[] names;
+	private Object[] values;
+
+	/**
+	 * Creates the bean map.
+	 */
+	@Setup
+	public void setup() {
+		BeanSession session = PropertyStore.create()
+			.setProperty(BeanContext.BEAN_useMethodHandles, useMethodHandles)
+			.getBeanContext()
+			.createSession();
+		m = session.toBeanMap(FlatBean.create(1));
+		names = m.keySet().toArray(new String[0]);
+		values = new Object[names.length];
+		for (int i = 0; i < names.length; i++)
+			values[i] = m.get(names[i]);
+	}
+
+	/**
+	 * Reads every property through {@link BeanMap#get(Object)}.
+	 *
+	 * @param bh Consumes the property values.
+	 */
+	@Benchmark
+	public void get(Blackhole bh) {
+		for (String n : names)
+			bh.consume(m.get(n));
+	}
+
+	/**
+	 * Writes every property through {@link BeanMap#put(String, Object)}.
+	 *
+	 * @param bh Consumes the previous property values.
+	 */
+	@Benchmark
+	public void put(Blackhole bh) {
+		for (int i = 0; i < names.length; i++)
+			bh.consume(m.put(names[i], values[i]));
+	}
+
+	/**
+	 * Reads every property through {@link BeanMap#getValues(boolean, BeanPropertyValue...)}.
+	 *
+	 * @return The property values.
+	 */
+	@Benchmark
+	public List<BeanPropertyValue> getValues() {
+		return m.getValues(false);
+	}
+}
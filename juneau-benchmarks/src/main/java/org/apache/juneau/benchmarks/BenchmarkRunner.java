@@ -0,0 +1,64 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.results.format.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Entry point of the benchmarks jar.
+ *
+ * <p>
+ * Accepts the same command-line options as the standard JMH runner, but defaults to writing the results as JSON
+ * to <l>jmh-result.json</l> in the working directory and to running the GC profiler so that allocation rates are
+ * included in the results.
+ *
+ * <h6 class='topic'>Example:</h6>
+ * <p class='bcode'>
+ * 	<jc>// Run everything.</jc>
+ * 	java -jar target/benchmarks.jar
+ *
+ * 	<jc>// Run only the JSON serializer benchmarks and write the results to a commit-specific file.</jc>
+ * 	java -jar target/benchmarks.jar SerializerBenchmark -p format=JSON -rff results-$(git rev-parse --short HEAD).json
+ * </p>
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Runs the benchmarks.
+	 *
+	 * @param args JMH command-line options.
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cmd = new CommandLineOptions(args);
+		if (cmd.shouldHelp()) {
+			cmd.showHelp();
+			return;
+		}
+
+		ChainedOptionsBuilder b = new OptionsBuilder().parent(cmd);
+		if (! cmd.getResultFormat().hasValue())
+			b.resultFormat(ResultFormatType.JSON);
+		if (cmd.getProfilers().isEmpty())
+			b.addProfiler(GCProfiler.class);
+
+		Runner runner = new Runner(b.build());
+		if (cmd.shouldList())
+			runner.list();
+		else
+			runner.run();
+	}
+}
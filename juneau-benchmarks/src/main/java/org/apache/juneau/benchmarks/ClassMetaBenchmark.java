@@ -0,0 +1,55 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Cold-start cost of {@link BeanContext#getClassMeta(java.lang.reflect.Type, java.lang.reflect.Type...)}.
+ *
+ * <p>
+ * Class metadata is cached per combination of bean context properties, so each invocation uses a bean context with
+ * a unique property value to start with an empty cache.
+ * Runs as single-shot batches since every invocation leaves a new cache behind.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations=5, batchSize=100)
+@Measurement(iterations=10, batchSize=100)
+public class ClassMetaBenchmark {
+
+	private static final AtomicLong COUNTER = new AtomicLong();
+
+	/** The model whose class metadata is built. */
+	@Param
+	public Model model;
+
+	/**
+	 * Builds the class metadata of the model in a new bean context.
+	 *
+	 * @return The class metadata.
+	 */
+	@Benchmark
+	public ClassMeta<?> getClassMeta() {
+		BeanContext bc = PropertyStore.create()
+			.setProperty("Bean.benchmarkId", COUNTER.incrementAndGet())
+			.getBeanContext();
+		return bc.getClassMeta(model.getType(), model.getArgs());
+	}
+}
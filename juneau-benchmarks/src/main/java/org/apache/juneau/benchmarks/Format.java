@@ -0,0 +1,92 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.apache.juneau.html.*;
+import org.apache.juneau.jena.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+
+/**
+ * The serializer/parser pairs that the benchmarks run against.
+ *
+ * <p>
+ * Covers every language that has both a serializer and a parser.
+ * CSV, plain-text, and Java-serialized-object support are left out since they only handle a subset of the models.
+ */
+public enum Format {
+
+	/** {@link JsonSerializer#DEFAULT} and {@link JsonParser#DEFAULT}. */
+	JSON(JsonSerializer.DEFAULT, JsonParser.DEFAULT),
+
+	/** {@link JsonSerializer#DEFAULT_LAX} and {@link JsonParser#DEFAULT}. */
+	JSON_SIMPLE(JsonSerializer.DEFAULT_LAX, JsonParser.DEFAULT),
+
+	/** {@link XmlSerializer#DEFAULT} and {@link XmlParser#DEFAULT}. */
+	XML(XmlSerializer.DEFAULT, XmlParser.DEFAULT),
+
+	/** {@link HtmlSerializer#DEFAULT} and {@link HtmlParser#DEFAULT}. */
+	HTML(HtmlSerializer.DEFAULT, HtmlParser.DEFAULT),
+
+	/** {@link UonSerializer#DEFAULT} and {@link UonParser#DEFAULT}. */
+	UON(UonSerializer.DEFAULT, UonParser.DEFAULT),
+
+	/** {@link UrlEncodingSerializer#DEFAULT} and {@link UrlEncodingParser#DEFAULT}. */
+	URLENCODING(UrlEncodingSerializer.DEFAULT, UrlEncodingParser.DEFAULT),
+
+	/** {@link MsgPackSerializer#DEFAULT} and {@link MsgPackParser#DEFAULT}. */
+	MSGPACK(MsgPackSerializer.DEFAULT, MsgPackParser.DEFAULT),
+
+	/** {@link RdfSerializer#DEFAULT_XML} and {@link RdfParser#DEFAULT_XML}. */
+	RDF_XML(RdfSerializer.DEFAULT_XML, RdfParser.DEFAULT_XML),
+
+	/** {@link RdfSerializer#DEFAULT_NTRIPLE} and {@link RdfParser#DEFAULT_NTRIPLE}. */
+	RDF_NTRIPLE(RdfSerializer.DEFAULT_NTRIPLE, RdfParser.DEFAULT_NTRIPLE),
+
+	/** {@link RdfSerializer#DEFAULT_TURTLE} and {@link RdfParser#DEFAULT_TURTLE}. */
+	RDF_TURTLE(RdfSerializer.DEFAULT_TURTLE, RdfParser.DEFAULT_TURTLE),
+
+	/** {@link RdfSerializer#DEFAULT_N3} and {@link RdfParser#DEFAULT_N3}. */
+	RDF_N3(RdfSerializer.DEFAULT_N3, RdfParser.DEFAULT_N3);
+
+	private final Serializer serializer;
+	private final Parser parser;
+
+	private Format(Serializer serializer, Parser parser) {
+		this.serializer = serializer;
+		this.parser = parser;
+	}
+
+	/**
+	 * Returns the serializer for this format.
+	 *
+	 * @return The serializer for this format.
+	 */
+	public Serializer getSerializer() {
+		return serializer;
+	}
+
+	/**
+	 * Returns the parser for this format.
+	 *
+	 * @return The parser for this format.
+	 */
+	public Parser getParser() {
+		return parser;
+	}
+}
@@ -0,0 +1,117 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.benchmarks.model.*;
+
+/**
+ * The object models that the serializer and parser benchmarks run against.
+ */
+public enum Model {
+
+	/** A single bean with simple properties. */
+	FLAT(FlatBean.class) {
+		@Override /* Model */
+		public Object create() {
+			return FlatBean.create(1);
+		}
+	},
+
+	/** A tree of nested beans, 6 levels deep with 3 children per node. */
+	DEEP(TreeNode.class) {
+		@Override /* Model */
+		public Object create() {
+			return TreeNode.create(6, 3);
+		}
+	},
+
+	/** A list of 1000 simple beans. */
+	LARGE(LinkedList.class, FlatBean.class) {
+		@Override /* Model */
+		public Object create() {
+			List<FlatBean> l = new LinkedList<>();
+			for (int i = 0; i < 1000; i++)
+				l.add(FlatBean.create(i));
+			return l;
+		}
+	},
+
+	/** A map of 100 simple beans. */
+	MAP(TreeMap.class, String.class, FlatBean.class) {
+		@Override /* Model */
+		public Object create() {
+			Map<String,FlatBean> m = new TreeMap<>();
+			for (int i = 0; i < 100; i++)
+				m.put("key" + i, FlatBean.create(i));
+			return m;
+		}
+	},
+
+	/** A list of 100 beans with date properties. */
+	DATES(LinkedList.class, DateBean.class) {
+		@Override /* Model */
+		public Object create() {
+			List<DateBean> l = new LinkedList<>();
+			for (int i = 0; i < 100; i++)
+				l.add(DateBean.create(i));
+			return l;
+		}
+	},
+
+	/** A list of 100 beans with swapped properties. */
+	SWAPS(LinkedList.class, SwapBean.class) {
+		@Override /* Model */
+		public Object create() {
+			List<SwapBean> l = new LinkedList<>();
+			for (int i = 0; i < 100; i++)
+				l.add(SwapBean.create(i));
+			return l;
+		}
+	};
+
+	private final Type type;
+	private final Type[] args;
+
+	private Model(Type type, Type...args) {
+		this.type = type;
+		this.args = args;
+	}
+
+	/**
+	 * Creates a new instance of this model.
+	 *
+	 * @return A new instance of this model.
+	 */
+	public abstract Object create();
+
+	/**
+	 * Returns the type to pass to the parser.
+	 *
+	 * @return The type to pass to the parser.
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the type arguments to pass to the parser.
+	 *
+	 * @return The type arguments to pass to the parser.
+	 */
+	public Type[] getArgs() {
+		return args;
+	}
+}
@@ -0,0 +1,64 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Parse throughput of every {@link Format} against every {@link Model}.
+ *
+ * <p>
+ * The {@link Model#FLAT} results for {@link Format#XML} and {@link Format#HTML} show the per-parse overhead on small
+ * documents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class ParserBenchmark {
+
+	/** The parser to test. */
+	@Param
+	public Format format;
+
+	/** The object to parse. */
+	@Param
+	public Model model;
+
+	private Object input;
+
+	/**
+	 * Serializes the model to produce the input to parse.
+	 *
+	 * @throws Exception
+	 */
+	@Setup
+	public void setup() throws Exception {
+		input = format.getSerializer().serialize(model.create());
+	}
+
+	/**
+	 * Parses the model.
+	 *
+	 * @return The parsed object.
+	 * @throws Exception
+	 */
+	@Benchmark
+	public Object parse() throws Exception {
+		return format.getParser().parse(input, model.getType(), model.getArgs());
+	}
+}
@@ -0,0 +1,58 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Serialization throughput of every {@link Format} against every {@link Model}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class SerializerBenchmark {
+
+	/** The serializer to test. */
+	@Param
+	public Format format;
+
+	/** The object to serialize. */
+	@Param
+	public Model model;
+
+	private Object o;
+
+	/**
+	 * Creates the object to serialize.
+	 */
+	@Setup
+	public void setup() {
+		o = model.create();
+	}
+
+	/**
+	 * Serializes the model.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception
+	 */
+	@Benchmark
+	public Object serialize() throws Exception {
+		return format.getSerializer().serialize(o);
+	}
+}
@@ -0,0 +1,68 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.benchmarks.model.*;
+import org.apache.juneau.http.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.serializer.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares creating a new serializer session per call with reusing pooled sessions when serializing small payloads.
+ *
+ * <p>
+ * Session arguments are created on every call with the same properties map, the same way REST responses are
+ * serialized.
+ * Run with the GC profiler (the default in {@link BenchmarkRunner}) to see the allocation rate per operation.
+ *
+ * @see Serializer#acquireSession(SerializerSessionArgs)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class SessionPoolingBenchmark {
+
+	/** Whether sessions are acquired from and released to the serializer's pool. */
+	@Param({"true", "false"})
+	public boolean pooled;
+
+	private final Serializer s = JsonSerializer.DEFAULT;
+	private final ObjectMap properties = new ObjectMap();
+	private final FlatBean o = FlatBean.create(1);
+
+	/**
+	 * Serializes a small bean.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception
+	 */
+	@Benchmark
+	public Object serialize() throws Exception {
+		SerializerSessionArgs args = new SerializerSessionArgs(properties, null, null, null, MediaType.JSON, null);
+		if (! pooled)
+			return s.createSession(args).serialize(o);
+		SerializerSession session = s.acquireSession(args);
+		try {
+			return session.serialize(o);
+		} finally {
+			s.releaseSession(session);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.model;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.transforms.*;
+
+/**
+ * A bean with date properties converted through the built-in date swaps.
+ */
+@SuppressWarnings("javadoc")
+public class DateBean {
+
+	@Swap(DateSwap.ISO8601DT.class)
+	public Date created;
+
+	@Swap(CalendarSwap.ISO8601DTZ.class)
+	public Calendar updated;
+
+	@Swap(DateLongSwap.class)
+	public Date expires;
+
+	/**
+	 * Creates a populated instance.
+	 *
+	 * @param i A value used to make each instance different.
+	 * @return A new bean.
+	 */
+	public static DateBean create(int i) {
+		DateBean b = new DateBean();
+		long t = 1500000000000L + i * 1000L;
+		b.created = new Date(t);
+		b.updated = new GregorianCalendar(TimeZone.getTimeZone("GMT"));
+		b.updated.setTimeInMillis(t);
+		b.expires = new Date(t + 86400000L);
+		return b;
+	}
+}
@@ -0,0 +1,43 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.model;
+
+/**
+ * A bean with only simple properties.
+ */
+@SuppressWarnings("javadoc")
+public class FlatBean {
+
+	public String name, description;
+	public int id;
+	public long timestamp;
+	public double amount;
+	public boolean active;
+
+	/**
+	 * Creates a populated instance.
+	 *
+	 * @param i A value used to make each instance different.
+	 * @return A new bean.
+	 */
+	public static FlatBean create(int i) {
+		FlatBean b = new FlatBean();
+		b.name = "name" + i;
+		b.description = "Description of bean number " + i;
+		b.id = i;
+		b.timestamp = 1500000000000L + i;
+		b.amount = i * 1.25;
+		b.active = i % 2 == 0;
+		return b;
+	}
+}
@@ -0,0 +1,80 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.model;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.transforms.*;
+
+/**
+ * A bean with properties converted through POJO swaps.
+ */
+@SuppressWarnings("javadoc")
+public class SwapBean {
+
+	@Swap(ByteArrayBase64Swap.class)
+	public byte[] data;
+
+	public Point location;
+
+	public Point[] path;
+
+	/**
+	 * Creates a populated instance.
+	 *
+	 * @param i A value used to make each instance different.
+	 * @return A new bean.
+	 */
+	public static SwapBean create(int i) {
+		SwapBean b = new SwapBean();
+		b.data = new byte[64];
+		for (int j = 0; j < b.data.length; j++)
+			b.data[j] = (byte)(i + j);
+		b.location = new Point(i, i+1);
+		b.path = new Point[10];
+		for (int j = 0; j < b.path.length; j++)
+			b.path[j] = new Point(i+j, i-j);
+		return b;
+	}
+
+	/**
+	 * A value class serialized as a <js>"x,y"</js> string.
+	 */
+	@Swap(PointSwap.class)
+	public static class Point {
+		public final int x, y;
+
+		public Point(int x, int y) {
+			this.x = x;
+			this.y = y;
+		}
+	}
+
+	/**
+	 * Converts {@link Point} objects to and from strings.
+	 */
+	public static class PointSwap extends StringSwap<Point> {
+
+		@Override /* PojoSwap */
+		public String swap(BeanSession session, Point o) {
+			return o.x + "," + o.y;
+		}
+
+		@Override /* PojoSwap */
+		public Point unswap(BeanSession session, String f, ClassMeta<?> hint) {
+			int i = f.indexOf(',');
+			return new Point(Integer.parseInt(f.substring(0, i)), Integer.parseInt(f.substring(i+1)));
+		}
+	}
+}
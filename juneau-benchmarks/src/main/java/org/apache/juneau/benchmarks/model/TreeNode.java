@@ -0,0 +1,49 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.model;
+
+import java.util.*;
+
+/**
+ * A bean that nests copies of itself.
+ */
+@SuppressWarnings("javadoc")
+public class TreeNode {
+
+	public String name;
+	public int value;
+	public List<TreeNode> children;
+
+	/**
+	 * Creates a tree where every non-leaf node has the same number of children.
+	 *
+	 * @param depth The number of levels below this node.
+	 * @param fanout The number of children of each non-leaf node.
+	 * @return The root node.
+	 */
+	public static TreeNode create(int depth, int fanout) {
+		return create("n", depth, fanout);
+	}
+
+	private static TreeNode create(String name, int depth, int fanout) {
+		TreeNode n = new TreeNode();
+		n.name = name;
+		n.value = name.length();
+		if (depth > 0) {
+			n.children = new ArrayList<>(fanout);
+			for (int i = 0; i < fanout; i++)
+				n.children.add(create(name + i, depth-1, fanout));
+		}
+		return n;
+	}
+}
@@ -0,0 +1,61 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.rest;
+
+import static javax.servlet.http.HttpServletResponse.*;
+
+import org.apache.juneau.benchmarks.model.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * The REST resource used by the REST benchmarks.
+ */
+@RestResource(
+	path="/benchmark"
+)
+@SuppressWarnings("serial")
+public class BenchmarkResource extends RestServletDefault {
+
+	private final FlatBean bean = FlatBean.create(1);
+
+	/**
+	 * GET request that returns a short string.
+	 *
+	 * @return A short string.
+	 */
+	@RestMethod(name="GET", path="/hello")
+	public String hello() {
+		return "hello";
+	}
+
+	/**
+	 * GET request that returns a small bean.
+	 *
+	 * @return A small bean.
+	 */
+	@RestMethod(name="GET", path="/bean")
+	public FlatBean bean() {
+		return bean;
+	}
+
+	/**
+	 * GET request that always fails.
+	 *
+	 * @throws RestException Always.
+	 */
+	@RestMethod(name="GET", path="/error")
+	public void error() throws RestException {
+		throw new RestException(SC_INTERNAL_SERVER_ERROR, "Benchmark error");
+	}
+}
@@ -0,0 +1,236 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.rest;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+
+/**
+ * Creates servlets, requests, and responses that run without a servlet container.
+ *
+ * <p>
+ * Requests and responses are dynamic proxies that implement just enough of the servlet API for a request to go
+ * through {@link HttpServlet#service(ServletRequest, ServletResponse)}.
+ * Response bodies are discarded.
+ */
+public final class MockServlet {
+
+	private MockServlet() {}
+
+	/**
+	 * Instantiates and initializes a servlet.
+	 *
+	 * @param c The servlet class.
+	 * @return The initialized servlet.
+	 * @throws Exception
+	 */
+	public static <T extends HttpServlet> T create(Class<T> c) throws Exception {
+		T servlet = c.newInstance();
+		final ServletContext sc = proxy(ServletContext.class, new Handler() {
+			@Override
+			Object invoke(String name, Object[] args) {
+				if (name.equals("getContextPath"))
+					return "";
+				if (name.equals("getInitParameterNames") || name.equals("getAttributeNames"))
+					return Collections.enumeration(Collections.emptyList());
+				return null;
+			}
+		});
+		servlet.init(proxy(ServletConfig.class, new Handler() {
+			@Override
+			Object invoke(String name, Object[] args) {
+				if (name.equals("getServletContext"))
+					return sc;
+				if (name.equals("getServletName"))
+					return "benchmark";
+				if (name.equals("getInitParameterNames"))
+					return Collections.enumeration(Collections.emptyList());
+				return null;
+			}
+		}));
+		return servlet;
+	}
+
+	/**
+	 * Creates a request with no body.
+	 *
+	 * @param method The HTTP method.
+	 * @param path The path relative to the servlet.
+	 * @param headers Header names and values.
+	 * @return A new request.
+	 */
+	public static HttpServletRequest request(final String method, final String path, String...headers) {
+		final Map<String,String> h = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		for (int i = 0; i < headers.length; i += 2)
+			h.put(headers[i], headers[i+1]);
+		final Map<String,Object> attributes = new HashMap<>();
+		return proxy(HttpServletRequest.class, new Handler() {
+			@Override
+			Object invoke(String name, Object[] args) {
+				switch (name) {
+					case "getMethod": return method;
+					case "getPathInfo": return path;
+					case "getRequestURI": return path;
+					case "getRequestURL": return new StringBuffer("http://localhost").append(path);
+					case "getServletPath": return "";
+					case "getContextPath": return "";
+					case "getScheme": return "http";
+					case "getServerName": return "localhost";
+					case "getServerPort": return 80;
+					case "getProtocol": return "HTTP/1.1";
+					case "getCharacterEncoding": return "UTF-8";
+					case "getContentLength": return -1;
+					case "getLocale": return Locale.US;
+					case "getLocales": return Collections.enumeration(Collections.singletonList(Locale.US));
+					case "getDispatcherType": return DispatcherType.REQUEST;
+					case "getHeader": return h.get(args[0]);
+					case "getHeaders": return Collections.enumeration(h.containsKey(args[0]) ? Collections.singletonList(h.get(args[0])) : Collections.<String>emptyList());
+					case "getHeaderNames": return Collections.enumeration(h.keySet());
+					case "getDateHeader": return -1L;
+					case "getIntHeader": return -1;
+					case "getParameterMap": return Collections.emptyMap();
+					case "getParameterNames": return Collections.enumeration(Collections.emptyList());
+					case "getAttribute": return attributes.get(args[0]);
+					case "setAttribute": attributes.put((String)args[0], args[1]); return null;
+					case "removeAttribute": attributes.remove(args[0]); return null;
+					case "getAttributeNames": return Collections.enumeration(attributes.keySet());
+					case "getInputStream": return new EmptyInputStream();
+					case "getReader": return new BufferedReader(new StringReader(""));
+					default: return null;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Creates a response that discards its body.
+	 *
+	 * @return A new response.
+	 */
+	public static HttpServletResponse response() {
+		final Map<String,String> h = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		final ServletOutputStream os = new NullOutputStream();
+		return proxy(HttpServletResponse.class, new Handler() {
+			int status = 200;
+			String contentType, characterEncoding = "ISO-8859-1";
+			PrintWriter writer;
+
+			@Override
+			Object invoke(String name, Object[] args) throws Exception {
+				switch (name) {
+					case "setStatus": status = (Integer)args[0]; return null;
+					case "sendError": status = (Integer)args[0]; return null;
+					case "getStatus": return status;
+					case "setContentType": contentType = (String)args[0]; return null;
+					case "getContentType": return contentType;
+					case "setCharacterEncoding": characterEncoding = (String)args[0]; return null;
+					case "getCharacterEncoding": return characterEncoding;
+					case "setHeader":
+					case "addHeader": h.put((String)args[0], String.valueOf(args[1])); return null;
+					case "setIntHeader":
+					case "addIntHeader":
+					case "setDateHeader":
+					case "addDateHeader": h.put((String)args[0], String.valueOf(args[1])); return null;
+					case "getHeader": return h.get(args[0]);
+					case "containsHeader": return h.containsKey(args[0]);
+					case "getOutputStream": return os;
+					case "getWriter":
+						if (writer == null)
+							writer = new PrintWriter(new OutputStreamWriter(os, characterEncoding));
+						return writer;
+					case "getLocale": return Locale.US;
+					default: return null;
+				}
+			}
+		});
+	}
+
+	private static <T> T proxy(Class<T> c, Handler h) {
+		return c.cast(Proxy.newProxyInstance(MockServlet.class.getClassLoader(), new Class<?>[]{c}, h));
+	}
+
+	private abstract static class Handler implements InvocationHandler {
+
+		abstract Object invoke(String name, Object[] args) throws Exception;
+
+		@Override /* InvocationHandler */
+		public Object invoke(Object proxy, Method m, Object[] args) throws Throwable {
+			String name = m.getName();
+			if (m.getDeclaringClass() == Object.class) {
+				if (name.equals("equals"))
+					return proxy == args[0];
+				if (name.equals("hashCode"))
+					return System.identityHashCode(proxy);
+				return getClass().getName();
+			}
+			Object o = invoke(name, args);
+			if (o == null && m.getReturnType().isPrimitive())
+				return defaultValue(m.getReturnType());
+			return o;
+		}
+
+		private static Object defaultValue(Class<?> c) {
+			if (c == boolean.class)
+				return false;
+			if (c == long.class)
+				return 0L;
+			if (c == int.class)
+				return 0;
+			if (c == void.class)
+				return null;
+			return Array.get(Array.newInstance(c, 1), 0);
+		}
+	}
+
+	private static final class NullOutputStream extends ServletOutputStream {
+
+		@Override /* OutputStream */
+		public void write(int b) {}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) {}
+
+		@Override /* ServletOutputStream */
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override /* ServletOutputStream */
+		public void setWriteListener(WriteListener writeListener) {}
+	}
+
+	private static final class EmptyInputStream extends ServletInputStream {
+
+		@Override /* InputStream */
+		public int read() {
+			return -1;
+		}
+
+		@Override /* ServletInputStream */
+		public boolean isFinished() {
+			return true;
+		}
+
+		@Override /* ServletInputStream */
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override /* ServletInputStream */
+		public void setReadListener(ReadListener readListener) {}
+	}
+}
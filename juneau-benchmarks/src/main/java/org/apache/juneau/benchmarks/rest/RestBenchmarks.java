@@ -0,0 +1,41 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.rest;
+
+import javax.servlet.http.*;
+
+/**
+ * Shared methods for the REST benchmarks.
+ */
+final class RestBenchmarks {
+
+	private RestBenchmarks() {}
+
+	/*
+	 * Sends a GET request that accepts JSON.
+	 */
+	static HttpServletResponse get(HttpServlet servlet, String path) throws Exception {
+		HttpServletResponse res = MockServlet.response();
+		servlet.service(MockServlet.request("GET", path, "Accept", "application/json"), res);
+		return res;
+	}
+
+	/*
+	 * Makes sure the benchmark measures what it's supposed to.
+	 */
+	static void check(HttpServlet servlet, String path, int expectedStatus) throws Exception {
+		int status = get(servlet, path).getStatus();
+		if (status != expectedStatus)
+			throw new IllegalStateException("GET " + path + " returned " + status + ", expected " + expectedStatus);
+	}
+}
@@ -0,0 +1,89 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.rest;
+
+import java.util.concurrent.*;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import javax.servlet.http.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Throughput of failing requests as the number of concurrent threads grows.
+ *
+ * <p>
+ * All threads share the same servlet, so contention in the error path shows up as throughput that doesn't scale with
+ * the thread count.
+ * Logging is turned off so that the results measure error handling instead of log output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class RestErrorBenchmark {
+
+	private HttpServlet servlet;
+
+	/**
+	 * Creates the servlet.
+	 *
+	 * @throws Exception
+	 */
+	@Setup
+	public void setup() throws Exception {
+		LogManager.getLogManager().reset();
+		Logger.getLogger("").setLevel(java.util.logging.Level.OFF);
+		servlet = MockServlet.create(BenchmarkResource.class);
+		RestBenchmarks.check(servlet, "/error", 500);
+	}
+
+	/**
+	 * Failing requests on 1 thread.
+	 *
+	 * @return The response.
+	 * @throws Exception
+	 */
+	@Benchmark
+	@Threads(1)
+	public HttpServletResponse threads1() throws Exception {
+		return RestBenchmarks.get(servlet, "/error");
+	}
+
+	/**
+	 * Failing requests on 4 threads.
+	 *
+	 * @return The response.
+	 * @throws Exception
+	 */
+	@Benchmark
+	@Threads(4)
+	public HttpServletResponse threads4() throws Exception {
+		return RestBenchmarks.get(servlet, "/error");
+	}
+
+	/**
+	 * Failing requests on 16 threads.
+	 *
+	 * @return The response.
+	 * @throws Exception
+	 */
+	@Benchmark
+	@Threads(16)
+	public HttpServletResponse threads16() throws Exception {
+		return RestBenchmarks.get(servlet, "/error");
+	}
+}
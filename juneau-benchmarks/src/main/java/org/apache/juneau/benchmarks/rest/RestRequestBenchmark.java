@@ -0,0 +1,72 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.rest;
+
+import java.util.concurrent.*;
+
+import javax.servlet.http.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Throughput and allocations of simple GET requests through a REST servlet.
+ *
+ * <p>
+ * Run with the GC profiler (the default in {@link org.apache.juneau.benchmarks.BenchmarkRunner}) to see the bytes
+ * allocated per request.
+ * The numbers include the mock request and response objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class RestRequestBenchmark {
+
+	private HttpServlet servlet;
+
+	/**
+	 * Creates the servlet.
+	 *
+	 * @throws Exception
+	 */
+	@Setup
+	public void setup() throws Exception {
+		servlet = MockServlet.create(BenchmarkResource.class);
+		RestBenchmarks.check(servlet, "/hello", 200);
+		RestBenchmarks.check(servlet, "/bean", 200);
+	}
+
+	/**
+	 * GET request that returns a short string.
+	 *
+	 * @return The response.
+	 * @throws Exception
+	 */
+	@Benchmark
+	public HttpServletResponse trivialGet() throws Exception {
+		return RestBenchmarks.get(servlet, "/hello");
+	}
+
+	/**
+	 * GET request that serializes a small bean.
+	 *
+	 * @return The response.
+	 * @throws Exception
+	 */
+	@Benchmark
+	public HttpServletResponse smallBean() throws Exception {
+		return RestBenchmarks.get(servlet, "/bean");
+	}
+}
@@ -0,0 +1,130 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.rest;
+
+import java.io.*;
+import java.net.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+import javax.servlet.http.*;
+import javax.tools.*;
+
+import org.apache.juneau.internal.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Throughput of GET requests against resources with 10, 100, and 1000 REST methods.
+ *
+ * <p>
+ * The resource classes are generated and compiled during setup, so the benchmark must run on a JDK.
+ * Each route has a literal segment followed by a path variable (e.g. <js>"/r42/{id}"</js>), and requests cycle
+ * through all of the routes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class RestRoutingBenchmark {
+
+	/** The number of REST methods on the resource. */
+	@Param({"10", "100", "1000"})
+	public int routes;
+
+	private HttpServlet servlet;
+	private String[] paths;
+	private int next;
+	private Path dir;
+	private URLClassLoader classLoader;
+
+	/**
+	 * Generates, compiles, and creates the servlet.
+	 *
+	 * @throws Exception
+	 */
+	@Setup
+	public void setup() throws Exception {
+		dir = Files.createTempDirectory("juneau-benchmarks");
+		classLoader = compile(dir, routes);
+		String name = RestRoutingBenchmark.class.getPackage().getName() + ".Routes" + routes;
+		servlet = MockServlet.create(classLoader.loadClass(name).asSubclass(HttpServlet.class));
+		paths = new String[routes];
+		for (int i = 0; i < routes; i++)
+			paths[i] = "/r" + i + "/" + i;
+		for (String p : paths)
+			RestBenchmarks.check(servlet, p, 200);
+	}
+
+	/**
+	 * Destroys the servlet and deletes the generated classes.
+	 *
+	 * @throws Exception
+	 */
+	@TearDown
+	public void tearDown() throws Exception {
+		if (servlet != null)
+			servlet.destroy();
+		if (classLoader != null)
+			classLoader.close();
+		if (dir != null)
+			FileUtils.delete(dir.toFile());
+	}
+
+	/**
+	 * GET request on the next route.
+	 *
+	 * @return The response.
+	 * @throws Exception
+	 */
+	@Benchmark
+	public HttpServletResponse route() throws Exception {
+		String p = paths[next];
+		next = (next + 1) % paths.length;
+		return RestBenchmarks.get(servlet, p);
+	}
+
+	/*
+	 * Generates and compiles a resource class with the specified number of REST methods into the specified directory.
+	 */
+	private static URLClassLoader compile(Path dir, int routes) throws Exception {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if (compiler == null)
+			throw new IllegalStateException("No Java compiler available.  Run the benchmarks on a JDK.");
+
+		String name = "Routes" + routes;
+		StringBuilder sb = new StringBuilder()
+			.append("package ").append(RestRoutingBenchmark.class.getPackage().getName()).append(";\n")
+			.append("import org.apache.juneau.rest.*;\n")
+			.append("import org.apache.juneau.rest.annotation.*;\n")
+			.append("@SuppressWarnings(\"serial\")\n")
+			.append("public class ").append(name).append(" extends RestServletDefault {\n");
+		for (int i = 0; i < routes; i++)
+			sb.append("\t@RestMethod(name=\"GET\", path=\"/r").append(i).append("/{id}\")\n")
+				.append("\tpublic String r").append(i).append("(@Path(\"id\") String id) { return id; }\n");
+		sb.append("}\n");
+
+		File src = dir.resolve(name + ".java").toFile();
+		try (Writer w = new OutputStreamWriter(new FileOutputStream(src), "UTF-8")) {
+			w.write(sb.toString());
+		}
+
+		String cp = System.getProperty("java.class.path");
+		int rc = compiler.run(null, null, null, "-proc:none", "-nowarn", "-classpath", cp, "-d", dir.toString(), src.getPath());
+		if (rc != 0)
+			throw new IllegalStateException("Could not compile " + src);
+
+		return new URLClassLoader(new URL[]{dir.toUri().toURL()}, RestRoutingBenchmark.class.getClassLoader());
+	}
+}
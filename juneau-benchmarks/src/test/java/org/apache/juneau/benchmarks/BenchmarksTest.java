@@ -0,0 +1,46 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+import org.openjdk.jmh.results.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Runs every benchmark once, with every parameter combination, so that broken setups and benchmark methods are caught
+ * by the build.
+ * The timings are meaningless.
+ */
+public class BenchmarksTest {
+
+	@Test
+	public void testAllBenchmarksRun() throws Exception {
+		Options o = new OptionsBuilder()
+			.include("org\\.apache\\.juneau\\.benchmarks\\..*")
+			.forks(0)
+			.warmupIterations(0)
+			.measurementIterations(1)
+			.measurementTime(TimeValue.milliseconds(10))
+			.shouldFailOnError(true)
+			.verbosity(VerboseMode.SILENT)
+			.build();
+
+		Collection<RunResult> results = new Runner(o).run();
+		assertFalse("No benchmarks were found.", results.isEmpty());
+	}
+}
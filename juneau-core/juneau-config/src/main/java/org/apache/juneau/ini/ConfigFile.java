@@ -22,7 +22,9 @@ import static org.apache.juneau.internal.ArrayUtils.*;
 import java.beans.*;
 import java.io.*;
 import java.lang.reflect.*;
+import java.math.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -37,6 +39,25 @@ import org.apache.juneau.svl.*;
  * Refer to <a class='doclink' href='package-summary.html#TOC'>org.apache.juneau.ini</a> for usage information.
  */
 public abstract class ConfigFile implements Map<String,Section> {
+
+	/*
+	 * Parsed values of entries, keyed by the key passed to the getters.
+	 * Each value remembers the raw string it was parsed from and is only reused while the entry still has that string,
+	 * so any edit, merge, or reload of an entry invalidates exactly that entry.
+	 * Entries are also dropped when they're removed or the file is reloaded so that the cache doesn't outgrow the file.
+	 * On resolving config files, the string is the one returned by get(String,String), so variables are still resolved
+	 * on every call and only the parsing is saved.
+	 */
+	private final ConcurrentHashMap<String,CachedValue> valueCache = new ConcurrentHashMap<>();
+
+	// Type token for values cached by getStringArray().
+	private static final Object SPLIT = new Object();
+
+	// Value types whose parsed instances can be safely shared between callers.
+	private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<Class<?>>(Arrays.asList(
+		String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+		Double.class, BigInteger.class, BigDecimal.class
+	));
 	
 	/**
 	 * Instantiates a new clean-slate {@link ConfigFileBuilder} object.
@@ -257,6 +278,86 @@ public abstract class ConfigFile implements Map<String,Section> {
 	 */
 	protected abstract void readUnlock();
 
+	/*
+	 * Same as parse(String,Parser,Type,Type...) but reuses the previously parsed value of the entry if its raw string
+	 * hasn't changed.
+	 * Only immutable values (and one-dimensional arrays of them, which are copied on return) are cached, since callers
+	 * are free to modify the beans, maps, and collections returned by the getters.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T parseCached(String key, String s, Parser parser, Type type, Type...args) throws ParseException {
+		if (StringUtils.isEmpty(s) || args.length > 0 || ! isCacheable(type))
+			return parse(s, parser, type, args);
+		CachedValue cv = valueCache.get(key);
+		if (cv == null || ! cv.matches(s, parser, type)) {
+			cv = new CachedValue(s, parser, type, parse(s, parser, type));
+			valueCache.put(key, cv);
+		}
+		return (T)cv.get();
+	}
+
+	/*
+	 * Drops the cached values of all entries.
+	 */
+	final void clearCachedValues() {
+		valueCache.clear();
+	}
+
+	/*
+	 * Drops the cached values of the specified entry, or of all entries in the section if sectionKey is null.
+	 */
+	final void clearCachedValues(String sectionName, String sectionKey) {
+		if (StringUtils.isEmpty(sectionName))
+			sectionName = "default";
+		for (Iterator<String> i = valueCache.keySet().iterator(); i.hasNext();) {
+			String k = i.next();
+			if (getSectionName(k).equals(sectionName) && (sectionKey == null || getSectionKey(k).equals(sectionKey)))
+				i.remove();
+		}
+	}
+
+	/*
+	 * Returns the number of cached values.  Used by the unit tests.
+	 */
+	final int getCachedValueCount() {
+		return valueCache.size();
+	}
+
+	private static boolean isCacheable(Type t) {
+		if (! (t instanceof Class))
+			return false;
+		Class<?> c = (Class<?>)t;
+		if (c.isArray())
+			c = c.getComponentType();
+		return c.isPrimitive() || c.isEnum() || IMMUTABLE_TYPES.contains(c);
+	}
+
+	private static final class CachedValue {
+		final String raw;
+		final Parser parser;
+		final Object type, value;
+
+		CachedValue(String raw, Parser parser, Object type, Object value) {
+			this.raw = raw;
+			this.parser = parser;
+			this.type = type;
+			this.value = value;
+		}
+
+		boolean matches(String s, Parser p, Object t) {
+			return (raw == s || raw.equals(s)) && parser == p && type == t;
+		}
+
+		Object get() {
+			if (value == null || ! value.getClass().isArray())
+				return value;
+			int len = Array.getLength(value);
+			Object a = Array.newInstance(value.getClass().getComponentType(), len);
+			System.arraycopy(value, 0, a, 0, len);
+			return a;
+		}
+	}
+
 
 	//--------------------------------------------------------------------------------
 	// API methods
@@ -379,7 +480,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObject(String key, Parser parser, Type type, Type...args) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "type");
-		return parse(getString(key), parser, type, args);
+		return parseCached(key, getString(key), parser, type, args);
 	}
 
 	/**
@@ -437,7 +538,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObject(String key, Parser parser, Class<T> type) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "c");
-		return parse(getString(key), parser, type);
+		return parseCached(key, getString(key), parser, type);
 	}
 
 	/**
@@ -472,7 +573,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObjectWithDefault(String key, Parser parser, T def, Class<T> type) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "c");
-		T t = parse(getString(key), parser, type);
+		T t = parseCached(key, getString(key), parser, type);
 		return (t == null ? def : t);
 	}
 
@@ -524,7 +625,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObjectWithDefault(String key, Parser parser, T def, Type type, Type...args) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "type");
-		T t = parse(getString(key), parser, type, args);
+		T t = parseCached(key, getString(key), parser, type, args);
 		return (t == null ? def : t);
 	}
 
@@ -654,7 +755,12 @@ public abstract class ConfigFile implements Map<String,Section> {
 		String s = getString(key);
 		if (s == null)
 			return def;
-		String[] r = StringUtils.isEmpty(s) ? new String[0] : split(s);
+		CachedValue cv = valueCache.get(key);
+		if (cv == null || ! cv.matches(s, null, SPLIT)) {
+			cv = new CachedValue(s, null, SPLIT, StringUtils.isEmpty(s) ? new String[0] : split(s));
+			valueCache.put(key, cv);
+		}
+		String[] r = (String[])cv.get();
 		return r.length == 0 ? def : r;
 	}
 
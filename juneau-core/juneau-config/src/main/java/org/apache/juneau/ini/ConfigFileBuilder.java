@@ -40,7 +40,7 @@ public class ConfigFileBuilder {
 	private WriterSerializer serializer = JsonSerializer.DEFAULT_LAX;
 	private ReaderParser parser = JsonParser.DEFAULT;
 	private Encoder encoder = new XorEncoder();
-	private boolean readOnly = false, createIfNotExists = false;
+	private boolean readOnly = false, createIfNotExists = false, watch = false;
 	private Charset charset = Charset.defaultCharset();
 	private List<File> searchPaths = new AList<File>().append(new File("."));
 
@@ -145,6 +145,23 @@ public class ConfigFileBuilder {
 		return this;
 	}
 
+	/**
+	 * Automatically reload file-backed config files when they're modified on the file system.
+	 *
+	 * <p>
+	 * See {@link ConfigFileImpl#watch()} for more information.
+	 * Ignored for read-only config files.
+	 *
+	 * <p>
+	 * The default value for this setting is <jk>false</jk>.
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public ConfigFileBuilder watch() {
+		this.watch = true;
+		return this;
+	}
+
 	/**
 	 * Returns the config file with the specified absolute or relative path.
 	 *
@@ -154,7 +171,10 @@ public class ConfigFileBuilder {
 	 * @throws FileNotFoundException If config file could not be found.
 	 */
 	public ConfigFile build(String path) throws IOException {
-		return new ConfigFileImpl(resolve(path), readOnly, encoder, serializer, parser, charset);
+		ConfigFileImpl cf = new ConfigFileImpl(resolve(path), readOnly, encoder, serializer, parser, charset);
+		if (watch && ! readOnly)
+			cf.watch();
+		return cf;
 	}
 
 	/**
@@ -178,7 +198,10 @@ public class ConfigFileBuilder {
 	 * @throws IOException
 	 */
 	public ConfigFile build(File f) throws IOException {
-		return new ConfigFileImpl(f, false, encoder, serializer, parser, charset);
+		ConfigFileImpl cf = new ConfigFileImpl(f, false, encoder, serializer, parser, charset);
+		if (watch)
+			cf.watch();
+		return cf;
 	}
 
 	/**
@@ -54,6 +54,9 @@ public final class ConfigFileImpl extends ConfigFile {
 
 	long modifiedTimestamp;
 
+	// Strongly referenced here since the watcher only holds on to it weakly.
+	private ConfigFileWatcher.Listener watchListener;
+
 	/**
 	 * Constructor.
 	 *
@@ -127,17 +130,66 @@ public final class ConfigFileImpl extends ConfigFile {
 		this(null);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * In addition to {@link ConfigFileListener#onLoad(ConfigFile)}, listeners are sent a
+	 * {@link ConfigFileListener#onChange(ConfigFile, Set)} event containing only the entries whose values are
+	 * different in the reloaded file.
+	 */
 	@Override /* ConfigFile */
 	public ConfigFileImpl loadIfModified() throws IOException {
 		if (file == null)
 			return this;
+		Set<String> changes = createChanges();
 		writeLock();
 		try {
-			if (file.lastModified() > modifiedTimestamp)
+			if (file.lastModified() > modifiedTimestamp) {
+				Map<String,Section> prev = sections;
 				load();
+				for (Map.Entry<String,Section> e : prev.entrySet())
+					findChanges(changes, e.getValue(), sections.get(e.getKey()));
+				for (Map.Entry<String,Section> e : sections.entrySet())
+					if (! prev.containsKey(e.getKey()))
+						findChanges(changes, null, e.getValue());
+			}
 		} finally {
 			writeUnlock();
 		}
+		signalChanges(changes);
+		return this;
+	}
+
+	/**
+	 * Watches the backing file for modifications and automatically reloads this config file when it changes.
+	 *
+	 * <p>
+	 * Modifications are detected through a {@link java.nio.file.WatchService} shared by all watched config files, and
+	 * are applied through {@link #loadIfModified()} so that listeners are only notified of entries that actually
+	 * changed.
+	 * This eliminates the need to poll {@link #loadIfModified()}.
+	 *
+	 * <p>
+	 * Has no effect on in-memory config files or if this method was already called.
+	 *
+	 * @return This object (for method chaining).
+	 * @throws IOException If the file system does not support watching the file.
+	 * @throws UnsupportedOperationException If this config file is read-only.
+	 */
+	public synchronized ConfigFileImpl watch() throws IOException {
+		if (readOnly)
+			throw new UnsupportedOperationException("Cannot watch read-only ConfigFile.");
+		if (file == null || watchListener != null)
+			return this;
+		ConfigFileWatcher.Listener l = new ConfigFileWatcher.Listener() {
+			@Override /* Listener */
+			public void onModified(File f) throws Exception {
+				loadIfModified();
+			}
+		};
+		ConfigFileWatcher.getInstance().watch(file, l);
+		watchListener = l;
 		return this;
 	}
 
@@ -155,6 +207,7 @@ public final class ConfigFileImpl extends ConfigFile {
 		writeLock();
 		try {
 			this.sections = Collections.synchronizedMap(new LinkedHashMap<String,Section>());
+			clearCachedValues();
 			try (BufferedReader in = new BufferedReader(r)) {
 				writeLock();
 				hasBeenModified = false;
@@ -473,6 +526,8 @@ public final class ConfigFileImpl extends ConfigFile {
 		try {
 			Section prev = sections.remove(key);
 			findChanges(changes, prev, null);
+			if (key instanceof String)
+				clearCachedValues((String)key, null);
 			return prev;
 		} finally {
 			writeUnlock();
@@ -512,6 +567,7 @@ public final class ConfigFileImpl extends ConfigFile {
 	@Override /* ConfigFile */
 	public String remove(String sectionName, String sectionKey) {
 		assertFieldNotNull(sectionKey, "sectionKey");
+		clearCachedValues(sectionName, sectionKey);
 		Section s = getSection(sectionName, false);
 		if (s == null)
 			return null;
@@ -607,6 +663,7 @@ public final class ConfigFileImpl extends ConfigFile {
 			Section prev = sections.remove(name);
 			if (changes != null && prev != null)
 				findChanges(changes, prev, null);
+			clearCachedValues(name, null);
 		} finally {
 			writeUnlock();
 		}
@@ -0,0 +1,254 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.ini;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.*;
+import java.lang.ref.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Watches config files on the local file system for modifications using a {@link WatchService}.
+ *
+ * <p>
+ * A single daemon thread services all watched files, so modifications are pushed to interested parties instead of
+ * each read having to stat the file.
+ * Listeners are held through weak references so that watching a file never keeps its config file from being
+ * garbage collected.
+ * Once a directory has no live listeners left, it's no longer watched.
+ */
+final class ConfigFileWatcher {
+
+	/**
+	 * Gets notified when a watched file is created, modified, or deleted.
+	 */
+	interface Listener {
+
+		/**
+		 * Called on the watcher thread after the specified file has changed on the file system.
+		 *
+		 * <p>
+		 * Events are delivered at least once per change but may also be delivered for a change this listener made
+		 * itself, so implementations should verify the file is actually different from what they last read.
+		 *
+		 * @param f The file that changed.
+		 * @throws Exception Ignored.
+		 */
+		void onModified(File f) throws Exception;
+	}
+
+	private static ConfigFileWatcher INSTANCE;
+
+	// How often the watcher thread checks for garbage-collected listeners when no events arrive.
+	private static final long EXPUNGE_INTERVAL_SECONDS = 30;
+
+	private final WatchService watchService;
+	private final Map<Path,WatchKey> keys = new HashMap<>();
+	private final Map<Path,List<ListenerRef>> listeners = new HashMap<>();
+	private final ReferenceQueue<Listener> queue = new ReferenceQueue<>();
+
+	/**
+	 * Returns the shared watcher, starting its thread on the first call.
+	 *
+	 * @return The shared watcher.
+	 * @throws IOException If the file system does not support watch services.
+	 */
+	static synchronized ConfigFileWatcher getInstance() throws IOException {
+		if (INSTANCE == null)
+			INSTANCE = new ConfigFileWatcher(FileSystems.getDefault().newWatchService());
+		return INSTANCE;
+	}
+
+	private ConfigFileWatcher(WatchService watchService) {
+		this.watchService = watchService;
+		Thread t = new Thread("ConfigFileWatcher") {
+			@Override /* Thread */
+			public void run() {
+				ConfigFileWatcher.this.run();
+			}
+		};
+		t.setDaemon(true);
+		t.start();
+	}
+
+	/**
+	 * Registers a listener for changes to the specified file.
+	 *
+	 * @param f The file to watch.  Does not need to exist, but its parent directory does.
+	 * @param listener The listener to notify.
+	 * @throws IOException If the parent directory could not be registered with the watch service.
+	 */
+	synchronized void watch(File f, Listener listener) throws IOException {
+		expunge();
+		Path p = toPath(f);
+		Path dir = p.getParent();
+		if (! keys.containsKey(dir))
+			keys.put(dir, dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+		List<ListenerRef> l = listeners.get(p);
+		if (l == null) {
+			l = new ArrayList<>();
+			listeners.put(p, l);
+		}
+		l.add(new ListenerRef(listener, p, queue));
+	}
+
+	/**
+	 * Unregisters a listener previously registered through {@link #watch(File, Listener)}.
+	 *
+	 * <p>
+	 * The parent directory of the file stops being watched once it has no listeners left.
+	 *
+	 * @param f The watched file.
+	 * @param listener The listener to remove.
+	 */
+	synchronized void unwatch(File f, Listener listener) {
+		Path p = toPath(f);
+		List<ListenerRef> l = listeners.get(p);
+		if (l != null) {
+			for (Iterator<ListenerRef> i = l.iterator(); i.hasNext();) {
+				ListenerRef r = i.next();
+				if (r.get() == listener) {
+					r.clear();
+					i.remove();
+				}
+			}
+			removeIfEmpty(p, l);
+		}
+		expunge();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified directory is registered with the watch service.
+	 *
+	 * @param dir The directory.
+	 * @return <jk>true</jk> if the specified directory is registered with the watch service.
+	 */
+	synchronized boolean isWatched(File dir) {
+		expunge();
+		return keys.containsKey(toPath(dir));
+	}
+
+	/**
+	 * Returns the number of live listeners registered for the specified file.
+	 *
+	 * @param f The watched file.
+	 * @return The number of live listeners registered for the specified file.
+	 */
+	synchronized int getListenerCount(File f) {
+		expunge();
+		List<ListenerRef> l = listeners.get(toPath(f));
+		return l == null ? 0 : l.size();
+	}
+
+	private static Path toPath(File f) {
+		return f.getAbsoluteFile().toPath().normalize();
+	}
+
+	/*
+	 * Removes the listeners that have been garbage collected.
+	 */
+	private synchronized void expunge() {
+		for (Reference<? extends Listener> r = queue.poll(); r != null; r = queue.poll()) {
+			ListenerRef lr = (ListenerRef)r;
+			List<ListenerRef> l = listeners.get(lr.path);
+			if (l != null && l.remove(lr))
+				removeIfEmpty(lr.path, l);
+		}
+	}
+
+	/*
+	 * Stops tracking the specified file if it has no listeners left, and stops watching its directory if no other file
+	 * in it is tracked.
+	 */
+	private void removeIfEmpty(Path p, List<ListenerRef> l) {
+		if (! l.isEmpty())
+			return;
+		listeners.remove(p);
+		Path dir = p.getParent();
+		for (Path p2 : listeners.keySet())
+			if (dir.equals(p2.getParent()))
+				return;
+		WatchKey k = keys.remove(dir);
+		if (k != null)
+			k.cancel();
+	}
+
+	private void run() {
+		while (true) {
+			WatchKey key;
+			try {
+				key = watchService.poll(EXPUNGE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+			expunge();
+			if (key == null)
+				continue;
+			Path dir = (Path)key.watchable();
+			for (WatchEvent<?> e : key.pollEvents()) {
+				if (e.kind() == OVERFLOW)
+					fire(dir, null);
+				else
+					fire(dir, dir.resolve((Path)e.context()));
+			}
+			key.reset();
+		}
+	}
+
+	/*
+	 * Notifies the listeners of the specified file, or of all files in the directory if the file is null (i.e. events
+	 * were lost).
+	 */
+	private void fire(Path dir, Path file) {
+		Map<Path,List<Listener>> m = new LinkedHashMap<>();
+		synchronized (this) {
+			for (Map.Entry<Path,List<ListenerRef>> e : listeners.entrySet()) {
+				Path p = e.getKey();
+				if (file == null ? ! dir.equals(p.getParent()) : ! file.equals(p))
+					continue;
+				List<Listener> l = new ArrayList<>();
+				for (ListenerRef r : e.getValue()) {
+					Listener listener = r.get();
+					if (listener != null)
+						l.add(listener);
+				}
+				m.put(p, l);
+			}
+		}
+		for (Map.Entry<Path,List<Listener>> e : m.entrySet()) {
+			for (Listener l : e.getValue()) {
+				try {
+					l.onModified(e.getKey().toFile());
+				} catch (Exception x) {
+					// Keep watching.  The next change will be picked up again.
+				}
+			}
+		}
+	}
+
+	/*
+	 * Weak reference to a listener that remembers which file it was watching, so that it can be removed once the
+	 * listener has been garbage collected.
+	 */
+	private static final class ListenerRef extends WeakReference<Listener> {
+		final Path path;
+
+		ListenerRef(Listener listener, Path path, ReferenceQueue<Listener> queue) {
+			super(listener, queue);
+			this.path = path;
+		}
+	}
+}
@@ -100,6 +100,8 @@ public final class ConfigFileWrapped extends ConfigFile {
 
 	@Override /* ConfigFile */
 	public Section remove(Object key) {
+		if (key instanceof String)
+			clearCachedValues((String)key, null);
 		return cf.remove(key);
 	}
 
@@ -115,18 +117,21 @@ public final class ConfigFileWrapped extends ConfigFile {
 
 	@Override /* ConfigFile */
 	public ConfigFile loadIfModified() throws IOException {
+		clearCachedValues();
 		cf.loadIfModified();
 		return this;
 	}
 
 	@Override /* ConfigFile */
 	public ConfigFile load() throws IOException {
+		clearCachedValues();
 		cf.load();
 		return this;
 	}
 
 	@Override /* ConfigFile */
 	public ConfigFile load(Reader r) throws IOException {
+		clearCachedValues();
 		cf.load(r);
 		return this;
 	}
@@ -179,6 +184,7 @@ public final class ConfigFileWrapped extends ConfigFile {
 
 	@Override /* ConfigFile */
 	public ConfigFile removeSection(String name) {
+		clearCachedValues(name, null);
 		cf.removeSection(name);
 		return this;
 	}
@@ -257,6 +263,7 @@ public final class ConfigFileWrapped extends ConfigFile {
 
 	@Override /* ConfigFile */
 	public String remove(String sectionName, String sectionKey) {
+		clearCachedValues(sectionName, sectionKey);
 		return cf.remove(sectionName, sectionKey);
 	}
 
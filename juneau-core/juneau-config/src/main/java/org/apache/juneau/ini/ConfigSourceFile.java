@@ -22,6 +22,10 @@ import org.apache.juneau.internal.*;
 
 /**
  * Implementation of a configuration source that's a file on the local file system.
+ *
+ * <p>
+ * Files are watched for modifications through a {@link java.nio.file.WatchService} when the file system supports it,
+ * so {@link #hasBeenModified(String)} doesn't need to stat the file on every call.
  */
 public class ConfigSourceFile extends ConfigSource {
 
@@ -49,7 +53,7 @@ public class ConfigSourceFile extends ConfigSource {
 						String contents = IOUtils.read(r);
 						long lastModified = f.lastModified();
 						fe = new CacheEntry(f, lastModified, contents);
-						cache.put(name, fe);
+						release(cache.put(name, fe));
 					}
 				}
 			}
@@ -74,7 +78,7 @@ public class ConfigSourceFile extends ConfigSource {
 					IOUtils.pipe(contents, w);
 				}
 				fe = new CacheEntry(f, f.lastModified(), contents);
-				cache.put(name, fe);
+				release(cache.put(name, fe));
 				return true;
 			}
 		}
@@ -86,19 +90,56 @@ public class ConfigSourceFile extends ConfigSource {
 		return (fe != null && fe.hasBeenModified());
 	}
 
-	private static class CacheEntry {
+	// Stops watching the file of a cache entry that's been replaced.
+	private static void release(CacheEntry fe) {
+		if (fe != null)
+			fe.unwatch();
+	}
+
+	private static class CacheEntry implements ConfigFileWatcher.Listener {
 		final File file;
 		final long lastModified;
 		final String contents;
+		final boolean watched;
+		volatile boolean modified;
 
 		CacheEntry(File file, long lastModified, String contents) {
 			this.file = file;
 			this.lastModified = lastModified;
 			this.contents = contents;
+			this.watched = watch(file, this);
+			// Catch changes made between reading the file and registering the watch.
+			if (watched && file.lastModified() != lastModified)
+				modified = true;
 		}
 
 		boolean hasBeenModified() {
-			return file.lastModified() != lastModified;
+			return modified || (! watched && file.lastModified() != lastModified);
+		}
+
+		void unwatch() {
+			if (watched) {
+				try {
+					ConfigFileWatcher.getInstance().unwatch(file, this);
+				} catch (IOException x) {
+					// Can't happen since the watcher was created when this entry was.
+				}
+			}
+		}
+
+		@Override /* Listener */
+		public void onModified(File f) {
+			if (f.lastModified() != lastModified)
+				modified = true;
+		}
+
+		private static boolean watch(File f, CacheEntry e) {
+			try {
+				ConfigFileWatcher.getInstance().watch(f, e);
+				return true;
+			} catch (IOException x) {
+				return false;
+			}
 		}
 	}
 
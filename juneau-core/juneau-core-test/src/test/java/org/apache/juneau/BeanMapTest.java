@@ -1924,4 +1924,92 @@ public class BeanMapTest {
 	public static class Z {
 		public String a, b, c;
 	}
+
+	//====================================================================================================
+	// Method-handle accessors must behave identically to reflective accessors.
+	//====================================================================================================
+	@Test
+	public void testMethodHandleAccessors() throws Exception {
+		for (boolean b : new boolean[]{true,false}) {
+			BeanSession s = PropertyStore.create().setProperty(BeanContext.BEAN_useMethodHandles, b).getBeanContext().createSession();
+			BeanMap<Z1> m = s.toBeanMap(new Z1());
+
+			m.put("f1", "foo");
+			m.put("f2", 123);
+			m.put("f3", null);
+			m.put("f4", "bar");
+			m.put("f5", 456L);
+			assertEquals("foo", m.get("f1"));
+			assertEquals(123, m.get("f2"));
+			assertEquals(0, m.get("f3"));
+			assertEquals("bar", m.get("f4"));
+			assertEquals(456L, m.get("f5"));
+			assertObjectEquals("{f1:'foo',f2:123,f3:0,f4:'bar',f5:456}", m);
+
+			// Values that need widening or conversion.
+			m.put("f5", 789);
+			assertEquals(789L, m.get("f5"));
+			m.put("f2", "321");
+			assertEquals(321, m.get("f2"));
+
+			// Exceptions thrown by getters and setters are reported the same way.
+			BeanMap<Z2> m2 = s.toBeanMap(new Z2());
+			try {
+				m2.get("f1");
+				fail();
+			} catch (BeanRuntimeException e) {
+				assertEquals("getter", getRootCause(e).getMessage());
+			}
+			try {
+				m2.put("f1", "x");
+				fail();
+			} catch (BeanRuntimeException e) {
+				assertEquals("setter", getRootCause(e).getMessage());
+			}
+		}
+	}
+
+	private static Throwable getRootCause(Throwable t) {
+		while (t.getCause() != null)
+			t = t.getCause();
+		return t;
+	}
+
+	@Bean(properties="f1,f2,f3,f4,f5")
+	public static class Z1 {
+		public String f1;
+		private int f2;
+		private long f5;
+		public int f3;
+		private String f4;
+
+		public int getF2() {
+			return f2;
+		}
+		public void setF2(int f2) {
+			this.f2 = f2;
+		}
+		public String getF4() {
+			return f4;
+		}
+		public Z1 setF4(String f4) {
+			this.f4 = f4;
+			return this;
+		}
+		public long getF5() {
+			return f5;
+		}
+		public void setF5(long f5) {
+			this.f5 = f5;
+		}
+	}
+
+	public static class Z2 {
+		public String getF1() {
+			throw new RuntimeException("getter");
+		}
+		public void setF1(String f1) {
+			throw new RuntimeException("setter");
+		}
+	}
 }
\ No newline at end of file
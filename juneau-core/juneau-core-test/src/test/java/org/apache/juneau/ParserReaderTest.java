@@ -15,7 +15,9 @@ package org.apache.juneau;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.nio.*;
 
+import org.apache.juneau.json.*;
 import org.apache.juneau.parser.*;
 import org.junit.*;
 
@@ -161,6 +163,79 @@ public class ParserReaderTest {
 		pr.close();
 	}
 
+	//====================================================================================================
+	// testInMemoryInputs
+	//====================================================================================================
+	@Test
+	public void testInMemoryInputs() throws Exception {
+		String t = "a123456789b123456789cé中😀";
+
+		assertEquals(t, read(createParserReader(t.toCharArray())));
+		assertEquals(t, read(createParserReader(CharBuffer.wrap(t))));
+		assertEquals(t, read(createParserReader(CharBuffer.wrap(("xx" + t).toCharArray(), 2, t.length()))));
+		assertEquals(t, read(createParserReader(t.getBytes("UTF-8"))));
+		assertEquals(t, read(createParserReader(ByteBuffer.wrap(("xx" + t).getBytes("UTF-8"), 2, t.getBytes("UTF-8").length))));
+
+		ParserReader pr = createParserReader(t.getBytes("UTF-8"));
+		assertEquals('a', (char)pr.peek());
+		char[] cbuf = new char[10];
+		assertEquals(10, pr.read(cbuf, 0, 10));
+		assertEquals("a123456789", new String(cbuf));
+		assertEquals("b123456789", pr.read(10));
+		pr.close();
+	}
+
+	//====================================================================================================
+	// testInMemoryMarking
+	//====================================================================================================
+	@Test
+	public void testInMemoryMarking() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 500; i++)
+			sb.append("a123456789");
+		String t = sb.toString();
+
+		// Marks spanning well past the default buffer size.
+		ParserReader pr = createParserReader(t);
+		pr.mark();
+		assertEquals(4000, read(pr, 4000).length());
+		assertEquals(t.substring(1, 3999), pr.getMarked(1, -1));
+		assertEquals(t.substring(4000), read(pr));
+		pr.close();
+
+		pr = createParserReader(t.getBytes("UTF-8"));
+		read(pr, 10);
+		pr.mark();
+		read(pr, 3000);
+		assertEquals(t.substring(10, 3010), pr.getMarked());
+		pr.close();
+	}
+
+	//====================================================================================================
+	// testInMemoryCharArrayNotModified
+	//====================================================================================================
+	@Test
+	public void testInMemoryCharArrayNotModified() throws Exception {
+		String t = "a123456789b123456789c123456789";
+		char[] in = t.toCharArray();
+
+		ParserReader pr = createParserReader(in);
+		assertEquals("a123456789", pr.read(10));
+		pr.mark();
+		assertEquals("b123456789", pr.read(10));
+		pr.replace('x', 5);
+		assertEquals("c123456789", pr.read(10));
+		pr.delete();
+		assertEquals("b1234xc12345678", pr.getMarked());
+		pr.close();
+		assertEquals(t, new String(in));
+
+		// Escapes in the input must not modify the caller's array either.
+		char[] json = "{a:'b\\'c'}".toCharArray();
+		assertEquals("b'c", JsonParser.DEFAULT.parse(json, ObjectMap.class).getString("a"));
+		assertEquals("{a:'b\\'c'}", new String(json));
+	}
+
 	//====================================================================================================
 	// Utility methods
 	//====================================================================================================
@@ -181,6 +256,6 @@ public class ParserReaderTest {
 	}
 
 	private ParserReader createParserReader(Object in) throws Exception {
-		return new ParserReader(new ParserPipe(in, false, false, null, null));
+		return new ParserReader(new ParserPipe(in, false, false, null, "UTF-8"));
 	}
 }
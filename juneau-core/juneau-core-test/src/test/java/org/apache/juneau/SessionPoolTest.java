@@ -0,0 +1,220 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.jena.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.svl.*;
+import org.apache.juneau.xml.*;
+import org.apache.juneau.xml.annotation.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class SessionPoolTest {
+
+	//====================================================================================================
+	// Serializer sessions
+	//====================================================================================================
+	@Test
+	public void testSerializerSessionReuse() throws Exception {
+		JsonSerializer s = JsonSerializer.create().simple().detectRecursions(true).build();
+		ObjectMap inner = new ObjectMap();
+
+		SerializerSession s1 = s.acquireSession(args(new ObjectMap().setInner(inner).append("a", 1), Locale.US));
+		assertEquals("{a:'b'}", s1.serialize(new ObjectMap("{a:'b'}")));
+		s.releaseSession(s1);
+
+		// Equivalent arguments reuse the released session.
+		SerializerSession s2 = s.acquireSession(args(new ObjectMap().setInner(inner).append("a", 1), Locale.US));
+		assertSame(s1, s2);
+		assertEquals("{c:'d'}", s2.serialize(new ObjectMap("{c:'d'}")));
+		s.releaseSession(s2);
+
+		// Different arguments get a new session.
+		SerializerSession s3 = s.acquireSession(args(new ObjectMap().setInner(inner).append("a", 2), Locale.US));
+		assertNotSame(s1, s3);
+		s.releaseSession(s3);
+		SerializerSession s4 = s.acquireSession(args(new ObjectMap().setInner(inner).append("a", 2), Locale.FRANCE));
+		assertNotSame(s3, s4);
+		s.releaseSession(s4);
+		SerializerSession s5 = s.acquireSession(args(new ObjectMap().setInner(new ObjectMap()).append("a", 2), Locale.FRANCE));
+		assertNotSame(s4, s5);
+
+		// Acquired sessions aren't handed out twice.
+		assertNotSame(s5, s.acquireSession(args(new ObjectMap().setInner(new ObjectMap()).append("a", 2), Locale.FRANCE)));
+	}
+
+	@Test
+	public void testSerializerSessionResetAfterFailure() throws Exception {
+		JsonSerializer s = JsonSerializer.create().simple().detectRecursions(true).build();
+		ObjectMap m = new ObjectMap();
+		m.put("m", m);
+
+		SerializerSession s1 = s.acquireSession(args(ObjectMap.EMPTY_MAP, null));
+		try {
+			s1.serialize(m);
+			fail();
+		} catch (SerializeException e) {
+			// Expected.
+		}
+		s.releaseSession(s1);
+
+		SerializerSession s2 = s.acquireSession(args(ObjectMap.EMPTY_MAP, null));
+		assertSame(s1, s2);
+		assertEquals(0, s2.indent);
+		assertEquals("{a:'b'}", s2.serialize(new ObjectMap("{a:'b'}")));
+	}
+
+	@Test
+	public void testReleasedSessionDetachesProperties() throws Exception {
+		JsonSerializer s = JsonSerializer.create().simple().build();
+		ObjectMap inner = new ObjectMap().append("a", 1);
+
+		ObjectMap p1 = new ResolvingObjectMap(VarResolver.DEFAULT.createSession()).setInner(inner).append("b", 2);
+		SerializerSession s1 = s.acquireSession(args(p1, null));
+		assertSame(p1, s1.getProperties());
+		s.releaseSession(s1);
+
+		// The released session no longer references the caller's map, but keeps its values.
+		assertNotSame(p1, s1.getProperties());
+		assertEquals(1, s1.getProperties().getInt("a").intValue());
+		assertEquals(2, s1.getProperties().getInt("b").intValue());
+
+		// ...and can still be reused with equivalent properties.
+		ObjectMap p2 = new ResolvingObjectMap(VarResolver.DEFAULT.createSession()).setInner(inner).append("b", 2);
+		assertSame(s1, s.acquireSession(args(p2, null)));
+	}
+
+	@Test
+	public void testXmlSerializerSessionReuse() throws Exception {
+		XmlSerializer s = XmlSerializer.create().ns().sq().addNamespaceUrisToRoot(true).build();
+
+		SerializerSession s1 = s.acquireSession(args(ObjectMap.EMPTY_MAP, null));
+		assertTrue(s1.serialize(new A()).toString().contains("xmlns:foo='http://foo'"));
+		s.releaseSession(s1);
+
+		// Namespaces detected during the first call shouldn't show up in later documents.
+		SerializerSession s2 = s.acquireSession(args(ObjectMap.EMPTY_MAP, null));
+		assertSame(s1, s2);
+		String r = s2.serialize(new ObjectMap("{c:'d'}")).toString();
+		assertFalse(r.contains("foo"));
+		assertEquals(s.createSession(args(ObjectMap.EMPTY_MAP, null)).serialize(new ObjectMap("{c:'d'}")), r);
+	}
+
+	@Xml(prefix="foo", namespace="http://foo")
+	public static class A {
+		public int f1 = 1;
+	}
+
+	@Test
+	public void testRdfSerializerSessionReuse() throws Exception {
+		RdfSerializer s = RdfSerializer.DEFAULT_NTRIPLE;
+
+		SerializerSession s1 = s.acquireSession(args(ObjectMap.EMPTY_MAP, null));
+		assertTrue(s1.serialize(new ObjectMap("{f1:'xxx1'}")).toString().contains("xxx1"));
+		s.releaseSession(s1);
+
+		// Triples from the first call shouldn't show up in later documents.
+		SerializerSession s2 = s.acquireSession(args(ObjectMap.EMPTY_MAP, null));
+		assertSame(s1, s2);
+		String r = s2.serialize(new ObjectMap("{f2:'yyy2'}")).toString();
+		assertTrue(r.contains("yyy2"));
+		assertFalse(r.contains("xxx1"));
+	}
+
+	@Test
+	public void testRdfParserSessionReuse() throws Exception {
+		RdfParser p = RdfParser.DEFAULT_NTRIPLE;
+		String in1 = RdfSerializer.DEFAULT_NTRIPLE.serialize(new ObjectMap("{f1:'xxx1'}"));
+		String in2 = RdfSerializer.DEFAULT_NTRIPLE.serialize(new ObjectMap("{f2:'yyy2'}"));
+
+		ParserSession s1 = p.acquireSession(new ParserSessionArgs(null, null, null, null, null, null));
+		assertEquals("{f1:'xxx1'}", s1.parse(in1, ObjectMap.class).toString());
+		p.releaseSession(s1);
+
+		// The graph from the first call shouldn't be merged into later ones.
+		ParserSession s2 = p.acquireSession(new ParserSessionArgs(null, null, null, null, null, null));
+		assertSame(s1, s2);
+		assertEquals("{f2:'yyy2'}", s2.parse(in2, ObjectMap.class).toString());
+	}
+
+	//====================================================================================================
+	// Parser sessions
+	//====================================================================================================
+	@Test
+	public void testParserSessionReuse() throws Exception {
+		JsonParser p = JsonParser.DEFAULT;
+		Object outer = new Object();
+
+		ParserSession s1 = p.acquireSession(new ParserSessionArgs(null, null, null, null, null, outer));
+		assertEquals(1, s1.parse("{a:1}", ObjectMap.class).getInt("a").intValue());
+		p.releaseSession(s1);
+
+		ParserSession s2 = p.acquireSession(new ParserSessionArgs(null, null, null, null, null, outer));
+		assertSame(s1, s2);
+		assertEquals(2, s2.parse("{a:2}", ObjectMap.class).getInt("a").intValue());
+		p.releaseSession(s2);
+
+		ParserSession s3 = p.acquireSession(new ParserSessionArgs(null, null, null, null, null, new Object()));
+		assertNotSame(s1, s3);
+	}
+
+	//====================================================================================================
+	// Pooled sessions belong to the serializer, not to the thread that released them.
+	//====================================================================================================
+	@Test
+	public void testSessionsNotBoundToThreads() throws Exception {
+		final JsonSerializer s = JsonSerializer.create().simple().build();
+		final SerializerSession[] s1 = new SerializerSession[1];
+
+		Thread t = new Thread() {
+			@Override /* Thread */
+			public void run() {
+				s1[0] = s.acquireSession(args(ObjectMap.EMPTY_MAP, null));
+				s.releaseSession(s1[0]);
+			}
+		};
+		t.start();
+		t.join();
+
+		assertSame(s1[0], s.acquireSession(args(ObjectMap.EMPTY_MAP, null)));
+	}
+
+	@Test
+	public void testPoolIsBounded() throws Exception {
+		JsonSerializer s = JsonSerializer.create().simple().build();
+		int max = Serializer.MAX_POOLED_SESSIONS;
+
+		List<SerializerSession> l = new ArrayList<SerializerSession>();
+		for (int i = 0; i < max + 2; i++)
+			l.add(s.acquireSession(args(ObjectMap.EMPTY_MAP, null)));
+		for (SerializerSession ss : l)
+			s.releaseSession(ss);
+
+		// Only the first MAX_POOLED_SESSIONS released sessions were kept.
+		for (int i = 0; i < max; i++)
+			assertSame(l.get(i), s.acquireSession(args(ObjectMap.EMPTY_MAP, null)));
+		SerializerSession s2 = s.acquireSession(args(ObjectMap.EMPTY_MAP, null));
+		assertFalse(l.contains(s2));
+	}
+
+	private static SerializerSessionArgs args(ObjectMap properties, Locale locale) {
+		return new SerializerSessionArgs(properties, null, locale, null, null, new UriContext("http://localhost", "ctx", "servlet", "path"));
+	}
+}
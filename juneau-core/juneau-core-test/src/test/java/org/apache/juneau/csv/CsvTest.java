@@ -12,10 +12,13 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import static org.apache.juneau.TestUtils.*;
 import static org.junit.Assert.*;
 
+import java.io.*;
 import java.util.*;
 
+import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
 
@@ -48,4 +51,134 @@ public class CsvTest {
 			this.c = c;
 		}
 	}
+
+	//====================================================================================================
+	// testParseBasic
+	//====================================================================================================
+	@Test
+	public void testParseBasic() throws Exception {
+		List<B> l = new ArrayList<B>();
+		l.add(new B().init("b1",1));
+		l.add(new B().init("b,2",2));
+		l.add(new B().init("b\"3\"",3));
+		l.add(new B().init("b\n4",4));
+		l.add(new B().init(null,5));
+		l.add(new B().init("null",6));
+
+		String r = CsvSerializer.DEFAULT.serialize(l);
+		assertEquals("b,c,d\nb1,1,null\n\"b,2\",2,null\n\"b\"\"3\"\"\",3,null\n\"b\n4\",4,null\nnull,5,null\n\"null\",6,null\n", r);
+
+		B[] a = CsvParser.DEFAULT.parse(r, B[].class);
+		assertEquals(6, a.length);
+		assertEquals("b1", a[0].b);
+		assertEquals(1, a[0].c);
+		assertEquals("b,2", a[1].b);
+		assertEquals("b\"3\"", a[2].b);
+		assertEquals("b\n4", a[3].b);
+		assertNull(a[4].b);
+		assertEquals("null", a[5].b);
+		assertEquals(6, a[5].c);
+	}
+
+	//====================================================================================================
+	// testParseCrlfAndBlankLines
+	//====================================================================================================
+	@Test
+	public void testParseCrlfAndBlankLines() throws Exception {
+		String in = "c,b,d\r\n1,x,\r\n\r\n2,\"y\r\nz\",1.5\r\n3,,";
+		List<B> l = CsvParser.DEFAULT.parse(in, LinkedList.class, B.class);
+		assertEquals(3, l.size());
+		assertEquals(1, l.get(0).c);
+		assertEquals("x", l.get(0).b);
+		assertNull(l.get(0).d);
+		assertEquals("y\r\nz", l.get(1).b);
+		assertEquals(1.5f, l.get(1).d, 0);
+		assertEquals(3, l.get(2).c);
+		assertEquals("", l.get(2).b);
+		assertNull(l.get(2).d);
+	}
+
+	//====================================================================================================
+	// testParseIntoMaps
+	//====================================================================================================
+	@Test
+	public void testParseIntoMaps() throws Exception {
+		List<Map<String,Integer>> l = CsvParser.DEFAULT.parse("x,y\n1,2\n3,null\n", List.class, Map.class, String.class, Integer.class);
+		assertObjectEquals("[{x:1,y:2},{x:3,y:null}]", l);
+
+		Object o = CsvParser.DEFAULT.parse("x,y\n1,2\n", Object.class);
+		assertObjectEquals("[{x:'1',y:'2'}]", o);
+
+		List<B> l2 = new ArrayList<B>();
+		CsvParser.DEFAULT.parseIntoCollection("b,c\nb1,1\n", l2, B.class);
+		assertEquals(1, l2.size());
+		assertEquals("b1", l2.get(0).b);
+	}
+
+	//====================================================================================================
+	// testIterate
+	//====================================================================================================
+	@Test
+	public void testIterate() throws Exception {
+		StringBuilder sb = new StringBuilder("b,c\n");
+		for (int i = 0; i < 10000; i++)
+			sb.append("b").append(i).append(',').append(i).append('\n');
+
+		int count = 0;
+		try (CsvParserSession.RowIterator<B> i = CsvParser.DEFAULT.iterate(new StringReader(sb.toString()), B.class)) {
+			while (i.hasNext()) {
+				B b = i.next();
+				assertEquals("b" + count, b.b);
+				assertEquals(count, b.c);
+				count++;
+			}
+		}
+		assertEquals(10000, count);
+
+		CsvParserSession.RowIterator<B> i = CsvParser.DEFAULT.iterate("", B.class);
+		assertFalse(i.hasNext());
+		i.close();
+	}
+
+	//====================================================================================================
+	// testParseErrors
+	//====================================================================================================
+	@Test
+	public void testParseErrors() throws Exception {
+		try {
+			CsvParser.DEFAULT.parse("b,c\n\"b1,1\n", B[].class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unterminated quoted value"));
+		}
+
+		try {
+			CsvParser.DEFAULT.parse("b,x\nb1,1\n", B[].class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unknown property 'x'"));
+		}
+
+		B[] a = CsvParser.DEFAULT.parse("b,c\nb1,1,extra\n", B[].class);
+		assertEquals(1, a[0].c);
+
+		try {
+			CsvParser.DEFAULT.builder().strict().build().parse("b,c\nb1,1,extra\n", B[].class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Too many values"));
+		}
+	}
+
+	public static class B {
+		public String b;
+		public int c;
+		public Float d;
+
+		B init(String b, int c) {
+			this.b = b;
+			this.c = c;
+			return this;
+		}
+	}
 }
\ No newline at end of file
@@ -13,7 +13,12 @@
 package org.apache.juneau.encoders;
 
 import static org.apache.juneau.TestUtils.*;
+import static org.junit.Assert.*;
 
+import java.io.*;
+
+import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 import org.junit.*;
 
 @SuppressWarnings({"javadoc"})
@@ -113,4 +118,44 @@ public class EncoderGroupTest {
 			return new String[]{"E5"};
 		}
 	}
+
+	//====================================================================================================
+	// Test deflate and compression levels
+	//====================================================================================================
+	@Test
+	public void testDeflate() throws Exception {
+		EncoderGroup g = EncoderGroup.create().append(GzipEncoder.class, DeflateEncoder.class).build();
+		assertType(DeflateEncoder.class, g.getEncoder("deflate"));
+		assertType(DeflateEncoder.class, g.getEncoder("gzip;q=0.5, deflate"));
+		assertType(GzipEncoder.class, g.getEncoder("gzip ; q = 0.9, deflate ; q = 0.5"));
+
+		String s = StringUtils.repeat(1000, "foobar");
+		for (Encoder e : g.getEncoders()) {
+			for (int level : new int[]{-1, 1, 9}) {
+				ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				try (Writer w = new OutputStreamWriter(e.getOutputStream(baos, level), IOUtils.UTF8)) {
+					w.write(s);
+				}
+				assertTrue(baos.size() < s.length());
+				assertEquals(s, IOUtils.read(new InputStreamReader(e.getInputStream(new ByteArrayInputStream(baos.toByteArray())), IOUtils.UTF8)));
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Test unmatched headers and identity
+	//====================================================================================================
+	@Test
+	public void testNoMatch() throws Exception {
+		EncoderGroup g = EncoderGroup.create().append(GzipEncoder.class).build();
+		assertNull(g.getEncoderMatch("br"));
+		assertNull(g.getEncoderMatch("br"));
+		assertEquals("gzip", g.getEncoderMatch("br, gzip").getEncoding());
+
+		assertTrue(AcceptEncoding.forString("br").isIdentityAcceptable());
+		assertTrue(AcceptEncoding.forString("br, identity;q=0.5, *;q=0").isIdentityAcceptable());
+		assertFalse(AcceptEncoding.forString("br, identity;q=0").isIdentityAcceptable());
+		assertFalse(AcceptEncoding.forString("br, identity ; q = 0.0").isIdentityAcceptable());
+		assertFalse(AcceptEncoding.forString("br, *;q=0").isIdentityAcceptable());
+	}
 }
@@ -17,6 +17,7 @@ import static org.junit.Assert.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.html.annotation.*;
 import org.apache.juneau.testbeans.*;
 import org.junit.*;
@@ -283,4 +284,62 @@ public class HtmlTest {
 	@Html(noTables=true, noTableHeaders=true)
 	public static class MyMap extends LinkedHashMap<String,String> {}
 
+	//====================================================================================================
+	// Test HTML_singlePassTables
+	//====================================================================================================
+	@Test
+	public void testSinglePassTables() throws Exception {
+		HtmlSerializer s = HtmlSerializer.create().sq().build();
+		HtmlSerializer s2 = HtmlSerializer.create().sq().singlePassTables(true).build();
+		List<D1> l = Arrays.asList(new D1().init("x"), new D1().init("y"));
+		String r;
+
+		D1.count = 0;
+		r = s.serialize(l);
+		assertEquals("<table _type='array'><tr><th>a</th></tr><tr><td>x</td></tr><tr><td>y</td></tr></table>", r);
+		assertEquals(4, D1.count);
+
+		D1.count = 0;
+		r = s2.serialize(l);
+		assertEquals("<table _type='array'><tr><th>b</th><th>a</th></tr><tr><td><null/></td><td>x</td></tr><tr><td><null/></td><td>y</td></tr></table>", r);
+		assertEquals(2, D1.count);
+
+		List<Map<String,Object>> l2 = new ArrayList<>();
+		l2.add(new ObjectMap("{a:1,b:2}"));
+		l2.add(new ObjectMap("{a:3}"));
+		r = s2.serialize(l2);
+		assertEquals("<table _type='array'><tr><th>a</th><th>b</th></tr><tr><td><number>1</number></td><td><number>2</number></td></tr><tr><td><number>3</number></td><td><null/></td></tr></table>", r);
+
+		// Columns are in the same order in both modes, including dyna properties.
+		List<D2> l3 = Arrays.asList(new D2(), new D2());
+		assertEquals(s.serialize(l3), s2.serialize(l3));
+	}
+
+	public static class D2 {
+		public String a = "a1";
+		@BeanProperty(name="*")
+		public Map<String,Object> extra = new ObjectMap().append("x", "x1").append("y", "y1");
+		public String c = "c1";
+	}
+
+	public static class D1 {
+		static int count;
+		private String a;
+		public String b;
+
+		D1 init(String a) {
+			this.a = a;
+			return this;
+		}
+
+		public String getA() {
+			count++;
+			return a;
+		}
+
+		public void setA(String a) {
+			this.a = a;
+		}
+	}
+
 }
\ No newline at end of file
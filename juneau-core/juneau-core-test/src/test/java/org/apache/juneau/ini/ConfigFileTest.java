@@ -2153,4 +2153,154 @@ public class ConfigFileTest {
 		assertEquals("a,#b,=c", cf.getString("a"));
 		assertEquals("a,#b,=c", cf.getString("A/a"));
 	}
+
+	//====================================================================================================
+	// Parsed values are reused until the entry changes.
+	//====================================================================================================
+	@Test
+	public void testTypedValueCache() throws Exception {
+		ConfigFile[] cff = {
+			configFileBuilder.build().addLines(null, "a=1", "b=x,y", "c=[1,2]", "d={foo:'bar'}"),
+			configFileBuilder.build().addLines(null, "a=1", "b=x,y", "c=[1,2]", "d={foo:'bar'}").getResolving(VarResolver.DEFAULT)
+		};
+
+		for (ConfigFile cf : cff) {
+			assertEquals(1, (int)cf.getObject("a", Integer.class));
+			assertEquals("1", cf.getObject("a", String.class));
+
+			// Arrays are copied so callers can't corrupt the cached value.
+			String[] sa = cf.getStringArray("b");
+			assertObjectEquals("['x','y']", sa);
+			sa[0] = "z";
+			assertObjectEquals("['x','y']", cf.getStringArray("b"));
+			int[] ia = cf.getObject("c", int[].class);
+			assertObjectEquals("[1,2]", ia);
+			ia[0] = 3;
+			assertObjectEquals("[1,2]", cf.getObject("c", int[].class));
+
+			// Mutable values are never shared.
+			assertTrue(cf.getObject("d", ObjectMap.class) != cf.getObject("d", ObjectMap.class));
+
+			cf.put("a", "2");
+			cf.addLines(null, "b=y,z");
+			cf.put("c", "[3]");
+			assertEquals(2, (int)cf.getObject("a", Integer.class));
+			assertObjectEquals("['y','z']", cf.getStringArray("b"));
+			assertObjectEquals("[3]", cf.getObject("c", int[].class));
+
+			cf.removeString("a");
+			assertNull(cf.getObject("a", Integer.class));
+		}
+
+		ConfigFile cf = configFileBuilder.build().addLines(null, "a=1");
+		ConfigFile cf2 = configFileBuilder.build().addLines(null, "a=2");
+		assertEquals(1, (int)cf.getObject("a", Integer.class));
+		cf.merge(cf2);
+		assertEquals(2, (int)cf.getObject("a", Integer.class));
+	}
+
+	//====================================================================================================
+	// Reloading a modified file only signals the entries that changed.
+	//====================================================================================================
+	@Test
+	public void testLoadIfModifiedChanges() throws Exception {
+		File f = createTempFile("ConfigFileTest.cfg");
+		write(f, new StringReader("a1=1\na2=1\n[B]\nb1=1\n[C]\nc1=1"));
+		ConfigFile cf = configFileBuilder.build(f);
+		final Set<String> changes = new TreeSet<String>();
+		cf.addListener(
+			new ConfigFileListener() {
+				@Override /* ConfigFileListener */
+				public void onChange(ConfigFile f, Set<String> ss) {
+					changes.addAll(ss);
+				}
+			}
+		);
+		assertEquals(1, cf.getInt("a1"));
+
+		write(f, new StringReader("a1=2\na2=1\n[B]\nb1=1\nb2=1\n[D]\nd1=1"));
+		f.setLastModified(f.lastModified() + 10000);
+		cf.loadIfModified();
+		assertObjectEquals("['B/b2','C/c1','D/d1','a1']", changes);
+		assertEquals(2, cf.getInt("a1"));
+
+		changes.clear();
+		cf.loadIfModified();
+		assertTrue(changes.isEmpty());
+	}
+
+	//====================================================================================================
+	// Watched files are reloaded when modified on the file system.
+	//====================================================================================================
+	@Test
+	public void testWatch() throws Exception {
+		File f = createTempFile("ConfigFileTest.cfg");
+		write(f, new StringReader("a1=1\n[B]\nb1=1"));
+		ConfigFile cf = new ConfigFileBuilder().watch().build(f);
+		final BlockingQueue<String> changes = new LinkedBlockingQueue<String>();
+		cf.addListener(
+			new EntryListener("a1") {
+				@Override /* EntryListener */
+				public void onChange(ConfigFile f) {
+					changes.add("a1=" + f.getString("a1"));
+				}
+			}
+		);
+		cf.addListener(
+			new SectionListener("B") {
+				@Override /* SectionListener */
+				public void onChange(ConfigFile f) {
+					changes.add("B");
+				}
+			}
+		);
+
+		write(f, new StringReader("a1=2\n[B]\nb1=1"));
+		f.setLastModified(f.lastModified() + 10000);
+		assertEquals("a1=2", changes.poll(30, TimeUnit.SECONDS));
+		assertEquals(2, cf.getInt("a1"));
+		assertNull(changes.poll(500, TimeUnit.MILLISECONDS));
+
+		// Saving the file ourselves doesn't trigger a reload.
+		cf.put("B/b1", "2");
+		cf.save();
+		assertEquals("B", changes.poll());
+		assertNull(changes.poll(500, TimeUnit.MILLISECONDS));
+	}
+
+	//====================================================================================================
+	// Cached values are dropped when their entries are removed or the file is reloaded.
+	//====================================================================================================
+	@Test
+	public void testTypedValueCacheCleared() throws Exception {
+		ConfigFile[] cff = {
+			configFileBuilder.build().addLines(null, "a=1").addLines("S", "b=2", "c=3"),
+			configFileBuilder.build().addLines(null, "a=1").addLines("S", "b=2", "c=3").getResolving(VarResolver.DEFAULT)
+		};
+
+		for (ConfigFile cf : cff) {
+			assertEquals(1, (int)cf.getObject("a", Integer.class));
+			assertEquals(2, (int)cf.getObject("S/b", Integer.class));
+			assertEquals(3, (int)cf.getObject("S/c", Integer.class));
+			assertEquals(3, cf.getCachedValueCount());
+
+			cf.removeString("a");
+			assertEquals(2, cf.getCachedValueCount());
+			assertNull(cf.getObject("a", Integer.class));
+
+			cf.removeSection("S");
+			assertEquals(0, cf.getCachedValueCount());
+			assertNull(cf.getObject("S/b", Integer.class));
+
+			cf.load(new StringReader("a=4\n[S]\nb=5"));
+			assertEquals(4, (int)cf.getObject("a", Integer.class));
+			assertEquals(5, (int)cf.getObject("S/b", Integer.class));
+			assertEquals(2, cf.getCachedValueCount());
+			cf.load(new StringReader("a=6"));
+			assertEquals(0, cf.getCachedValueCount());
+			assertEquals(6, (int)cf.getObject("a", Integer.class));
+			assertNull(cf.getObject("S/b", Integer.class));
+		}
+	}
+
 }
\ No newline at end of file
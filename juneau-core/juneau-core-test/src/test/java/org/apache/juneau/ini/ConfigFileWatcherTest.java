@@ -0,0 +1,121 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.ini;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.file.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class ConfigFileWatcherTest {
+
+	private File dir;
+
+	@Before
+	public void before() throws Exception {
+		dir = Files.createTempDirectory("ConfigFileWatcherTest").toFile();
+	}
+
+	@After
+	public void after() throws Exception {
+		FileUtils.delete(dir);
+	}
+
+	private static class TestListener implements ConfigFileWatcher.Listener {
+		@Override /* Listener */
+		public void onModified(File f) {}
+	}
+
+	//====================================================================================================
+	// Directories stop being watched once their last listener is unregistered.
+	//====================================================================================================
+	@Test
+	public void testUnwatch() throws Exception {
+		ConfigFileWatcher w = ConfigFileWatcher.getInstance();
+		File a = new File(dir, "a.cfg"), b = new File(dir, "b.cfg");
+		TestListener l1 = new TestListener(), l2 = new TestListener(), l3 = new TestListener();
+
+		w.watch(a, l1);
+		w.watch(a, l2);
+		w.watch(b, l3);
+		assertTrue(w.isWatched(dir));
+		assertEquals(2, w.getListenerCount(a));
+		assertEquals(1, w.getListenerCount(b));
+
+		w.unwatch(a, l1);
+		assertEquals(1, w.getListenerCount(a));
+		w.unwatch(a, l2);
+		assertEquals(0, w.getListenerCount(a));
+		assertTrue(w.isWatched(dir));
+
+		// Unknown listeners are ignored.
+		w.unwatch(b, l1);
+		assertEquals(1, w.getListenerCount(b));
+
+		w.unwatch(b, l3);
+		assertFalse(w.isWatched(dir));
+
+		// The directory can be watched again.
+		w.watch(a, l1);
+		assertTrue(w.isWatched(dir));
+		w.unwatch(a, l1);
+		assertFalse(w.isWatched(dir));
+	}
+
+	//====================================================================================================
+	// Directories stop being watched once their listeners have been garbage collected.
+	//====================================================================================================
+	@Test
+	public void testCollectedListeners() throws Exception {
+		ConfigFileWatcher w = ConfigFileWatcher.getInstance();
+		File a = new File(dir, "a.cfg");
+
+		w.watch(a, new TestListener());
+		assertTrue(w.isWatched(dir));
+
+		for (int i = 0; i < 50 && w.isWatched(dir); i++) {
+			System.gc();
+			Thread.sleep(100);
+		}
+		assertEquals(0, w.getListenerCount(a));
+		assertFalse(w.isWatched(dir));
+	}
+
+	//====================================================================================================
+	// Cached config file sources unregister the listener of an entry when it's replaced.
+	//====================================================================================================
+	@Test
+	public void testConfigSourceFile() throws Exception {
+		ConfigFileWatcher w = ConfigFileWatcher.getInstance();
+		File f = new File(dir, "a.cfg");
+		IOUtils.write(f, new StringReader("a=1"));
+		ConfigSourceFile s = new ConfigSourceFile(new ConfigSourceSettings.Builder().searchPaths(new String[]{dir.getAbsolutePath()}).build());
+
+		assertEquals("a=1", s.read("a.cfg"));
+		assertEquals(1, w.getListenerCount(f));
+
+		assertTrue(s.write("a.cfg", "a=2"));
+		assertEquals(1, w.getListenerCount(f));
+
+		IOUtils.write(f, new StringReader("a=3"));
+		f.setLastModified(f.lastModified() + 10000);
+		for (int i = 0; i < 300 && ! s.hasBeenModified("a.cfg"); i++)
+			Thread.sleep(100);
+		assertEquals("a=3", s.read("a.cfg"));
+		assertEquals(1, w.getListenerCount(f));
+	}
+}
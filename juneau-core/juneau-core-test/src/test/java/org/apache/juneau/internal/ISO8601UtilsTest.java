@@ -0,0 +1,147 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.apache.juneau.internal.ISO8601Utils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import javax.xml.bind.*;
+
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class ISO8601UtilsTest {
+
+	private static final String[] ZONES = {"GMT", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe", "America/St_Johns"};
+
+	//====================================================================================================
+	// Formatting should produce the same output as DatatypeConverter.
+	//====================================================================================================
+	@Test
+	public void testFormatMatchesDatatypeConverter() throws Exception {
+		Random r = new Random(1234);
+		for (String id : ZONES) {
+			TimeZone tz = TimeZone.getTimeZone(id);
+			for (int i = 0; i < 2000; i++) {
+				long t = GREGORIAN_CUTOVER + 2*86400000L + (long)(r.nextDouble() * (253402300800000L - GREGORIAN_CUTOVER - 4*86400000L));
+				if (i % 2 == 0)
+					t -= t % 1000;
+				Calendar c = new GregorianCalendar(tz);
+				c.setTimeInMillis(t);
+				assertEquals(DatatypeConverter.printDateTime(c), format(t, tz.getOffset(t), true, MILLIS_NONZERO, true));
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Formatting options.
+	//====================================================================================================
+	@Test
+	public void testFormatOptions() throws Exception {
+		long t = 994278645012L;  // 2001-07-04T15:30:45.012-05:00
+		int o = -5*3600000;
+		assertEquals("2001-07-04T15:30:45.012-05:00", format(t, o, true, MILLIS_NONZERO, true));
+		assertEquals("2001-07-04T15:30:45.012-05:00", format(t, o, true, MILLIS_ALWAYS, true));
+		assertEquals("2001-07-04T15:30:45-05:00", format(t, o, true, MILLIS_NONE, true));
+		assertEquals("2001-07-04T15:30:45", format(t, o, true, MILLIS_NONE, false));
+		assertEquals("2001-07-04", format(t, o, false, MILLIS_NONE, false));
+		assertEquals("2001-07-04T20:30:45.012Z", format(t, 0, true, MILLIS_ALWAYS, true));
+		assertEquals("2001-07-04T20:30:45.000Z", format(t - 12, 0, true, MILLIS_ALWAYS, true));
+		assertEquals("2001-07-04T20:30:45Z", format(t - 12, 0, true, MILLIS_NONZERO, true));
+		assertEquals("2001-07-05T02:00:45+05:30", format(t - 12, 330*60000, true, MILLIS_NONZERO, true));
+
+		char[] b = new char[40];
+		int len = format(b, 5, t, 0, false, MILLIS_NONE, true);
+		assertEquals("2001-07-04Z", new String(b, 5, len));
+	}
+
+	//====================================================================================================
+	// Values outside the supported range are left to the caller.
+	//====================================================================================================
+	@Test
+	public void testFormatOutOfRange() throws Exception {
+		assertNull(format(GREGORIAN_CUTOVER, 0, true, MILLIS_NONZERO, true));
+		assertNull(format(253402300800000L, 0, true, MILLIS_NONZERO, true));
+		assertNull(format(253402300800000L - 1000, 3600000, true, MILLIS_NONZERO, true));
+		assertNotNull(format(253402300800000L - 1000, 0, true, MILLIS_NONZERO, true));
+	}
+
+	//====================================================================================================
+	// Parsing should produce the same values as DatatypeConverter.
+	//====================================================================================================
+	@Test
+	public void testParseMatchesDatatypeConverter() throws Exception {
+		TimeZone tz = TimeZone.getDefault();
+		try {
+			TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+			String[] in = {
+				"2001-07-04T15:30:45-05:00",
+				"2001-07-04T15:30:45+05:30",
+				"2001-07-04T15:30:45Z",
+				"2001-07-04T15:30:45.1Z",
+				"2001-07-04T15:30:45.12345-14:00",
+				"2001-07-04T15:30:45",
+				"2001-07-04T15:30:45.999",
+				"2001-07-04 15:30:45",
+				"2001-07-04T15:30",
+				"2001-07-04T15",
+				"2001-07-04",
+				"2001-07",
+				"2001",
+				"2000-02-29",
+				"2001-03-11T02:30:00",
+				"1600-01-01T00:00:00Z",
+				"9999-12-31T23:59:59.999Z",
+			};
+			for (String s : in) {
+				Calendar c1 = DatatypeConverter.parseDateTime(DateUtils.toValidISO8601DT(s));
+				Calendar c2 = parseCalendar(s);
+				assertEquals(s, c1, c2);
+				assertEquals(s, c1.getTimeZone().getID(), c2.getTimeZone().getID());
+				assertEquals(s, c1.getTimeInMillis(), parseMillis(s));
+			}
+		} finally {
+			TimeZone.setDefault(tz);
+		}
+	}
+
+	//====================================================================================================
+	// Forms not handled here are left to the caller.
+	//====================================================================================================
+	@Test
+	public void testParseUnsupported() throws Exception {
+		String[] in = {
+			"",
+			"foo",
+			"01",
+			"12001-01-01",
+			"-2001-01-01",
+			"2001-13-01",
+			"2001-02-29",
+			"2001-07-04T24:00:00",
+			"2001-07-04T15:60",
+			"2001-07-04T15:30:45.",
+			"2001-07-04T15:30:45+0500",
+			"2001-07-04T15:30:45+15:00",
+			"2001-07-04T15:30:45Zfoo",
+			"2001-07-04Z",
+		};
+		for (String s : in) {
+			assertNull(s, parseCalendar(s));
+			assertEquals(s, INVALID, parseMillis(s));
+		}
+		assertNull(parseCalendar(null));
+	}
+}
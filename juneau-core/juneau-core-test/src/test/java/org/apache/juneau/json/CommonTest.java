@@ -21,6 +21,8 @@ import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.serializer.*;
 import org.apache.juneau.utils.*;
 import org.junit.*;
 
@@ -279,6 +281,46 @@ public class CommonTest {
 		s.build().getSchemaSerializer().serialize(r1);
 	}
 
+	//====================================================================================================
+	// Recursion detection on deep and shared structures
+	//====================================================================================================
+	@Test
+	public void testRecursionDeepNesting() throws Exception {
+		JsonSerializer s = JsonSerializer.create().simple().detectRecursions(true).build();
+
+		// Deeper than the initial stack capacity.
+		ObjectMap m = new ObjectMap(), m2 = m;
+		for (int i = 0; i < 50; i++) {
+			ObjectMap m3 = new ObjectMap();
+			m2.put("a", m3);
+			m2 = m3;
+		}
+		m2.put("b", 1);
+		assertEquals(StringUtils.repeat(50, "{a:") + "{b:1}" + StringUtils.repeat(50, "}"), s.serialize(m));
+
+		// The same object can appear multiple times as long as it's not in its own branch.
+		ObjectMap shared = new ObjectMap("{c:1}");
+		ObjectList l = new ObjectList(shared, shared, new ObjectMap().append("d", shared));
+		assertEquals("[{c:1},{c:1},{d:{c:1}}]", s.serialize(l));
+
+		// A session can be used again after a recursion error.
+		R1 r1 = new R1();
+		R2 r2 = new R2();
+		R3 r3 = new R3();
+		r1.r2 = r2;
+		r2.r3 = r3;
+		r3.r1 = r1;
+		SerializerSession ss = s.createSession();
+		try {
+			ss.serialize(r1);
+			fail("Exception expected!");
+		} catch (SerializeException e) {
+			assertTrue(e.getLocalizedMessage().contains("->[3]r1:org.apache.juneau.json.CommonTest$R1"));
+		}
+		ss.reset();
+		assertEquals("[{c:1},{c:1},{d:{c:1}}]", ss.serialize(l));
+	}
+
 	public static class R1 {
 		public String name = "foo";
 		public R2 r2;
@@ -18,6 +18,7 @@ import static org.junit.Assert.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.json.annotation.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
@@ -301,4 +302,78 @@ public class JsonTest {
 		r = JsonParser.DEFAULT.parse(r, String.class);
 		assertEquals("foo/bar", r);
 	}
+
+	//====================================================================================================
+	// testCompiledPlans
+	//====================================================================================================
+	@Test
+	public void testCompiledPlans() throws Exception {
+		WriterSerializer[] serializers = {
+			JsonSerializer.DEFAULT,
+			JsonSerializer.DEFAULT_LAX,
+			JsonSerializer.DEFAULT_LAX_READABLE,
+			JsonSerializer.create().sq().trimNullProperties(false).escapeSolidus(true).build(),
+			JsonSerializer.create().trimStrings(true).trimEmptyCollections(true).detectRecursions(true).build(),
+		};
+		D d = new D();
+		d.d2 = new D();
+		d.d2.s1 = "x/y";
+		d.d3 = new ArrayList<Object>(Arrays.asList(new D(), "foo", 1));
+		Object[] inputs = { d, new D[]{d, null}, new ObjectMap().append("a", d), new A() };
+
+		for (WriterSerializer s : serializers) {
+			WriterSerializer s2 = (WriterSerializer)s.builder().property(JsonSerializer.JSON_useCompiledPlans, true).build();
+			for (Object o : inputs) {
+				assertEquals(s.serialize(o), s2.serialize(o));
+				// Second time uses cached plans.
+				assertEquals(s.serialize(o), s2.serialize(o));
+			}
+		}
+
+		WriterSerializer s = JsonSerializer.create().simple().useCompiledPlans(true).build();
+		assertEquals("{_type:'D',s1:' foo \\'bar\\' ',i1:1,i2:2,b1:true,'default':'x',d3:[]}", s.serialize(new D()));
+	}
+
+	@Bean(typeName="D", properties="s1,s2,i1,i2,b1,default,d2,d3,f1")
+	public static class D {
+		public String s1 = " foo 'bar' ", s2;
+		public int i1 = 1;
+		public Integer i2 = 2;
+		public boolean b1 = true;
+		@BeanProperty(name="default")
+		public String _default = "x";
+		public D d2;
+		public List<Object> d3 = new ArrayList<Object>();
+		public D2 f1;
+	}
+
+	public static class D2 {
+		public float f;
+	}
+
+	//====================================================================================================
+	// testPreEncodedPropertyNames
+	//====================================================================================================
+	@Test
+	public void testPreEncodedPropertyNames() throws Exception {
+		E e = new E();
+		// Run twice so that the second pass uses the cached names.
+		for (int i = 0; i < 2; i++) {
+			assertEquals("{\"x\":1,\"a/b\":2,\"default\":3}", JsonSerializer.DEFAULT.serialize(e));
+			assertEquals("{x:1,'a/b':2,'default':3}", JsonSerializer.DEFAULT_LAX.serialize(e));
+			assertEquals("{\"x\":1,\"a\\/b\":2,\"default\":3}", JsonSerializer.create().escapeSolidus(true).build().serialize(e));
+			assertEquals("{'x':1,'a\\/b':2,'default':3}", JsonSerializer.create().sq().escapeSolidus(true).build().serialize(e));
+			assertEquals("{x:1,'a/b':2,'default':3}", JsonSerializer.create().simple().useCompiledPlans(true).build().serialize(e));
+			assertEquals("{`x`:1,`a/b`:2,`default`:3}", JsonSerializer.create().quoteChar('`').build().serialize(e));
+		}
+	}
+
+	@Bean(properties="x,a/b,default")
+	public static class E {
+		public int x = 1;
+		@BeanProperty(name="a/b")
+		public int ab = 2;
+		@BeanProperty(name="default")
+		public int _default = 3;
+	}
 }
\ No newline at end of file
@@ -14,6 +14,9 @@ package org.apache.juneau.msgpack;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.junit.*;
 
@@ -212,4 +215,58 @@ public class MsgPackSerialzierTest {
 		byte[] b = MsgPackSerializer.DEFAULT.serialize(input);
 		assertEquals(expected, TestUtils.toReadableBytes2(b));
 	}
+
+	//====================================================================================================
+	// testBufferBoundaries
+	//====================================================================================================
+	@Test
+	public void testBufferBoundaries() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++)
+			sb.append(i % 3 == 0 ? "a" : i % 3 == 1 ? "é" : "中");
+		String big = sb.toString(), emoji = "x😀y", unpaired = "x\ud83dy";
+
+		// Strings are encoded directly into the buffer but must produce the same bytes as String.getBytes().
+		for (String s : new String[]{"", "abc", big, emoji, unpaired}) {
+			byte[] b = MsgPackSerializer.DEFAULT.serialize(s);
+			byte[] utf8 = s.getBytes("UTF-8");
+			assertArrayEquals(utf8, Arrays.copyOfRange(b, b.length - utf8.length, b.length));
+		}
+
+		List<Object> l = new ArrayList<Object>();
+		for (int i = 0; i < 2000; i++) {
+			l.add(big.substring(0, i));
+			l.add(i * 1000000007L);
+			l.add(i * 1.5d);
+		}
+		l.add(emoji);
+		l.add(new byte[20000]);
+
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(l);
+
+		// Parse through a stream that only returns a few bytes at a time.
+		final InputStream is = new ByteArrayInputStream(b);
+		InputStream trickle = new InputStream() {
+			@Override
+			public int read() throws IOException {
+				return is.read();
+			}
+			@Override
+			public int read(byte[] buf, int off, int len) throws IOException {
+				return is.read(buf, off, Math.min(len, 7));
+			}
+		};
+
+		for (InputStream in : new InputStream[]{new ByteArrayInputStream(b), trickle}) {
+			List<Object> l2 = MsgPackParser.DEFAULT.parse(in, List.class, Object.class);
+			assertEquals(l.size(), l2.size());
+			for (int i = 0; i < 6000; i += 3) {
+				assertEquals(l.get(i), l2.get(i));
+				assertEquals(((Number)l.get(i+1)).longValue(), ((Number)l2.get(i+1)).longValue());
+				assertEquals((Double)l.get(i+2), ((Number)l2.get(i+2)).doubleValue(), 0);
+			}
+			assertEquals(emoji, l2.get(6000));
+			assertEquals(20000, ((List<?>)l2.get(6001)).size());
+		}
+	}
 }
\ No newline at end of file
@@ -15,6 +15,8 @@ package org.apache.juneau.svl;
 import static org.junit.Assert.*;
 import static org.apache.juneau.TestUtils.*;
 
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.utils.*;
 import org.junit.*;
@@ -42,6 +44,35 @@ public class ResolvingObjectMapTest {
 		assertObjectEquals("{k1:'1'}", m.get("foo"));
 	}
 	
+	//====================================================================================================
+	// Precompiled templates are used for matching strings and string array elements.
+	//====================================================================================================
+	@Test
+	public void testTemplates() throws Exception {
+		VarResolver vr = new VarResolverBuilder().defaultVars().vars(XVar.class).build();
+		Map<String,VarTemplate> templates = new HashMap<String,VarTemplate>();
+		templates.put("$X{a}", vr.compile("$X{a}"));
+		templates.put("$X{b}-x", vr.compile("$X{b}-x"));
+		ObjectMap m = new ResolvingObjectMap(vr.createSession(), templates);
+
+		m.put("foo", "$X{a}");
+		assertEquals("1", m.get("foo"));
+
+		// Strings that weren't compiled are still resolved.
+		m.put("foo", "$X{c}");
+		assertEquals("3", m.get("foo"));
+
+		m.put("foo", new String[]{"$X{b}-x", "$X{c}", null, "y"});
+		assertObjectEquals("['2-x','3',null,'y']", m.get("foo"));
+
+		String[] a = {"y", "z"};
+		m.put("foo", a);
+		assertTrue(a == m.get("foo"));
+
+		m.put("foo", new AList<String>().append("$X{a}"));
+		assertObjectEquals("['1']", m.get("foo"));
+	}
+
 	public static class XVar extends MapVar {
 		public XVar() {
 			super("X", new ObjectMap().append("a", 1).append("b", 2).append("c", 3));
@@ -0,0 +1,101 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.transforms;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.transform.*;
+import org.junit.*;
+
+@SuppressWarnings({"javadoc","rawtypes"})
+public class TemporalSwapTest {
+
+	private static boolean javaTime;
+
+	@BeforeClass
+	public static void beforeClass() {
+		try {
+			Class.forName("java.time.Instant");
+			javaTime = true;
+		} catch (ClassNotFoundException e) {
+			javaTime = false;
+		}
+	}
+
+	private static void test(Class<? extends PojoSwap> swap, String className, String in) throws Exception {
+		assumeTrue(javaTime);
+
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		TemporalSwap s = (TemporalSwap)swap.newInstance();
+		assertEquals(className, s.getNormalClass().getName());
+
+		Object o = s.unswap(session, in, null);
+		assertEquals(className, o.getClass().getName());
+		assertEquals(in, s.swap(session, o));
+
+		String json = JsonSerializer.create().simple().pojoSwaps(swap).build().serialize(o);
+		assertEquals("'" + in + "'", json);
+		assertEquals(o, JsonParser.create().pojoSwaps(swap).build().parse(json, o.getClass()));
+	}
+
+	//====================================================================================================
+	// Round-trip each of the java.time swaps.
+	//====================================================================================================
+	@Test
+	public void testInstant() throws Exception {
+		test(TemporalSwap.Instant.class, "java.time.Instant", "2001-07-04T20:30:45.123Z");
+	}
+
+	@Test
+	public void testLocalDate() throws Exception {
+		test(TemporalSwap.LocalDate.class, "java.time.LocalDate", "2001-07-04");
+	}
+
+	@Test
+	public void testLocalDateTime() throws Exception {
+		test(TemporalSwap.LocalDateTime.class, "java.time.LocalDateTime", "2001-07-04T15:30:45.123");
+	}
+
+	@Test
+	public void testOffsetDateTime() throws Exception {
+		test(TemporalSwap.OffsetDateTime.class, "java.time.OffsetDateTime", "2001-07-04T15:30:45-05:00");
+	}
+
+	@Test
+	public void testZonedDateTime() throws Exception {
+		test(TemporalSwap.ZonedDateTime.class, "java.time.ZonedDateTime", "2001-07-04T15:30:45-04:00[America/New_York]");
+	}
+
+	@Test
+	public void testDuration() throws Exception {
+		test(TemporalSwap.Duration.class, "java.time.Duration", "PT1H30M");
+	}
+
+	//====================================================================================================
+	// Empty strings and invalid values.
+	//====================================================================================================
+	@Test
+	public void testUnswapEmpty() throws Exception {
+		assumeTrue(javaTime);
+		assertNull(new TemporalSwap.Instant().unswap(BeanContext.DEFAULT.createSession(), "", null));
+	}
+
+	@Test(expected=org.apache.juneau.parser.ParseException.class)
+	public void testUnswapInvalid() throws Exception {
+		assumeTrue(javaTime);
+		new TemporalSwap.LocalDate().unswap(BeanContext.DEFAULT.createSession(), "2001-02-30", null);
+	}
+}
@@ -0,0 +1,151 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class CacheTest {
+
+	//====================================================================================================
+	// testBasic
+	//====================================================================================================
+	@Test
+	public void testBasic() throws Exception {
+		Cache<String,String> c = new Cache<>(false, 10, true);
+
+		assertNull(c.get("a"));
+		assertEquals("1", c.put("a", "1"));
+		assertEquals("1", c.put("a", "2"));
+		assertEquals("1", c.get("a"));
+		assertEquals(1, c.size());
+		assertEquals(1, c.getHitCount());
+		assertEquals(1, c.getMissCount());
+		assertEquals(0, c.getEvictionCount());
+
+		c.clear();
+		assertEquals(0, c.size());
+		assertNull(c.get("a"));
+	}
+
+	//====================================================================================================
+	// testDisabled
+	//====================================================================================================
+	@Test
+	public void testDisabled() throws Exception {
+		Cache<String,String> c = new Cache<>(true, 10);
+		assertEquals("1", c.put("a", "1"));
+		assertNull(c.get("a"));
+		assertEquals(0, c.size());
+	}
+
+	//====================================================================================================
+	// testEviction
+	//====================================================================================================
+	@Test
+	public void testEviction() throws Exception {
+		Cache<String,String> c = new Cache<>(false, 100, true);
+
+		for (int i = 0; i < 100; i++)
+			c.put("hot" + i, "x");
+
+		// Flood the cache with one-off keys while continuing to read the hot entries.
+		for (int i = 0; i < 10000; i++) {
+			c.put("cold" + i, "x");
+			if (i % 10 == 0)
+				for (int j = 0; j < 50; j++)
+					c.get("hot" + j);
+		}
+
+		assertEquals(100, c.size());
+		assertEquals(10000, c.getEvictionCount());
+
+		// Frequently-read entries survive, unlike with a flush-everything policy.
+		int survivors = 0;
+		for (int j = 0; j < 50; j++)
+			if (c.get("hot" + j) != null)
+				survivors++;
+		assertTrue("Only " + survivors + " hot entries survived.", survivors >= 40);
+	}
+
+	//====================================================================================================
+	// testWeight
+	//====================================================================================================
+	@Test
+	public void testWeight() throws Exception {
+		Cache<String,String> c = new Cache<String,String>(false, 100, 10, true) {
+			@Override
+			protected long weigh(String value) {
+				return value.length();
+			}
+		};
+
+		c.put("a", "xxxx");
+		c.put("b", "xxxx");
+		assertEquals(2, c.size());
+		assertEquals(8, c.weight());
+
+		// Entries are evicted by weight well before the maximum size is reached.
+		c.put("c", "xxxx");
+		assertEquals(2, c.size());
+		assertEquals(8, c.weight());
+		assertEquals(1, c.getEvictionCount());
+		assertNull(c.get("a"));
+
+		c.remove("b");
+		assertEquals(4, c.weight());
+
+		// Values heavier than the maximum weight aren't kept.
+		assertEquals("xxxxxxxxxxxx", c.put("d", "xxxxxxxxxxxx"));
+		assertNull(c.get("d"));
+		assertTrue(c.weight() <= 10);
+
+		c.clear();
+		assertEquals(0, c.weight());
+	}
+
+	//====================================================================================================
+	// testConcurrent
+	//====================================================================================================
+	@Test
+	public void testConcurrent() throws Exception {
+		final Cache<Integer,Integer> c = new Cache<>(false, 50, true);
+		final boolean[] failed = new boolean[1];
+		Thread[] t = new Thread[8];
+		for (int i = 0; i < t.length; i++) {
+			final int seed = i;
+			t[i] = new Thread() {
+				@Override
+				public void run() {
+					for (int j = 0; j < 10000; j++) {
+						Integer k = (j * 31 + seed) % 500;
+						Integer v = c.get(k);
+						if (v == null)
+							v = c.put(k, k);
+						if (! k.equals(v))
+							failed[0] = true;
+					}
+				}
+			};
+			t[i].start();
+		}
+		for (Thread t2 : t)
+			t2.join();
+		assertFalse(failed[0]);
+		assertTrue(c.size() <= 50);
+		assertEquals(80000, c.getHitCount() + c.getMissCount());
+	}
+}
@@ -15,12 +15,37 @@ package org.apache.juneau.utils;
 import static org.junit.Assert.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
 import org.apache.juneau.svl.*;
 import org.junit.*;
 
 @SuppressWarnings("javadoc")
 public class StringVarResolverTest {
 
+	// System properties set by these tests, restored after each one.
+	private static final String[] PROPS = {"a", "b", "c", "d", "foobar"};
+	private final Map<String,String> savedProps = new HashMap<String,String>();
+
+	@Before
+	public void saveProperties() {
+		for (String p : PROPS)
+			savedProps.put(p, System.getProperty(p));
+	}
+
+	@After
+	public void restoreProperties() {
+		for (String p : PROPS) {
+			String v = savedProps.get(p);
+			if (v == null)
+				System.clearProperty(p);
+			else
+				System.setProperty(p, v);
+		}
+	}
+
 	//====================================================================================================
 	// test - Basic tests
 	//====================================================================================================
@@ -334,4 +359,90 @@ public class StringVarResolverTest {
 			super("|");
 		}
 	}
+
+	//====================================================================================================
+	// Compiled templates resolve the same as strings.
+	//====================================================================================================
+	@Test
+	public void testCompile() throws Exception {
+		char b = '\\';
+		String[] in = {
+			null, "", "foo", "$X{y}", "$X{y}x", "x$X{y}", "$X{y}$X{y}", "z$X{y}z$X{y}z", "$X{$X{y}}", "$X{z$X{y}z}",
+			"$X.{y}", "z$X.{y}z", "z$X.{$X.{z}}z", "$Y{y}", "$Y{y}x", "x$Y{y}", "${y}", "${${y}}", "${${y}${y}}",
+			"z${z${y}z}z", "|${y}", "foo|${y}foo", "A|A", "A||A", "A|A$X{B}", "A||A$X{B}", "A|$X{B}", "A||$X{B}", "A$X|{B}",
+			"A$X{B|}", "A$X{B}|", "$X{B|}", "$Y{B|}", "$@{foobar}", "${{foobar}", "${$foobar}", "$", "$S", "$S{",
+			"$S{foobar", "$S{foobar}$", "$S{foobar}$S", "$S{foobar}$S{", "$S{foobar}$S{foobar", "$S{a}", "$S{a}|",
+			"$S{c}", "$X{$S{a},$S{b}}", "$X{$S{a}}", "$IF{$S{d},$S{a},$S{b}}", "$SW{$S{a},a*,$S{c}}", "$E{PATH}"
+		};
+		VarResolver[] vrs = {
+			new VarResolverBuilder().vars(XVar.class).build(),
+			new VarResolverBuilder().vars(BlankVar.class).build(),
+			new VarResolverBuilder().defaultVars().vars(XMultipartVar.class).build()
+		};
+		System.setProperty("a", "a1");
+		System.setProperty("b", "b1");
+		System.setProperty("c", "$S{b}|");
+		System.setProperty("d", "true");
+		System.setProperty("foobar", "baz");
+
+		for (VarResolver vr : vrs) {
+			for (String s : in) {
+				s = s == null ? null : s.replace('|', b);
+				VarTemplate t = vr.compile(s);
+				assertEquals(s, t.toString());
+				assertEquals(s, vr.resolve(s), t.resolve(vr.createSession()));
+				assertEquals(s, vr.resolve(s), t.resolve(vr.createSession()));
+				assertEquals(s, s == null ? "" : vr.resolve(s), t.resolveTo(vr.createSession(), new StringWriter()).toString());
+			}
+		}
+
+		// Resolution is dynamic unless all the vars are constant.
+		VarResolver vr = vrs[2];
+		VarTemplate t = vr.compile("x$S{a}x");
+		assertFalse(t.isConstant());
+		assertEquals("xa1x", t.resolve(vr.createSession()));
+		System.setProperty("a", "a2");
+		assertEquals("xa2x", t.resolve(vr.createSession()));
+		assertTrue(vr.compile("foo").isConstant());
+		assertTrue(vr.compile("x$IF{true,$SW{a,a*,$E{PATH}}}x").isConstant());
+		assertFalse(vr.compile("x$IF{true,$S{a}}x").isConstant());
+	}
+
+	//====================================================================================================
+	// Constant vars are memoized.
+	//====================================================================================================
+	@Test
+	public void testCompileMemoized() throws Exception {
+		VarResolver vr = new VarResolverBuilder().vars(ConstantVar.class, XVar.class).build();
+		ConstantVar.count.set(0);
+
+		VarTemplate t = vr.compile("a$C{b}c$C{d}e");
+		assertTrue(t.isConstant());
+		for (int i = 0; i < 3; i++)
+			assertEquals("a[b]c[d]e", t.resolve(vr.createSession()));
+		assertEquals(2, ConstantVar.count.get());
+
+		// Constant vars nested inside other vars are still memoized.
+		t = vr.compile("$X{$C{f}}");
+		assertFalse(t.isConstant());
+		for (int i = 0; i < 3; i++)
+			assertEquals("x[f]x", t.resolve(vr.createSession()));
+		assertEquals(3, ConstantVar.count.get());
+	}
+
+	public static class ConstantVar extends SimpleVar {
+		static final AtomicInteger count = new AtomicInteger();
+		public ConstantVar() {
+			super("C");
+		}
+		@Override
+		public String resolve(VarResolverSession session, String arg) {
+			count.incrementAndGet();
+			return "[" + arg + "]";
+		}
+		@Override
+		protected boolean isConstant() {
+			return true;
+		}
+	}
 }
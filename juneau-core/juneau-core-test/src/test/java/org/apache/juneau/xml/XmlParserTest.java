@@ -14,6 +14,8 @@ package org.apache.juneau.xml;
 
 import static org.junit.Assert.*;
 
+import javax.xml.stream.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 import org.junit.*;
@@ -92,4 +94,32 @@ public class XmlParserTest {
 		m = p.parse(xml, ObjectMap.class);
 		assertEquals("{A:{}}", m.toString());
 	}
+
+	@Test
+	public void testInputFactoryReuse() throws Exception {
+		final XmlParserContext ctx = PropertyStore.create().getContext(XmlParserContext.class);
+		final XMLInputFactory f1 = ctx.getInputFactory();
+		assertSame(f1, ctx.getInputFactory());
+
+		// Each thread gets its own factory.
+		final XMLInputFactory[] f2 = new XMLInputFactory[1];
+		Thread t = new Thread() {
+			@Override
+			public void run() {
+				try {
+					f2[0] = ctx.getInputFactory();
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+		};
+		t.start();
+		t.join();
+		assertNotNull(f2[0]);
+		assertNotSame(f1, f2[0]);
+
+		// Parsers with the same settings continue to work across repeated parses.
+		for (int i = 0; i < 3; i++)
+			assertEquals("{b:'" + i + "'}", XmlParser.DEFAULT.parse("<A><b>" + i + "</b></A>", ObjectMap.class).toString());
+	}
 }
\ No newline at end of file
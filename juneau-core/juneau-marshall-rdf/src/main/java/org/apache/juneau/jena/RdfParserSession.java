@@ -40,7 +40,7 @@ public class RdfParserSession extends ReaderParserSession {
 	private final String rdfLanguage;
 	private final Namespace juneauNs, juneauBpNs;
 	private final Property pRoot, pValue, pType, pRdfType;
-	private final Model model;
+	private Model model;
 	private final boolean trimWhitespace, looseCollections;
 	private final RDFReader rdfReader;
 	private final Set<Resource> urisVisited = new HashSet<>();
@@ -66,9 +66,7 @@ public class RdfParserSession extends ReaderParserSession {
 		this.trimWhitespace = p.getBoolean(RDF_trimWhitespace, ctx.trimWhitespace);
 		this.collectionFormat = p.getWithDefault(RDF_collectionFormat, ctx.collectionFormat, RdfCollectionFormat.class);
 		this.looseCollections = p.getBoolean(RDF_looseCollections, ctx.looseCollections);
-		this.model = ModelFactory.createDefaultModel();
-		addModelPrefix(juneauNs);
-		addModelPrefix(juneauBpNs);
+		this.model = createModel();
 		this.pRoot = model.createProperty(juneauNs.getUri(), RDF_juneauNs_ROOT);
 		this.pValue = model.createProperty(juneauNs.getUri(), RDF_juneauNs_VALUE);
 		this.pType = model.createProperty(juneauBpNs.getUri(), RDF_juneauNs_TYPE);
@@ -95,6 +93,24 @@ public class RdfParserSession extends ReaderParserSession {
 			);
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		model = createModel();
+		urisVisited.clear();
+	}
+
+	/*
+	 * Creates an empty model with the Juneau namespaces as prefixes.
+	 * Parsed triples are read into the model, so each use needs a new one.
+	 */
+	private Model createModel() {
+		Model m = ModelFactory.createDefaultModel();
+		m.setNsPrefix(juneauNs.getName(), juneauNs.getUri());
+		m.setNsPrefix(juneauBpNs.getName(), juneauBpNs.getUri());
+		return m;
+	}
+
 	@Override /* ReaderParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
 
@@ -134,10 +150,6 @@ public class RdfParserSession extends ReaderParserSession {
 		return parseAnything(type, resource, getOuter(), null);
 	}
 
-	private final void addModelPrefix(Namespace ns) {
-		model.setNsPrefix(ns.getName(), ns.getUri());
-	}
-
 	/*
 	 * Decodes the specified string.
 	 * If {@link RdfParserContext#RDF_trimWhitespace} is <jk>true</jk>, the resulting string is trimmed before decoding.
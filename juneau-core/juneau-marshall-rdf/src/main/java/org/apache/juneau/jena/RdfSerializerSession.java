@@ -46,8 +46,8 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		autoDetectNamespaces,
 		addBeanTypeProperties;
 	private final Property pRoot, pValue;
-	private final Model model;
 	private final RDFWriter writer;
+	private Model model;
 	private final RdfCollectionFormat collectionFormat;
 	private final Namespace[] namespaces;
 
@@ -86,11 +86,7 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		this.autoDetectNamespaces = p.getBoolean(RDF_autoDetectNamespaces, ctx.autoDetectNamespaces);
 		this.namespaces = p.getWithDefault(RDF_namespaces, ctx.namespaces, Namespace[].class);
 		addBeanTypeProperties = p.getBoolean(RDF_addBeanTypeProperties, ctx.addBeanTypeProperties);
-		this.model = ModelFactory.createDefaultModel();
-		addModelPrefix(juneauNs);
-		addModelPrefix(juneauBpNs);
-		for (Namespace ns : this.namespaces)
-			addModelPrefix(ns);
+		this.model = createModel();
 		this.pRoot = model.createProperty(juneauNs.getUri(), RDF_juneauNs_ROOT);
 		this.pValue = model.createProperty(juneauNs.getUri(), RDF_juneauNs_VALUE);
 		writer = model.getWriter(rdfLanguage);
@@ -123,6 +119,25 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 			);
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		model = createModel();
+	}
+
+	/*
+	 * Creates an empty model with the configured namespaces as prefixes.
+	 * Triples and auto-detected namespaces are added to the model during serialization, so each use needs a new one.
+	 */
+	private Model createModel() {
+		Model m = ModelFactory.createDefaultModel();
+		m.setNsPrefix(juneauNs.getName(), juneauNs.getUri());
+		m.setNsPrefix(juneauBpNs.getName(), juneauBpNs.getUri());
+		for (Namespace ns : namespaces)
+			m.setNsPrefix(ns.getName(), ns.getUri());
+		return m;
+	}
+
 	/*
 	 * Adds the specified namespace as a model prefix.
 	 */
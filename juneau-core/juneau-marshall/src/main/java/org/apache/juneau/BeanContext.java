@@ -420,6 +420,28 @@ public class BeanContext extends Context {
 	 */
 	public static final String BEAN_useInterfaceProxies = PREFIX + "useInterfaceProxies";
 
+	/**
+	 * <b>Configuration property:</b>  Use method handles for bean property access.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"Bean.useMethodHandles"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>true</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>false</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * If <jk>true</jk>, bean property getters, setters, and fields are bound to {@link java.lang.invoke.MethodHandle MethodHandles}
+	 * once when the {@link BeanMeta} is created, and all subsequent reads and writes go through those handles instead of
+	 * through {@link Method#invoke(Object, Object...)} and {@link Field#get(Object)}/{@link Field#set(Object, Object)}.
+	 *
+	 * <p>
+	 * Properties whose members cannot be bound (e.g. because access is denied by a security manager) silently fall
+	 * back to reflection.
+	 * Exceptions thrown by getters and setters are reported identically in both modes.
+	 */
+	public static final String BEAN_useMethodHandles = PREFIX + "useMethodHandles";
+
 	/**
 	 * <b>Configuration property:</b>  Ignore unknown properties.
 	 *
@@ -941,6 +963,7 @@ public class BeanContext extends Context {
 		beansRequireSomeProperties,
 		beanMapPutReturnsOldValue,
 		useInterfaceProxies,
+		useMethodHandles,
 		ignoreUnknownBeanProperties,
 		ignoreUnknownNullBeanProperties,
 		ignorePropertiesWithoutSetters,
@@ -1003,6 +1026,7 @@ public class BeanContext extends Context {
 		beansRequireSomeProperties = pm.get(BEAN_beansRequireSomeProperties, boolean.class, true);
 		beanMapPutReturnsOldValue = pm.get(BEAN_beanMapPutReturnsOldValue, boolean.class, false);
 		useInterfaceProxies = pm.get(BEAN_useInterfaceProxies, boolean.class, true);
+		useMethodHandles = pm.get(BEAN_useMethodHandles, boolean.class, true);
 		ignoreUnknownBeanProperties = pm.get(BEAN_ignoreUnknownBeanProperties, boolean.class, false);
 		ignoreUnknownNullBeanProperties = pm.get(BEAN_ignoreUnknownNullBeanProperties, boolean.class, true);
 		ignorePropertiesWithoutSetters = pm.get(BEAN_ignorePropertiesWithoutSetters, boolean.class, true);
@@ -1800,6 +1824,7 @@ public class BeanContext extends Context {
 				.append("beanMethodVisibility", beanMethodVisibility)
 				.append("beanFieldVisibility", beanFieldVisibility)
 				.append("useInterfaceProxies", useInterfaceProxies)
+				.append("useMethodHandles", useMethodHandles)
 				.append("ignoreUnknownBeanProperties", ignoreUnknownBeanProperties)
 				.append("ignoreUnknownNullBeanProperties", ignoreUnknownNullBeanProperties)
 				.append("ignorePropertiesWithoutSetters", ignorePropertiesWithoutSetters)
@@ -20,6 +20,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import static org.apache.juneau.internal.ArrayUtils.*;
 
 import java.lang.annotation.*;
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.net.*;
 import java.net.URI;
@@ -69,6 +70,10 @@ public final class BeanPropertyMeta {
 	private final Object overrideValue;                       // The bean property value (if it's an overridden delegate).
 	private final BeanPropertyMeta delegateFor;               // The bean property that this meta is a delegate for.
 
+	private final MethodHandle getterHandle, setterHandle;    // Bound accessors (if Bean.useMethodHandles is enabled).
+	private final Class<?> setterHandleType;                  // The (boxed) value type accepted by setterHandle.
+	private final boolean setterHandleAcceptsNull;            // False if the setter takes a primitive.
+
 	/**
 	 * Creates a builder for {@link #BeanPropertyMeta} objects.
 	 * 
@@ -340,6 +345,63 @@ public final class BeanPropertyMeta {
 		this.delegateFor = b.delegateFor;
 		this.extMeta = b.extMeta;
 		this.isDyna = b.isDyna;
+
+		MethodHandle gh = null, sh = null;
+		Class<?> st = null;
+		if (beanContext.useMethodHandles) {
+			gh = getterHandle(getter, field);
+			if (setter != null) {
+				Class<?>[] pt = setter.getParameterTypes();
+				st = pt[pt.length-1];
+			} else if (field != null && ! isDyna) {
+				st = field.getType();
+			}
+			sh = setterHandle(setter, isDyna ? null : field, st);
+		}
+		this.getterHandle = gh;
+		this.setterHandle = sh;
+		this.setterHandleType = st == null ? null : getWrapperIfPrimitive(st);
+		this.setterHandleAcceptsNull = st != null && ! st.isPrimitive();
+	}
+
+	/*
+	 * Binds the getter method or field to a method handle of type (Object)Object.
+	 * Returns null if neither is available or if access is denied, in which case reflection is used.
+	 */
+	private static MethodHandle getterHandle(Method getter, Field field) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle mh = null;
+			if (getter != null)
+				mh = lookup.unreflect(getter).asFixedArity();
+			else if (field != null && ! Modifier.isStatic(field.getModifiers()))
+				mh = lookup.unreflectGetter(field);
+			return mh == null ? null : mh.asType(MethodType.methodType(Object.class, Object.class));
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Binds the setter method or field to a method handle of type (Object,Object)void, or (Object,String,Object)void
+	 * for dyna setters.
+	 * Returns null if neither is available or if access is denied, in which case reflection is used.
+	 */
+	private static MethodHandle setterHandle(Method setter, Field field, Class<?> valueType) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			if (setter != null) {
+				MethodHandle mh = lookup.unreflect(setter).asFixedArity();
+				if (setter.getParameterTypes().length == 2)
+					return mh.asType(MethodType.methodType(void.class, Object.class, String.class, Object.class));
+				return mh.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			}
+			if (field != null && valueType != null && ! Modifier.isStatic(field.getModifiers()))
+				return lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+			return null;
+		} catch (Exception e) {
+			return null;
+		}
 	}
 
 	/**
@@ -522,6 +584,43 @@ public final class BeanPropertyMeta {
 		}
 	}
 
+	/**
+	 * Same as {@link #get(BeanMap, String)}, but reads the value directly from the bean without a bean map.
+	 *
+	 * <p>
+	 * Used by serializers that iterate over bean properties through precompiled plans.
+	 * Cannot be used on dyna properties.
+	 *
+	 * @param session The current bean session.
+	 * @param bean The bean to get the transformed value from.
+	 * @return The property value.
+	 */
+	public Object get(BeanSession session, Object bean) {
+		try {
+			if (overrideValue != null)
+				return overrideValue;
+
+			Object o;
+			try {
+				o = invokeGetter(bean, null);
+			} catch (Throwable e) {
+				if (! beanContext.ignoreInvocationExceptionsOnGetters)
+					throw e;
+				o = rawTypeMeta.isPrimitive() ? rawTypeMeta.getPrimitiveDefault() : null;
+			}
+
+			return toSerializedForm(session, o);
+
+		} catch (Throwable e) {
+			if (beanContext.ignoreInvocationExceptionsOnGetters) {
+				if (rawTypeMeta.isPrimitive())
+					return rawTypeMeta.getPrimitiveDefault();
+				return null;
+			}
+			throw new BeanRuntimeException(beanMeta.c, "Exception occurred while getting property ''{0}''", name).initCause(e);
+		}
+	}
+
 	/**
 	 * Converts a raw bean property value to serialized form.
 	 * Applies transforms and child property filters.
@@ -739,43 +838,81 @@ public final class BeanPropertyMeta {
 	private Object invokeGetter(Object bean, String pName) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
 		if (isDyna) {
 			Map m = null;
-			if (getter != null)
-				m = (Map)getter.invoke(bean);
-			else if (field != null)
-				m = (Map)field.get(bean);
+			if (getter != null || field != null)
+				m = (Map)read(bean);
 			else
 				throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 			return (m == null ? null : m.get(pName));
 		}
-		if (getter != null)
-			return getter.invoke(bean);
-		if (field != null)
-			return field.get(bean);
+		if (getter != null || field != null)
+			return read(bean);
 		throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 	}
 
 	private Object invokeSetter(Object bean, String pName, Object val) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
 		if (isDyna) {
-			if (setter != null)
+			if (setter != null) {
+				if (setterHandle != null && isAssignableToSetter(val)) {
+					try {
+						setterHandle.invokeExact(bean, pName, val);
+					} catch (Throwable t) {
+						throw new InvocationTargetException(t);
+					}
+					return null;
+				}
 				return setter.invoke(bean, pName, val);
+			}
 			Map m = null;
-			if (field != null)
-				m = (Map<String,Object>)field.get(bean);
-			else if (getter != null)
-				m = (Map<String,Object>)getter.invoke(bean);
+			if (field != null || getter != null)
+				m = (Map<String,Object>)read(bean);
 			else
 				throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
 			return (m == null ? null : m.put(pName, val));
 		}
-		if (setter != null)
-			return setter.invoke(bean, val);
-		if (field != null) {
+		if (setter != null || field != null) {
+			if (setterHandle != null && isAssignableToSetter(val)) {
+				try {
+					setterHandle.invokeExact(bean, val);
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
+				return null;
+			}
+			if (setter != null)
+				return setter.invoke(bean, val);
 			field.set(bean, val);
 			return null;
 		}
 		throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
 	}
 
+	/*
+	 * Reads the raw value from the getter (or the field if there is no getter).
+	 * Exceptions thrown by bound getters are wrapped in InvocationTargetException just like Method.invoke() does.
+	 */
+	private Object read(Object bean) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
+		if (getterHandle != null) {
+			try {
+				return (Object)getterHandle.invokeExact(bean);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+		if (getter != null)
+			return getter.invoke(bean);
+		return field.get(bean);
+	}
+
+	/*
+	 * Values that would require widening or would fail the argument check are left to reflection so that the
+	 * conversion rules and error messages stay the same as Method.invoke() and Field.set().
+	 */
+	private boolean isAssignableToSetter(Object val) {
+		if (val == null)
+			return setterHandleAcceptsNull;
+		return setterHandleType.isInstance(val);
+	}
+
 	/**
 	 * Returns the {@link Map} object returned by the DynaBean getter.
 	 *
@@ -793,10 +930,8 @@ public final class BeanPropertyMeta {
 	 */
 	public Map<String,Object> getDynaMap(Object bean) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
 		if (isDyna) {
-			if (getter != null)
-				return (Map)getter.invoke(bean);
-			if (field != null)
-				return (Map)field.get(bean);
+			if (getter != null || field != null)
+				return (Map)read(bean);
 			throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 		}
 		return Collections.EMPTY_MAP;
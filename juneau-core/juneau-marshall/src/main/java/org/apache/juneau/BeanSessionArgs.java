@@ -15,6 +15,7 @@ package org.apache.juneau;
 import java.util.*;
 
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Runtime arguments common to all bean, serializer, and parser sessions.
@@ -48,4 +49,12 @@ public class BeanSessionArgs extends SessionArgs {
 		this.timeZone = timeZone;
 		this.mediaType = mediaType;
 	}
+
+	@Override /* SessionArgs */
+	public boolean isEquivalent(SessionArgs args) {
+		if (! super.isEquivalent(args))
+			return false;
+		BeanSessionArgs a = (BeanSessionArgs)args;
+		return ObjectUtils.equals(locale, a.locale) && ObjectUtils.equals(timeZone, a.timeZone) && ObjectUtils.equals(mediaType, a.mediaType);
+	}
 }
@@ -523,6 +523,34 @@ public abstract class CoreObjectBuilder {
 		return property(BEAN_useInterfaceProxies, value);
 	}
 
+	/**
+	 * <b>Configuration property:</b>  Use method handles for bean property access.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"Bean.useMethodHandles"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>true</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>false</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * If <jk>true</jk>, bean property getters, setters, and fields are accessed through method handles bound once
+	 * per bean class instead of through reflection on every call.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>BEAN_useMethodHandles</jsf>, value)</code>.
+	 * 	<li>Members that cannot be bound fall back to reflection regardless of this setting.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see BeanContext#BEAN_useMethodHandles
+	 */
+	public CoreObjectBuilder useMethodHandles(boolean value) {
+		return property(BEAN_useMethodHandles, value);
+	}
+
 	/**
 	 * <b>Configuration property:</b>  Ignore unknown properties.
 	 *
@@ -257,6 +257,27 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 		return this;
 	}
 
+	/**
+	 * Returns the inner map set through {@link #setInner(Map)}.
+	 *
+	 * @return The inner map, or <jk>null</jk> if not set.
+	 */
+	public Map<String,Object> getInner() {
+		return inner;
+	}
+
+	/*
+	 * Returns a plain ObjectMap containing the raw values of this map's own entries and sharing the same inner map.
+	 * Used for releasing subclasses that reference external state (see SessionArgs.detachProperties()).
+	 */
+	final ObjectMap detachedCopy() {
+		ObjectMap m = new ObjectMap(session);
+		for (Map.Entry<String,Object> e : super.entrySet())
+			m.put(e.getKey(), e.getValue());
+		m.inner = inner;
+		return m;
+	}
+
 	/**
 	 * Searches for the specified key in this map ignoring case.
 	 *
@@ -35,7 +35,8 @@ public abstract class Session {
 
 	private JuneauLogger logger;
 
-	private final ObjectMap properties;
+	private final SessionArgs args;
+	private ObjectMap properties;
 	private final Context ctx;
 	private Map<String,Object> cache;
 	private List<String> warnings;                 // Any warnings encountered.
@@ -52,9 +53,44 @@ public abstract class Session {
 	 */
 	protected Session(final Context ctx, SessionArgs args) {
 		this.ctx = ctx;
+		this.args = args;
 		this.properties = args.properties != null ? args.properties : ObjectMap.EMPTY_MAP;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this session can be reset and reused in place of a new session created with the
+	 * specified arguments.
+	 *
+	 * <p>
+	 * Sessions copy their configuration out of their arguments when they're created, so a session can only stand in
+	 * for another one if the arguments are equivalent.
+	 *
+	 * @param args The arguments that would be used to create the new session.
+	 * @return <jk>true</jk> if this session can be reused.
+	 * @see SessionArgs#isEquivalent(SessionArgs)
+	 */
+	public boolean canReuse(SessionArgs args) {
+		return this.args.isEquivalent(args);
+	}
+
+	/**
+	 * Clears the per-use state of this session so that it can be reused.
+	 *
+	 * <p>
+	 * The session-level properties are replaced with a detached copy of their values so that an idle session doesn't
+	 * keep the caller's properties map (and whatever it references) reachable.
+	 *
+	 * <p>
+	 * Subclasses that keep their own scratch state should override this method and call <code><jk>super</jk>.reset()</code>.
+	 */
+	public void reset() {
+		if (cache != null)
+			cache.clear();
+		warnings = null;
+		args.detachProperties();
+		properties = args.properties;
+	}
+
 	/**
 	 * Returns the session-level properties.
 	 *
@@ -17,7 +17,8 @@ package org.apache.juneau;
  */
 public class SessionArgs {
 
-	final ObjectMap properties;
+	ObjectMap properties;
+	private Class<?> detachedType;  // The class of the original properties once they've been detached.
 
 	/**
 	 * Constructor.
@@ -30,4 +31,42 @@ public class SessionArgs {
 	public SessionArgs(ObjectMap properties) {
 		this.properties = properties != null ? properties : ObjectMap.EMPTY_MAP;
 	}
+
+	/**
+	 * Replaces the properties with a plain copy that shares the same inner map.
+	 *
+	 * <p>
+	 * Called when a session is released for reuse so that the arguments it keeps for {@link #isEquivalent(SessionArgs)}
+	 * don't hold on to the original properties map, or to anything it references such as a variable resolver session.
+	 */
+	final void detachProperties() {
+		ObjectMap p = properties;
+		if (p != ObjectMap.EMPTY_MAP && p.getClass() != ObjectMap.class) {
+			detachedType = p.getClass();
+			properties = p.detachedCopy();
+		}
+	}
+
+	private Class<?> getPropertiesType() {
+		return detachedType != null ? detachedType : properties.getClass();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if a session created with the specified arguments would be configured identically to a
+	 * session created with these arguments.
+	 *
+	 * <p>
+	 * Properties are compared by their own entries and by the identity of their inner maps.
+	 * Property values are not re-evaluated, so maps whose values are computed on lookup (such as variable-resolving
+	 * maps) should not be used with pooled sessions.
+	 *
+	 * @param args The arguments to compare against.
+	 * @return <jk>true</jk> if the arguments are equivalent.
+	 */
+	public boolean isEquivalent(SessionArgs args) {
+		if (args == null || args.getClass() != getClass())
+			return false;
+		ObjectMap p1 = properties, p2 = args.properties;
+		return p1 == p2 || (getPropertiesType() == args.getPropertiesType() && p1.getInner() == p2.getInner() && p1.equals(p2));
+	}
 }
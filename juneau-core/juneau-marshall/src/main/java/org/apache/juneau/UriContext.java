@@ -14,7 +14,10 @@ package org.apache.juneau;
 
 import static org.apache.juneau.internal.StringUtils.*;
 
+import java.util.*;
+
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a URL broken into authority/context-root/servlet-path/path-info parts.
@@ -334,4 +337,22 @@ public class UriContext {
 			return "/";
 		return uri.substring(0, i);
 	}
+
+	@Override /* Object */
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (! (o instanceof UriContext))
+			return false;
+		UriContext o2 = (UriContext)o;
+		return ObjectUtils.equals(authority, o2.authority)
+			&& ObjectUtils.equals(contextRoot, o2.contextRoot)
+			&& ObjectUtils.equals(servletPath, o2.servletPath)
+			&& ObjectUtils.equals(pathInfo, o2.pathInfo);
+	}
+
+	@Override /* Object */
+	public int hashCode() {
+		return Arrays.hashCode(new Object[]{authority, contextRoot, servletPath, pathInfo});
+	}
 }
@@ -16,7 +16,27 @@ import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
 /**
- * TODO - Work in progress.  CSV parser.
+ * Parses RFC 4180 CSV text into collections or arrays of beans or maps.
+ *
+ * <h5 class='section'>Media types:</h5>
+ *
+ * Handles <code>Content-Type</code> types: <code><b>text/csv</b></code>
+ *
+ * <h5 class='section'>Description:</h5>
+ *
+ * The first row of the input is treated as a header row whose cells are the bean property names (or map keys) of each
+ * subsequent row.
+ * The header is resolved to bean properties once, and each data row is converted using the same rules as for
+ * attribute values in other parsers.
+ *
+ * <p>
+ * Quoted cells may contain commas, line breaks, and doubled <js>'""'</js> quote characters.
+ * An unquoted <js>null</js> cell is parsed as a <jk>null</jk> value, and empty cells are parsed as <jk>null</jk> for
+ * non-string properties.
+ *
+ * <p>
+ * For large inputs, use {@link #iterate(Object, Class)} to read rows one at a time instead of materializing the
+ * entire collection.
  */
 public class CsvParser extends ReaderParser {
 
@@ -66,7 +86,23 @@ public class CsvParser extends ReaderParser {
 	}
 
 	@Override /* Parser */
-	public ReaderParserSession createSession(ParserSessionArgs args) {
+	public CsvParserSession createSession(ParserSessionArgs args) {
 		return new CsvParserSession(ctx, args);
 	}
+
+	/**
+	 * Returns a lazy iterator over the rows of the specified CSV input.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>createSession(args).iterate(input, elementType)</code> using default session arguments.
+	 * See {@link CsvParserSession#iterate(Object, Class)} for details.
+	 *
+	 * @param input The input.
+	 * @param elementType The row type (typically a bean or map class).
+	 * @return A new iterator over the rows in the input.
+	 * @throws ParseException If the header row could not be read or the element type is not supported.
+	 */
+	public final <E> CsvParserSession.RowIterator<E> iterate(Object input, Class<E> elementType) throws ParseException {
+		return createSession(createDefaultSessionArgs()).iterate(input, elementType);
+	}
 }
@@ -12,8 +12,13 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
+import org.apache.juneau.transform.*;
 
 /**
  * Session object that lives for the duration of a single use of {@link CsvParser}.
@@ -22,8 +27,11 @@ import org.apache.juneau.parser.*;
  * This class is NOT thread safe.
  * It is typically discarded after one-time use although it can be reused against multiple inputs.
  */
+@SuppressWarnings({ "unchecked", "rawtypes" })
 public final class CsvParserSession extends ReaderParserSession {
 
+	private boolean isQuoted;  // True if the last cell read was quoted.
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -37,17 +45,343 @@ public final class CsvParserSession extends ReaderParserSession {
 		super(ctx, args);
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		isQuoted = false;
+	}
+
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
 		try (ParserReader r = pipe.getParserReader()) {
 			if (r == null)
 				return null;
-			return parseAnything(type, r, getOuter(), null);
+			return parseAnything(type, r, getOuter(), pipe);
+		}
+	}
+
+	@Override /* ReaderParserSession */
+	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws Exception {
+		try (ParserReader r = pipe.getParserReader()) {
+			if (r == null)
+				return c;
+			RowIterator<E> i = new RowIterator<>(r, pipe, (ClassMeta<E>)getClassMeta(elementType), getOuter());
+			while (i.hasNext())
+				c.add(i.next());
+			return c;
+		}
+	}
+
+	/**
+	 * Returns a lazy iterator over the rows of the specified CSV input.
+	 *
+	 * <p>
+	 * The header row is read immediately and mapped to bean properties (or map keys) once.
+	 * Each subsequent call to {@link Iterator#next()} reads and converts exactly one row, so the input never needs to
+	 * be held in memory in its entirety.
+	 *
+	 * <p>
+	 * The underlying input is closed when the last row has been read, or when {@link RowIterator#close()} is called.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	<jk>try</jk> (CsvParserSession.RowIterator&lt;Person&gt; i = CsvParser.<jsf>DEFAULT</jsf>.iterate(reader, Person.<jk>class</jk>)) {
+	 * 		<jk>while</jk> (i.hasNext())
+	 * 			process(i.next());
+	 * 	}
+	 * </p>
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for supported input types.
+	 * @param elementType The row type (typically a bean or map class).
+	 * @return A new iterator over the rows in the input.
+	 * @throws ParseException If the header row could not be read or the element type is not supported.
+	 */
+	public <E> RowIterator<E> iterate(Object input, Class<E> elementType) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			ParserReader r = pipe.getParserReader();
+			return new RowIterator<>(r, pipe, getClassMeta(elementType), getOuter());
+		} catch (ParseException e) {
+			pipe.close();
+			throw e;
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(getLastLocation(), e);
+		}
+	}
+
+	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, ParserPipe pipe) throws Exception {
+
+		if (eType == null)
+			eType = object();
+		PojoSwap<T,Object> swap = (PojoSwap<T,Object>)eType.getPojoSwap(this);
+		ClassMeta<?> sType = swap == null ? eType : swap.getSwapClassMeta(this);
+		setCurrentClass(sType);
+
+		Object o = null;
+
+		if (sType.isObject()) {
+			o = parseRows(r, pipe, new ObjectList(this), object(), outer);
+		} else if (sType.isCollection()) {
+			Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance() : new ObjectList(this));
+			o = parseRows(r, pipe, l, sType.getElementType(), outer);
+		} else if (sType.isArray() || sType.isArgs()) {
+			ArrayList l = (ArrayList)parseRows(r, pipe, new ArrayList(), sType.getElementType(), outer);
+			o = toArray(sType, l);
+		} else {
+			throw new ParseException(loc(r), "Class ''{0}'' cannot be parsed from CSV.  Must be a collection or array of beans or maps.", sType);
+		}
+
+		if (swap != null && o != null)
+			o = swap.unswap(this, o, eType);
+
+		return (T)o;
+	}
+
+	private <E> Collection<E> parseRows(ParserReader r, ParserPipe pipe, Collection<E> c, ClassMeta<E> eType, Object outer) throws Exception {
+		RowIterator<E> i = new RowIterator<>(r, pipe, eType, outer);
+		while (i.hasNext())
+			c.add(i.next());
+		return c;
+	}
+
+	/**
+	 * Lazy iterator over the data rows of a CSV document.
+	 *
+	 * <p>
+	 * Header columns are resolved to {@link BeanPropertyMeta BeanPropertyMetas} (or map keys) once when the iterator
+	 * is created, and values are converted through the normal {@link ClassMeta}/{@link PojoSwap} machinery.
+	 *
+	 * @param <E> The row type.
+	 */
+	public final class RowIterator<E> implements Iterator<E>, Closeable {
+
+		private final ParserReader r;
+		private final ParserPipe pipe;
+		private final ClassMeta<E> eType;
+		private final ClassMeta<?> sType;
+		private final PojoSwap<E,Object> swap;
+		private final Object outer;
+		private final String[] headers;
+		private final BeanPropertyMeta[] pMetas;
+		private final String[] cells;
+		private boolean hasNext, isClosed;
+
+		RowIterator(ParserReader r, ParserPipe pipe, ClassMeta<E> eType, Object outer) throws Exception {
+			this.r = r;
+			this.pipe = pipe;
+			this.eType = eType == null ? (ClassMeta<E>)object() : eType;
+			this.swap = (PojoSwap<E,Object>)this.eType.getPojoSwap(CsvParserSession.this);
+			this.sType = swap == null ? this.eType : swap.getSwapClassMeta(CsvParserSession.this);
+			this.outer = outer;
+
+			if (! (sType.isObject() || sType.isMap() || sType.canCreateNewBean(outer)))
+				throw new ParseException(loc(r), "Class ''{0}'' cannot be used as a CSV row type.  Must be a bean or map.", sType);
+
+			List<String> l = new ArrayList<>();
+			if (r != null && readRow(r, l)) {
+				this.headers = l.toArray(new String[l.size()]);
+			} else {
+				this.headers = new String[0];
+			}
+
+			this.pMetas = new BeanPropertyMeta[headers.length];
+			if (sType.isBean()) {
+				BeanMeta<?> bm = sType.getBeanMeta();
+				for (int i = 0; i < headers.length; i++)
+					pMetas[i] = bm.getPropertyMeta(headers[i]);
+			}
+			this.cells = new String[headers.length];
+			this.hasNext = headers.length > 0 && advance();
+		}
+
+		@Override /* Iterator */
+		public boolean hasNext() {
+			return hasNext;
+		}
+
+		@Override /* Iterator */
+		public E next() {
+			if (! hasNext)
+				throw new NoSuchElementException();
+			try {
+				E o = toRow();
+				hasNext = advance();
+				return o;
+			} catch (RuntimeException e) {
+				close();
+				throw e;
+			} catch (Exception e) {
+				close();
+				throw new BeanRuntimeException(e);
+			}
+		}
+
+		@Override /* Iterator */
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override /* Closeable */
+		public void close() {
+			if (! isClosed) {
+				isClosed = true;
+				hasNext = false;
+				pipe.close();
+			}
+		}
+
+		/*
+		 * Reads the next non-blank row into the cells array.
+		 * Returns false (and closes the input) when the end of the input is reached.
+		 */
+		private boolean advance() throws Exception {
+			if (isClosed)
+				return false;
+			Arrays.fill(cells, null);
+			int line = r.getLine();
+			int count = 0, c = 0;
+			while (c != -1) {
+				c = readCell(r);
+				String s = getCell(r, c);
+				if (c != ',' && count == 0 && s.isEmpty() && ! isQuoted) {
+					// Blank line.
+					if (c == -1)
+						break;
+					line = r.getLine();
+					continue;
+				}
+				if (count < cells.length)
+					cells[count] = (isQuoted || ! "null".equals(s)) ? s : null;
+				else if (isStrict())
+					throw new ParseException(loc(r), "Too many values on line {0}.  Expected {1}.", line, cells.length);
+				count++;
+				if (c != ',')
+					return true;
+			}
+			close();
+			return false;
+		}
+
+		private E toRow() throws Exception {
+			Object o;
+			if (sType.isBean()) {
+				BeanMap m = newBeanMap(outer, sType.getInnerClass());
+				for (int i = 0; i < headers.length; i++) {
+					String s = cells[i];
+					BeanPropertyMeta pMeta = pMetas[i];
+					if (pMeta == null) {
+						if (s != null)
+							onUnknownProperty(pipe, headers[i], m, r.getLine(), -1);
+					} else {
+						setCurrentProperty(pMeta);
+						pMeta.set(m, headers[i], convertCell(m.getBean(false), s, pMeta.getClassMeta()));
+						setCurrentProperty(null);
+					}
+				}
+				o = m.getBean();
+			} else {
+				Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(CsvParserSession.this));
+				ClassMeta<?> kType = sType.isObject() ? string() : sType.getKeyType(), vType = sType.isObject() ? object() : sType.getValueType();
+				for (int i = 0; i < headers.length; i++)
+					m.put(convertAttrToType(m, headers[i], kType), convertCell(m, cells[i], vType));
+				o = m;
+			}
+			if (swap != null && o != null)
+				o = swap.unswap(CsvParserSession.this, o, eType);
+			if (outer != null)
+				setParent(eType, o, outer);
+			return (E)o;
+		}
+	}
+
+	/*
+	 * Converts a cell value.
+	 * Empty cells are treated as null for non-string types.
+	 */
+	private <T> T convertCell(Object outer, String s, ClassMeta<T> type) throws Exception {
+		if (s == null || (s.isEmpty() && ! isStringType(type)))
+			return null;
+		return convertAttrToType(outer, trim(s), type);
+	}
+
+	private boolean isStringType(ClassMeta<?> type) {
+		PojoSwap swap = type.getPojoSwap(this);
+		ClassMeta<?> sType = swap == null ? type : swap.getSwapClassMeta(this);
+		return sType.isCharSequence() || sType.isObject();
+	}
+
+	/*
+	 * Reads a single row into the specified list.
+	 * Returns false if the end of the input was reached before any cells were found.
+	 */
+	private boolean readRow(ParserReader r, List<String> l) throws Exception {
+		int c = 0;
+		while (c != -1) {
+			c = readCell(r);
+			String s = getCell(r, c);
+			if (c != ',' && l.isEmpty() && s.isEmpty() && ! isQuoted) {
+				if (c == -1)
+					return false;
+				continue;
+			}
+			l.add(trim(s));
+			if (c != ',')
+				return true;
+		}
+		return ! l.isEmpty();
+	}
+
+	/*
+	 * Reads a single cell and leaves it marked in the reader.
+	 * Returns the character that terminated the cell (',', '\n', '\r', or -1).
+	 */
+	private int readCell(ParserReader r) throws Exception {
+		r.mark();
+		int c = r.read();
+		isQuoted = (c == '"');
+		if (isQuoted) {
+			r.mark();
+			while (true) {
+				c = r.read();
+				if (c == -1)
+					throw new ParseException(loc(r), "Unterminated quoted value.");
+				if (c == '"') {
+					c = r.read();
+					if (c != '"')
+						break;
+					r.delete();
+				}
+			}
+			if (! (c == ',' || c == '\n' || c == '\r' || c == -1))
+				throw new ParseException(loc(r), "Unexpected character ''{0}'' found after quoted value.", (char)c);
+			return c;
+		}
+		while (! (c == ',' || c == '\n' || c == '\r' || c == -1))
+			c = r.read();
+		return c;
+	}
+
+	/*
+	 * Returns the cell marked by readCell() and consumes the rest of a CRLF line terminator.
+	 */
+	private String getCell(ParserReader r, int c) throws IOException {
+		int offsetEnd = c == -1 ? 0 : -1;
+		String s = isQuoted ? r.getMarked(0, offsetEnd - 1) : r.getMarked(0, offsetEnd);
+		if (c == '\r') {
+			int c2 = r.read();
+			if (c2 != '\n' && c2 != -1)
+				r.unread();
 		}
+		return s;
 	}
 
-	@SuppressWarnings({"static-method"})
-	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
-		throw new NoSuchMethodException("Not implemented.");
+	private ObjectMap loc(ParserReader r) {
+		ObjectMap m = getLastLocation();
+		if (r != null)
+			m.append("line", r.getLine()).append("column", r.getColumn());
+		return m;
 	}
 }
@@ -85,16 +85,25 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 			w.append("null");
 		else {
 			String s = o.toString();
-			boolean mustQuote = false;
+			boolean mustQuote = s.isEmpty() || s.equals("null");
 			for (int i = 0; i < s.length() && ! mustQuote; i++) {
 				char c = s.charAt(i);
-				if (Character.isWhitespace(c) || c == ',')
+				if (Character.isWhitespace(c) || c == ',' || c == '"')
 					mustQuote = true;
 			}
-			if (mustQuote)
-				w.append('"').append(s).append('"');
-			else
+			if (mustQuote) {
+				// Embedded quotes are escaped by doubling them (RFC 4180).
+				w.append('"');
+				for (int i = 0; i < s.length(); i++) {
+					char c = s.charAt(i);
+					if (c == '"')
+						w.append('"');
+					w.append(c);
+				}
+				w.append('"');
+			} else {
 				w.append(s);
+			}
 		}
 	}
 }
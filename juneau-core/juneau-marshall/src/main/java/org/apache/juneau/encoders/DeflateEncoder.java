@@ -0,0 +1,60 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * Encoder for handling <js>"deflate"</js> encoding and decoding.
+ *
+ * <p>
+ * Per RFC 7230, the <js>"deflate"</js> coding is the zlib format (RFC 1950) wrapping a raw deflate stream.
+ */
+public class DeflateEncoder extends Encoder {
+
+	@Override /* Encoder */
+	public OutputStream getOutputStream(OutputStream os) throws IOException {
+		return getOutputStream(os, -1);
+	}
+
+	@Override /* Encoder */
+	public OutputStream getOutputStream(OutputStream os, int level) throws IOException {
+		final Deflater d = new Deflater(level);
+		return new DeflaterOutputStream(os, d) {
+			@Override /* OutputStream */
+			public final void close() throws IOException {
+				try {
+					finish();
+					super.close();
+				} finally {
+					// Explicitly-created deflaters are not released by DeflaterOutputStream.
+					d.end();
+				}
+			}
+		};
+	}
+
+	@Override /* Encoder */
+	public InputStream getInputStream(InputStream is) throws IOException {
+		return new InflaterInputStream(is);
+	}
+
+	/**
+	 * Returns <code>[<js>"deflate"</js>]</code>.
+	 */
+	@Override /* Encoder */
+	public String[] getCodings() {
+		return new String[]{"deflate"};
+	}
+}
@@ -44,6 +44,24 @@ public abstract class Encoder {
 	 */
 	public abstract OutputStream getOutputStream(OutputStream os) throws IOException;
 
+	/**
+	 * Same as {@link #getOutputStream(OutputStream)} but allows a compression level to be specified.
+	 *
+	 * <p>
+	 * The default implementation ignores the level.
+	 * Subclasses that support tunable compression should override this method.
+	 *
+	 * @param os The uncompressed stream.
+	 * @param level
+	 * 	The compression level (e.g. <code>0</code>-<code>9</code> for deflate-based encoders).
+	 * 	<code>-1</code> means use the encoder default.
+	 * @return The compressed stream stream.
+	 * @throws IOException If any errors occur.
+	 */
+	public OutputStream getOutputStream(OutputStream os, int level) throws IOException {
+		return getOutputStream(os);
+	}
+
 	/**
 	 * Returns the codings in <code>Content-Encoding</code> and <code>Accept-Encoding</code> headers that this encoder
 	 * handles (e.g. <js>"gzip"</js>).
@@ -13,9 +13,9 @@
 package org.apache.juneau.encoders;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents the group of {@link Encoder encoders} keyed by codings.
@@ -55,7 +55,9 @@ import org.apache.juneau.http.*;
 public final class EncoderGroup {
 
 	// Maps Accept-Encoding headers to matching encoders.
-	private final ConcurrentHashMap<String,EncoderMatch> cache = new ConcurrentHashMap<>();
+	// Headers with no matching encoder are cached as NO_MATCH so that they're only parsed once.
+	private final Cache<String,EncoderMatch> cache = new Cache<>(false, Cache.DEFAULT_MAX_SIZE);
+	private static final EncoderMatch NO_MATCH = new EncoderMatch(null, null);
 
 	private final String[] encodings;
 	private final List<String> encodingsList;
@@ -120,18 +122,13 @@ public final class EncoderGroup {
 	 */
 	public EncoderMatch getEncoderMatch(String acceptEncoding) {
 		EncoderMatch em = cache.get(acceptEncoding);
-		if (em != null)
-			return em;
-
-		AcceptEncoding ae = AcceptEncoding.forString(acceptEncoding);
-		int match = ae.findMatch(encodings);
-
-		if (match >= 0) {
-			em = new EncoderMatch(encodings[match], encodingsEncoders[match]);
-			cache.putIfAbsent(acceptEncoding, em);
+		if (em == null) {
+			AcceptEncoding ae = AcceptEncoding.forString(acceptEncoding);
+			int match = ae.findMatch(encodings);
+			em = match >= 0 ? new EncoderMatch(encodings[match], encodingsEncoders[match]) : NO_MATCH;
+			em = cache.put(acceptEncoding, em);
 		}
-
-		return cache.get(acceptEncoding);
+		return em == NO_MATCH ? null : em;
 	}
 
 	/**
@@ -22,7 +22,16 @@ public class GzipEncoder extends Encoder {
 
 	@Override /* Encoder */
 	public OutputStream getOutputStream(OutputStream os) throws IOException {
+		return getOutputStream(os, -1);
+	}
+
+	@Override /* Encoder */
+	public OutputStream getOutputStream(OutputStream os, final int level) throws IOException {
 		return new GZIPOutputStream(os) {
+			{
+				if (level != -1)
+					def.setLevel(level);
+			}
 			@Override /* OutputStream */
 			public final void close() throws IOException {
 				finish();
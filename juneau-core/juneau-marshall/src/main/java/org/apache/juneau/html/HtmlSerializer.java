@@ -207,6 +207,31 @@ public class HtmlSerializer extends XmlSerializer {
 	 */
 	public static final String HTML_addKeyValueTableHeaders = PREFIX + "addKeyValueTableHeaders";
 
+	/**
+	 * <b>Configuration property:</b>  Render tables of beans and maps in a single pass.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"HtmlSerializer.singlePassTables"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * By default, collections of beans and maps are walked twice when rendered as tables:  once to figure out the
+	 * column headers (skipping columns that are <jk>null</jk> in every row, and falling back to a list if the rows
+	 * don't all have the same properties), and once to render the rows.
+	 * This means every bean getter is called twice.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, the column headers are taken from the first non-null entry instead:  the bean property names
+	 * for beans (in the same order as the default mode), or the keys for maps.
+	 * Rows are then rendered in the same pass as they're read.
+	 * Columns that are <jk>null</jk> in every row are still rendered, and properties that aren't found on a row
+	 * are rendered as <jk>null</jk>.
+	 */
+	public static final String HTML_singlePassTables = PREFIX + "singlePassTables";
+
 	/**
 	 * <b>Configuration property:</b>  Add <js>"_type"</js> properties when needed.
 	 *
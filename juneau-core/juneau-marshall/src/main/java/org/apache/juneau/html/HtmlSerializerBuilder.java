@@ -188,6 +188,32 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return property(HTML_addKeyValueTableHeaders, value);
 	}
 
+	/**
+	 * <b>Configuration property:</b>  Render tables of beans and maps in a single pass.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"HtmlSerializer.singlePassTables"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * Derive table headers from the first non-null row instead of walking the whole collection beforehand.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>HTML_singlePassTables</jsf>, value)</code>.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see HtmlSerializer#HTML_singlePassTables
+	 */
+	public HtmlSerializerBuilder singlePassTables(boolean value) {
+		return property(HTML_singlePassTables, value);
+	}
+
 	@Override /* XmlSerializerBuilder */
 	public HtmlSerializerBuilder enableNamespaces(boolean value) {
 		super.enableNamespaces(value);
@@ -410,6 +436,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public HtmlSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public HtmlSerializerBuilder ignoreUnknownBeanProperties(boolean value) {
 		super.ignoreUnknownBeanProperties(value);
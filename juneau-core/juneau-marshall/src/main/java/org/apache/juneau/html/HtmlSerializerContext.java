@@ -14,6 +14,8 @@ package org.apache.juneau.html;
 
 import static org.apache.juneau.html.HtmlSerializer.*;
 
+import java.util.regex.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.xml.*;
 
@@ -27,8 +29,10 @@ public class HtmlSerializerContext extends XmlSerializerContext {
 		lookForLabelParameters,
 		detectLinksInStrings,
 		addKeyValueTableHeaders,
-		addBeanTypeProperties;
+		addBeanTypeProperties,
+		singlePassTables;
 	final String labelParameter;
+	final Pattern labelPattern;
 
 	/**
 	 * Constructor.
@@ -45,6 +49,8 @@ public class HtmlSerializerContext extends XmlSerializerContext {
 		detectLinksInStrings = ps.getProperty(HTML_detectLinksInStrings, Boolean.class, true);
 		labelParameter = ps.getProperty(HTML_labelParameter, String.class, "label");
 		addKeyValueTableHeaders = ps.getProperty(HTML_addKeyValueTableHeaders, Boolean.class, false);
+		singlePassTables = ps.getProperty(HTML_singlePassTables, Boolean.class, false);
+		labelPattern = compileLabelPattern(labelParameter);
 		addBeanTypeProperties = ps.getProperty(HTML_addBeanTypeProperties, boolean.class,
 			ps.getProperty(SERIALIZER_addBeanTypeProperties, boolean.class, true));
 	}
@@ -59,6 +65,11 @@ public class HtmlSerializerContext extends XmlSerializerContext {
 				.append("labelParameter", labelParameter)
 				.append("addKeyValueTableHeaders", addKeyValueTableHeaders)
 				.append("addBeanTypeProperties", addBeanTypeProperties)
+				.append("singlePassTables", singlePassTables)
 			);
 	}
+
+	static Pattern compileLabelPattern(String labelParameter) {
+		return Pattern.compile("[\\?\\&]" + Pattern.quote(labelParameter) + "=([^\\&]*)");
+	}
 }
@@ -41,8 +41,9 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 		detectLinksInStrings,
 		lookForLabelParameters,
 		addKeyValueTableHeaders,
-		addBeanTypeProperties;
-	private final Pattern urlPattern = Pattern.compile("http[s]?\\:\\/\\/.*");
+		addBeanTypeProperties,
+		singlePassTables;
+	private static final Pattern URL_PATTERN = Pattern.compile("http[s]?\\:\\/\\/.*");
 	private final Pattern labelPattern;
 
 
@@ -68,7 +69,8 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 		labelParameter = p.getString(HTML_labelParameter, ctx.labelParameter);
 		addKeyValueTableHeaders = p.getBoolean(HTML_addKeyValueTableHeaders, ctx.addKeyValueTableHeaders);
 		addBeanTypeProperties = p.getBoolean(HTML_addBeanTypeProperties, ctx.addBeanTypeProperties);
-		labelPattern = Pattern.compile("[\\?\\&]" + Pattern.quote(labelParameter) + "=([^\\&]*)");
+		singlePassTables = p.getBoolean(HTML_singlePassTables, ctx.singlePassTables);
+		labelPattern = labelParameter.equals(ctx.labelParameter) ? ctx.labelPattern : HtmlSerializerContext.compileLabelPattern(labelParameter);
 	}
 
 	@Override /* Session */
@@ -81,6 +83,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 				.append("detectLinksInStrings", detectLinksInStrings)
 				.append("labelPattern", labelPattern)
 				.append("lookForLabelParameters", lookForLabelParameters)
+				.append("singlePassTables", singlePassTables)
 			);
 	}
 
@@ -116,7 +119,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 			return true;
 		if (pMeta != null && pMeta.isUri())
 			return true;
-		if (detectLinksInStrings && o instanceof CharSequence && urlPattern.matcher(o.toString()).matches())
+		if (detectLinksInStrings && o instanceof CharSequence && URL_PATTERN.matcher(o.toString()).matches())
 			return true;
 		return false;
 	}
@@ -577,7 +580,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 					out.attr(typeProperty, typeName);
 				out.cTag().nl(i+2);
 
-				if (cm == null) {
+				if (cm == null || (singlePassTables && ! cm.isMapOrBean())) {
 					out.i(i+2);
 					serializeAnything(out, o, null, null, 1, null, false);
 					out.nl(0);
@@ -601,6 +604,11 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 
 					for (Object k : th) {
 						BeanMapEntry p = m2.getProperty(toString(k));
+						if (p == null) {
+							// Only possible with singlePassTables when rows are different bean types.
+							out.sTag(i+2, "td").tag("null").eTag("td").nl(i+2);
+							continue;
+						}
 						BeanPropertyMeta pMeta = p.getMeta();
 						Object value = p.getValue();
 
@@ -687,12 +695,12 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 	 * Returns the table column headers for the specified collection of objects.
 	 * Returns null if collection should not be serialized as a 2-dimensional table.
 	 * 2-dimensional tables are used for collections of objects that all have the same set of property names.
+	 * With singlePassTables, only the first non-null entry is looked at.
 	 */
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Object[] getTableHeaders(Collection c, HtmlBeanPropertyMeta hbpMeta) throws Exception {
 		if (c.size() == 0)
 			return null;
-		c = sort(c);
 		Object[] th;
 		Set<ClassMeta> prevC = new HashSet<>();
 		Object o1 = null;
@@ -722,6 +730,15 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 			return new Object[0];
 		if (canIgnoreValue(cm, null, o1))
 			return null;
+		if (singlePassTables) {
+			if (cm.isMap() && ! cm.isBeanMap())
+				return sort((Map)o1).keySet().toArray();
+			// Same order as the entries read in the two-pass path below, where dyna properties are in place of "*".
+			List<Object> l = new ArrayList<>();
+			for (Map.Entry<String,Object> e : (Set<Map.Entry<String,Object>>)(o1 instanceof BeanMap ? (BeanMap)o1 : toBeanMap(o1)).entrySet())
+				l.add(e.getKey());
+			return l.toArray();
+		}
 		if (cm.isMap() && ! cm.isBeanMap()) {
 			Set<Object> set = new LinkedHashSet<>();
 			for (Object o : c) {
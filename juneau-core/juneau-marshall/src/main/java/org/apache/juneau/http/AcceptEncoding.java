@@ -113,7 +113,39 @@ public final class AcceptEncoding extends HeaderRangeArray {
 		return a;
 	}
 
+	private final boolean identityAcceptable;
+
 	private AcceptEncoding(String value) {
 		super(value);
+		Float identityQ = null, starQ = null;
+		for (StringRange r : typeRanges) {
+			String t = r.getType();
+			if (t.equals("identity"))
+				identityQ = r.getQValue();
+			else if (t.equals("*"))
+				starQ = r.getQValue();
+		}
+		if (identityQ != null)
+			identityAcceptable = identityQ > 0;
+		else if (starQ != null)
+			identityAcceptable = starQ > 0;
+		else
+			identityAcceptable = true;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if an unencoded response is acceptable to the client.
+	 *
+	 * <p>
+	 * Per RFC7231/5.3.4, the <js>"identity"</js> coding is always acceptable unless it's explicitly excluded by an
+	 * <js>"identity;q=0"</js> entry, or by a <js>"*;q=0"</js> entry with no explicit <js>"identity"</js> entry.
+	 *
+	 * <p>
+	 * This is computed once when the header is parsed, so calling it on a cached instance is free.
+	 *
+	 * @return <jk>true</jk> if an unencoded response is acceptable to the client.
+	 */
+	public boolean isIdentityAcceptable() {
+		return identityAcceptable;
 	}
 }
@@ -12,10 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.http;
 
+import static org.apache.juneau.http.Constants.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.internal.*;
@@ -38,8 +38,7 @@ import org.apache.juneau.json.*;
 @BeanIgnore
 public class MediaType implements Comparable<MediaType> {
 
-	private static final boolean nocache = Boolean.getBoolean("juneau.nocache");
-	private static final ConcurrentHashMap<String,MediaType> cache = new ConcurrentHashMap<>();
+	private static final Cache<String,MediaType> cache = new Cache<>(NOCACHE || Boolean.getBoolean("juneau.nocache"), CACHE_MAX_SIZE);
 
 	/** Reusable predefined media type */
 	@SuppressWarnings("javadoc")
@@ -96,13 +95,9 @@ public class MediaType implements Comparable<MediaType> {
 		if (isEmpty(s))
 			return null;
 		MediaType mt = cache.get(s);
-		if (mt == null) {
-			mt = new MediaType(s);
-			if (nocache)
-				return mt;
-			cache.putIfAbsent(s, mt);
-		}
-		return cache.get(s);
+		if (mt == null)
+			mt = cache.put(s, new MediaType(s));
+		return mt;
 	}
 
 	/**
@@ -115,14 +115,14 @@ public final class StringRange implements Comparable<StringRange>  {
 
 			token = token.trim();
 
-			int i = token.indexOf(";q=");
+			int i = indexOfQParam(token);
 
 			if (i == -1) {
 				type = token;
 				return;
 			}
 
-			type = token.substring(0, i);
+			type = token.substring(0, i).trim();
 
 			String[] tokens = token.substring(i+1).split(";");
 
@@ -132,7 +132,7 @@ public final class StringRange implements Comparable<StringRange>  {
 				for (int j = 0; j < tokens.length; j++) {
 					String[] parm = tokens[j].split("=");
 					if (parm.length == 2) {
-						String k = parm[0], v = parm[1];
+						String k = parm[0].trim(), v = parm[1].trim();
 						if (isInExtensions) {
 							if (extensions == null)
 								extensions = new TreeMap<>();
@@ -147,6 +147,27 @@ public final class StringRange implements Comparable<StringRange>  {
 				}
 			}
 		}
+
+		/*
+		 * Returns the position of the ';' that starts the "q" parameter, or -1 if there isn't one.
+		 * Optional whitespace is allowed around the ';' and '=' (e.g. "gzip ; q = 0.5").
+		 */
+		private static int indexOfQParam(String token) {
+			int len = token.length();
+			for (int i = token.indexOf(';'); i != -1; i = token.indexOf(';', i+1)) {
+				int j = i+1;
+				while (j < len && Character.isWhitespace(token.charAt(j)))
+					j++;
+				if (j == len || token.charAt(j) != 'q')
+					continue;
+				j++;
+				while (j < len && Character.isWhitespace(token.charAt(j)))
+					j++;
+				if (j < len && token.charAt(j) == '=')
+					return i;
+			}
+			return -1;
+		}
 	}
 
 	/**
@@ -13,34 +13,92 @@
 package org.apache.juneau.internal;
 
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
- * Simple in-memory cache of objects.
+ * Simple bounded in-memory cache of objects.
  *
  * <p>
- * Essentially just a wrapper around a ConcurrentHashMap.
+ * Lookups are lock-free reads against a ConcurrentHashMap.
+ * Once the maximum size is exceeded, entries are evicted one at a time using the CLOCK (second-chance) algorithm,
+ * an approximation of least-recently-used eviction:  entries that have been read since the clock hand last passed
+ * them are skipped once, so frequently-used entries survive a flood of one-off keys.
+ *
+ * <p>
+ * Caches can also be bounded by the total weight of their values (e.g. the number of bytes they hold in memory) by
+ * overriding {@link #weigh(Object)} and passing a maximum weight to the constructor.
+ *
+ * <p>
+ * Hit, miss, and eviction counts are kept when the cache is created with <code>recordStats</code> enabled, or when
+ * the <js>"juneau.cache.stats"</js> system property is set to <js>"true"</js>.
  *
  * @param <K> The key type.
  * @param <V> The value type.
  */
 public class Cache<K,V> {
-	private final boolean nocache;
+
+	/**
+	 * Default maximum cache size.
+	 *
+	 * <p>
+	 * Can be set through the <js>"juneau.cache.maxSize"</js> system property.
+	 */
+	public static final int DEFAULT_MAX_SIZE = Integer.getInteger("juneau.cache.maxSize", 1000);
+
+	private static final boolean RECORD_STATS = Boolean.getBoolean("juneau.cache.stats");
+
+	private final boolean nocache, recordStats;
 	private final int maxSize;
-	private final ConcurrentHashMap<K,V> cache;
+	private final long maxWeight;
+	private final ConcurrentHashMap<K,Entry<V>> cache;
+	private final ConcurrentLinkedQueue<K> clock;  // Keys in insertion order.  The head is the clock hand.
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicLong weight = new AtomicLong();
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), evictions = new AtomicLong();
 
 	/**
 	 * Constructor.
 	 *
 	 * @param disabled If <jk>true</jk> then the cache is disabled.
-	 * @param maxSize The maximum size of the cache.  If this threshold is reached, the cache is flushed.
+	 * @param maxSize The maximum size of the cache.  If this threshold is exceeded, entries are evicted.
 	 */
 	public Cache(boolean disabled, int maxSize) {
+		this(disabled, maxSize, RECORD_STATS);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param disabled If <jk>true</jk> then the cache is disabled.
+	 * @param maxSize The maximum size of the cache.  If this threshold is exceeded, entries are evicted.
+	 * @param recordStats If <jk>true</jk> then hit, miss, and eviction counts are recorded.
+	 */
+	public Cache(boolean disabled, int maxSize, boolean recordStats) {
+		this(disabled, maxSize, Long.MAX_VALUE, recordStats);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param disabled If <jk>true</jk> then the cache is disabled.
+	 * @param maxSize The maximum size of the cache.  If this threshold is exceeded, entries are evicted.
+	 * @param maxWeight
+	 * 	The maximum total weight of the values in the cache as computed by {@link #weigh(Object)}.
+	 * 	If this threshold is exceeded, entries are evicted.
+	 * @param recordStats If <jk>true</jk> then hit, miss, and eviction counts are recorded.
+	 */
+	public Cache(boolean disabled, int maxSize, long maxWeight, boolean recordStats) {
 		this.nocache = disabled;
 		this.maxSize = maxSize;
-		if (! nocache)
+		this.maxWeight = maxWeight;
+		this.recordStats = recordStats;
+		if (! nocache) {
 			cache = new ConcurrentHashMap<>();
-		else
+			clock = new ConcurrentLinkedQueue<>();
+		} else {
 			cache = null;
+			clock = null;
+		}
 	}
 
 	/**
@@ -52,7 +110,16 @@ public class Cache<K,V> {
 	public V get(K key) {
 		if (nocache)
 			return null;
-		return cache.get(key);
+		Entry<V> e = cache.get(key);
+		if (e == null) {
+			if (recordStats)
+				misses.incrementAndGet();
+			return null;
+		}
+		if (recordStats)
+			hits.incrementAndGet();
+		e.touch();
+		return e.value;
 	}
 
 	/**
@@ -68,16 +135,158 @@ public class Cache<K,V> {
 		if (nocache)
 			return value;
 
-		// Prevent OOM in case of DDOS
-		if (cache.size() > maxSize)
+		Entry<V> e = new Entry<>(value, weigh(value));
+		Entry<V> e2 = cache.putIfAbsent(key, e);
+		if (e2 != null) {
+			e2.touch();
+			return e2.value;
+		}
+		clock.offer(key);
+		long w = weight.addAndGet(e.weight);
+		if (size.incrementAndGet() > maxSize || w > maxWeight)
+			evict();
+		return value;
+	}
+
+	/**
+	 * Returns the weight of the specified value.
+	 *
+	 * <p>
+	 * Used to bound the cache by the maximum weight passed to the constructor.
+	 * The default implementation returns <code>0</code>, so that only the number of entries is bounded.
+	 *
+	 * @param value The value being added to this cache.
+	 * @return The weight of the value.  Must not change while the value is in the cache.
+	 */
+	protected long weigh(V value) {
+		return 0;
+	}
+
+	/**
+	 * Evicts entries until the cache is back under its maximum size and weight.
+	 */
+	private void evict() {
+		synchronized (clock) {
+			int scanned = 0;
+			while (size.get() > maxSize || weight.get() > maxWeight) {
+				K key = clock.poll();
+				if (key == null)
+					return;
+				Entry<V> e = cache.get(key);
+				if (e == null)
+					continue;
+				// Give recently-used entries a second chance, but never scan more than one full revolution.
+				if (e.referenced && scanned++ < maxSize) {
+					e.referenced = false;
+					clock.offer(key);
+				} else if (cache.remove(key, e)) {
+					size.decrementAndGet();
+					weight.addAndGet(-e.weight);
+					if (recordStats)
+						evictions.incrementAndGet();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the value with the specified key from this cache.
+	 *
+	 * @param key The key.
+	 * @return The value that was removed, or <jk>null</jk> if the value was not in the cache.
+	 */
+	public V remove(K key) {
+		if (nocache)
+			return null;
+		synchronized (clock) {
+			Entry<V> e = cache.remove(key);
+			if (e == null)
+				return null;
+			clock.remove(key);
+			size.decrementAndGet();
+			weight.addAndGet(-e.weight);
+			return e.value;
+		}
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	public void clear() {
+		if (nocache)
+			return;
+		synchronized (clock) {
 			cache.clear();
+			clock.clear();
+			size.set(0);
+			weight.set(0);
+		}
+	}
 
-		while (true) {
-			V v = cache.get(key);
-			if (v != null)
-				return v;
-			cache.putIfAbsent(key, value);
-			return value;
+	/**
+	 * Returns the number of entries in this cache.
+	 *
+	 * @return The number of entries in this cache.
+	 */
+	public int size() {
+		return nocache ? 0 : size.get();
+	}
+
+	/**
+	 * Returns the total weight of the values in this cache as computed by {@link #weigh(Object)}.
+	 *
+	 * @return The total weight of the values in this cache.
+	 */
+	public long weight() {
+		return nocache ? 0 : weight.get();
+	}
+
+	/**
+	 * Returns the number of lookups that found a value.
+	 *
+	 * @return The hit count, or <code>0</code> if statistics are not being recorded.
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of lookups that did not find a value.
+	 *
+	 * @return The miss count, or <code>0</code> if statistics are not being recorded.
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of entries that have been evicted to keep the cache within its maximum size.
+	 *
+	 * @return The eviction count, or <code>0</code> if statistics are not being recorded.
+	 */
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "Cache[size=" + size() + ",maxSize=" + maxSize + ",weight=" + weight() + ",hits=" + hits + ",misses=" + misses + ",evictions=" + evictions + "]";
+	}
+
+	private static final class Entry<V> {
+		final V value;
+		final long weight;
+		volatile boolean referenced;
+
+		Entry(V value, long weight) {
+			this.value = value;
+			this.weight = weight;
+		}
+
+		void touch() {
+			// Avoid the volatile write on the hot path when the flag is already set.
+			if (! referenced)
+				referenced = true;
 		}
 	}
 }
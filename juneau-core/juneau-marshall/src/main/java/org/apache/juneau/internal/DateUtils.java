@@ -116,7 +116,8 @@ public final class DateUtils {
 	public static Calendar parseISO8601Calendar(String s) {
 		if (StringUtils.isEmpty(s))
 			return null;
-		return DatatypeConverter.parseDateTime(toValidISO8601DT(s));
+		Calendar c = ISO8601Utils.parseCalendar(s);
+		return c != null ? c : DatatypeConverter.parseDateTime(toValidISO8601DT(s));
 	}
 
 	/**
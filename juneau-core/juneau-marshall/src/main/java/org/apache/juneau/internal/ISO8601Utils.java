@@ -0,0 +1,319 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+/**
+ * Hand-written ISO8601 date-time formatter and parser.
+ *
+ * <p>
+ * Works directly on epoch milliseconds using proleptic Gregorian arithmetic, so formatting a value doesn't clone
+ * calendars, change their time zones, or go through <code>DatatypeConverter</code> or <code>SimpleDateFormat</code>.
+ *
+ * <p>
+ * Only the common forms are handled here (years <code>0001</code> through <code>9999</code> after the Gregorian
+ * cutover, and well-formed field values).
+ * Methods return <jk>null</jk> (or {@link #INVALID}) for anything else so that callers can fall back to the
+ * general-purpose converters and keep their existing behavior and error messages.
+ */
+public final class ISO8601Utils {
+
+	/** Fraction mode:  Never serialize milliseconds. */
+	public static final int MILLIS_NONE = 0;
+
+	/** Fraction mode:  Serialize milliseconds only when non-zero (same as <code>DatatypeConverter</code>). */
+	public static final int MILLIS_NONZERO = 1;
+
+	/** Fraction mode:  Always serialize milliseconds. */
+	public static final int MILLIS_ALWAYS = 2;
+
+	/** Returned by {@link #parseMillis(CharSequence)} when the input is not in a supported form. */
+	public static final long INVALID = Long.MIN_VALUE;
+
+	/** The default Gregorian cutover used by {@link GregorianCalendar} (October 15, 1582). */
+	public static final long GREGORIAN_CUTOVER = -12219292800000L;
+
+	private static final long
+		MS_PER_DAY = 86400000L,
+		MIN_MILLIS = GREGORIAN_CUTOVER + MS_PER_DAY,  // Stay clear of the cutover day in any time zone.
+		MAX_MILLIS = 253402300800000L;                // 10000-01-01T00:00:00Z
+
+	private static final int MAX_LENGTH = 29;        // 2001-07-04T15:30:45.123+05:30
+
+	private ISO8601Utils() {}
+
+	/**
+	 * Formats the specified instant as an ISO8601 string.
+	 *
+	 * @param millis The instant in milliseconds since the epoch.
+	 * @param offset The time zone offset in milliseconds to apply to the instant.
+	 * @param time Include the time portion (<js>"T15:30:45"</js>).
+	 * @param fraction One of {@link #MILLIS_NONE}, {@link #MILLIS_NONZERO}, {@link #MILLIS_ALWAYS}.
+	 * @param zone Include the time zone designator (<js>"Z"</js> or <js>"-05:00"</js>).
+	 * @return The formatted string, or <jk>null</jk> if the instant is outside the supported range.
+	 */
+	public static String format(long millis, int offset, boolean time, int fraction, boolean zone) {
+		char[] b = new char[MAX_LENGTH];
+		int len = format(b, 0, millis, offset, time, fraction, zone);
+		return len == -1 ? null : new String(b, 0, len);
+	}
+
+	/**
+	 * Same as {@link #format(long, int, boolean, int, boolean)} but writes into the specified buffer.
+	 *
+	 * @param b The buffer to write to.  Must have room for at least 29 characters after <code>off</code>.
+	 * @param off The position in the buffer to start writing.
+	 * @param millis The instant in milliseconds since the epoch.
+	 * @param offset The time zone offset in milliseconds to apply to the instant.
+	 * @param time Include the time portion.
+	 * @param fraction One of {@link #MILLIS_NONE}, {@link #MILLIS_NONZERO}, {@link #MILLIS_ALWAYS}.
+	 * @param zone Include the time zone designator.
+	 * @return The number of characters written, or <code>-1</code> if the instant is outside the supported range.
+	 */
+	public static int format(char[] b, int off, long millis, int offset, boolean time, int fraction, boolean zone) {
+		long local = millis + offset;
+		if (millis < MIN_MILLIS || local < MIN_MILLIS || local >= MAX_MILLIS)
+			return -1;
+
+		long days = floorDiv(local, MS_PER_DAY);
+		int ms = (int)(local - days * MS_PER_DAY);
+
+		// Civil-from-days algorithm for the proleptic Gregorian calendar.
+		long z = days + 719468;
+		int era = (int)(z / 146097);
+		int doe = (int)(z - era * 146097L);
+		int yoe = (doe - doe/1460 + doe/36524 - doe/146096) / 365;
+		int doy = doe - (365*yoe + yoe/4 - yoe/100);
+		int mp = (5*doy + 2) / 153;
+		int day = doy - (153*mp + 2)/5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		int year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+		int i = off;
+		i = digits(b, i, year / 100);
+		i = digits(b, i, year % 100);
+		b[i++] = '-';
+		i = digits(b, i, month);
+		b[i++] = '-';
+		i = digits(b, i, day);
+
+		if (time) {
+			int secs = ms / 1000;
+			b[i++] = 'T';
+			i = digits(b, i, secs / 3600);
+			b[i++] = ':';
+			i = digits(b, i, secs / 60 % 60);
+			b[i++] = ':';
+			i = digits(b, i, secs % 60);
+			int frac = ms % 1000;
+			if (fraction == MILLIS_ALWAYS || (fraction == MILLIS_NONZERO && frac != 0)) {
+				b[i++] = '.';
+				b[i++] = (char)('0' + frac / 100);
+				i = digits(b, i, frac % 100);
+			}
+		}
+
+		if (zone) {
+			if (offset == 0) {
+				b[i++] = 'Z';
+			} else {
+				int mins = offset / 60000;
+				if (mins < 0) {
+					b[i++] = '-';
+					mins = -mins;
+				} else {
+					b[i++] = '+';
+				}
+				i = digits(b, i, mins / 60);
+				b[i++] = ':';
+				i = digits(b, i, mins % 60);
+			}
+		}
+
+		return i - off;
+	}
+
+	/**
+	 * Parses an ISO8601 date-time string into milliseconds since the epoch.
+	 *
+	 * <p>
+	 * Accepts the same partial forms as {@link DateUtils#toValidISO8601DT(String)} (e.g. <js>"2001-07"</js>,
+	 * <js>"2001-07-04 15:30"</js>).
+	 * Strings without a time zone designator are interpreted in the default time zone.
+	 *
+	 * @param in The string to parse.
+	 * @return The parsed value, or {@link #INVALID} if the string is not in a supported form.
+	 */
+	public static long parseMillis(CharSequence in) {
+		int[] f = parseFields(in);
+		if (f == null)
+			return INVALID;
+		if (f[7] == Integer.MIN_VALUE)
+			return toCalendar(f).getTimeInMillis();
+		return toEpochDay(f[0], f[1], f[2]) * MS_PER_DAY
+			+ f[3] * 3600000L + f[4] * 60000L + f[5] * 1000L + Math.max(f[6], 0)
+			- f[7] * 60000L;
+	}
+
+	/**
+	 * Parses an ISO8601 date-time string into a {@link Calendar}.
+	 *
+	 * <p>
+	 * The calendar is built the same way as <code>DatatypeConverter.parseDateTime(String)</code>:  a proleptic
+	 * {@link GregorianCalendar} in the time zone specified in the string, or the default time zone if not specified.
+	 *
+	 * @param in The string to parse.
+	 * @return The parsed value, or <jk>null</jk> if the string is not in a supported form.
+	 */
+	public static Calendar parseCalendar(CharSequence in) {
+		int[] f = parseFields(in);
+		return f == null ? null : toCalendar(f);
+	}
+
+	private static Calendar toCalendar(int[] f) {
+		TimeZone tz;
+		int o = f[7];
+		if (o == Integer.MIN_VALUE) {
+			tz = TimeZone.getDefault();
+		} else {
+			StringBuilder sb = new StringBuilder(9).append("GMT").append(o < 0 ? '-' : '+');
+			o = Math.abs(o);
+			sb.append(o / 60);
+			if (o % 60 != 0)
+				sb.append(o % 60 < 10 ? ":0" : ":").append(o % 60);
+			tz = TimeZone.getTimeZone(sb.toString());
+		}
+		GregorianCalendar c = new GregorianCalendar(tz, Locale.getDefault());
+		c.clear();
+		c.setGregorianChange(new Date(Long.MIN_VALUE));
+		c.set(Calendar.ERA, GregorianCalendar.AD);
+		c.set(Calendar.YEAR, f[0]);
+		c.set(Calendar.MONTH, f[1] - 1);
+		c.set(Calendar.DAY_OF_MONTH, f[2]);
+		c.set(Calendar.HOUR_OF_DAY, f[3]);
+		c.set(Calendar.MINUTE, f[4]);
+		c.set(Calendar.SECOND, f[5]);
+		if (f[6] != -1)
+			c.set(Calendar.MILLISECOND, f[6]);
+		return c;
+	}
+
+	/*
+	 * Returns [year, month, day, hour, minute, second, millis (-1 if absent), offset minutes (MIN_VALUE if absent)]
+	 * or null if the string isn't in a form handled here.
+	 */
+	private static int[] parseFields(CharSequence in) {
+		if (in == null)
+			return null;
+		int len = in.length(), i = 0;
+		int[] f = new int[]{0, 1, 1, 0, 0, 0, -1, Integer.MIN_VALUE};
+
+		if ((f[0] = num(in, i, 4)) < 1)
+			return null;
+		i += 4;
+		if (i < len && in.charAt(i) == '-') {
+			if ((f[1] = num(in, i+1, 2)) < 1 || f[1] > 12)
+				return null;
+			i += 3;
+			if (i < len && in.charAt(i) == '-') {
+				if ((f[2] = num(in, i+1, 2)) < 1 || f[2] > daysInMonth(f[0], f[1]))
+					return null;
+				i += 3;
+				if (i < len && (in.charAt(i) == 'T' || in.charAt(i) == ' ')) {
+					if ((f[3] = num(in, i+1, 2)) < 0 || f[3] > 23)
+						return null;
+					i += 3;
+					if (i < len && in.charAt(i) == ':') {
+						if ((f[4] = num(in, i+1, 2)) < 0 || f[4] > 59)
+							return null;
+						i += 3;
+						if (i < len && in.charAt(i) == ':') {
+							if ((f[5] = num(in, i+1, 2)) < 0 || f[5] > 59)
+								return null;
+							i += 3;
+							if (i < len && in.charAt(i) == '.') {
+								int ms = 0, scale = 100, start = ++i;
+								for (; i < len && isDigit(in.charAt(i)); i++, scale /= 10)
+									ms += (in.charAt(i) - '0') * scale;
+								if (i == start)
+									return null;
+								f[6] = ms;
+							}
+						}
+					}
+					if (i < len) {
+						char c = in.charAt(i);
+						if (c == 'Z') {
+							f[7] = 0;
+							i++;
+						} else if (c == '+' || c == '-') {
+							int h = num(in, i+1, 2), m = i+3 < len && in.charAt(i+3) == ':' ? num(in, i+4, 2) : -1;
+							if (h < 0 || h > 14 || m < 0 || m > 59 || (h == 14 && m > 0))
+								return null;
+							f[7] = (c == '-' ? -1 : 1) * (h * 60 + m);
+							i += 6;
+						}
+					}
+				}
+			}
+		}
+		return i == len ? f : null;
+	}
+
+	private static int num(CharSequence in, int start, int count) {
+		if (start + count > in.length())
+			return -1;
+		int n = 0;
+		for (int i = start; i < start + count; i++) {
+			char c = in.charAt(i);
+			if (! isDigit(c))
+				return -1;
+			n = n * 10 + (c - '0');
+		}
+		return n;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static int daysInMonth(int year, int month) {
+		if (month == 2)
+			return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+		return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+	}
+
+	// Days-from-civil algorithm for the proleptic Gregorian calendar.
+	private static long toEpochDay(int year, int month, int day) {
+		int y = month <= 2 ? year - 1 : year;
+		int era = y / 400;
+		int yoe = y - era * 400;
+		int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		int doe = yoe * 365 + yoe/4 - yoe/100 + doy;
+		return era * 146097L + doe - 719468;
+	}
+
+	private static int digits(char[] b, int i, int n) {
+		b[i] = (char)('0' + n / 10);
+		b[i+1] = (char)('0' + n % 10);
+		return i + 2;
+	}
+
+	private static long floorDiv(long x, long y) {
+		long r = x / y;
+		if ((x % y != 0) && ((x ^ y) < 0))
+			r--;
+		return r;
+	}
+}
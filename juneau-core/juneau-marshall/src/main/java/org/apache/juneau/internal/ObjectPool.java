@@ -0,0 +1,77 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Simple bounded pool of reusable objects.
+ *
+ * <p>
+ * Objects are owned by the pool, not by the threads that use them, so nothing outlives the pool itself.
+ * Once the pool holds its maximum number of objects, further objects returned to it are dropped.
+ *
+ * @param <T> The pooled object type.
+ */
+public final class ObjectPool<T> {
+
+	private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final int maxSize;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxSize The maximum number of objects held by this pool.
+	 */
+	public ObjectPool(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Removes an object from this pool.
+	 *
+	 * @return An object previously passed to {@link #offer(Object)}, or <jk>null</jk> if the pool is empty.
+	 */
+	public T poll() {
+		T t = queue.poll();
+		if (t != null)
+			size.decrementAndGet();
+		return t;
+	}
+
+	/**
+	 * Returns an object to this pool.
+	 *
+	 * @param t The object to add.
+	 * @return <jk>true</jk> if the object was added, <jk>false</jk> if the pool is full.
+	 */
+	public boolean offer(T t) {
+		if (size.incrementAndGet() > maxSize) {
+			size.decrementAndGet();
+			return false;
+		}
+		queue.offer(t);
+		return true;
+	}
+
+	/**
+	 * Returns the number of objects currently in this pool.
+	 *
+	 * @return The number of objects currently in this pool.
+	 */
+	public int size() {
+		return size.get();
+	}
+}
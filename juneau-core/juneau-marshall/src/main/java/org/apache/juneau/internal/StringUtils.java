@@ -977,6 +977,9 @@ public final class StringUtils {
 		date = date.trim().replace(' ', 'T');  // Convert to 'standard' ISO8601
 		if (date.indexOf(',') != -1)  // Trim milliseconds
 			date = date.substring(0, date.indexOf(','));
+		long t = ISO8601Utils.parseMillis(date);
+		if (t != ISO8601Utils.INVALID)
+			return new Date(t);
 		if (date.matches("\\d{4}"))
 			date += "-01-01T00:00:00";
 		else if (date.matches("\\d{4}\\-\\d{2}"))
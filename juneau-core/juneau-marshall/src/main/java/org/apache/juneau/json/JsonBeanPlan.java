@@ -0,0 +1,111 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.internal.ClassUtils.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Immutable precompiled plan for serializing instances of a single bean class to JSON.
+ *
+ * <p>
+ * Built once per bean {@link ClassMeta} by {@link JsonSerializerContext#getBeanPlan(ClassMeta)} and reused across
+ * sessions when {@link JsonSerializer#JSON_useCompiledPlans} is enabled.
+ * Holds the bean property accessors in serialization order, the resolved property types, and the pre-escaped
+ * property names from {@link JsonBeanPropertyMeta}.
+ */
+final class JsonBeanPlan {
+
+	// Final classes that can be written directly without going through JsonSerializerSession.serializeAnything().
+	private static final Set<Class<?>> LEAF_CLASSES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+		String.class, Boolean.class, Integer.class, Long.class, Short.class, Byte.class, Float.class, Double.class
+	));
+
+	/** The bean metadata, or <jk>null</jk> if this bean class must be serialized through bean maps. */
+	final BeanMeta<?> beanMeta;
+
+	/** The bean properties in serialization order. */
+	final Property[] properties;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cm The bean class.
+	 */
+	JsonBeanPlan(ClassMeta<?> cm) {
+		BeanMeta<?> bm = cm.getBeanMeta();
+		List<Property> l = new ArrayList<>();
+		if (bm != null) {
+			for (BeanPropertyMeta p : bm.getPropertyMetas()) {
+				if (p.isDyna()) {
+					bm = null;
+					break;
+				}
+				l.add(new Property(p));
+			}
+		}
+		this.beanMeta = bm;
+		this.properties = bm == null ? null : l.toArray(new Property[l.size()]);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if beans of this class can be serialized through this plan.
+	 *
+	 * @return <jk>true</jk> if beans of this class can be serialized through this plan.
+	 */
+	boolean isCompiled() {
+		return beanMeta != null;
+	}
+
+	/**
+	 * A single bean property in a plan.
+	 */
+	static final class Property {
+
+		final BeanPropertyMeta meta;
+		final String name;
+		final ClassMeta<?> type;
+
+		/**
+		 * The type of values that can be written as simple strings, numbers, or booleans, or <jk>null</jk> if values
+		 * of this property must always go through the full serialization logic.
+		 */
+		final ClassMeta<?> leafType;
+
+		private final JsonBeanPropertyMeta jsonMeta;
+
+		Property(BeanPropertyMeta meta) {
+			this.meta = meta;
+			this.name = meta.getName();
+			this.type = meta.getClassMeta();
+			this.jsonMeta = meta.getExtendedMeta(JsonBeanPropertyMeta.class);
+			Class<?> c = getWrapperIfPrimitive(type.getInnerClass());
+			this.leafType = LEAF_CLASSES.contains(c) && ! meta.isUri() ? type.getBeanContext().getClassMeta(c) : null;
+		}
+
+		/**
+		 * Returns the name of this property as it should be written by the specified writer.
+		 *
+		 * @param w The writer.
+		 * @return The fully quoted and escaped property name.
+		 * @throws IOException
+		 */
+		char[] getName(JsonWriter w) throws IOException {
+			return jsonMeta.getEncodedName(w);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Metadata on bean properties specific to the JSON serializers.
+ *
+ * <p>
+ * Caches the bean property name fully quoted and escaped for each combination of writer settings that affects how
+ * attribute names are rendered (quote character, lax mode, and solidus escaping), so that the name only needs to be
+ * encoded once per property instead of once per serialized bean.
+ */
+public final class JsonBeanPropertyMeta extends BeanPropertyMetaExtended {
+
+	private final String name;
+	private final AtomicReferenceArray<char[]> encodedNames = new AtomicReferenceArray<>(JsonWriter.ATTR_KEYS);
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bpm The metadata of the bean property of this additional metadata.
+	 */
+	public JsonBeanPropertyMeta(BeanPropertyMeta bpm) {
+		super(bpm);
+		this.name = bpm.getName();
+	}
+
+	/**
+	 * Returns the name of this bean property.
+	 *
+	 * @return The name of this bean property.
+	 */
+	protected String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the name of this bean property exactly as it would be written by {@link JsonWriter#attr(String)} on the
+	 * specified writer.
+	 *
+	 * @param w The writer the name is going to be written to.
+	 * @return The quoted and escaped property name.
+	 * @throws IOException Should never happen.
+	 */
+	protected char[] getEncodedName(JsonWriter w) throws IOException {
+		int k = w.getAttrKey();
+		if (k == -1)
+			return w.toAttr(name);
+		char[] n = encodedNames.get(k);
+		if (n == null) {
+			n = w.toAttr(name);
+			encodedNames.set(k, n);
+		}
+		return n;
+	}
+}
@@ -151,6 +151,28 @@ public class JsonSerializer extends WriterSerializer {
 	 */
 	public static final String JSON_addBeanTypeProperties = PREFIX + "addBeanTypeProperties";
 
+	/**
+	 * <b>Configuration property:</b>  Use compiled serialization plans for beans.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"JsonSerializer.useCompiledPlans"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * If <jk>true</jk>, the first time a bean class is serialized an immutable plan is built for it containing the
+	 * bean property accessors, the resolved property types, and the property names pre-escaped for the output format.
+	 * The plan is cached on the serializer and reused across sessions so that beans are serialized directly against
+	 * their getters without creating intermediate {@link BeanMap BeanMaps} or {@link BeanPropertyValue} lists.
+	 *
+	 * <p>
+	 * The output is identical to the output produced when this setting is disabled.
+	 * Beans with dynamic (<js>"*"</js>) properties are always serialized through bean maps.
+	 */
+	public static final String JSON_useCompiledPlans = PREFIX + "useCompiledPlans";
+
 
 	//-------------------------------------------------------------------------------------------------------------------
 	// Predefined instances
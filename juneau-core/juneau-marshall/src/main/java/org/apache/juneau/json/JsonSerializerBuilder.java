@@ -116,6 +116,33 @@ public class JsonSerializerBuilder extends SerializerBuilder {
 		return property(JSON_escapeSolidus, value);
 	}
 
+	/**
+	 * <b>Configuration property:</b>  Use compiled serialization plans for beans.
+	 *
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"JsonSerializer.useCompiledPlans"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b> <jk>true</jk>
+	 * </ul>
+	 *
+	 * <p>
+	 * If <jk>true</jk>, beans are serialized through immutable per-class plans that are built once and reused across
+	 * sessions, avoiding the creation of intermediate bean maps and property value lists.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul>
+	 * 	<li>This is equivalent to calling <code>property(<jsf>JSON_useCompiledPlans</jsf>, value)</code>.
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see JsonSerializer#JSON_useCompiledPlans
+	 */
+	public JsonSerializerBuilder useCompiledPlans(boolean value) {
+		return property(JSON_useCompiledPlans, value);
+	}
+
 	@Override /* SerializerBuilder */
 	public JsonSerializerBuilder maxDepth(int value) {
 		super.maxDepth(value);
@@ -308,6 +335,12 @@ public class JsonSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public JsonSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public JsonSerializerBuilder ignoreUnknownBeanProperties(boolean value) {
 		super.ignoreUnknownBeanProperties(value);
@@ -15,6 +15,7 @@ package org.apache.juneau.json;
 import static org.apache.juneau.json.JsonSerializer.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.serializer.*;
 
 /**
@@ -25,7 +26,10 @@ public final class JsonSerializerContext extends SerializerContext {
 	final boolean
 		simpleMode,
 		escapeSolidus,
-		addBeanTypeProperties;
+		addBeanTypeProperties,
+		useCompiledPlans;
+
+	private final Cache<ClassMeta<?>,JsonBeanPlan> beanPlans = new Cache<>(false, Cache.DEFAULT_MAX_SIZE);
 
 	/**
 	 * Constructor.
@@ -41,6 +45,23 @@ public final class JsonSerializerContext extends SerializerContext {
 		escapeSolidus = ps.getProperty(JSON_escapeSolidus, boolean.class, false);
 		addBeanTypeProperties = ps.getProperty(JSON_addBeanTypeProperties, boolean.class,
 			ps.getProperty(SERIALIZER_addBeanTypeProperties, boolean.class, true));
+		useCompiledPlans = ps.getProperty(JSON_useCompiledPlans, boolean.class, false);
+	}
+
+	/**
+	 * Returns the compiled serialization plan for the specified bean class.
+	 *
+	 * <p>
+	 * Plans are built on first use and shared by all sessions created from this context.
+	 *
+	 * @param cm The bean class.
+	 * @return The plan for the bean class.  Never <jk>null</jk>.
+	 */
+	JsonBeanPlan getBeanPlan(ClassMeta<?> cm) {
+		JsonBeanPlan p = beanPlans.get(cm);
+		if (p == null)
+			p = beanPlans.put(cm, new JsonBeanPlan(cm));
+		return p;
 	}
 
 	@Override /* Context */
@@ -50,6 +71,7 @@ public final class JsonSerializerContext extends SerializerContext {
 				.append("simpleMode", simpleMode)
 				.append("escapeSolidus", escapeSolidus)
 				.append("addBeanTypeProperties", addBeanTypeProperties)
+				.append("useCompiledPlans", useCompiledPlans)
 			);
 	}
 }
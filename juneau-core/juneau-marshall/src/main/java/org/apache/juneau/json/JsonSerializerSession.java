@@ -30,10 +30,12 @@ import org.apache.juneau.transform.*;
  */
 public class JsonSerializerSession extends WriterSerializerSession {
 
+	private final JsonSerializerContext ctx;
 	private final boolean
 		simpleMode,
 		escapeSolidus,
-		addBeanTypeProperties;
+		addBeanTypeProperties,
+		useCompiledPlans;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -49,10 +51,12 @@ public class JsonSerializerSession extends WriterSerializerSession {
 	 */
 	protected JsonSerializerSession(JsonSerializerContext ctx, SerializerSessionArgs args) {
 		super(ctx, args);
+		this.ctx = ctx;
 		ObjectMap p = getProperties();
 		simpleMode = p.getBoolean(JSON_simpleMode, ctx.simpleMode);
 		escapeSolidus = p.getBoolean(JSON_escapeSolidus, ctx.escapeSolidus);
 		addBeanTypeProperties = p.getBoolean(JSON_addBeanTypeProperties, ctx.addBeanTypeProperties);
+		useCompiledPlans = p.getBoolean(JSON_useCompiledPlans, ctx.useCompiledPlans);
 	}
 
 	@Override /* Session */
@@ -62,6 +66,7 @@ public class JsonSerializerSession extends WriterSerializerSession {
 				.append("addBeanTypeProperties", addBeanTypeProperties)
 				.append("escapeSolidus", escapeSolidus)
 				.append("simpleMode", simpleMode)
+				.append("useCompiledPlans", useCompiledPlans)
 			);
 	}
 
@@ -124,7 +129,11 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		} else if (sType.isNumber() || sType.isBoolean()) {
 			out.append(o);
 		} else if (sType.isBean()) {
-			serializeBeanMap(out, toBeanMap(o), typeName);
+			JsonBeanPlan plan = useCompiledPlans && o.getClass() == sType.getInnerClass() ? ctx.getBeanPlan(sType) : null;
+			if (plan != null && plan.isCompiled())
+				serializeBean(out, o, plan, typeName);
+			else
+				serializeBeanMap(out, toBeanMap(o), typeName);
 		} else if (sType.isUri() || (pMeta != null && pMeta.isUri())) {
 			out.uriValue(o);
 		} else if (sType.isMap()) {
@@ -203,7 +212,8 @@ public class JsonSerializerSession extends WriterSerializerSession {
 			if (addComma)
 				out.append(',').smi(i);
 
-			out.cr(i).attr(key).append(':').s(i);
+			out.cr(i);
+			attr(out, pMeta, key).append(':').s(i);
 
 			serializeAnything(out, value, cMeta, key, pMeta);
 
@@ -213,6 +223,78 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
+	/*
+	 * Writes a bean property name.
+	 * Uses the pre-encoded name cached on the property unless it's a dyna property.
+	 */
+	private static JsonWriter attr(JsonWriter out, BeanPropertyMeta pMeta, String key) throws Exception {
+		if (pMeta != null && ! pMeta.isDyna()) {
+			JsonBeanPropertyMeta jMeta = pMeta.getExtendedMeta(JsonBeanPropertyMeta.class);
+			if (key.equals(jMeta.getName()))
+				return out.append(jMeta.getEncodedName(out));
+		}
+		return out.attr(key);
+	}
+
+	/*
+	 * Same as serializeBeanMap(), but reads the property values directly from the bean using a precompiled plan.
+	 * Must produce exactly the same output.
+	 */
+	private SerializerWriter serializeBean(JsonWriter out, Object bean, JsonBeanPlan plan, String typeName) throws Exception {
+		int i = indent;
+		out.append('{');
+
+		boolean addComma = false;
+		if (typeName != null) {
+			BeanPropertyMeta pMeta = plan.beanMeta.getTypeProperty();
+			ClassMeta<?> cMeta = pMeta.getClassMeta();
+			String key = pMeta.getName();
+			if (! canIgnoreValue(cMeta, key, typeName)) {
+				out.cr(i);
+				attr(out, pMeta, key).append(':').s(i);
+				serializeAnything(out, typeName, cMeta, key, pMeta);
+				addComma = true;
+			}
+		}
+
+		for (JsonBeanPlan.Property p : plan.properties) {
+			BeanPropertyMeta pMeta = p.meta;
+			Object value;
+			try {
+				value = pMeta.get(this, bean);
+			} catch (Error e) {
+				// Errors should always be uncaught.
+				throw e;
+			} catch (Throwable t) {
+				onBeanGetterException(pMeta, t);
+				value = null;
+			}
+
+			if (canIgnoreValue(p.type, p.name, value))
+				continue;
+
+			if (addComma)
+				out.append(',').smi(i);
+
+			out.cr(i).append(p.getName(out)).append(':').s(i);
+
+			// Strings, numbers, and booleans without swaps can be written directly.
+			ClassMeta<?> lType = p.leafType;
+			if (value != null && lType != null && value.getClass() == lType.getInnerClass() && lType.getPojoSwap(this) == null) {
+				if (lType.isString())
+					out.stringValue(toString(value));
+				else
+					out.append(value);
+			} else {
+				serializeAnything(out, value, p.type, p.name, pMeta);
+			}
+
+			addComma = true;
+		}
+		out.cre(i-1).append('}');
+		return out;
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private SerializerWriter serializeCollection(JsonWriter out, Collection c, ClassMeta<?> type) throws Exception {
 
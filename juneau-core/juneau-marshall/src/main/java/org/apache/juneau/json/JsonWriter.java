@@ -51,7 +51,11 @@ public final class JsonWriter extends SerializerWriter {
 	private static final AsciiSet validAttrChars = new AsciiSet("abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_");
 	private static final AsciiSet validFirstAttrChars = new AsciiSet("abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ_");
 
+	/** The number of distinct writer configurations that affect how attribute names are rendered. */
+	static final int ATTR_KEYS = 8;
+
 	private final AsciiSet ec;
+	private final int attrKey;
 
 	/**
 	 * Constructor.
@@ -71,6 +75,34 @@ public final class JsonWriter extends SerializerWriter {
 		this.laxMode = laxMode;
 		this.escapeSolidus = escapeSolidus;
 		this.ec = escapeSolidus ? encodedChars2 : encodedChars;
+		int q = quoteChar == '"' ? 0 : quoteChar == '\'' ? 1 : -1;
+		this.attrKey = q == -1 ? -1 : (q << 2) | ((laxMode && ! trimStrings) ? 2 : 0) | (escapeSolidus ? 1 : 0);
+	}
+
+	/**
+	 * Returns a number between <code>0</code> and {@link #ATTR_KEYS} identifying the settings on this writer that
+	 * affect how attribute names are rendered by {@link #attr(String)}.
+	 *
+	 * <p>
+	 * Writers with the same key render the same attribute names identically.
+	 *
+	 * @return The key, or <code>-1</code> if this writer uses a non-standard quote character.
+	 */
+	int getAttrKey() {
+		return attrKey;
+	}
+
+	/**
+	 * Returns the specified attribute name exactly as it would be written by {@link #attr(String)}.
+	 *
+	 * @param s The attribute name.
+	 * @return The quoted and escaped attribute name.
+	 * @throws IOException Should never happen.
+	 */
+	char[] toAttr(String s) throws IOException {
+		StringWriter sw = new StringWriter();
+		new JsonWriter(sw, false, 0, escapeSolidus, quoteChar, laxMode, trimStrings, uriResolver).attr(s);
+		return sw.toString().toCharArray();
 	}
 
 	/**
@@ -293,6 +325,12 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public JsonWriter append(char[] characters) throws IOException {
+		super.append(characters);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public JsonWriter append(char c) throws IOException {
 		super.append(c);
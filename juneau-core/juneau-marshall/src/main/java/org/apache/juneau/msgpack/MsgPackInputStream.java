@@ -29,8 +29,12 @@ import org.apache.juneau.parser.*;
  */
 public final class MsgPackInputStream extends InputStream {
 
+	private static final int BUFFER_SIZE = 8192;
+
 	private final ParserPipe pipe;
 	private final InputStream is;
+	private final byte[] buff = new byte[BUFFER_SIZE];
+	private int iCurrent, iEnd;  // Read position and end of valid data in the buffer.
 	private DataType currentDataType;
 	private long length;
 	private int lastByte;
@@ -70,12 +74,81 @@ public final class MsgPackInputStream extends InputStream {
 
 	@Override /* InputStream */
 	public int read() throws IOException {
-		int i = is.read();
-		if (i > 0)
-			pos++;
+		if (iCurrent == iEnd && fill(1) == 0)
+			return -1;
+		pos++;
+		return buff[iCurrent++] & 0xFF;
+	}
+
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+		int avail = iEnd - iCurrent;
+		if (avail == 0) {
+			// Large reads go straight to the underlying stream.
+			if (len >= BUFFER_SIZE) {
+				int i = is.read(b, off, len);
+				if (i > 0)
+					pos += i;
+				return i;
+			}
+			if (fill(1) == 0)
+				return -1;
+			avail = iEnd - iCurrent;
+		}
+		int i = Math.min(avail, len);
+		System.arraycopy(buff, iCurrent, b, off, i);
+		iCurrent += i;
+		pos += i;
 		return i;
 	}
 
+	/**
+	 * Makes sure at least <code>min</code> (which must not exceed the buffer size) unread bytes are in the buffer,
+	 * reading from the underlying stream as necessary.
+	 *
+	 * @return The number of unread bytes in the buffer, which is only less than <code>min</code> if the end of the
+	 * 	stream was reached.
+	 */
+	private int fill(int min) throws IOException {
+		int avail = iEnd - iCurrent;
+		if (avail >= min)
+			return avail;
+		if (avail > 0)
+			System.arraycopy(buff, iCurrent, buff, 0, avail);
+		iCurrent = 0;
+		iEnd = avail;
+		while (iEnd < min) {
+			int i = is.read(buff, iEnd, BUFFER_SIZE - iEnd);
+			if (i == -1)
+				break;
+			iEnd += i;
+		}
+		return iEnd;
+	}
+
+	/**
+	 * Same as {@link #fill(int)} but throws an exception if the end of the stream is reached first.
+	 */
+	private void require(int len) throws IOException {
+		if (fill(len) < len)
+			throw new IOException("Unexpected end of file found at position " + (pos + iEnd - iCurrent));
+	}
+
+	/**
+	 * Reads the specified number of bytes into the array, blocking until they're all available.
+	 */
+	private void readFully(byte[] b) throws IOException {
+		int off = 0;
+		while (off < b.length) {
+			int i = read(b, off, b.length - off);
+			if (i == -1)
+				throw new IOException("Unexpected end of file found at position " + pos);
+			off += i;
+		}
+	}
+
 	/**
 	 * Reads the data type flag from the stream.
 	 *
@@ -340,7 +413,7 @@ public final class MsgPackInputStream extends InputStream {
 						length = readUInt2();
 				else if (i == EXT32)
 					length = readUInt4();
-				extType = is.read();
+				extType = read();
 
 				break;
 			}
@@ -404,7 +477,15 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read a string from the stream.
 	 */
 	String readString() throws IOException {
-		return new String(readBinary(), UTF8);
+		int len = (int)length;
+		if (len > BUFFER_SIZE)
+			return new String(readBinary(), UTF8);
+		// Decode straight out of the buffer without an intermediate copy.
+		require(len);
+		String s = new String(buff, iCurrent, len, UTF8);
+		iCurrent += len;
+		pos += len;
+		return s;
 	}
 
 	/**
@@ -412,7 +493,7 @@ public final class MsgPackInputStream extends InputStream {
 	 */
 	byte[] readBinary() throws IOException {
 		byte[] b = new byte[(int)length];
-		is.read(b);
+		readFully(b);
 		return b;
 	}
 
@@ -423,11 +504,10 @@ public final class MsgPackInputStream extends InputStream {
 		if (length == 0)
 			return lastByte;
 		if (length == 1)
-			return is.read();
+			return readUInt1();
 		if (length == 2)
-			return (is.read() << 8) | is.read();
-		int i = is.read(); i <<= 8; i |= is.read(); i <<= 8; i |= is.read(); i <<= 8; i |= is.read();
-		return i;
+			return readUInt2();
+		return (int)readUInt4();
 	}
 
 	/**
@@ -450,7 +530,11 @@ public final class MsgPackInputStream extends InputStream {
 	long readLong() throws IOException {
 		if (length == 4)
 			return readUInt4();
-		long l = is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read();
+		require(8);
+		long l = 0;
+		for (int i = 0; i < 8; i++)
+			l = (l << 8) | (buff[iCurrent++] & 0xFF);
+		pos += 8;
 		return l;
 	}
 
@@ -466,21 +550,27 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read one byte from the stream.
 	 */
 	private int readUInt1() throws IOException {
-		return is.read();
+		require(1);
+		pos++;
+		return buff[iCurrent++] & 0xFF;
 	}
 
 	/**
 	 * Read two bytes from the stream.
 	 */
 	private int readUInt2() throws IOException {
-		return (is.read() << 8) | is.read();
+		require(2);
+		pos += 2;
+		return ((buff[iCurrent++] & 0xFF) << 8) | (buff[iCurrent++] & 0xFF);
 	}
 
 	/**
 	 * Read four bytes from the stream.
 	 */
 	private long readUInt4() throws IOException {
-		long l = is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read();
+		require(4);
+		pos += 4;
+		long l = buff[iCurrent++] & 0xFF; l <<= 8; l |= buff[iCurrent++] & 0xFF; l <<= 8; l |= buff[iCurrent++] & 0xFF; l <<= 8; l |= buff[iCurrent++] & 0xFF;
 		return l;
 	}
 
@@ -28,7 +28,11 @@ import java.util.concurrent.atomic.*;
  */
 public final class MsgPackOutputStream extends OutputStream {
 
+	private static final int BUFFER_SIZE = 8192;
+
 	private final OutputStream os;
+	private final byte[] buff = new byte[BUFFER_SIZE];
+	private int count;
 
 	/**
 	 * Constructor.
@@ -41,22 +45,65 @@ public final class MsgPackOutputStream extends OutputStream {
 
 	@Override /* OutputStream */
 	public void write(int b) throws IOException {
-		os.write(b);
+		append1(b);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len >= BUFFER_SIZE) {
+			// Large payloads bypass the buffer entirely.
+			flushBuffer();
+			os.write(b, off, len);
+			return;
+		}
+		if (len > BUFFER_SIZE - count)
+			flushBuffer();
+		System.arraycopy(b, off, buff, count, len);
+		count += len;
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		flushBuffer();
+		os.flush();
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		flushBuffer();
+		os.close();
+	}
+
+	/**
+	 * Writes out the contents of the internal buffer to the wrapped stream.
+	 */
+	private void flushBuffer() throws IOException {
+		if (count > 0) {
+			os.write(buff, 0, count);
+			count = 0;
+		}
+	}
+
+	/**
+	 * Makes sure there's room for the specified number of bytes in the internal buffer.
+	 */
+	private void ensure(int len) throws IOException {
+		if (len > BUFFER_SIZE - count)
+			flushBuffer();
 	}
 
 	/**
 	 * Same as {@link #write(int)}.
 	 */
 	final MsgPackOutputStream append(byte b) throws IOException {
-		os.write(b);
-		return this;
+		return append1(b);
 	}
 
 	/**
 	 * Same as {@link #write(byte[])}.
 	 */
 	final MsgPackOutputStream append(byte[] b) throws IOException {
-		os.write(b);
+		write(b, 0, b.length);
 		return this;
 	}
 
@@ -64,7 +111,9 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends one byte to the stream.
 	 */
 	final MsgPackOutputStream append1(int i) throws IOException {
-		os.write(i);
+		if (count == BUFFER_SIZE)
+			flushBuffer();
+		buff[count++] = (byte)i;
 		return this;
 	}
 
@@ -72,21 +121,38 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends two bytes to the stream.
 	 */
 	final MsgPackOutputStream append2(int i) throws IOException {
-		return append1(i>>8).append1(i);
+		ensure(2);
+		buff[count++] = (byte)(i>>8);
+		buff[count++] = (byte)i;
+		return this;
 	}
 
 	/**
 	 * Appends four bytes to the stream.
 	 */
 	final MsgPackOutputStream append4(int i) throws IOException {
-		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+		ensure(4);
+		buff[count++] = (byte)(i>>24);
+		buff[count++] = (byte)(i>>16);
+		buff[count++] = (byte)(i>>8);
+		buff[count++] = (byte)i;
+		return this;
 	}
 
 	/**
 	 * Appends eight bytes to the stream.
 	 */
 	final MsgPackOutputStream append8(long l) throws IOException {
-		return append1((int)(l>>56)).append1((int)(l>>48)).append1((int)(l>>40)).append1((int)(l>>32)).append1((int)(l>>24)).append1((int)(l>>16)).append1((int)(l>>8)).append1((int)(l));
+		ensure(8);
+		buff[count++] = (byte)(l>>56);
+		buff[count++] = (byte)(l>>48);
+		buff[count++] = (byte)(l>>40);
+		buff[count++] = (byte)(l>>32);
+		buff[count++] = (byte)(l>>24);
+		buff[count++] = (byte)(l>>16);
+		buff[count++] = (byte)(l>>8);
+		buff[count++] = (byte)l;
+		return this;
 	}
 
 	/**
@@ -214,14 +280,75 @@ public final class MsgPackOutputStream extends OutputStream {
 		// * AAAAAAAA_AAAAAAAA_AAAAAAAA_AAAAAAAA is a 32-bit big-endian unsigned integer which represents N
 		// * N is the length of data
 
-		byte[] b = cs.toString().getBytes("UTF-8");
-		if (b.length < 32)
-			return append1(0xA0 + b.length).append(b);
-		if (b.length < (1<<8))
-			return append1(STR8).append1(b.length).append(b);
-		if (b.length < (1<<16))
-			return append1(STR16).append2(b.length).append(b);
-		return append1(STR32).append4(b.length).append(b);
+		// The UTF-8 length is computed up front so that the characters can be encoded directly into the buffer
+		// without creating an intermediate byte array.
+		int len = utf8Length(cs);
+		if (len < 32)
+			append1(0xA0 + len);
+		else if (len < (1<<8))
+			append1(STR8).append1(len);
+		else if (len < (1<<16))
+			append1(STR16).append2(len);
+		else
+			append1(STR32).append4(len);
+		return appendUtf8(cs);
+	}
+
+	/**
+	 * Returns the number of bytes needed to encode the specified characters as UTF-8.
+	 *
+	 * <p>
+	 * Unpaired surrogates count as a single byte since they're encoded as <js>'?'</js> (same as
+	 * {@link String#getBytes(String)}).
+	 */
+	private static int utf8Length(CharSequence cs) {
+		int len = 0;
+		for (int i = 0, l = cs.length(); i < l; i++) {
+			char c = cs.charAt(i);
+			if (c < 0x80)
+				len++;
+			else if (c < 0x800)
+				len += 2;
+			else if (Character.isHighSurrogate(c) && i+1 < l && Character.isLowSurrogate(cs.charAt(i+1))) {
+				len += 4;
+				i++;
+			} else if (Character.isSurrogate(c))
+				len++;
+			else
+				len += 3;
+		}
+		return len;
+	}
+
+	/**
+	 * Encodes the specified characters as UTF-8 directly into the internal buffer.
+	 */
+	private MsgPackOutputStream appendUtf8(CharSequence cs) throws IOException {
+		for (int i = 0, l = cs.length(); i < l; i++) {
+			char c = cs.charAt(i);
+			if (c < 0x80) {
+				append1(c);
+			} else if (c < 0x800) {
+				ensure(2);
+				buff[count++] = (byte)(0xC0 | (c >> 6));
+				buff[count++] = (byte)(0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && i+1 < l && Character.isLowSurrogate(cs.charAt(i+1))) {
+				int cp = Character.toCodePoint(c, cs.charAt(++i));
+				ensure(4);
+				buff[count++] = (byte)(0xF0 | (cp >> 18));
+				buff[count++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+				buff[count++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+				buff[count++] = (byte)(0x80 | (cp & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				append1('?');
+			} else {
+				ensure(3);
+				buff[count++] = (byte)(0xE0 | (c >> 12));
+				buff[count++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+				buff[count++] = (byte)(0x80 | (c & 0x3F));
+			}
+		}
+		return this;
 	}
 
 	/**
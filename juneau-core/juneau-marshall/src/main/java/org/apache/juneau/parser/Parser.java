@@ -18,6 +18,7 @@ import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.transform.*;
 import org.apache.juneau.transforms.*;
@@ -259,6 +260,17 @@ public abstract class Parser extends CoreObject {
 	/** General parser properties currently set on this parser. */
 	private final MediaType[] consumes;
 
+	/**
+	 * Maximum number of released sessions held for reuse by each parser.
+	 *
+	 * <p>
+	 * Can be set through the <js>"juneau.maxPooledSessions"</js> system property.
+	 */
+	public static final int MAX_POOLED_SESSIONS = Integer.getInteger("juneau.maxPooledSessions", 8);
+
+	// Sessions returned through releaseSession() that can be handed out again.
+	private final ObjectPool<ParserSession> pooledSessions = new ObjectPool<>(MAX_POOLED_SESSIONS);
+
 	// Hidden constructor to force subclass from InputStreamParser or ReaderParser.
 	Parser(PropertyStore propertyStore, String...consumes) {
 		super(propertyStore);
@@ -455,6 +467,44 @@ public abstract class Parser extends CoreObject {
 		return createSession(createDefaultSessionArgs());
 	}
 
+	/**
+	 * Same as {@link #createSession(ParserSessionArgs)} except reuses a session previously returned through
+	 * {@link #releaseSession(ParserSession)} if it was created with equivalent arguments.
+	 *
+	 * <p>
+	 * Useful for avoiding allocating a new session on every call when the same parser is used repeatedly with the
+	 * same arguments, such as when parsing HTTP request bodies.
+	 * Released sessions are held by this parser, not by the thread that released them, and at most
+	 * {@link #MAX_POOLED_SESSIONS} are kept.
+	 *
+	 * @param args
+	 * 	Runtime arguments.
+	 * 	Property values are not re-evaluated when a session is reused.
+	 * @return
+	 * 	A reused or new session object.
+	 * @see SessionArgs#isEquivalent(SessionArgs)
+	 */
+	public final ParserSession acquireSession(ParserSessionArgs args) {
+		ParserSession s = pooledSessions.poll();
+		if (s != null && s.canReuse(args))
+			return s;
+		return createSession(args);
+	}
+
+	/**
+	 * Resets the specified session and holds on to it so that it can be reused by the next call to
+	 * {@link #acquireSession(ParserSessionArgs)}.
+	 *
+	 * <p>
+	 * The session must have been created by this parser, and must not be used again by the caller.
+	 *
+	 * @param session The session to release.
+	 */
+	public final void releaseSession(ParserSession session) {
+		session.reset();
+		pooledSessions.offer(session);
+	}
+
 	/**
 	 * Creates the session arguments object that gets passed to the {@link #createSession(ParserSessionArgs)} method.
 	 *
@@ -289,6 +289,12 @@ public class ParserBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public ParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public ParserBuilder ignoreUnknownBeanProperties(boolean value) {
 		super.ignoreUnknownBeanProperties(value);
@@ -13,10 +13,10 @@
 package org.apache.juneau.parser;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Parser Parsers} that can be looked up by media type.
@@ -72,7 +72,7 @@ import org.apache.juneau.http.*;
 public final class ParserGroup {
 
 	// Maps Content-Type headers to matches.
-	private final ConcurrentHashMap<String,ParserMatch> cache = new ConcurrentHashMap<>();
+	private final Cache<String,ParserMatch> cache = new Cache<>(false, Cache.DEFAULT_MAX_SIZE);
 
 	private final MediaType[] mediaTypes;            // List of media types
 	private final List<MediaType> mediaTypesList;
@@ -149,10 +149,10 @@ public final class ParserGroup {
 
 		if (match >= 0) {
 			pm = new ParserMatch(mediaTypes[match], mediaTypeParsers[match]);
-			cache.putIfAbsent(contentTypeHeader, pm);
+			pm = cache.put(contentTypeHeader, pm);
 		}
 
-		return cache.get(contentTypeHeader);
+		return pm;
 	}
 
 	/**
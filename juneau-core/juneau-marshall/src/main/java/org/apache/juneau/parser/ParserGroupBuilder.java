@@ -381,6 +381,17 @@ public class ParserGroupBuilder {
 		return property(BEAN_useInterfaceProxies, value);
 	}
 
+	/**
+	 * Sets the {@link BeanContext#BEAN_useMethodHandles} property on all parsers in this group.
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see BeanContext#BEAN_useMethodHandles
+	 */
+	public ParserGroupBuilder useMethodHandles(boolean value) {
+		return property(BEAN_useMethodHandles, value);
+	}
+
 	/**
 	 * Sets the {@link BeanContext#BEAN_ignoreUnknownBeanProperties} property on all parsers in this group.
 	 *
@@ -16,6 +16,7 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
+import java.nio.*;
 import java.nio.charset.*;
 
 import org.apache.juneau.*;
@@ -29,13 +30,19 @@ import org.apache.juneau.internal.*;
  * <ul>
  * 	<li>{@link Reader}
  * 	<li>{@link CharSequence}
+ * 	<li><code><jk>char</jk>[]</code>
  * 	<li>{@link InputStream}
  * 	<li><code><jk>byte</jk>[]</code>
+ * 	<li>{@link ByteBuffer}
  * 	<li>{@link File}
  * 	<li><code><jk>null</jk></code>
  * </ul>
  *
  * <p>
+ * Character arrays, {@link CharBuffer CharBuffers}, byte arrays, and {@link ByteBuffer ByteBuffers} are already held
+ * in memory, so {@link ParserReader} reads them directly instead of going through a {@link Reader}.
+ *
+ * <p>
  * For stream-based parsers, the input object can be any of the following:
  * <ul>
  * 	<li>{@link InputStream}
@@ -84,8 +91,13 @@ public final class ParserPipe implements Closeable {
 		this.strict = strict;
 		this.fileCharset = fileCharset;
 		this.inputStreamCharset = inputStreamCharset;
-		if (input instanceof CharSequence)
+		if (input instanceof CharBuffer || input instanceof char[]) {
+			// Only copied into a string when debugging so that ParserReader can index into the buffer directly.
+			if (debug)
+				this.inputString = input instanceof char[] ? new String((char[])input) : input.toString();
+		} else if (input instanceof CharSequence) {
 			this.inputString = input.toString();
+		}
 	}
 
 	/**
@@ -164,28 +176,26 @@ public final class ParserPipe implements Closeable {
 			} else {
 				reader = (Reader)input;
 			}
+		} else if (input instanceof char[]) {
+			reader = new CharArrayReader((char[])input);
+		} else if (input instanceof CharBuffer) {
+			reader = new CharSequenceReader(((CharBuffer)input).duplicate());
 		} else if (input instanceof CharSequence) {
 			inputString = input.toString();
 			reader = new ParserReader(this);
-		} else if (input instanceof InputStream || input instanceof byte[]) {
-			InputStream is = (
-				input instanceof InputStream
-				? (InputStream)input
-				: new ByteArrayInputStream((byte[])input)
-			);
-			CharsetDecoder cd = (
-				"default".equalsIgnoreCase(inputStreamCharset)
-				? Charset.defaultCharset()
-				: Charset.forName(inputStreamCharset)
-			).newDecoder();
-			if (strict) {
-				cd.onMalformedInput(CodingErrorAction.REPORT);
-				cd.onUnmappableCharacter(CodingErrorAction.REPORT);
+		} else if (input instanceof InputStream || input instanceof byte[] || input instanceof ByteBuffer) {
+			InputStream is;
+			if (input instanceof InputStream) {
+				is = (InputStream)input;
+			} else if (input instanceof byte[]) {
+				is = new ByteArrayInputStream((byte[])input);
 			} else {
-				cd.onMalformedInput(CodingErrorAction.REPLACE);
-				cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
+				ByteBuffer bb = ((ByteBuffer)input).duplicate();
+				byte[] b = new byte[bb.remaining()];
+				bb.get(b);
+				is = new ByteArrayInputStream(b);
 			}
-			reader = new InputStreamReader(is, cd);
+			reader = new InputStreamReader(is, getInputStreamDecoder());
 			if (debug) {
 				inputString = read(reader);
 				reader = new StringReader(inputString);
@@ -256,6 +266,43 @@ public final class ParserPipe implements Closeable {
 		return (ParserReader)reader;
 	}
 
+	/**
+	 * Returns the input object if it's a character or byte buffer that can be read directly from memory.
+	 *
+	 * <p>
+	 * Returns <jk>null</jk> in debug mode so that the contents are captured through {@link #getReader()}.
+	 *
+	 * @return The input object, or <jk>null</jk> if the input must be read through a reader.
+	 */
+	Object getInMemoryInput() {
+		if (input instanceof char[] || input instanceof CharBuffer)
+			return inputString == null ? input : null;
+		if ((input instanceof byte[] || input instanceof ByteBuffer) && ! debug)
+			return input;
+		return null;
+	}
+
+	/**
+	 * Creates a new decoder for the charset of input streams and byte arrays.
+	 *
+	 * @return A new decoder with the malformed-input actions set according to the strict setting.
+	 */
+	CharsetDecoder getInputStreamDecoder() {
+		CharsetDecoder cd = (
+			"default".equalsIgnoreCase(inputStreamCharset)
+			? Charset.defaultCharset()
+			: Charset.forName(inputStreamCharset)
+		).newDecoder();
+		if (strict) {
+			cd.onMalformedInput(CodingErrorAction.REPORT);
+			cd.onUnmappableCharacter(CodingErrorAction.REPORT);
+		} else {
+			cd.onMalformedInput(CodingErrorAction.REPLACE);
+			cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+		return cd;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if the contents passed into this pipe was a {@link CharSequence}.
 	 *
@@ -13,6 +13,9 @@
 package org.apache.juneau.parser;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -28,10 +31,20 @@ import org.apache.juneau.internal.*;
  * characters from the previous mark point.
  *
  * <p>
+ * Input that's already in memory (strings, character arrays, {@link CharBuffer CharBuffers}, byte arrays and
+ * {@link ByteBuffer ByteBuffers}) is loaded into the buffer in a single step on the first read instead of being
+ * streamed through a {@link Reader}, so marks never cause the buffer to be refilled or resized.
+ * Character arrays are read in place and only copied if {@link #delete()} or {@link #replace(char)} need to modify
+ * the buffer.
+ * Byte input is decoded in a single pass using the pipe's input stream charset.
+ *
+ * <p>
  * <b>Warning:</b>  Not thread safe.
  */
 public class ParserReader extends Reader {
 
+	private static final char[] EMPTY = new char[0];
+
 	/** Wrapped reader */
 	protected final Reader r;
 	private final ParserPipe pipe;
@@ -43,6 +56,8 @@ public class ParserReader extends Reader {
 	private int iMark = -1;    // Mark position in buffer
 	private int iEnd = 0;      // The last good character position in the buffer
 	private boolean endReached, holesExist;
+	private Object inMemory;   // In-memory input not yet loaded into the buffer.
+	private boolean shared;    // The buffer is the caller's array and must be copied before being modified.
 
 	/**
 	 * Constructor.
@@ -51,8 +66,27 @@ public class ParserReader extends Reader {
 	 * @throws IOException
 	 */
 	public ParserReader(ParserPipe pipe) throws IOException {
+		this(pipe, true);
+	}
+
+	/**
+	 * Constructor for subclasses.
+	 *
+	 * @param pipe The parser input.
+	 * @param filtered
+	 * 	<jk>true</jk> if the subclass transforms characters in {@link #read(char[], int, int)}.
+	 * 	<br>In-memory input is only loaded directly into the buffer when this is <jk>false</jk> or when this class is
+	 * 	not subclassed.
+	 * @throws IOException
+	 */
+	protected ParserReader(ParserPipe pipe, boolean filtered) throws IOException {
 		this.pipe = pipe;
-		if (pipe.isString()) {
+		Object mem = pipe.isString() ? pipe.getInputAsString() : pipe.getInMemoryInput();
+		if (mem != null && (getClass() == ParserReader.class || ! filtered)) {
+			this.r = null;
+			this.inMemory = mem;
+			this.buff = EMPTY;
+		} else if (pipe.isString()) {
 			String in = pipe.getInputAsString();
 			this.r = new CharSequenceReader(in);
 			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
@@ -145,6 +179,10 @@ public class ParserReader extends Reader {
 
 	private final int readFromBuff() throws IOException {
 		while (iCurrent >= iEnd) {
+			if (inMemory != null) {
+				load();
+				continue;
+			}
 			if (endReached)
 				return -1;
 
@@ -208,6 +246,56 @@ public class ParserReader extends Reader {
 		return buff[iCurrent++];
 	}
 
+	/*
+	 * Loads the entire in-memory input into the buffer.
+	 */
+	private void load() throws IOException {
+		Object in = inMemory;
+		inMemory = null;
+		endReached = true;
+		if (in instanceof String) {
+			String s = (String)in;
+			buff = new char[s.length()];
+			s.getChars(0, buff.length, buff, 0);
+			iEnd = buff.length;
+		} else if (in instanceof char[]) {
+			buff = (char[])in;
+			iEnd = buff.length;
+			shared = true;
+		} else if (in instanceof CharBuffer) {
+			CharBuffer cb = (CharBuffer)in;
+			iEnd = cb.remaining();
+			if (cb.hasArray() && cb.arrayOffset() + cb.position() == 0) {
+				buff = cb.array();
+				shared = true;
+			} else {
+				buff = new char[iEnd];
+				cb.duplicate().get(buff);
+			}
+		} else {
+			ByteBuffer bb = in instanceof byte[] ? ByteBuffer.wrap((byte[])in) : ((ByteBuffer)in).duplicate();
+			CharsetDecoder cd = pipe.getInputStreamDecoder();
+			CharBuffer cb = CharBuffer.allocate((int)Math.ceil(bb.remaining() * (double)cd.maxCharsPerByte()));
+			CoderResult cr = cd.decode(bb, cb, true);
+			if (cr.isUnderflow())
+				cr = cd.flush(cb);
+			if (! cr.isUnderflow())
+				cr.throwException();
+			buff = cb.array();
+			iEnd = cb.position();
+		}
+	}
+
+	/*
+	 * Copies the buffer before it's modified if it's the array that was passed in as input.
+	 */
+	private void unshare() {
+		if (shared) {
+			buff = Arrays.copyOf(buff, iEnd);
+			shared = false;
+		}
+	}
+
 	/**
 	 * Start buffering the calls to read() so that the text can be gathered from the mark point on calling {@code getFromMarked()}.
 	 */
@@ -356,6 +444,7 @@ public class ParserReader extends Reader {
 	 * @return This object (for method chaining).
 	 */
 	public final ParserReader delete(int count) {
+		unshare();
 		for (int i = 0; i < count; i++)
 			buff[iCurrent-i-1] = 127;
 		holesExist = true;
@@ -375,6 +464,7 @@ public class ParserReader extends Reader {
 	 * @throws IOException
 	 */
 	public final ParserReader replace(int c, int offset) throws IOException {
+		unshare();
 		if (c < 0x10000) {
 			if (offset < 1)
 				throw new IOException("Buffer underflow.");
@@ -409,11 +499,21 @@ public class ParserReader extends Reader {
 	 * Subclasses can override this method to provide additional filtering.
 	 *
 	 * <p>
-	 * Default implementation simply calls the same method on the underlying reader.
+	 * Default implementation simply calls the same method on the underlying reader, or copies from the buffer if the
+	 * input was loaded directly from memory.
 	 */
 	@Override /* Reader */
 	public int read(char[] cbuf, int off, int len) throws IOException {
-		return r.read(cbuf, off, len);
+		if (r != null)
+			return r.read(cbuf, off, len);
+		if (inMemory != null)
+			load();
+		if (iCurrent >= iEnd)
+			return -1;
+		int n = Math.min(len, iEnd - iCurrent);
+		System.arraycopy(buff, iCurrent, cbuf, off, n);
+		iCurrent += n;
+		return n;
 	}
 
 	/**
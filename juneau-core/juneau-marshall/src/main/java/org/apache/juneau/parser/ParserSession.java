@@ -82,6 +82,22 @@ public abstract class ParserSession extends BeanSession {
 			);
 	}
 
+	/**
+	 * Returns <jk>false</jk> if a {@link ParserListener} is associated with this session, since listeners can
+	 * accumulate state.
+	 */
+	@Override /* Session */
+	public boolean canReuse(SessionArgs args) {
+		return listener == null && super.canReuse(args);
+	}
+
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		currentProperty = null;
+		currentClass = null;
+	}
+
 	//--------------------------------------------------------------------------------
 	// Abstract methods
 	//--------------------------------------------------------------------------------
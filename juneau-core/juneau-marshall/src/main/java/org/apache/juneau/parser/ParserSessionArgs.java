@@ -53,4 +53,12 @@ public final class ParserSessionArgs extends BeanSessionArgs {
 		this.javaMethod = javaMethod;
 		this.outer = outer;
 	}
+
+	@Override /* SessionArgs */
+	public boolean isEquivalent(SessionArgs args) {
+		if (! super.isEquivalent(args))
+			return false;
+		ParserSessionArgs a = (ParserSessionArgs)args;
+		return javaMethod == a.javaMethod && outer == a.outer;
+	}
 }
\ No newline at end of file
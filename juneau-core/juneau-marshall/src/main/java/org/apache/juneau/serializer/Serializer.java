@@ -17,6 +17,7 @@ import java.io.*;
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Parent class for all Juneau serializers.
@@ -438,6 +439,17 @@ public abstract class Serializer extends CoreObject {
 	private final MediaType[] accept;
 	private final MediaType produces;
 
+	/**
+	 * Maximum number of released sessions held for reuse by each serializer.
+	 *
+	 * <p>
+	 * Can be set through the <js>"juneau.maxPooledSessions"</js> system property.
+	 */
+	public static final int MAX_POOLED_SESSIONS = Integer.getInteger("juneau.maxPooledSessions", 8);
+
+	// Sessions returned through releaseSession() that can be handed out again.
+	private final ObjectPool<SerializerSession> pooledSessions = new ObjectPool<>(MAX_POOLED_SESSIONS);
+
 	// Hidden constructors to force subclass from OuputStreamSerializer or WriterSerializer.
 	Serializer(PropertyStore propertyStore, String produces, String...accept) {
 		super(propertyStore);
@@ -497,6 +509,44 @@ public abstract class Serializer extends CoreObject {
 		return createSession(createDefaultSessionArgs());
 	}
 
+	/**
+	 * Same as {@link #createSession(SerializerSessionArgs)} except reuses a session previously returned through
+	 * {@link #releaseSession(SerializerSession)} if it was created with equivalent arguments.
+	 *
+	 * <p>
+	 * Useful for avoiding allocating a new session on every call when the same serializer is used repeatedly with the
+	 * same arguments, such as when serializing HTTP responses.
+	 * Released sessions are held by this serializer, not by the thread that released them, and at most
+	 * {@link #MAX_POOLED_SESSIONS} are kept.
+	 *
+	 * @param args
+	 * 	Runtime arguments.
+	 * 	Property values are not re-evaluated when a session is reused.
+	 * @return
+	 * 	A reused or new session object.
+	 * @see SessionArgs#isEquivalent(SessionArgs)
+	 */
+	public final SerializerSession acquireSession(SerializerSessionArgs args) {
+		SerializerSession s = pooledSessions.poll();
+		if (s != null && s.canReuse(args))
+			return s;
+		return createSession(args);
+	}
+
+	/**
+	 * Resets the specified session and holds on to it so that it can be reused by the next call to
+	 * {@link #acquireSession(SerializerSessionArgs)}.
+	 *
+	 * <p>
+	 * The session must have been created by this serializer, and must not be used again by the caller.
+	 *
+	 * @param session The session to release.
+	 */
+	public final void releaseSession(SerializerSession session) {
+		session.reset();
+		pooledSessions.offer(session);
+	}
+
 	/**
 	 * Creates the session arguments object that gets passed to the {@link #createSession(SerializerSessionArgs)} method.
 	 *
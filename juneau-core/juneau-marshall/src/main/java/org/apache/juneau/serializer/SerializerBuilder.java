@@ -694,6 +694,12 @@ public class SerializerBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public SerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public SerializerBuilder ignoreUnknownBeanProperties(boolean value) {
 		super.ignoreUnknownBeanProperties(value);
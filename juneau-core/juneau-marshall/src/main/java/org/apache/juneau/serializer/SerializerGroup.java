@@ -13,10 +13,10 @@
 package org.apache.juneau.serializer;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Serializer Serializers} that can be looked up by media type.
@@ -64,7 +64,7 @@ import org.apache.juneau.http.*;
 public final class SerializerGroup {
 
 	// Maps Accept headers to matching serializers.
-	private final ConcurrentHashMap<String,SerializerMatch> cache = new ConcurrentHashMap<>();
+	private final Cache<String,SerializerMatch> cache = new Cache<>(false, Cache.DEFAULT_MAX_SIZE);
 
 	private final MediaType[] mediaTypes;
 	private final List<MediaType> mediaTypesList;
@@ -156,10 +156,10 @@ public final class SerializerGroup {
 		int match = a.findMatch(mediaTypes);
 		if (match >= 0) {
 			sm = new SerializerMatch(mediaTypes[match], mediaTypeSerializers[match]);
-			cache.putIfAbsent(acceptHeader, sm);
+			sm = cache.put(acceptHeader, sm);
 		}
 
-		return cache.get(acceptHeader);
+		return sm;
 	}
 
 	/**
@@ -553,6 +553,17 @@ public class SerializerGroupBuilder {
 		return property(BEAN_useInterfaceProxies, value);
 	}
 
+	/**
+	 * Sets the {@link BeanContext#BEAN_useMethodHandles} property on all serializers in this group.
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 * @see BeanContext#BEAN_useMethodHandles
+	 */
+	public SerializerGroupBuilder useMethodHandles(boolean value) {
+		return property(BEAN_useMethodHandles, value);
+	}
+
 	/**
 	 * Sets the {@link BeanContext#BEAN_ignoreUnknownBeanProperties} property on all serializers in this group.
 	 *
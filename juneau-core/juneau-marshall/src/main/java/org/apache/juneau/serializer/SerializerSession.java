@@ -66,7 +66,8 @@ public abstract class SerializerSession extends BeanSession {
 	private final UriResolver uriResolver;
 
 	private final Map<Object,Object> set;                                           // Contains the current objects in the current branch of the model.
-	private final LinkedList<StackElement> stack = new LinkedList<>();              // Contains the current objects in the current branch of the model.
+	private StackElement[] stack = new StackElement[16];                            // Contains the current objects in the current branch of the model.  Elements are reused.
+	private int stackSize;                                                          // Number of elements in use in the stack.
 	private final Method javaMethod;                                                // Java method that invoked this serializer.
 
 	// Writable properties
@@ -155,6 +156,28 @@ public abstract class SerializerSession extends BeanSession {
 			);
 	}
 
+	/**
+	 * Returns <jk>false</jk> if a {@link SerializerListener} is associated with this session, since listeners can
+	 * accumulate state.
+	 */
+	@Override /* Session */
+	public boolean canReuse(SessionArgs args) {
+		return listener == null && super.canReuse(args);
+	}
+
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		while (stackSize > 0)
+			stack[--stackSize].clear();
+		if (! set.isEmpty())
+			set.clear();
+		indent = initialDepth;
+		isBottom = false;
+		currentProperty = null;
+		currentClass = null;
+	}
+
 	/**
 	 * Wraps the specified input object into a {@link ParserPipe} object so that it can be easily converted into
 	 * a stream or reader.
@@ -431,12 +454,12 @@ public abstract class SerializerSession extends BeanSession {
 		if (cm.isCharSequence() || cm.isNumber() || cm.isBoolean())
 			return cm;
 		if (detectRecursions || isDebug()) {
-			if (stack.size() > maxDepth)
+			if (stackSize > maxDepth)
 				return null;
 			if (willRecurse(attrName, o, cm))
 				return null;
 			isBottom = false;
-			stack.add(new StackElement(stack.size(), attrName, o, cm));
+			pushElement(attrName, o, cm);
 			if (isDebug())
 				getLogger().info(getStack(false));
 			set.put(o, o);
@@ -462,21 +485,36 @@ public abstract class SerializerSession extends BeanSession {
 		if (ignoreRecursions && ! isDebug())
 			return true;
 
-		stack.add(new StackElement(stack.size(), attrName, o, cm));
+		pushElement(attrName, o, cm);
 		throw new SerializeException("Recursion occurred, stack={0}", getStack(true));
 	}
 
+	/*
+	 * Adds an element to the top of the stack, reusing a previously-allocated element if there is one.
+	 */
+	private void pushElement(String attrName, Object o, ClassMeta<?> cm) {
+		if (stackSize == stack.length)
+			stack = Arrays.copyOf(stack, stackSize * 2);
+		StackElement e = stack[stackSize];
+		if (e == null)
+			e = stack[stackSize] = new StackElement();
+		e.set(stackSize++, attrName, o, cm);
+	}
+
 	/**
 	 * Pop an object off the stack.
 	 */
 	protected final void pop() {
 		indent--;
 		if ((detectRecursions || isDebug()) && ! isBottom)  {
-			Object o = stack.removeLast().o;
+			StackElement e = stack[--stackSize];
+			Object o = e.o;
+			String name = e.name;
+			e.clear();
 			Object o2 = set.remove(o);
 			if (o2 == null)
 				onError(null, "Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.",
-					o.getClass().getName(), stack);
+					o.getClass().getName(), name);
 		}
 		isBottom = false;
 	}
@@ -736,18 +774,25 @@ public abstract class SerializerSession extends BeanSession {
 	}
 
 	private static final class StackElement {
-		final int depth;
-		final String name;
-		final Object o;
-		final ClassMeta<?> aType;
+		int depth;
+		String name;
+		Object o;
+		ClassMeta<?> aType;
 
-		StackElement(int depth, String name, Object o, ClassMeta<?> aType) {
+		void set(int depth, String name, Object o, ClassMeta<?> aType) {
 			this.depth = depth;
 			this.name = name;
 			this.o = o;
 			this.aType = aType;
 		}
 
+		// Drop references so that popped elements don't keep serialized objects reachable.
+		void clear() {
+			this.name = null;
+			this.o = null;
+			this.aType = null;
+		}
+
 		String toString(boolean simple) {
 			StringBuilder sb = new StringBuilder().append('[').append(depth).append(']');
 			sb.append(isEmpty(name) ? "<noname>" : name).append(':');
@@ -760,7 +805,8 @@ public abstract class SerializerSession extends BeanSession {
 
 	private String getStack(boolean full) {
 		StringBuilder sb = new StringBuilder();
-		for (StackElement e : stack) {
+		for (int j = 0; j < stackSize; j++) {
+			StackElement e = stack[j];
 			if (full) {
 				sb.append("\n\t");
 				for (int i = 1; i < e.depth; i++)
@@ -786,8 +832,13 @@ public abstract class SerializerSession extends BeanSession {
 			m.put("currentClass", currentClass);
 		if (currentProperty != null)
 			m.put("currentProperty", currentProperty);
-		if (stack != null && ! stack.isEmpty())
-			m.put("stack", stack);
+		if (stackSize > 0) {
+			// Elements are reused, so take a snapshot.
+			List<String> l = new ArrayList<>(stackSize);
+			for (int i = 0; i < stackSize; i++)
+				l.add(stack[i].toString(true));
+			m.put("stack", l);
+		}
 		return m;
 	}
 
@@ -17,6 +17,7 @@ import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Runtime arguments common to all serializer sessions.
@@ -57,4 +58,12 @@ public final class SerializerSessionArgs extends BeanSessionArgs {
 		this.javaMethod = javaMethod;
 		this.uriContext = uriContext;
 	}
+
+	@Override /* SessionArgs */
+	public boolean isEquivalent(SessionArgs args) {
+		if (! super.isEquivalent(args))
+			return false;
+		SerializerSessionArgs a = (SerializerSessionArgs)args;
+		return javaMethod == a.javaMethod && ObjectUtils.equals(uriContext, a.uriContext);
+	}
 }
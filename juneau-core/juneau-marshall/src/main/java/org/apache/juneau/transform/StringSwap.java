@@ -21,6 +21,22 @@ import org.apache.juneau.*;
  */
 public abstract class StringSwap<T> extends PojoSwap<T,String> {
 
+	/**
+	 * Constructor.
+	 */
+	protected StringSwap() {
+		super();
+	}
+
+	/**
+	 * Constructor for when the normal class is not known at compile time.
+	 *
+	 * @param normalClass The normal class (cannot be serialized).
+	 */
+	protected StringSwap(Class<T> normalClass) {
+		super(normalClass, String.class);
+	}
+
 	@Override /* PojoSwap */
 	public String swap(BeanSession session, T o) throws Exception {
 		return super.swap(session, o);
@@ -0,0 +1,187 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.transforms;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.lang.reflect.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.ParseException;
+import org.apache.juneau.transform.*;
+
+/**
+ * Transforms <code>java.time</code> objects to ISO8601 {@link String Strings}.
+ *
+ * <p>
+ * Objects are converted to strings using their <code>toString()</code> methods, which produce ISO8601 strings.
+ *
+ * <p>
+ * Strings are converted to objects using their static <code>parse(CharSequence)</code> methods.
+ *
+ * <p>
+ * This library is built for Java 7, so the <code>java.time</code> classes are looked up by name when the swap is
+ * created.
+ * These swaps can only be used on a Java 8 or later runtime.
+ *
+ * <h6 class='topic'>Behavior-specific subclasses</h6>
+ *
+ * The following direct subclasses are provided for convenience to the following classes:
+ * <ul>
+ * 	<li>{@link Instant} - <code>java.time.Instant</code>
+ * 	<li>{@link LocalDate} - <code>java.time.LocalDate</code>
+ * 	<li>{@link LocalDateTime} - <code>java.time.LocalDateTime</code>
+ * 	<li>{@link OffsetDateTime} - <code>java.time.OffsetDateTime</code>
+ * 	<li>{@link ZonedDateTime} - <code>java.time.ZonedDateTime</code>
+ * 	<li>{@link Duration} - <code>java.time.Duration</code>
+ * </ul>
+ */
+public class TemporalSwap extends StringSwap<Object> {
+
+	/**
+	 * Transforms <code>java.time.Instant</code> objects to ISO8601 strings.
+	 *
+	 * <h5 class='section'>Example output:</h5>
+	 * <js>"2001-07-04T20:30:45.123Z"</js>
+	 */
+	public static class Instant extends TemporalSwap {
+
+		/** Constructor. */
+		public Instant() {
+			super("java.time.Instant");
+		}
+	}
+
+	/**
+	 * Transforms <code>java.time.LocalDate</code> objects to ISO8601 strings.
+	 *
+	 * <h5 class='section'>Example output:</h5>
+	 * <js>"2001-07-04"</js>
+	 */
+	public static class LocalDate extends TemporalSwap {
+
+		/** Constructor. */
+		public LocalDate() {
+			super("java.time.LocalDate");
+		}
+	}
+
+	/**
+	 * Transforms <code>java.time.LocalDateTime</code> objects to ISO8601 strings.
+	 *
+	 * <h5 class='section'>Example output:</h5>
+	 * <js>"2001-07-04T15:30:45.123"</js>
+	 */
+	public static class LocalDateTime extends TemporalSwap {
+
+		/** Constructor. */
+		public LocalDateTime() {
+			super("java.time.LocalDateTime");
+		}
+	}
+
+	/**
+	 * Transforms <code>java.time.OffsetDateTime</code> objects to ISO8601 strings.
+	 *
+	 * <h5 class='section'>Example output:</h5>
+	 * <js>"2001-07-04T15:30:45-05:00"</js>
+	 */
+	public static class OffsetDateTime extends TemporalSwap {
+
+		/** Constructor. */
+		public OffsetDateTime() {
+			super("java.time.OffsetDateTime");
+		}
+	}
+
+	/**
+	 * Transforms <code>java.time.ZonedDateTime</code> objects to ISO8601 strings.
+	 *
+	 * <h5 class='section'>Example output:</h5>
+	 * <js>"2001-07-04T15:30:45-04:00[America/New_York]"</js>
+	 */
+	public static class ZonedDateTime extends TemporalSwap {
+
+		/** Constructor. */
+		public ZonedDateTime() {
+			super("java.time.ZonedDateTime");
+		}
+	}
+
+	/**
+	 * Transforms <code>java.time.Duration</code> objects to ISO8601 duration strings.
+	 *
+	 * <h5 class='section'>Example output:</h5>
+	 * <js>"PT1H30M"</js>
+	 */
+	public static class Duration extends TemporalSwap {
+
+		/** Constructor. */
+		public Duration() {
+			super("java.time.Duration");
+		}
+	}
+
+	private final Method parseMethod;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param className The fully-qualified name of the <code>java.time</code> class being swapped.
+	 * @throws FormattedRuntimeException If the class could not be found (e.g. running on Java 7).
+	 */
+	protected TemporalSwap(String className) {
+		this(forName(className));
+	}
+
+	private TemporalSwap(Class<Object> c) {
+		super(c);
+		try {
+			this.parseMethod = c.getMethod("parse", CharSequence.class);
+		} catch (NoSuchMethodException e) {
+			throw new FormattedRuntimeException(e, "Class ''{0}'' does not have a parse(CharSequence) method.", c.getName());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Class<Object> forName(String className) {
+		try {
+			return (Class<Object>)Class.forName(className);
+		} catch (ClassNotFoundException e) {
+			throw new FormattedRuntimeException(e, "Class ''{0}'' not found.  java.time swaps require Java 8 or later.", className);
+		}
+	}
+
+	/**
+	 * Converts the specified object to an ISO8601 {@link String}.
+	 */
+	@Override /* PojoSwap */
+	public String swap(BeanSession session, Object o) throws Exception {
+		return o.toString();
+	}
+
+	/**
+	 * Converts the specified ISO8601 {@link String} to an object.
+	 */
+	@Override /* PojoSwap */
+	public Object unswap(BeanSession session, String s, ClassMeta<?> hint) throws Exception {
+		if (isEmpty(s))
+			return null;
+		try {
+			return parseMethod.invoke(null, s);
+		} catch (InvocationTargetException e) {
+			Throwable t = e.getTargetException();
+			throw t instanceof Exception ? new ParseException((Exception)t) : e;
+		}
+	}
+}
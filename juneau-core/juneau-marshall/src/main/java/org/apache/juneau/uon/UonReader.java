@@ -46,9 +46,11 @@ public final class UonReader extends ParserReader {
 	 * @throws Exception
 	 */
 	public UonReader(ParserPipe pipe, boolean decodeChars) throws Exception {
-		super(pipe);
+		super(pipe, decodeChars);
 		this.decodeChars = decodeChars;
-		if (pipe.isString()) {
+		if (! decodeChars) {
+			this.buff = null;
+		} else if (pipe.isString()) {
 			String in = pipe.getInputAsString();
 			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
 		} else {
@@ -13,6 +13,7 @@
 package org.apache.juneau.utils;
 
 import static org.apache.juneau.internal.DateUtils.*;
+import static org.apache.juneau.internal.ISO8601Utils.*;
 
 import java.text.*;
 import java.util.*;
@@ -330,6 +331,7 @@ public class CalendarUtils {
 	}
 
 	private static ThreadLocal<Map<DateFormatKey,DateFormat>> patternCache = new ThreadLocal<>();
+	private static final ConcurrentHashMap<Locale,Boolean> gregorianLocales = new ConcurrentHashMap<>();
 
 	static class DateFormatKey {
 		final CalendarUtils.Format format;
@@ -429,9 +431,12 @@ public class CalendarUtils {
 			return null;
 		if (timeZone == null)
 			timeZone = c.getTimeZone();
+		String s;
 		switch(format) {
 			case ISO8601_DTL:
 			case ISO8601_D:
+				s = isGregorian(locale) ? formatISO8601(c.getTimeInMillis(), format, timeZone) : null;
+				return s != null ? s : serializeFromDateFormat(c.getTime(), format, locale, timeZone);
 			case RFC2822_D:
 			case RFC2822_DT:
 			case TO_STRING:
@@ -452,24 +457,31 @@ public class CalendarUtils {
 			case SIMPLE_T:
 				return serializeFromDateFormat(c.getTime(), format, locale, timeZone);
 			case ISO8601_DT:
-				return DatatypeConverter.printDateTime(setTimeZone(c, timeZone));
 			case ISO8601_DTP:
-				String s = DatatypeConverter.printDateTime(setTimeZone(c, timeZone));
+				s = isGregorian(c) ? formatISO8601(c.getTimeInMillis(), format, timeZone) : null;
+				if (s != null)
+					return s;
+				s = DatatypeConverter.printDateTime(setTimeZone(c, timeZone));
+				if (format == Format.ISO8601_DT)
+					return s;
 				return String.format("%s.%03d%s", s.substring(0, 19), c.get(Calendar.MILLISECOND), s.substring(19));
 			case ISO8601_DTZ:
-				if (c.getTimeZone().getRawOffset() != 0) {
-					Calendar c2 = Calendar.getInstance(GMT);
-					c2.setTime(c.getTime());
-					c = c2;
-				}
-				return DatatypeConverter.printDateTime(c);
 			case ISO8601_DTPZ:
-				if (c.getTimeZone().getRawOffset() != 0) {
+				boolean toGmt = c.getTimeZone().getRawOffset() != 0;
+				if (toGmt)
+					s = isGregorian((Locale)null) ? formatISO8601(c.getTimeInMillis(), format, GMT) : null;
+				else
+					s = isGregorian(c) ? formatISO8601(c.getTimeInMillis(), format == Format.ISO8601_DTZ ? Format.ISO8601_DT : Format.ISO8601_DTP, c.getTimeZone()) : null;
+				if (s != null)
+					return s;
+				if (toGmt) {
 					Calendar c2 = Calendar.getInstance(GMT);
 					c2.setTime(c.getTime());
 					c = c2;
 				}
 				s = DatatypeConverter.printDateTime(c);
+				if (format == Format.ISO8601_DTZ)
+					return s;
 				return String.format("%s.%03d%s", s.substring(0, 19), c.get(Calendar.MILLISECOND), s.substring(19));
 			case RFC2822_DTZ:
 				return serializeFromDateFormat(c.getTime(), format, locale, GMT);
@@ -494,9 +506,12 @@ public class CalendarUtils {
 			return null;
 		if (timeZone == null)
 			timeZone = TimeZone.getDefault();
+		String s;
 		switch(format) {
 			case ISO8601_DTL:
 			case ISO8601_D:
+				s = isGregorian(locale) ? formatISO8601(d.getTime(), format, timeZone) : null;
+				return s != null ? s : serializeFromDateFormat(d, format, locale, timeZone);
 			case RFC2822_D:
 			case RFC2822_DT:
 			case TO_STRING:
@@ -517,26 +532,18 @@ public class CalendarUtils {
 			case SIMPLE_T:
 				return serializeFromDateFormat(d, format, locale, timeZone);
 			case ISO8601_DT:
-				Calendar c = new GregorianCalendar();
-				c.setTime(d);
-				c.setTimeZone(timeZone);
-				return DatatypeConverter.printDateTime(c);
 			case ISO8601_DTP:
-				c = new GregorianCalendar();
-				c.setTime(d);
-				c.setTimeZone(timeZone);
-				String s = DatatypeConverter.printDateTime(setTimeZone(c, timeZone));
-				return String.format("%s.%03d%s", s.substring(0, 19), c.get(Calendar.MILLISECOND), s.substring(19));
 			case ISO8601_DTZ:
-				c = new GregorianCalendar();
-				c.setTime(d);
-				c.setTimeZone(GMT);
-				return DatatypeConverter.printDateTime(c);
 			case ISO8601_DTPZ:
-				c = new GregorianCalendar();
+				s = formatISO8601(d.getTime(), format, timeZone);
+				if (s != null)
+					return s;
+				Calendar c = new GregorianCalendar();
 				c.setTime(d);
-				c.setTimeZone(GMT);
+				c.setTimeZone(format == Format.ISO8601_DT || format == Format.ISO8601_DTP ? timeZone : GMT);
 				s = DatatypeConverter.printDateTime(c);
+				if (format == Format.ISO8601_DT || format == Format.ISO8601_DTZ)
+					return s;
 				return String.format("%s.%03d%s", s.substring(0, 19), c.get(Calendar.MILLISECOND), s.substring(19));
 			case RFC2822_DTZ:
 				return serializeFromDateFormat(d, format, locale, GMT);
@@ -567,14 +574,15 @@ public class CalendarUtils {
 		Date d = null;
 		switch(format) {
 
-			// These use DatatypeConverter to parse the date.
+			// These are parsed by ISO8601Utils, falling back to DatatypeConverter for less common forms.
 			case ISO8601_DTL:
 			case ISO8601_DT:
 			case ISO8601_DTZ:
 			case ISO8601_DTP:
 			case ISO8601_DTPZ:
 			case ISO8601_D:
-				return DatatypeConverter.parseDateTime(toValidISO8601DT(in));
+				Calendar c = ISO8601Utils.parseCalendar(in);
+				return c != null ? c : DatatypeConverter.parseDateTime(toValidISO8601DT(in));
 
 			// These don't specify timezones, so we have to assume the timezone is whatever is specified.
 			case RFC2822_D:
@@ -638,14 +646,15 @@ public class CalendarUtils {
 			timeZone = TimeZone.getDefault();
 		switch(format) {
 
-			// These use DatatypeConverter to parse the date.
+			// These are parsed by ISO8601Utils, falling back to DatatypeConverter for less common forms.
 			case ISO8601_DTL:
 			case ISO8601_D:
 			case ISO8601_DT:
 			case ISO8601_DTZ:
 			case ISO8601_DTP:
 			case ISO8601_DTPZ:
-				return DatatypeConverter.parseDateTime(toValidISO8601DT(in)).getTime();
+				long t = ISO8601Utils.parseMillis(in);
+				return t != ISO8601Utils.INVALID ? new Date(t) : DatatypeConverter.parseDateTime(toValidISO8601DT(in)).getTime();
 
 			// These don't specify timezones, so we have to assume the timezone is whatever is specified.
 			case FULL_D:
@@ -687,6 +696,43 @@ public class CalendarUtils {
 		return s;
 	}
 
+	/*
+	 * Formats the ISO8601 formats through ISO8601Utils.
+	 * Returns null if the value is out of its range, in which case the caller falls back to the slower converters.
+	 */
+	private static String formatISO8601(long t, CalendarUtils.Format format, TimeZone timeZone) {
+		switch(format) {
+			case ISO8601_DTL:  return ISO8601Utils.format(t, timeZone.getOffset(t), true, MILLIS_NONE, false);
+			case ISO8601_D:    return ISO8601Utils.format(t, timeZone.getOffset(t), false, MILLIS_NONE, false);
+			case ISO8601_DT:   return ISO8601Utils.format(t, timeZone.getOffset(t), true, MILLIS_NONZERO, true);
+			case ISO8601_DTP:  return ISO8601Utils.format(t, timeZone.getOffset(t), true, MILLIS_ALWAYS, true);
+			case ISO8601_DTZ:  return ISO8601Utils.format(t, 0, true, MILLIS_NONZERO, true);
+			case ISO8601_DTPZ: return ISO8601Utils.format(t, 0, true, MILLIS_ALWAYS, true);
+			default: return null;
+		}
+	}
+
+	/*
+	 * Returns true if date formats for this locale use a Gregorian calendar and ASCII digits.
+	 * Other locales (e.g. th_TH, ja_JP_JP) go through SimpleDateFormat/Calendar so their output doesn't change.
+	 */
+	private static boolean isGregorian(Locale locale) {
+		if (locale == null)
+			locale = Locale.getDefault();
+		Boolean b = gregorianLocales.get(locale);
+		if (b == null) {
+			b = Calendar.getInstance(locale).getClass() == GregorianCalendar.class
+				&& DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0';
+			gregorianLocales.putIfAbsent(locale, b);
+		}
+		return b;
+	}
+
+	private static boolean isGregorian(Calendar c) {
+		return c.getClass() == GregorianCalendar.class
+			&& ((GregorianCalendar)c).getGregorianChange().getTime() <= ISO8601Utils.GREGORIAN_CUTOVER;
+	}
+
 	private static Calendar setTimeZone(Calendar c, TimeZone tz) {
 		if (tz != null && ! tz.equals(c.getTimeZone())) {
 			c = (Calendar)c.clone();
@@ -114,6 +114,23 @@ public final class ResourceFinder {
 		return getResource(name, locale).asString();
 	}
 
+	/**
+	 * Finds the location of the resource with the given name for the specified locale.
+	 *
+	 * <p>
+	 * Uses the same search rules as {@link #getResourceAsStream(String, Locale)}, but does not read or cache the
+	 * contents of the resource.
+	 * Useful for large resources that should be streamed instead of held in memory.
+	 *
+	 * @param name Name of the desired resource.
+	 * @param locale The locale.  Can be <jk>null</jk>.
+	 * @return The URL of the resource, or <jk>null</jk> if the resource could not be found.
+	 * @throws IOException
+	 */
+	public URL getResourceUrl(String name, Locale locale) throws IOException {
+		return findUrl(c, new ResourceKey(name, locale));
+	}
+
 
 	//-------------------------------------------------------------------------------------------------------------------
 	// Support classes and methods.
@@ -182,30 +199,31 @@ public final class ResourceFinder {
 	}
 
 	private Resource findResource(Class<?> c2, ResourceKey key) throws IOException {
+		URL url = findUrl(c2, key);
+		if (url == null)
+			return new Resource(null);
+		Resource r = cacheByUrl.get(url);
+		if (r == null) {
+			try (InputStream is = url.openStream()) {
+				r = new Resource(IOUtils.readBytes(is, 1024));
+			}
+			cacheByUrl.putIfAbsent(url, r);
+			r = cacheByUrl.get(url);
+		}
+		return r;
+	}
+
+	private static URL findUrl(Class<?> c2, ResourceKey key) throws IOException {
 		while (c2 != null) {
 			if (key.locale == null) {
 				URL url = c2.getResource(key.name);
-				if (url != null) {
-					Resource r = cacheByUrl.get(url);
-					if (r == null) {
-						r = new Resource(IOUtils.readBytes(c2.getResourceAsStream(key.name), 1024));
-						cacheByUrl.putIfAbsent(url, r);
-						r = cacheByUrl.get(url);
-					}
-					return r;
-				}
+				if (url != null)
+					return url;
 			} else {
 				for (String n : getCandidateFileNames(key.name, key.locale)) {
 					URL url = c2.getResource(n);
-					if (url != null) {
-						Resource r = cacheByUrl.get(url);
-						if (r == null) {
-							r = new Resource(IOUtils.readBytes(c2.getResourceAsStream(n), 1024));
-							cacheByUrl.putIfAbsent(url, r);
-							r = cacheByUrl.get(url);
-						}
-						return r;
-					}
+					if (url != null)
+						return url;
 				}
 			}
 			c2 = c2.getSuperclass();
@@ -214,22 +232,12 @@ public final class ResourceFinder {
 		if (key.name.indexOf("..") == -1) {
 			for (String n2 : getCandidateFileNames(key.name, key.locale)) {
 				File f = new File(n2);
-				if (f.exists() && f.canRead() && ! f.isAbsolute()) {
-					URL url = f.toURI().toURL();
-					Resource r = cacheByUrl.get(url);
-					if (r == null) {
-						try (FileInputStream fis = new FileInputStream(f)) {
-							r = new Resource(IOUtils.readBytes(fis, 1024));
-						}
-						cacheByUrl.putIfAbsent(url, r);
-						r = cacheByUrl.get(url);
-					}
-					return r;
-				}
+				if (f.exists() && f.canRead() && ! f.isAbsolute())
+					return f.toURI().toURL();
 			}
 		}
 
-		return new Resource(null);
+		return null;
 	}
 
 	/**
@@ -32,6 +32,9 @@ public class XmlParserContext extends ParserContext {
 	final XMLResolver resolver;
 	final XMLEventAllocator eventAllocator;
 
+	// STAX factories are expensive to look up and not guaranteed to be thread-safe, so one is kept per thread.
+	private final ThreadLocal<XMLInputFactory> inputFactory = new ThreadLocal<>();
+
 	/**
 	 * Constructor.
 	 *
@@ -49,6 +52,24 @@ public class XmlParserContext extends ParserContext {
 		eventAllocator = ps.getProperty(XML_eventAllocator, XMLEventAllocator.class, null);
 	}
 
+	/**
+	 * Returns a STAX input factory configured with the settings in this context.
+	 *
+	 * <p>
+	 * The factory is created once per thread and reused for all subsequent parses on that thread.
+	 *
+	 * @return The input factory for the current thread.
+	 * @throws ParseException If the factory could not be created.
+	 */
+	final XMLInputFactory getInputFactory() throws ParseException {
+		XMLInputFactory f = inputFactory.get();
+		if (f == null) {
+			f = XmlReader.createInputFactory(validating, reporter, resolver, eventAllocator);
+			inputFactory.set(f);
+		}
+		return f;
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -46,6 +46,7 @@ public class XmlParserSession extends ReaderParserSession {
 	private final XMLReporter reporter;
 	private final XMLResolver resolver;
 	private final XMLEventAllocator eventAllocator;
+	private final XmlParserContext ctx;
 	private final StringBuilder rsb = new StringBuilder();  // Reusable string builder used in this class.
 
 	/**
@@ -65,6 +66,7 @@ public class XmlParserSession extends ReaderParserSession {
 		resolver = p.getWithDefault(XML_resolver, ctx.resolver, XMLResolver.class);
 		eventAllocator = p.getWithDefault(XML_eventAllocator, ctx.eventAllocator, XMLEventAllocator.class);
 		preserveRootElement = p.getBoolean(XML_preserveRootElement, ctx.preserveRootElement);
+		this.ctx = ctx;
 	}
 
 	@Override /* Session */
@@ -87,6 +89,9 @@ public class XmlParserSession extends ReaderParserSession {
 	 * @throws Exception If problem occurred trying to create reader.
 	 */
 	protected final XmlReader getXmlReader(ParserPipe pipe) throws Exception {
+		// Reuse the context's factory unless the STAX settings were overridden on this session.
+		if (validating == ctx.validating && reporter == ctx.reporter && resolver == ctx.resolver && eventAllocator == ctx.eventAllocator)
+			return new XmlReader(pipe, ctx.getInputFactory());
 		return new XmlReader(pipe, validating, reporter, resolver, eventAllocator);
 	}
 
@@ -43,10 +43,49 @@ public final class XmlReader implements XMLStreamReader {
 	 * @throws Exception
 	 */
 	protected XmlReader(ParserPipe pipe, boolean validating, XMLReporter reporter, XMLResolver resolver, XMLEventAllocator eventAllocator) throws Exception {
+		this(pipe, createInputFactory(validating, reporter, resolver, eventAllocator));
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pipe The parser input.
+	 * @param factory
+	 * 	The factory to create the underlying stream reader with.
+	 * 	Typically a factory previously created by {@link #createInputFactory(boolean, XMLReporter, XMLResolver, XMLEventAllocator)}.
+	 * @throws Exception
+	 */
+	protected XmlReader(ParserPipe pipe, XMLInputFactory factory) throws Exception {
 		this.pipe = pipe;
 		try {
 			@SuppressWarnings("resource")
 			Reader r = pipe.getBufferedReader();
+			sr = factory.createXMLStreamReader(r);
+			sr.nextTag();
+		} catch (Error e) {
+			throw new ParseException(e.getLocalizedMessage());
+		} catch (XMLStreamException e) {
+			throw new ParseException(e);
+		}
+	}
+
+	/**
+	 * Creates and configures a new STAX input factory.
+	 *
+	 * <p>
+	 * Factory lookup involves a service-loader scan of the classpath, so the returned factory should be reused
+	 * whenever possible.
+	 * Note that {@link XMLInputFactory} is not guaranteed to be thread-safe.
+	 *
+	 * @param validating The value for the {@link XMLInputFactory#IS_VALIDATING} setting.
+	 * @param reporter The value for the {@link XMLInputFactory#REPORTER} setting.
+	 * @param resolver The value for the {@link XMLInputFactory#RESOLVER} setting.
+	 * @param eventAllocator The value for the {@link XMLInputFactory#ALLOCATOR} setting.
+	 * @return A new configured factory.
+	 * @throws ParseException If the factory could not be created.
+	 */
+	static XMLInputFactory createInputFactory(boolean validating, XMLReporter reporter, XMLResolver resolver, XMLEventAllocator eventAllocator) throws ParseException {
+		try {
 			XMLInputFactory factory = XMLInputFactory.newInstance();
 			factory.setProperty(XMLInputFactory.IS_VALIDATING, validating);
 			factory.setProperty(XMLInputFactory.IS_COALESCING, true);
@@ -57,12 +96,9 @@ public final class XmlReader implements XMLStreamReader {
 				factory.setProperty(XMLInputFactory.RESOLVER, resolver);
 			if (factory.isPropertySupported(XMLInputFactory.ALLOCATOR) && eventAllocator != null)
 				factory.setProperty(XMLInputFactory.ALLOCATOR, eventAllocator);
-			sr = factory.createXMLStreamReader(r);
-			sr.nextTag();
+			return factory;
 		} catch (Error e) {
 			throw new ParseException(e.getLocalizedMessage());
-		} catch (XMLStreamException e) {
-			throw new ParseException(e);
 		}
 	}
 
@@ -52,6 +52,10 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 	Namespace[] namespaces = new Namespace[0];
 
+	// The configured namespaces, restored when the session is reset.
+	private final Namespace initialDefaultNamespace;
+	private final Namespace[] initialNamespaces;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -74,6 +78,15 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		defaultNamespace = findDefaultNamespace(p.containsKey(XML_defaultNamespace) ? p.getString(XML_defaultNamespace) : ctx.defaultNamespace);
 		xsNamespace = (p.containsKey(XML_xsNamespace) ? parseNamespace(p.get(XML_xsNamespace)) : ctx.xsNamespace);
 		addBeanTypeProperties = p.getBoolean(XML_addBeanTypeProperties, ctx.addBeanTypeProperties);
+		initialDefaultNamespace = defaultNamespace;
+		initialNamespaces = namespaces;
+	}
+
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		defaultNamespace = initialDefaultNamespace;
+		namespaces = initialNamespaces;
 	}
 
 	@Override /* Session */
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.svl;
 
+import java.util.*;
+
 import org.apache.juneau.*;
 
 /**
@@ -28,11 +30,16 @@ import org.apache.juneau.*;
  *
  * <p>
  * All other data types are left as-is.
+ *
+ * <p>
+ * Strings that are resolved repeatedly can be compiled ahead of time with {@link VarResolver#compile(String)} and passed
+ * in through {@link #ResolvingObjectMap(VarResolverSession, Map)}, so that they aren't rescanned on every lookup.
  */
 @SuppressWarnings({"serial"})
 public class ResolvingObjectMap extends ObjectMap {
 
 	private final VarResolverSession varResolver;
+	private final Map<String,VarTemplate> templates;
 
 	/**
 	 * Constructor.
@@ -40,12 +47,49 @@ public class ResolvingObjectMap extends ObjectMap {
 	 * @param varResolver The var resolver session to use for resolving SVL variables.
 	 */
 	public ResolvingObjectMap(VarResolverSession varResolver) {
+		this(varResolver, null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param varResolver The var resolver session to use for resolving SVL variables.
+	 * @param templates
+	 * 	Precompiled templates keyed by the strings they were compiled from.
+	 * 	<br>Used in place of the string values (and elements of string array values) they match.
+	 * 	<br>Must have been compiled by the resolver that created the session.
+	 * 	<br>Can be <jk>null</jk>.
+	 */
+	public ResolvingObjectMap(VarResolverSession varResolver, Map<String,VarTemplate> templates) {
 		super();
 		this.varResolver = varResolver;
+		this.templates = templates == null || templates.isEmpty() ? null : templates;
 	}
 
 	@Override /* Map */
 	public Object get(Object key) {
-		return varResolver.resolve(super.get(key));
+		Object o = super.get(key);
+		if (templates != null) {
+			if (o instanceof String) {
+				VarTemplate t = templates.get(o);
+				if (t != null)
+					return t.resolve(varResolver);
+			} else if (o instanceof String[]) {
+				// Same as VarResolverSession.resolve(Object), which only copies arrays with vars in them.
+				String[] a = (String[])o;
+				boolean hasVars = false;
+				for (String s : a)
+					hasVars |= s != null && s.indexOf('$') != -1;
+				if (! hasVars)
+					return a;
+				String[] a2 = new String[a.length];
+				for (int i = 0; i < a.length; i++) {
+					VarTemplate t = a[i] == null ? null : templates.get(a[i]);
+					a2[i] = t != null ? t.resolve(varResolver) : varResolver.resolve(a[i]);
+				}
+				return a2;
+			}
+		}
+		return varResolver.resolve(o);
 	}
 }
@@ -124,6 +124,24 @@ public abstract class Var {
 		return true;
 	}
 
+	/**
+	 * Returns whether this variable always resolves the same argument to the same value.
+	 *
+	 * <p>
+	 * Constant variables must not depend on the session, session or context objects, or anything else that can change
+	 * over time, since their values are memoized by {@link VarTemplate VarTemplates}.
+	 * For example, <js>"$IF{true,foo,bar}"</js> always resolves to <js>"foo"</js>.
+	 *
+	 * <p>
+	 * The default implementation of this method always returns <jk>false</jk>.
+	 * Subclasses can override this method to override the default behavior.
+	 *
+	 * @return <jk>true</jk> if resolved values of this variable can be memoized.
+	 */
+	protected boolean isConstant() {
+		return false;
+	}
+
 	/**
 	 * The method called from {@link VarResolver}.
 	 *
@@ -200,4 +200,27 @@ public class VarResolver {
 	public void resolveTo(String s, Writer w) throws IOException {
 		createSession(null).resolveTo(s, w);
 	}
+
+	/**
+	 * Parses the specified string into a template that can be resolved repeatedly without being rescanned.
+	 *
+	 * <p>
+	 * Resolving the template against a session created by this resolver produces the same output as calling
+	 * {@link VarResolverSession#resolve(String)} on the original string.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	<jc>// Compile once...</jc>
+	 * 	VarTemplate t = varResolver.compile(<js>"Hello $R{servletTitle}!"</js>);
+	 *
+	 * 	<jc>// ...and resolve on every request.</jc>
+	 * 	String s = t.resolve(req.getVarResolverSession());
+	 * </p>
+	 *
+	 * @param s The string to compile.  Can be <jk>null</jk>.
+	 * @return The compiled template.
+	 */
+	public VarTemplate compile(String s) {
+		return new VarTemplate(ctx, s);
+	}
 }
\ No newline at end of file
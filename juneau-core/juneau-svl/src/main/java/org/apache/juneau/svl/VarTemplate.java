@@ -0,0 +1,339 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A string containing Simple Var Language variables that has been parsed once into literal and variable nodes.
+ *
+ * <p>
+ * Created through the {@link VarResolver#compile(String)} method.
+ *
+ * <p>
+ * Resolving a template produces the same output as {@link VarResolverSession#resolve(String)} on the original string,
+ * but doesn't need to rescan the string, look up vars by name, or buffer literal text on every call.
+ * Templates are intended to be created once for strings that are resolved repeatedly (e.g. annotation values and
+ * config file entries) and reused across threads.
+ *
+ * <p>
+ * Variables whose value can't change (see {@link Var#isConstant()}) are memoized the first time they're resolved,
+ * and templates consisting entirely of literals and such variables (see {@link #isConstant()}) are resolved only once.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	VarTemplate t = VarResolver.<jsf>DEFAULT</jsf>.compile(<js>"java.home is set to $S{java.home}"</js>);
+ *
+ * 	<jc>// Later, possibly on another thread...</jc>
+ * 	String s = t.resolve(VarResolver.<jsf>DEFAULT</jsf>.createSession());
+ * </p>
+ *
+ * <p>
+ * Vars are looked up when the template is compiled, so the sessions passed to the resolve methods should be created
+ * by the same {@link VarResolver} that compiled the template.
+ *
+ * <p>
+ * This class is thread safe.
+ *
+ * @see org.apache.juneau.svl
+ */
+public final class VarTemplate {
+
+	private final String source;
+	private final Node[] nodes;       // Null if the source contains no vars.
+	private final boolean constant;
+	private volatile String memo;     // The resolved value of a constant template.
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ctx The context containing the vars to resolve.
+	 * @param s The string to compile.
+	 */
+	VarTemplate(VarResolverContext ctx, String s) {
+		this.source = s;
+
+		if (s == null || s.isEmpty() || (s.indexOf('$') == -1 && s.indexOf('\\') == -1)) {
+			this.nodes = null;
+		} else if (VarResolverSession.isSimpleVar(s)) {
+			Var v = ctx.getVarMap().get(s.substring(1, s.indexOf('{')));
+			this.nodes = v == null ? null : new Node[]{ new Node(v, s.substring(s.indexOf('{')+1, s.length()-1), null, true) };
+		} else {
+			List<Node> l = parse(ctx, s);
+			this.nodes = l.size() == 1 && l.get(0).var == null ? null : l.toArray(new Node[l.size()]);
+			if (nodes == null)
+				this.memo = l.isEmpty() ? "" : l.get(0).text;
+		}
+
+		if (nodes == null && memo == null)
+			this.memo = s;
+
+		boolean b = true;
+		if (nodes != null)
+			for (Node n : nodes)
+				b &= n.constant;
+		this.constant = b;
+	}
+
+	/*
+	 * Splits the string into nodes using the same rules as VarResolverSession.resolveTo(String,Writer).
+	 */
+	private static List<Node> parse(VarResolverContext ctx, String s) {
+		List<Node> l = new ArrayList<>();
+		StringBuilder sb = new StringBuilder();
+
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+
+		int state = S1;
+		boolean isInEscape = false;
+		boolean hasInternalVar = false;
+		boolean hasInnerEscapes = false;
+		String varType = null;
+		String varVal = null;
+		int x = 0, x2 = 0;
+		int depth = 0;
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (isInEscape) {
+					if (c == '\\' || c == '$') {
+						sb.append(c);
+					} else {
+						sb.append('\\').append(c);
+					}
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+				} else if (c == '$') {
+					x = i;
+					x2 = i;
+					state = S2;
+				} else {
+					sb.append(c);
+				}
+			} else if (state == S2) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					hasInnerEscapes = true;
+					isInEscape = true;
+				} else if (c == '{') {
+					varType = s.substring(x+1, i);
+					x = i;
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
+					if (hasInnerEscapes)
+						sb.append(unEscapeChars(s.substring(x, i+1), new char[]{'\\','{'}));
+					else
+						sb.append(s, x, i+1);
+					x = i + 1;
+					state = S1;
+					hasInnerEscapes = false;
+				}
+			} else if (state == S3) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+					hasInnerEscapes = true;
+				} else if (c == '{') {
+					depth++;
+					hasInternalVar = true;
+				} else if (c == '}') {
+					if (depth > 0) {
+						depth--;
+					} else {
+						varVal = s.substring(x+1, i);
+						Var r = ctx.getVarMap().get(varType);
+						if (r == null) {
+							if (hasInnerEscapes)
+								sb.append(unEscapeChars(s.substring(x2, i+1), new char[]{'\\','$','{','}'}));
+							else
+								sb.append(s, x2, i+1);
+						} else {
+							if (sb.length() > 0) {
+								l.add(new Node(sb.toString()));
+								sb.setLength(0);
+							}
+							VarTemplate arg = (hasInternalVar && r.allowNested() ? new VarTemplate(ctx, varVal) : null);
+							l.add(new Node(r, varVal, arg, false));
+						}
+						x = i+1;
+						state = S1;
+						hasInnerEscapes = false;
+					}
+				}
+			}
+		}
+		if (isInEscape)
+			sb.append('\\');
+		else if (state == S2)
+			sb.append('$').append(unEscapeChars(s.substring(x+1), new char[]{'{', '\\'}));
+		else if (state == S3)
+			sb.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), new char[]{'\\','$','{','}'}));
+		if (sb.length() > 0)
+			l.add(new Node(sb.toString()));
+		return l;
+	}
+
+	/**
+	 * Resolves this template against the specified session.
+	 *
+	 * @param session The session to resolve variables against.
+	 * @return
+	 * 	The resolved string, or the original string if it contained no variables.
+	 * 	<br>Returns <jk>null</jk> if the template was compiled from <jk>null</jk>.
+	 */
+	public String resolve(VarResolverSession session) {
+		String m = memo;
+		if (m != null || nodes == null)
+			return m;
+		if (nodes.length == 1)
+			m = nodes[0].resolve(session);
+		else {
+			StringWriter sw = new StringWriter();
+			try {
+				for (Node n : nodes)
+					n.resolveTo(session, sw);
+			} catch (IOException e) {
+				throw new RuntimeException(e); // Never happens.
+			}
+			m = sw.toString();
+		}
+		if (constant && isMemoized())
+			memo = m;
+		return m;
+	}
+
+	/**
+	 * Resolves this template against the specified session and sends the output to the specified writer.
+	 *
+	 * <p>
+	 * Produces the same output as {@link #resolve(VarResolverSession)}, but streamed vars embedded in text write directly to the writer.
+	 *
+	 * @param session The session to resolve variables against.
+	 * @param out The writer to write to.
+	 * @return The same writer.
+	 * @throws IOException
+	 */
+	public Writer resolveTo(VarResolverSession session, Writer out) throws IOException {
+		String m = memo;
+		if (m != null)
+			out.append(m);
+		else if (nodes != null)
+			for (Node n : nodes)
+				n.resolveTo(session, out);
+		return out;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this template always resolves to the same value regardless of the session.
+	 *
+	 * <p>
+	 * This is the case if the template contains no variables, or if all its variables (including nested variables) are
+	 * constant per {@link Var#isConstant()}.
+	 *
+	 * @return <jk>true</jk> if this template always resolves to the same value.
+	 */
+	public boolean isConstant() {
+		return constant;
+	}
+
+	/*
+	 * Returns true if all the vars in this template have been memoized.
+	 * Vars that failed or whose values contained variables themselves are not.
+	 */
+	private boolean isMemoized() {
+		for (Node n : nodes)
+			if (n.var != null && n.memo == null)
+				return false;
+		return true;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return source;
+	}
+
+	/*
+	 * A literal string or a single var.
+	 */
+	private static final class Node {
+		final String text;         // The literal text, or the raw argument of the var.
+		final Var var;             // Null for literal text.
+		final VarTemplate arg;     // The compiled argument if it contains nested vars.
+		final boolean simple;      // Resolved like a standalone "$X{...}" string.
+		final boolean constant;
+		volatile String memo;
+
+		Node(String text) {
+			this(null, text, null, false);
+		}
+
+		Node(Var var, String text, VarTemplate arg, boolean simple) {
+			this.var = var;
+			this.text = text;
+			this.arg = arg;
+			this.simple = simple;
+			this.constant = var == null || (! var.streamed && var.isConstant() && (arg == null || arg.isConstant()));
+		}
+
+		String resolve(VarResolverSession session) {
+			if (var == null)
+				return text;
+			String m = memo;
+			if (m != null)
+				return m;
+			String val = (arg == null ? text : arg.resolve(session));
+			StringWriter sw = null;
+			try {
+				if (var.streamed) {
+					sw = new StringWriter();
+					var.resolveTo(session, sw, val);
+					return sw.toString();
+				}
+				String s = var.doResolve(session, val);
+				if (s == null)
+					s = "";
+				// If the replacement also contains variables, replace them now.
+				if (var.allowRecurse() && (s.indexOf('$') != -1 || (simple && s.indexOf('\\') != -1)))
+					return session.resolve(s);
+				if (constant)
+					memo = s;
+				return s;
+			} catch (Exception e) {
+				// Partial output of streamed vars is kept unless this is a standalone var.
+				return (sw == null || simple ? "" : sw.toString()) + '{' + e.getLocalizedMessage() + '}';
+			}
+		}
+
+		void resolveTo(VarResolverSession session, Writer out) throws IOException {
+			if (var == null || ! var.streamed || simple) {
+				out.append(resolve(session));
+				return;
+			}
+			String val = (arg == null ? text : arg.resolve(session));
+			try {
+				var.resolveTo(session, out, val);
+			} catch (Exception e) {
+				out.append('{').append(e.getLocalizedMessage()).append('}');
+			}
+		}
+	}
+}
@@ -80,4 +80,9 @@ public class SwitchVar extends MultipartVar {
 		// Nothing matched and no else clause.
 		return "";
 	}
+
+	@Override /* Var */
+	protected boolean isConstant() {
+		return true;
+	}
 }
@@ -337,6 +337,7 @@ public class RestMicroservice extends Microservice {
 		for (Handler h : getServer().getHandlers()) {
 			if (h instanceof ServletContextHandler) {
 				ServletHolder sh = new ServletHolder(servlet);
+				sh.setAsyncSupported(true);
 				((ServletContextHandler)h).addServlet(sh, pathSpec);
 				return this;
 			}
@@ -0,0 +1,180 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import java.io.*;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.plaintext.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ * Validates methods that return a {@link DeferredOutput}.
+ */
+@RestResource(
+	path="/testDeferredOutput",
+	serializers=PlainTextSerializer.class,
+	converters=DeferredOutputResource.Suffix.class
+)
+public class DeferredOutputResource extends RestServletDefault {
+	private static final long serialVersionUID = 1L;
+
+	// Completes or fails the output from a separate thread after a short delay.
+	private static <T> DeferredOutput<T> later(final DeferredOutput<T> d, final T output, final Throwable error) {
+		Thread t = new Thread("DeferredOutputWorker") {
+			@Override /* Thread */
+			public void run() {
+				try {
+					Thread.sleep(100);
+				} catch (InterruptedException e) {}
+				if (error != null)
+					d.fail(error);
+				else
+					d.complete(output);
+			}
+		};
+		t.setDaemon(true);
+		t.start();
+		return d;
+	}
+
+	//====================================================================================================
+	// Output completed from another thread.
+	//====================================================================================================
+	@RestMethod(name=GET, path="/thread")
+	public DeferredOutput<String> thread() {
+		final DeferredOutput<String> d = new DeferredOutput<String>();
+		Thread t = new Thread("DeferredOutputWorker") {
+			@Override /* Thread */
+			public void run() {
+				try {
+					Thread.sleep(100);
+				} catch (InterruptedException e) {}
+				d.complete("completed by " + Thread.currentThread().getName());
+			}
+		};
+		t.setDaemon(true);
+		t.start();
+		return d;
+	}
+
+	//====================================================================================================
+	// Output completed before the method returns.
+	//====================================================================================================
+	@RestMethod(name=GET, path="/immediate")
+	public DeferredOutput<String> immediate() {
+		DeferredOutput<String> d = new DeferredOutput<String>();
+		d.complete("immediate");
+		return d;
+	}
+
+	//====================================================================================================
+	// Failures.
+	//====================================================================================================
+	@RestMethod(name=GET, path="/failRest")
+	public DeferredOutput<String> failRest() {
+		return later(new DeferredOutput<String>(), null, new RestException(SC_CONFLICT, "Deferred conflict"));
+	}
+
+	@RestMethod(name=GET, path="/failOther")
+	public DeferredOutput<String> failOther() {
+		return later(new DeferredOutput<String>(), null, new IllegalStateException("Deferred failure"));
+	}
+
+	@RestMethod(name=GET, path="/failConversion")
+	public DeferredOutput<String> failConversion() {
+		return later(new DeferredOutput<String>(), null, new InvalidDataConversionException("foo", Integer.class, null));
+	}
+
+	//====================================================================================================
+	// Output that's never completed.
+	//====================================================================================================
+	@RestMethod(name=GET, path="/timeout")
+	public DeferredOutput<String> timeout() {
+		return new DeferredOutput<String>(200);
+	}
+
+	//====================================================================================================
+	// Output larger than a single write.
+	//====================================================================================================
+	@RestMethod(name=GET, path="/large")
+	public DeferredOutput<String> large(@Query("size") int size) {
+		StringBuilder sb = new StringBuilder(size);
+		for (int i = 0; i < size; i++)
+			sb.append((char)('a' + i % 26));
+		return later(new DeferredOutput<String>(), sb.toString(), null);
+	}
+
+	//====================================================================================================
+	// Method-level converters run on the deferred value, followed by the class-level converters.
+	//====================================================================================================
+	@RestMethod(name=GET, path="/converted", converters=UpperCase.class)
+	public DeferredOutput<String> converted() {
+		return later(new DeferredOutput<String>(), "foo", null);
+	}
+
+	public static class UpperCase implements RestConverter {
+		@Override /* RestConverter */
+		public Object convert(RestRequest req, Object res, ClassMeta<?> cm) {
+			return res instanceof String ? ((String)res).toUpperCase() : res;
+		}
+	}
+
+	public static class Suffix implements RestConverter {
+		@Override /* RestConverter */
+		public Object convert(RestRequest req, Object res, ClassMeta<?> cm) {
+			String s = req.getQuery().getString("suffix");
+			return s != null && res instanceof String ? res + s : res;
+		}
+	}
+
+	/**
+	 * Same methods served through a call handler that hides the container's asynchronous support, so the output is
+	 * waited on in the request thread.
+	 */
+	@RestResource(
+		path="/testDeferredOutputSync",
+		callHandler=SyncCallHandler.class
+	)
+	public static class SyncResource extends DeferredOutputResource {
+		private static final long serialVersionUID = 1L;
+	}
+
+	public static class SyncCallHandler extends RestCallHandler {
+
+		public SyncCallHandler(RestContext context) {
+			super(context);
+		}
+
+		@Override /* RestCallHandler */
+		protected void service(HttpServletRequest r1, HttpServletResponse r2) throws ServletException, IOException {
+			super.service(
+				new HttpServletRequestWrapper(r1) {
+					@Override /* ServletRequest */
+					public boolean isAsyncSupported() {
+						return false;
+					}
+				},
+				r2
+			);
+		}
+	}
+}
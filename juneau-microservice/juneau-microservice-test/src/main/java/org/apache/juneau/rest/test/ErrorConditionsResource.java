@@ -12,8 +12,15 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest.test;
 
+import static javax.servlet.http.HttpServletResponse.*;
 import static org.apache.juneau.http.HttpMethodName.*;
 
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.servlet.http.*;
+
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
 
@@ -134,4 +141,61 @@ public class ErrorConditionsResource extends RestServletDefault {
 			return false;
 		}
 	}
+
+	/**
+	 * Fails every request from the same place, through a call handler that waits in handleError() until
+	 * {@link #PARTIES} failing requests are being handled at the same time.
+	 */
+	@RestResource(
+		path="/testErrorConditionsConcurrent",
+		callHandler=ConcurrentErrorsCallHandler.class
+	)
+	public static class ConcurrentErrorsResource extends RestServletDefault {
+		private static final long serialVersionUID = 1L;
+
+		/** Number of failing requests that have to be in handleError() at the same time. */
+		public static final int PARTIES = 4;
+
+		/** Set if the requests didn't all reach handleError() at the same time. */
+		public static volatile boolean barrierBroken;
+
+		/** Occurrence counts of the failures, keyed by stack trace hash. */
+		public static final Map<Integer,List<Integer>> occurrences = new ConcurrentHashMap<>();
+
+		static CyclicBarrier barrier = new CyclicBarrier(PARTIES);
+
+		/**
+		 * Resets the recorded state before a test.
+		 */
+		public static void reset() {
+			barrierBroken = false;
+			occurrences.clear();
+			barrier = new CyclicBarrier(PARTIES);
+		}
+
+		@RestMethod(name=GET, path="/fail")
+		public String fail() {
+			throw new RestException(SC_CONFLICT, "Concurrent failure");
+		}
+	}
+
+	public static class ConcurrentErrorsCallHandler extends RestCallHandler {
+
+		public ConcurrentErrorsCallHandler(RestContext context) {
+			super(context);
+		}
+
+		@Override /* RestCallHandler */
+		protected void handleError(HttpServletRequest req, HttpServletResponse res, RestException e) throws IOException {
+			try {
+				ConcurrentErrorsResource.barrier.await(10, TimeUnit.SECONDS);
+			} catch (Exception x) {
+				ConcurrentErrorsResource.barrierBroken = true;
+			}
+			super.handleError(req, res, e);
+			List<Integer> l = Collections.synchronizedList(new ArrayList<Integer>());
+			List<Integer> l2 = ConcurrentErrorsResource.occurrences.putIfAbsent(e.hashCode(), l);
+			(l2 == null ? l : l2).add(e.getOccurrence());
+		}
+	}
 }
@@ -110,4 +110,35 @@ public class GzipResource {
 			w.flush();
 		}
 	}
+
+	//====================================================================================================
+	// Test with a compression threshold.
+	//====================================================================================================
+	@RestResource(
+		path="/testGzipThreshold",
+		serializers=PlainTextSerializer.class,
+		encoders=GzipEncoder.class,
+		compressionThreshold="1K"
+	)
+	public static class TestGzipThreshold extends RestServlet {
+		private static final long serialVersionUID = 1L;
+		@RestMethod(name=GET, path="/")
+		public String test1(@Query("size") int size) {
+			StringBuilder sb = new StringBuilder(size);
+			for (int i = 0; i < size; i++)
+				sb.append((char)('a' + i % 26));
+			return sb.toString();
+		}
+	}
+
+	//====================================================================================================
+	// Test with compressionLevel="0" (no compression).
+	//====================================================================================================
+	@RestResource(
+		path="/testGzipLevel0",
+		compressionLevel="0"
+	)
+	public static class TestGzipLevel0 extends TestGzipThreshold {
+		private static final long serialVersionUID = 1L;
+	}
 }
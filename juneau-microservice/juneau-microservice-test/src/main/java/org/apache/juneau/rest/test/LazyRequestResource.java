@@ -0,0 +1,71 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+
+import org.apache.juneau.plaintext.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ * Validates the request headers, query parameters, path variables, and body whether they're first accessed before or
+ * after the request is routed.
+ */
+@RestResource(
+	path="/testLazyRequest",
+	serializers=PlainTextSerializer.class,
+	parsers=PlainTextParser.class,
+	defaultRequestHeaders={"H1:classDefault"},
+	allowMethodParam="*",
+	callHandler=LazyRequestResource.EarlyViewsCallHandler.class
+)
+public class LazyRequestResource extends RestServletDefault {
+	private static final long serialVersionUID = 1L;
+
+	@RestMethod(name=GET, path="/views/{a}", defaultRequestHeaders={"H3:methodDefault"}, defaultQuery={"q:queryDefault"})
+	public String views(RestRequest req, @Path("a") String a) {
+		return a + "," + req.getHeader("H1") + "," + req.getHeader("H2") + "," + req.getHeader("H3") + "," + req.getQuery().getString("q");
+	}
+
+	@RestMethod(name=PUT, path="/body")
+	public String body(RestRequest req) throws Exception {
+		return req.getMethod() + ":" + req.getBody().asString();
+	}
+
+	/**
+	 * Accesses every view before the request is routed when the <l>X-Early</l> header is present.
+	 */
+	public static class EarlyViewsCallHandler extends RestCallHandler {
+
+		public EarlyViewsCallHandler(RestContext context) {
+			super(context);
+		}
+
+		@Override /* RestCallHandler */
+		protected RestRequest createRequest(HttpServletRequest r) throws ServletException {
+			RestRequest req = super.createRequest(r);
+			if (r.getHeader("X-Early") != null) {
+				req.getHeaders();
+				req.getQuery();
+				req.getPathMatch();
+				req.getBody();
+			}
+			return req;
+		}
+	}
+}
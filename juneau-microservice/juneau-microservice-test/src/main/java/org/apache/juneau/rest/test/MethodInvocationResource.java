@@ -0,0 +1,123 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import java.io.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.plaintext.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ * Validates how Java methods are invoked and how the exceptions they throw are reported.
+ */
+@RestResource(
+	path="/testMethodInvocation",
+	serializers=PlainTextSerializer.class,
+	paramResolvers={
+		MethodInvocationResource.IntParam.class,
+		MethodInvocationResource.LongParam.class
+	}
+)
+public class MethodInvocationResource extends RestServletDefault {
+	private static final long serialVersionUID = 1L;
+
+	//====================================================================================================
+	// Arguments.
+	//====================================================================================================
+	@RestMethod(name=GET, path="/args")
+	public String args(RestRequest req, @Query("s") String s, @Query("b") boolean b) {
+		return req.getMethod() + "/" + s + "/" + b;
+	}
+
+	@RestMethod(name=GET, path="/primitive")
+	public String primitive(int i) {
+		return "i=" + i;
+	}
+
+	@RestMethod(name=GET, path="/widened")
+	public String widened(long l) {
+		return "l=" + l;
+	}
+
+	@RestMethod(name=GET, path="/void")
+	public void noOutput(RestResponse res) {
+		res.setOutput("void");
+	}
+
+	//====================================================================================================
+	// Exceptions thrown by the method.
+	//====================================================================================================
+	@RestMethod(name=GET, path="/restException")
+	public String restException() {
+		throw new RestException(SC_CONFLICT, "Method conflict");
+	}
+
+	@RestMethod(name=GET, path="/parseException")
+	public String parseException() throws Exception {
+		throw new ParseException("Method parse failure");
+	}
+
+	@RestMethod(name=GET, path="/conversionException")
+	public String conversionException() {
+		throw new InvalidDataConversionException("foo", Integer.class, null);
+	}
+
+	@RestMethod(name=GET, path="/checkedException")
+	public String checkedException() throws Exception {
+		throw new IOException("Method I/O failure");
+	}
+
+	@RestMethod(name=GET, path="/runtimeException")
+	public String runtimeException() {
+		throw new IllegalStateException("Method state failure");
+	}
+
+	@RestMethod(name=GET, path="/illegalArgumentException")
+	public String illegalArgumentException() {
+		throw new IllegalArgumentException("Method argument failure");
+	}
+
+	/**
+	 * Resolves <code><jk>int</jk></code> parameters from the <l>Int</l> header, or <jk>null</jk> if it's not present.
+	 */
+	public static class IntParam extends RestParam {
+		public IntParam() {
+			super(RestParamType.HEADER, "Int", int.class);
+		}
+		@Override /* RestParam */
+		public Object resolve(RestRequest req, RestResponse res) throws Exception {
+			String s = req.getHeader("Int");
+			return s == null ? null : Integer.valueOf(s);
+		}
+	}
+
+	/**
+	 * Resolves <code><jk>long</jk></code> parameters from the <l>Long</l> header as an {@link Integer}.
+	 */
+	public static class LongParam extends RestParam {
+		public LongParam() {
+			super(RestParamType.HEADER, "Long", long.class);
+		}
+		@Override /* RestParam */
+		public Object resolve(RestRequest req, RestResponse res) throws Exception {
+			return Integer.valueOf(req.getHeader("Long"));
+		}
+	}
+}
@@ -35,4 +35,13 @@ public class RestClient2Resource extends RestServletDefault {
 	public Reader test1(RestRequest req) throws Exception {
 		return new StringReader(req.getBody().asString());
 	}
+
+	//====================================================================================================
+	// Echo the length headers of the request
+	//====================================================================================================
+	@RestMethod(name=POST, path="/lengthHeaders")
+	public Reader test2(RestRequest req) throws Exception {
+		req.getBody().asString();
+		return new StringReader("Content-Length=" + req.getHeader("Content-Length") + ",Transfer-Encoding=" + req.getHeader("Transfer-Encoding"));
+	}
 }
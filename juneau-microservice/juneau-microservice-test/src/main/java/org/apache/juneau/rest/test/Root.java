@@ -34,12 +34,17 @@ import org.apache.juneau.rest.labels.*;
 		ConfigResource.class,
 		ContentResource.class,
 		DefaultContentTypesResource.class,
+		DeferredOutputResource.class,
+		DeferredOutputResource.SyncResource.class,
 		ErrorConditionsResource.class,
+		ErrorConditionsResource.ConcurrentErrorsResource.class,
 		TransformsResource.class,
 		FormDataResource.class,
 		GroupsResource.class,
 		GzipResource.TestGzipOff.class,
 		GzipResource.TestGzipOn.class,
+		GzipResource.TestGzipThreshold.class,
+		GzipResource.TestGzipLevel0.class,
 		HeadersResource.class,
 		HtmlDocResource.class,
 		HtmlDocLinksResource.class,
@@ -50,8 +55,10 @@ import org.apache.juneau.rest.labels.*;
 		InheritanceResource.TestSerializers.class,
 		InterfaceProxyResource.class,
 		LargePojosResource.class,
+		LazyRequestResource.class,
 		MessagesResource.Messages2Resource.class,
 		MessagesResource.class,
+		MethodInvocationResource.class,
 		NlsResource.class,
 		NlsPropertyResource.class,
 		NoParserInputResource.class,
@@ -70,8 +77,10 @@ import org.apache.juneau.rest.labels.*;
 		RestClient2Resource.class,
 		RestHooksInitResource.class,
 		RestHooksResource.class,
+		RoutingResource.class,
 		SerializersResource.class,
 		StaticFilesResource.class,
+		StaticFilesResource.CompressionThresholdResource.class,
 		ThirdPartyProxyResource.class,
 		UrisResource.class,
 		UrlContentResource.class,
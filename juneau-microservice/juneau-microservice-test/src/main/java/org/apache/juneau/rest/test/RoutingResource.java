@@ -0,0 +1,130 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import org.apache.juneau.plaintext.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ * Validates how requests are routed between overlapping path patterns.
+ */
+@RestResource(
+	path="/testRouting",
+	serializers=PlainTextSerializer.class
+)
+public class RoutingResource extends RestServletDefault {
+	private static final long serialVersionUID = 1L;
+
+	//====================================================================================================
+	// Root
+	//====================================================================================================
+	@RestMethod(name=GET, path="/")
+	public String root() {
+		return "root";
+	}
+
+	//====================================================================================================
+	// Literal vs {var} segments
+	//====================================================================================================
+	@RestMethod(name=GET, path="/lit/foo")
+	public String lit1() {
+		return "literal";
+	}
+
+	@RestMethod(name=GET, path="/lit/{id}")
+	public String lit2(@Path("id") String id) {
+		return "var:" + id;
+	}
+
+	@RestMethod(name=GET, path="/lit/foo/bar")
+	public String lit3() {
+		return "literal-bar";
+	}
+
+	@RestMethod(name=GET, path="/lit/{id}/bar")
+	public String lit4(@Path("id") String id) {
+		return "var-bar:" + id;
+	}
+
+	//====================================================================================================
+	// /* remainders
+	//====================================================================================================
+	@RestMethod(name=GET, path="/rem/*")
+	public String rem1(RestRequest req) {
+		return "rem:" + req.getPathMatch().getRemainder();
+	}
+
+	@RestMethod(name=GET, path="/rem/a/*")
+	public String rem2(RestRequest req) {
+		return "rem-a:" + req.getPathMatch().getRemainder();
+	}
+
+	@RestMethod(name=GET, path="/rem/{id}/b")
+	public String rem3(@Path("id") String id) {
+		return "var-b:" + id;
+	}
+
+	//====================================================================================================
+	// Priorities
+	//====================================================================================================
+	@RestMethod(name=GET, path="/prio/{id}")
+	public String prio1(@Path("id") String id) {
+		return "prio-var:" + id;
+	}
+
+	@RestMethod(name=GET, path="/prio/*", priority=-1)
+	public String prio2(RestRequest req) {
+		return "prio-rem:" + req.getPathMatch().getRemainder();
+	}
+
+	@RestMethod(name=GET, path="/prio/foo")
+	public String prio3() {
+		return "prio-literal";
+	}
+
+	//====================================================================================================
+	// Fallthrough to matchers and guards
+	//====================================================================================================
+	@RestMethod(name=GET, path="/match/{id}", matchers=MMatcher.class)
+	public String match1(@Path("id") String id) {
+		return "matched:" + id;
+	}
+
+	@RestMethod(name=GET, path="/match/*", guards=GGuard.class)
+	public String match2(RestRequest req) {
+		return "guarded:" + req.getPathMatch().getRemainder();
+	}
+
+	@RestMethod(name=GET, path="/matchOnly/{id}", matchers=MMatcher.class)
+	public String match3(@Path("id") String id) {
+		return "matched:" + id;
+	}
+
+	public static class MMatcher extends RestMatcher {
+		@Override /* RestMatcher */
+		public boolean matches(RestRequest req) {
+			return req.getQuery().getString("m","").equals("1");
+		}
+	}
+
+	public static class GGuard extends RestGuard {
+		@Override /* RestGuard */
+		public boolean isRequestAllowed(RestRequest req) {
+			return req.getQuery().getString("g","").equals("1");
+		}
+	}
+}
@@ -14,6 +14,7 @@ package org.apache.juneau.rest.test;
 
 import static org.apache.juneau.http.HttpMethodName.*;
 
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
 
@@ -22,7 +23,8 @@ import org.apache.juneau.rest.annotation.*;
  */
 @RestResource(
 	path="/testStaticFiles",
-	staticFiles="{xdocs:'xdocs'}"
+	staticFiles="{xdocs:'xdocs'}",
+	encoders=GzipEncoder.class
 )
 public class StaticFilesResource extends RestServlet {
 	private static final long serialVersionUID = 1L;
@@ -35,4 +37,14 @@ public class StaticFilesResource extends RestServlet {
 		return null;
 	}
 
+	//====================================================================================================
+	// Files smaller than the compression threshold are sent unencoded.
+	//====================================================================================================
+	@RestResource(
+		path="/testStaticFilesThreshold",
+		compressionThreshold="10K"
+	)
+	public static class CompressionThresholdResource extends StaticFilesResource {
+		private static final long serialVersionUID = 1L;
+	}
 }
@@ -0,0 +1,363 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class RestCallSchedulerTest {
+
+	private static RestClient client;
+
+	@BeforeClass
+	public static void beforeClass() {
+		client = new RestClientBuilder().executorService(Executors.newCachedThreadPool(), true).build();
+	}
+
+	@AfterClass
+	public static void afterClass() {
+		client.closeQuietly();
+	}
+
+	// A call that blocks until released, and keeps track of how many calls are running at the same time.
+	private static class Task implements Callable<String> {
+		final String name;
+		final CountDownLatch release;
+		final AtomicInteger running, maxRunning;
+		final List<String> started;
+
+		Task(String name, CountDownLatch release, AtomicInteger running, AtomicInteger maxRunning, List<String> started) {
+			this.name = name;
+			this.release = release;
+			this.running = running;
+			this.maxRunning = maxRunning;
+			this.started = started;
+		}
+
+		@Override /* Callable */
+		public String call() throws Exception {
+			int r = running.incrementAndGet();
+			synchronized (maxRunning) {
+				if (r > maxRunning.get())
+					maxRunning.set(r);
+			}
+			synchronized (started) {
+				started.add(name);
+				started.notifyAll();
+			}
+			try {
+				release.await(10, TimeUnit.SECONDS);
+				return name;
+			} finally {
+				running.decrementAndGet();
+			}
+		}
+	}
+
+	private static void awaitStarted(List<String> started, int count) throws InterruptedException {
+		long end = System.currentTimeMillis() + 10000;
+		synchronized (started) {
+			while (started.size() < count && System.currentTimeMillis() < end)
+				started.wait(100);
+			assertEquals(count, started.size());
+		}
+	}
+
+	private static class RecordingCallback implements RestCallFuture.Callback<Object> {
+		final String name;
+		final List<String> events;
+
+		RecordingCallback(String name, List<String> events) {
+			this.name = name;
+			this.events = events;
+		}
+
+		@Override /* Callback */
+		public void onSuccess(Object result) {
+			events.add(name + ".onSuccess(" + result + ")");
+		}
+
+		@Override /* Callback */
+		public void onFailure(Throwable t) {
+			events.add(name + ".onFailure(" + t.getClass().getSimpleName() + ")");
+		}
+	}
+
+	//====================================================================================================
+	// Calls beyond the per-route concurrency limit wait until earlier calls finish.
+	//====================================================================================================
+	@Test
+	public void testConcurrencyLimit() throws Exception {
+		RestCallScheduler s = new RestCallScheduler(client, 2, 10);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger(), maxRunning = new AtomicInteger();
+		List<String> started = new ArrayList<String>();
+
+		List<RestCallFuture<String>> l = new ArrayList<RestCallFuture<String>>();
+		for (int i = 0; i < 5; i++)
+			l.add(s.submit("http://a:80", new Task("a" + i, release, running, maxRunning, started)));
+
+		awaitStarted(started, 2);
+		Thread.sleep(100);
+		assertEquals(2, started.size());
+		assertFalse(l.get(2).isDone());
+
+		release.countDown();
+		for (int i = 0; i < 5; i++)
+			assertEquals("a" + i, l.get(i).get(10, TimeUnit.SECONDS));
+		assertEquals(2, maxRunning.get());
+	}
+
+	//====================================================================================================
+	// Limits are tracked separately for each route.
+	//====================================================================================================
+	@Test
+	public void testRoutesAreIndependent() throws Exception {
+		RestCallScheduler s = new RestCallScheduler(client, 1, 0);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger(), maxRunning = new AtomicInteger();
+		List<String> started = new ArrayList<String>();
+
+		RestCallFuture<String> a = s.submit("http://a:80", new Task("a", release, running, maxRunning, started));
+		RestCallFuture<String> b = s.submit("http://b:80", new Task("b", release, running, maxRunning, started));
+		awaitStarted(started, 2);
+
+		release.countDown();
+		assertEquals("a", a.get(10, TimeUnit.SECONDS));
+		assertEquals("b", b.get(10, TimeUnit.SECONDS));
+	}
+
+	//====================================================================================================
+	// Calls are rejected once the queue of their route is full.
+	//====================================================================================================
+	@Test
+	public void testRejectedWhenQueueFull() throws Exception {
+		RestCallScheduler s = new RestCallScheduler(client, 1, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger(), maxRunning = new AtomicInteger();
+		List<String> started = new ArrayList<String>();
+
+		RestCallFuture<String> f1 = s.submit("http://a:80", new Task("a1", release, running, maxRunning, started));
+		awaitStarted(started, 1);
+		RestCallFuture<String> f2 = s.submit("http://a:80", new Task("a2", release, running, maxRunning, started));
+		RestCallFuture<String> f3 = s.submit("http://a:80", new Task("a3", release, running, maxRunning, started));
+
+		assertTrue(f3.isDone());
+		try {
+			f3.get();
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof RejectedExecutionException);
+		}
+
+		release.countDown();
+		assertEquals("a1", f1.get(10, TimeUnit.SECONDS));
+		assertEquals("a2", f2.get(10, TimeUnit.SECONDS));
+		assertEquals(Arrays.asList("a1", "a2"), started);
+
+		// The queue has room again once the earlier calls are done.
+		assertEquals("a4", s.submit("http://a:80", new Task("a4", release, running, maxRunning, started)).get(10, TimeUnit.SECONDS));
+	}
+
+	//====================================================================================================
+	// Queued calls move forward in order as active calls finish, skipping cancelled ones.
+	//====================================================================================================
+	@Test
+	public void testQueuedCallsMoveForward() throws Exception {
+		RestCallScheduler s = new RestCallScheduler(client, 1, 10);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger(), maxRunning = new AtomicInteger();
+		List<String> started = new ArrayList<String>();
+
+		List<RestCallFuture<String>> l = new ArrayList<RestCallFuture<String>>();
+		for (int i = 0; i < 5; i++)
+			l.add(s.submit("http://a:80", new Task("a" + i, release, running, maxRunning, started)));
+		awaitStarted(started, 1);
+		l.get(2).cancel(false);
+
+		release.countDown();
+		for (int i = 0; i < 5; i++)
+			if (i != 2)
+				assertEquals("a" + i, l.get(i).get(10, TimeUnit.SECONDS));
+		assertEquals(Arrays.asList("a0", "a1", "a3", "a4"), started);
+		assertEquals(1, maxRunning.get());
+	}
+
+	//====================================================================================================
+	// Routes are discarded once their calls are done, and recreated for later calls.
+	//====================================================================================================
+	@Test
+	public void testIdleRoutesRemoved() throws Exception {
+		RestCallScheduler s = new RestCallScheduler(client, 1, 10);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger(), maxRunning = new AtomicInteger();
+		List<String> started = new ArrayList<String>();
+
+		List<RestCallFuture<String>> l = new ArrayList<RestCallFuture<String>>();
+		for (int i = 0; i < 10; i++)
+			l.add(s.submit("http://h" + i + ":80", new Task("h" + i, release, running, maxRunning, started)));
+		l.add(s.submit("http://h0:80", new Task("h0b", release, running, maxRunning, started)));
+		awaitStarted(started, 10);
+		assertEquals(10, s.getRouteCount());
+
+		release.countDown();
+		for (RestCallFuture<String> f : l)
+			f.get(10, TimeUnit.SECONDS);
+		awaitNoRoutes(s);
+
+		assertEquals("h0c", s.submit("http://h0:80", new Task("h0c", release, running, maxRunning, started)).get(10, TimeUnit.SECONDS));
+		awaitNoRoutes(s);
+	}
+
+	// Routes are removed on the executor thread right after the future completes.
+	private static void awaitNoRoutes(RestCallScheduler s) throws InterruptedException {
+		long end = System.currentTimeMillis() + 10000;
+		while (s.getRouteCount() > 0 && System.currentTimeMillis() < end)
+			Thread.sleep(10);
+		assertEquals(0, s.getRouteCount());
+	}
+
+	//====================================================================================================
+	// URLs without a port share the route of the scheme's default port.
+	//====================================================================================================
+	@Test
+	public void testRouteKeys() throws Exception {
+		assertEquals("http://h:80", RestCallScheduler.route("http", "h", -1));
+		assertEquals("http://h:80", RestCallScheduler.route("http", "h", 80));
+		assertEquals("http://h:80", RestCallScheduler.route("HTTP", "H", -1));
+		assertEquals("https://h:443", RestCallScheduler.route("https", "h", -1));
+		assertEquals("http://h:8080", RestCallScheduler.route("http", "h", 8080));
+		assertEquals("", RestCallScheduler.route(null, null, -1));
+	}
+
+	//====================================================================================================
+	// Callbacks are notified in the order they were added, including ones added after completion.
+	//====================================================================================================
+	@Test
+	public void testCallbackOnSuccess() throws Exception {
+		List<String> events = new ArrayList<String>();
+		RestCallFuture<String> f = new RestCallFuture<String>(
+			new Callable<String>() {
+				@Override /* Callable */
+				public String call() throws Exception {
+					return "foo";
+				}
+			}
+		);
+		f.addCallback(new RecordingCallback("c1", events)).addCallback(new RecordingCallback("c2", events));
+		assertTrue(events.isEmpty());
+
+		f.run();
+		assertEquals(Arrays.asList("c1.onSuccess(foo)", "c2.onSuccess(foo)"), events);
+
+		f.addCallback(new RecordingCallback("c3", events));
+		assertEquals(Arrays.asList("c1.onSuccess(foo)", "c2.onSuccess(foo)", "c3.onSuccess(foo)"), events);
+	}
+
+	//====================================================================================================
+	// Callbacks see the exception thrown by the call, not the wrapping ExecutionException.
+	//====================================================================================================
+	@Test
+	public void testCallbackOnFailure() throws Exception {
+		List<String> events = new ArrayList<String>();
+		RestCallFuture<String> f = new RestCallFuture<String>(
+			new Callable<String>() {
+				@Override /* Callable */
+				public String call() throws Exception {
+					throw new IOException("foo");
+				}
+			}
+		);
+		f.addCallback(new RecordingCallback("c1", events));
+		f.run();
+		f.addCallback(new RecordingCallback("c2", events));
+		assertEquals(Arrays.asList("c1.onFailure(IOException)", "c2.onFailure(IOException)"), events);
+
+		events.clear();
+		f = new RestCallFuture<String>(new Task("x", new CountDownLatch(0), new AtomicInteger(), new AtomicInteger(), new ArrayList<String>()));
+		f.addCallback(new RecordingCallback("c1", events));
+		f.cancel(false);
+		assertEquals(Arrays.asList("c1.onFailure(CancellationException)"), events);
+
+		events.clear();
+		f = new RestCallFuture<String>(new Task("x", new CountDownLatch(0), new AtomicInteger(), new AtomicInteger(), new ArrayList<String>()));
+		f.addCallback(new RecordingCallback("c1", events));
+		f.fail(new RejectedExecutionException());
+		assertEquals(Arrays.asList("c1.onFailure(RejectedExecutionException)"), events);
+	}
+
+	//====================================================================================================
+	// A callback that throws doesn't keep the later callbacks from being notified.
+	//====================================================================================================
+	@Test
+	public void testCallbackThrows() throws Exception {
+		List<String> events = new ArrayList<String>();
+		RestCallFuture<String> f = new RestCallFuture<String>(
+			new Callable<String>() {
+				@Override /* Callable */
+				public String call() throws Exception {
+					return "foo";
+				}
+			}
+		);
+		f.addCallback(new RecordingCallback("c1", events)).addCallback(
+			new RestCallFuture.Callback<String>() {
+				@Override /* Callback */
+				public void onSuccess(String result) {
+					throw new RuntimeException("Bad callback");
+				}
+				@Override /* Callback */
+				public void onFailure(Throwable t) {}
+			}
+		).addCallback(new RecordingCallback("c3", events));
+
+		f.run();
+		assertEquals(Arrays.asList("c1.onSuccess(foo)", "c3.onSuccess(foo)"), events);
+		assertEquals("foo", f.get());
+	}
+
+	//====================================================================================================
+	// Callbacks registered on a scheduled call run when the call completes on the executor thread.
+	//====================================================================================================
+	@Test
+	public void testCallbackOnScheduledCall() throws Exception {
+		RestCallScheduler s = new RestCallScheduler(client, 1, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+		final CountDownLatch notified = new CountDownLatch(1);
+
+		RestCallFuture<String> f = s.submit("http://a:80", new Task("a", release, new AtomicInteger(), new AtomicInteger(), new ArrayList<String>()));
+		f.addCallback(new RecordingCallback("c1", events)).addCallback(
+			new RestCallFuture.Callback<String>() {
+				@Override /* Callback */
+				public void onSuccess(String result) {
+					notified.countDown();
+				}
+				@Override /* Callback */
+				public void onFailure(Throwable t) {}
+			}
+		);
+		assertTrue(events.isEmpty());
+
+		release.countDown();
+		assertTrue(notified.await(10, TimeUnit.SECONDS));
+		assertEquals(Arrays.asList("c1.onSuccess(a)"), events);
+	}
+}
@@ -0,0 +1,118 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.rest.test.TestUtils.*;
+import static org.junit.Assert.*;
+
+import org.apache.http.*;
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+public class DeferredOutputTest extends RestTestcase {
+
+	// The same resource served with and without the container's asynchronous support.
+	private static String[] URLS = {"/testDeferredOutput", "/testDeferredOutputSync"};
+	private static boolean debug = false;
+
+	private RestClient client;
+
+	@Before
+	public void before() {
+		client = TestMicroservice.client().accept("text/plain").build();
+	}
+
+	@After
+	public void after() {
+		client.closeQuietly();
+	}
+
+	private void assertStatus(String url, int status, String...contains) throws Exception {
+		try {
+			client.doGet(url + "?noTrace=true").connect();
+			fail("Exception expected");
+		} catch (RestCallException e) {
+			checkErrorResponse(debug, e, status, contains);
+		}
+	}
+
+	//====================================================================================================
+	// Output completed from another thread.
+	//====================================================================================================
+	@Test
+	public void testCompletedFromThread() throws Exception {
+		for (String url : URLS)
+			assertEquals("completed by DeferredOutputWorker", client.doGet(url + "/thread").getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Output completed before the request goes asynchronous.
+	//====================================================================================================
+	@Test
+	public void testCompletedImmediately() throws Exception {
+		for (String url : URLS)
+			assertEquals("immediate", client.doGet(url + "/immediate").getResponseAsString());
+	}
+
+	//====================================================================================================
+	// RestExceptions keep their status, conversion errors are 400, and other exceptions are 500.
+	//====================================================================================================
+	@Test
+	public void testFailed() throws Exception {
+		for (String url : URLS) {
+			assertStatus(url + "/failRest", SC_CONFLICT, "Deferred conflict");
+			assertStatus(url + "/failOther", SC_INTERNAL_SERVER_ERROR, "Deferred failure");
+			assertStatus(url + "/failConversion", SC_BAD_REQUEST, "Invalid data conversion");
+		}
+	}
+
+	//====================================================================================================
+	// Output that's never completed times out with a 503.
+	//====================================================================================================
+	@Test
+	public void testTimeout() throws Exception {
+		for (String url : URLS)
+			assertStatus(url + "/timeout", SC_SERVICE_UNAVAILABLE, "Timed out waiting for the response.");
+	}
+
+	//====================================================================================================
+	// Bodies larger than a single write are sent in full with the right Content-Length.
+	//====================================================================================================
+	@Test
+	public void testLargeBody() throws Exception {
+		int size = 100000;
+		StringBuilder sb = new StringBuilder(size);
+		for (int i = 0; i < size; i++)
+			sb.append((char)('a' + i % 26));
+		String expected = sb.toString();
+
+		RestCall c = client.doGet(URLS[0] + "/large?size=" + size).header("Accept-Encoding", "identity");
+		HttpResponse r = c.getResponse();
+		assertEquals(String.valueOf(size), r.getFirstHeader("Content-Length").getValue());
+		assertEquals(expected, c.getResponseAsString());
+
+		assertEquals(expected, client.doGet(URLS[1] + "/large?size=" + size).getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Method-level converters run on the deferred value, followed by the class-level converters.
+	//====================================================================================================
+	@Test
+	public void testConverters() throws Exception {
+		for (String url : URLS) {
+			assertEquals("FOO", client.doGet(url + "/converted").getResponseAsString());
+			assertEquals("FOO-x", client.doGet(url + "/converted?suffix=-x").getResponseAsString());
+		}
+	}
+}
@@ -16,6 +16,9 @@ import static javax.servlet.http.HttpServletResponse.*;
 import static org.apache.juneau.rest.test.TestUtils.*;
 import static org.junit.Assert.*;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.rest.client.*;
 import org.junit.*;
@@ -207,4 +210,55 @@ public class ErrorConditionsTest extends RestTestcase {
 				"Method 'GET' not found on resource on path '/test412' with matching matcher.");
 		}
 	}
+
+	//====================================================================================================
+	// Failing requests are handled concurrently, and each failure gets its own occurrence count.
+	//====================================================================================================
+	@Test
+	public void testConcurrentErrors() throws Exception {
+		int n = ErrorConditionsResource.ConcurrentErrorsResource.PARTIES;
+		ErrorConditionsResource.ConcurrentErrorsResource.reset();
+		ExecutorService es = Executors.newFixedThreadPool(n);
+		try {
+			List<Future<Integer>> l = new ArrayList<Future<Integer>>();
+			for (int i = 0; i < n; i++) {
+				l.add(es.submit(
+					new Callable<Integer>() {
+						@Override /* Callable */
+						public Integer call() throws Exception {
+							// Separate clients so that the calls don't wait for a pooled connection.
+							RestClient c = TestMicroservice.client().build();
+							try {
+								c.doGet("/testErrorConditionsConcurrent/fail?noTrace=true").run();
+								return 200;
+							} catch (RestCallException e) {
+								return e.getResponseCode();
+							} finally {
+								c.closeQuietly();
+							}
+						}
+					}
+				));
+			}
+			for (Future<Integer> f : l)
+				assertEquals(SC_CONFLICT, (int)f.get(30, TimeUnit.SECONDS));
+		} finally {
+			es.shutdownNow();
+		}
+
+		assertFalse("Failing requests were not handled concurrently.", ErrorConditionsResource.ConcurrentErrorsResource.barrierBroken);
+
+		// Every occurrence count is handed out exactly once per stack trace.
+		int total = 0;
+		for (List<Integer> o : ErrorConditionsResource.ConcurrentErrorsResource.occurrences.values()) {
+			List<Integer> expected = new ArrayList<Integer>();
+			for (int i = 1; i <= o.size(); i++)
+				expected.add(i);
+			List<Integer> actual = new ArrayList<Integer>(o);
+			Collections.sort(actual);
+			assertEquals(expected, actual);
+			total += o.size();
+		}
+		assertEquals(n, total);
+	}
 }
@@ -18,9 +18,14 @@ import static org.apache.juneau.rest.test.TestUtils.*;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.util.*;
 import java.util.zip.*;
 
+import javax.servlet.*;
+
 import org.apache.http.impl.client.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.client.*;
 import org.junit.*;
 
@@ -36,6 +41,8 @@ public class GzipTest extends RestTestcase {
 
 	private static String testGzipOff = "/testGzipOff";
 	private static String testGzipOn = "/testGzipOn";
+	private static String testGzipThreshold = "/testGzipThreshold";
+	private static String testGzipLevel0 = "/testGzipLevel0";
 
 	// Converts string into a GZipped input stream.
 	private static InputStream compress(String contents) throws Exception {
@@ -337,4 +344,107 @@ public class GzipTest extends RestTestcase {
 
 		c.closeQuietly(); // We want to close our client because we created the HttpClient in this method.
 	}
+
+	//====================================================================================================
+	// Test that responses smaller than compressionThreshold are sent unencoded.
+	//====================================================================================================
+	@Test
+	public void testCompressionThreshold() throws Exception {
+		CloseableHttpClient httpClient = HttpClients.custom().setSSLSocketFactory(TestMicroservice.getSSLSocketFactory()).disableContentCompression().build();
+		RestClient c = TestMicroservice.client().httpClient(httpClient, false).accept("text/plain").build();
+		RestCall r;
+
+		// Below the threshold.
+		r = c.doGet(testGzipThreshold + "?size=10").acceptEncoding("gzip");
+		assertEquals(0, r.getResponse().getHeaders("Content-Encoding").length);
+		assertEquals("abcdefghij", r.getResponseAsString());
+
+		// Above the threshold.
+		r = c.doGet(testGzipThreshold + "?size=5000").acceptEncoding("gzip");
+		assertEquals("gzip", r.getResponse().getFirstHeader("Content-Encoding").getValue());
+		assertEquals(body(5000), decompress(r.getInputStream()));
+
+		// The threshold is ignored if the client doesn't accept unencoded responses.
+		r = c.doGet(testGzipThreshold + "?size=10").acceptEncoding("gzip,identity;q=0");
+		assertEquals("gzip", r.getResponse().getFirstHeader("Content-Encoding").getValue());
+		assertEquals("abcdefghij", decompress(r.getInputStream()));
+
+		c.closeQuietly(); // We want to close our client because we created the HttpClient in this method.
+	}
+
+	//====================================================================================================
+	// Test that compressionLevel is passed to the encoder.
+	//====================================================================================================
+	@Test
+	public void testCompressionLevel() throws Exception {
+		CloseableHttpClient httpClient = HttpClients.custom().setSSLSocketFactory(TestMicroservice.getSSLSocketFactory()).disableContentCompression().build();
+		RestClient c = TestMicroservice.client().httpClient(httpClient, false).accept("text/plain").build();
+
+		// The default level compresses the repeating body well.
+		byte[] b = readBytes(c.doGet(testGzipThreshold + "?size=10000").acceptEncoding("gzip").getInputStream(), 1024);
+		assertTrue(b.length < 1000);
+		assertEquals(body(10000), decompress(new ByteArrayInputStream(b)));
+
+		// Level 0 stores the body without compressing it.
+		b = readBytes(c.doGet(testGzipLevel0 + "?size=10000").acceptEncoding("gzip").getInputStream(), 1024);
+		assertTrue(b.length > 10000);
+		assertEquals(body(10000), decompress(new ByteArrayInputStream(b)));
+
+		c.closeQuietly();
+	}
+
+	private static String body(int size) {
+		StringBuilder sb = new StringBuilder(size);
+		for (int i = 0; i < size; i++)
+			sb.append((char)('a' + i % 26));
+		return sb.toString();
+	}
+
+	//====================================================================================================
+	// Test that invalid compression settings fail servlet initialization.
+	//====================================================================================================
+	@Test
+	public void testInvalidCompressionSettings() throws Exception {
+		try {
+			new InvalidCompressionLevel().init(new EmptyServletConfig());
+			fail("Exception expected");
+		} catch (ServletException e) {
+			assertTrue(e.getLocalizedMessage(), e.getLocalizedMessage().contains("Invalid compressionLevel setting"));
+		}
+		try {
+			new InvalidCompressionThreshold().init(new EmptyServletConfig());
+			fail("Exception expected");
+		} catch (ServletException e) {
+			assertTrue(e.getLocalizedMessage(), e.getLocalizedMessage().contains("Invalid compressionThreshold setting"));
+		}
+	}
+
+	@RestResource(compressionLevel="12")
+	public static class InvalidCompressionLevel extends RestServlet {
+		private static final long serialVersionUID = 1L;
+	}
+
+	@RestResource(compressionThreshold="-1")
+	public static class InvalidCompressionThreshold extends RestServlet {
+		private static final long serialVersionUID = 1L;
+	}
+
+	private static class EmptyServletConfig implements ServletConfig {
+		@Override /* ServletConfig */
+		public String getServletName() {
+			return "test";
+		}
+		@Override /* ServletConfig */
+		public ServletContext getServletContext() {
+			return null;
+		}
+		@Override /* ServletConfig */
+		public String getInitParameter(String name) {
+			return null;
+		}
+		@Override /* ServletConfig */
+		public Enumeration<String> getInitParameterNames() {
+			return Collections.enumeration(Collections.<String>emptyList());
+		}
+	}
 }
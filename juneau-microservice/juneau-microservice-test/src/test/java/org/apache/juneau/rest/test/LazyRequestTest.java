@@ -0,0 +1,101 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.apache.http.*;
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+public class LazyRequestTest extends RestTestcase {
+
+	private static String URL = "/testLazyRequest";
+
+	// The views are either created when first used by the Java method, or before the request is routed.
+	private static String[] EARLY = {null, "true"};
+
+	private RestClient client;
+
+	@Before
+	public void before() {
+		client = TestMicroservice.client().accept("text/plain").build();
+	}
+
+	@After
+	public void after() {
+		client.closeQuietly();
+	}
+
+	private RestCall get(String url, String early) throws Exception {
+		RestCall c = client.doGet(URL + url);
+		if (early != null)
+			c.header("X-Early", early);
+		return c;
+	}
+
+	//====================================================================================================
+	// Default headers and query parameters are applied regardless of when the views are created.
+	//====================================================================================================
+	@Test
+	public void testDefaults() throws Exception {
+		for (String early : EARLY) {
+			assertEquals("x,classDefault,null,methodDefault,queryDefault", get("/views/x", early).getResponseAsString());
+			assertEquals("x,h1,h2,h3,q", get("/views/x?q=q", early).header("H1", "h1").header("H2", "h2").header("H3", "h3").getResponseAsString());
+		}
+	}
+
+	//====================================================================================================
+	// Headers can be overridden by query parameters.
+	//====================================================================================================
+	@Test
+	public void testHeaderParams() throws Exception {
+		for (String early : EARLY) {
+			assertEquals("x,q1,q2,methodDefault,queryDefault", get("/views/x?H1=q1&H2=q2", early).header("H2", "h2").getResponseAsString());
+		}
+	}
+
+	//====================================================================================================
+	// The "method" and "body" query parameters.
+	//====================================================================================================
+	@Test
+	public void testMethodAndBodyParams() throws Exception {
+		for (String early : EARLY) {
+			RestCall c = client.doPut(URL + "/body", new StringReader("foo")).contentType("text/plain");
+			if (early != null)
+				c.header("X-Early", early);
+			assertEquals("PUT:foo", c.getResponseAsString());
+			assertEquals("PUT:bar", get("/body?method=PUT&body=bar", early).getResponseAsString());
+		}
+	}
+
+	//====================================================================================================
+	// Headers are read before routing, with or without a query string.
+	//====================================================================================================
+	@Test
+	public void testHeadersReadBeforeRouting() throws Exception {
+		for (String early : EARLY) {
+			RestCall c = get("/views/x", early).header("x-response-headers", "(Foo=bar)");
+			HttpResponse r = c.getResponse();
+			assertEquals("bar", r.getFirstHeader("Foo").getValue());
+			assertEquals("x,classDefault,null,methodDefault,queryDefault", c.getResponseAsString());
+
+			c = get("/views/x?x-response-headers=(Foo=baz)", early);
+			r = c.getResponse();
+			assertEquals("baz", r.getFirstHeader("Foo").getValue());
+			assertEquals("x,classDefault,null,methodDefault,queryDefault", c.getResponseAsString());
+		}
+	}
+}
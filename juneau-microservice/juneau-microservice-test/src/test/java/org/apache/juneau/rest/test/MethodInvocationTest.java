@@ -0,0 +1,96 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.rest.test.TestUtils.*;
+import static org.junit.Assert.*;
+
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+public class MethodInvocationTest extends RestTestcase {
+
+	private static String URL = "/testMethodInvocation";
+	private static boolean debug = false;
+
+	private RestClient client;
+
+	@Before
+	public void before() {
+		client = TestMicroservice.client().accept("text/plain").build();
+	}
+
+	@After
+	public void after() {
+		client.closeQuietly();
+	}
+
+	private void assertStatus(RestCall call, int status, String...contains) throws Exception {
+		try {
+			call.connect();
+			fail("Exception expected");
+		} catch (RestCallException e) {
+			checkErrorResponse(debug, e, status, contains);
+		}
+	}
+
+	//====================================================================================================
+	// Resolved arguments are passed to the method.
+	//====================================================================================================
+	@Test
+	public void testArgs() throws Exception {
+		assertEquals("GET/foo/true", client.doGet(URL + "/args?s=foo&b=true").getResponseAsString());
+		assertEquals("i=123", client.doGet(URL + "/primitive").header("Int", "123").getResponseAsString());
+		assertEquals("void", client.doGet(URL + "/void").getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Arguments that need a widening conversion are converted.
+	//====================================================================================================
+	@Test
+	public void testWidenedArg() throws Exception {
+		assertEquals("l=123", client.doGet(URL + "/widened").header("Long", "123").getResponseAsString());
+	}
+
+	//====================================================================================================
+	// A null passed to a primitive parameter is a bad request.
+	//====================================================================================================
+	@Test
+	public void testNullPrimitiveArg() throws Exception {
+		assertStatus(client.doGet(URL + "/primitive?noTrace=true"), SC_BAD_REQUEST,
+			"Invalid argument type passed to the following method:",
+			"'public java.lang.String org.apache.juneau.rest.test.MethodInvocationResource.primitive(int)'"
+		);
+	}
+
+	//====================================================================================================
+	// RestExceptions keep their status, parse and conversion errors are 400, and other exceptions are 500.
+	//====================================================================================================
+	@Test
+	public void testExceptions() throws Exception {
+		assertStatus(client.doGet(URL + "/restException?noTrace=true"), SC_CONFLICT, "Method conflict");
+		assertStatus(client.doGet(URL + "/parseException?noTrace=true"), SC_BAD_REQUEST, "Method parse failure");
+		assertStatus(client.doGet(URL + "/conversionException?noTrace=true"), SC_BAD_REQUEST, "Invalid data conversion");
+		assertStatus(client.doGet(URL + "/checkedException?noTrace=true"), SC_INTERNAL_SERVER_ERROR, "Method I/O failure");
+		assertStatus(client.doGet(URL + "/runtimeException?noTrace=true"), SC_INTERNAL_SERVER_ERROR, "Method state failure");
+	}
+
+	//====================================================================================================
+	// An IllegalArgumentException thrown by the method itself isn't mistaken for a bad argument.
+	//====================================================================================================
+	@Test
+	public void testIllegalArgumentExceptionFromMethod() throws Exception {
+		assertStatus(client.doGet(URL + "/illegalArgumentException?noTrace=true"), SC_INTERNAL_SERVER_ERROR, "Method argument failure");
+	}
+}
@@ -1985,6 +1985,82 @@ public class RequestBeanProxyTest extends RestTestcase {
 		}
 	}
 
+	//-------------------------------------------------------------------------------------------------------------------
+	// Dyna properties and getter failures
+	//-------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void h01_dynaProperty() throws Exception {
+		String r = getProxyPlainText(RequestBeanProxy_Dyna.class).dyna(new RequestBean_Dyna());
+		assertEquals("{a:'a1',d:'d1'}", r);
+	}
+
+	@Test
+	public void h02_dynaPropertyThrows() throws Exception {
+		try {
+			getProxyPlainText(RequestBeanProxy_Dyna.class).dynaThrows(new RequestBean_DynaThrows());
+			fail("Exception expected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof RestCallException);
+			assertEquals("Could not read property '*' of request bean of type '" + RequestBean_DynaThrows.class.getName() + "'.", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void h03_getterThrows() throws Exception {
+		try {
+			getProxyPlainText(RequestBeanProxy_Dyna.class).getterThrows(new RequestBean_GetterThrows());
+			fail("Exception expected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof RestCallException);
+			assertEquals("Could not read property 'a' of request bean of type '" + RequestBean_GetterThrows.class.getName() + "'.", e.getCause().getMessage());
+		}
+	}
+
+	@Remoteable(path="/testRequestBeanProxy")
+	public static interface RequestBeanProxy_Dyna {
+
+		@RemoteMethod(httpMethod="GET", path="/echoQuery")
+		String dyna(@RequestBean RequestBean_Dyna rb);
+
+		@RemoteMethod(httpMethod="GET", path="/echoQuery")
+		String dynaThrows(@RequestBean RequestBean_DynaThrows rb);
+
+		@RemoteMethod(httpMethod="GET", path="/echoQuery")
+		String getterThrows(@RequestBean RequestBean_GetterThrows rb);
+	}
+
+	public static class RequestBean_Dyna {
+
+		@Query("a")
+		public String getA() {
+			return "a1";
+		}
+
+		@Query("d")
+		@BeanProperty(name="*")
+		public Map<String,Object> getExtras() {
+			return new AMap<String,Object>().append("x", "d1");
+		}
+	}
+
+	public static class RequestBean_DynaThrows {
+
+		@Query("d")
+		@BeanProperty(name="*")
+		public Map<String,Object> getExtras() {
+			throw new RuntimeException("foo");
+		}
+	}
+
+	public static class RequestBean_GetterThrows {
+
+		@Query("a")
+		public String getA() {
+			throw new RuntimeException("foo");
+		}
+	}
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// Support classes
 	//-------------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,212 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.apache.http.*;
+import org.apache.http.util.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+public class RequestEntityTest extends RestTestcase {
+
+	private static String URL = "/testRestClient";
+
+	private static String body(int length) {
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++)
+			sb.append((char)('a' + i % 26));
+		return sb.toString();
+	}
+
+	private static String write(HttpEntity e) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		e.writeTo(baos);
+		return new String(baos.toByteArray(), UTF8);
+	}
+
+	// Number of spilled request bodies currently in the temp directory.
+	private static int countSpillFiles() {
+		File[] f = new File(System.getProperty("java.io.tmpdir")).listFiles(
+			new FilenameFilter() {
+				@Override /* FilenameFilter */
+				public boolean accept(File dir, String name) {
+					return name.startsWith("juneau") && name.endsWith(".body");
+				}
+			}
+		);
+		return f == null ? 0 : f.length;
+	}
+
+	//====================================================================================================
+	// Entities are streamed with chunked transfer encoding by default.
+	//====================================================================================================
+	@Test
+	public void testStreamingByDefault() throws Exception {
+		RestRequestEntity e = new RestRequestEntity("foo", JsonSerializer.DEFAULT_LAX);
+		assertFalse(e.isBuffered());
+		assertTrue(e.isChunked());
+		assertTrue(e.isRepeatable());
+		assertEquals(-1, e.getContentLength());
+		assertEquals("'foo'", write(e));
+		assertEquals("'foo'", write(e));
+
+		e = new RestRequestEntity(new StringReader("foo"), null);
+		assertTrue(e.isChunked());
+		assertFalse(e.isRepeatable());
+
+		String r = TestMicroservice.DEFAULT_CLIENT.doPost(URL + "/lengthHeaders", "foo").getResponseAsString();
+		assertEquals("Content-Length=null,Transfer-Encoding=chunked", r);
+	}
+
+	//====================================================================================================
+	// Buffered entities are sent with a Content-Length header.
+	//====================================================================================================
+	@Test
+	public void testBuffered() throws Exception {
+		RestRequestEntity e = new RestRequestEntity("foo", JsonSerializer.DEFAULT_LAX, true, 1024);
+		assertTrue(e.isBuffered());
+		assertFalse(e.isChunked());
+		assertEquals(5, e.getContentLength());
+		assertEquals("'foo'", write(e));
+		assertEquals("'foo'", read(e.getContent()));
+
+		e = new RestRequestEntity(new StringReader("foo"), null, true, 1024);
+		assertTrue(e.isRepeatable());
+		assertEquals(3, e.getContentLength());
+
+		RestClient c = TestMicroservice.client().bufferRequestBodies(true).build();
+		addClientToLifecycle(c);
+		String r = c.doPost(URL + "/lengthHeaders", "foo").getResponseAsString();
+		assertEquals("Content-Length=5,Transfer-Encoding=null", r);
+	}
+
+	//====================================================================================================
+	// Buffered bodies larger than the maximum in-memory size are spilled to a temporary file.
+	//====================================================================================================
+	@Test
+	public void testSpillToFile() throws Exception {
+		String body = body(10000);
+		int before = countSpillFiles();
+
+		RestRequestEntity e = new RestRequestEntity(new StringReader(body), null, true, 100);
+		assertEquals(10000, e.getContentLength());
+		assertEquals(before + 1, countSpillFiles());
+		assertEquals(body, write(e));
+		assertEquals(body, write(e));
+		assertEquals(body, read(e.getContent()));
+
+		// Small bodies stay in memory.
+		e = new RestRequestEntity(new StringReader(body), null, true, 10000);
+		assertEquals(10000, e.getContentLength());
+		assertEquals(before + 1, countSpillFiles());
+	}
+
+	//====================================================================================================
+	// Closing the call deletes the temporary file holding a spilled body.
+	//====================================================================================================
+	@Test
+	public void testReleaseDeletesSpillFile() throws Exception {
+		String body = body(10000);
+		final int before = countSpillFiles();
+		final int[] during = new int[1];
+
+		RestClient c = TestMicroservice.client().bufferRequestBodies(true).requestBodyMaxInMemorySize(100).build();
+		addClientToLifecycle(c);
+		String r = c.doPost(URL, new StringReader(body))
+			.intercepter(new RestCallInterceptor() {
+				@Override /* RestCallInterceptor */
+				public void onConnect(RestCall restCall, int statusCode, HttpRequest req, HttpResponse res) {
+					during[0] = countSpillFiles();
+				}
+			})
+			.getResponseAsString();
+
+		assertEquals(body, r);
+		assertEquals(before + 1, during[0]);
+		assertEquals(before, countSpillFiles());
+	}
+
+	//====================================================================================================
+	// Closing the call deletes the temporary file behind a streaming entity's content, even if the stream
+	// returned by getContent() is never closed.
+	//====================================================================================================
+	@Test
+	public void testReleaseDeletesStreamingContentFile() throws Exception {
+		String body = body(10000);
+		final int before = countSpillFiles();
+		final int[] during = new int[1];
+		final InputStream[] content = new InputStream[1];
+
+		RestClient c = TestMicroservice.client().requestBodyMaxInMemorySize(100).build();
+		addClientToLifecycle(c);
+		String r = c.doPost(URL, body)
+			.intercepter(new RestCallInterceptor() {
+				@Override /* RestCallInterceptor */
+				public void onConnect(RestCall restCall, int statusCode, HttpRequest req, HttpResponse res) {
+					try {
+						RestRequestEntity e = (RestRequestEntity)((HttpEntityEnclosingRequest)req).getEntity();
+						assertFalse(e.isBuffered());
+						content[0] = e.getContent();
+						during[0] = countSpillFiles();
+					} catch (Exception e) {
+						throw new RuntimeException(e);
+					}
+				}
+			})
+			.getResponseAsString();
+
+		assertTrue(r.contains(body));
+		assertEquals(before + 1, during[0]);
+		assertEquals(before, countSpillFiles());
+		content[0].close();
+	}
+
+	//====================================================================================================
+	// Retried calls replay the same bytes from InputStream and Reader bodies.
+	//====================================================================================================
+	@Test
+	public void testRetryReplaysStreams() throws Exception {
+		String body = body(10000);
+		RestClient c = TestMicroservice.client().requestBodyMaxInMemorySize(100).build();
+		addClientToLifecycle(c);
+
+		RetryOnce retryOn = new RetryOnce();
+		String r = c.doPost(URL, new ByteArrayInputStream(body.getBytes(UTF8))).retryable(2, 0, retryOn).getResponseAsString();
+		assertEquals(body, r);
+		assertEquals(2, retryOn.attempts);
+
+		retryOn = new RetryOnce();
+		r = c.doPost(URL, new StringReader(body)).retryable(2, 0, retryOn).getResponseAsString();
+		assertEquals(body, r);
+		assertEquals(2, retryOn.attempts);
+	}
+
+	// Asks for a retry after the first response, whatever its status.
+	private static class RetryOnce extends RetryOn {
+		int attempts;
+
+		@Override /* RetryOn */
+		protected boolean onResponse(HttpResponse response) {
+			if (attempts++ > 0)
+				return false;
+			EntityUtils.consumeQuietly(response.getEntity());
+			return true;
+		}
+	}
+}
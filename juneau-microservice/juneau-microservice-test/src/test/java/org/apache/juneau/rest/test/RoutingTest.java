@@ -0,0 +1,130 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.apache.juneau.rest.test.TestUtils.*;
+import static org.junit.Assert.*;
+
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+public class RoutingTest extends RestTestcase {
+
+	private static String URL = "/testRouting";
+	private static boolean debug = false;
+
+	private RestClient client;
+
+	@Before
+	public void before() {
+		client = TestMicroservice.client().accept("text/plain").build();
+	}
+
+	@After
+	public void after() {
+		client.closeQuietly();
+	}
+
+	private String get(String path) throws Exception {
+		return client.doGet(URL + path).getResponseAsString();
+	}
+
+	private void assertStatus(String path, int status, String...contains) throws Exception {
+		try {
+			client.doGet(URL + path + (path.contains("?") ? "&" : "?") + "noTrace=true").connect();
+			fail("Exception expected");
+		} catch (RestCallException e) {
+			checkErrorResponse(debug, e, status, contains);
+		}
+	}
+
+	//====================================================================================================
+	// Requests without a path info only match "/".
+	//====================================================================================================
+	@Test
+	public void testRoot() throws Exception {
+		assertEquals("root", get(""));
+		assertEquals("root", get("/"));
+	}
+
+	//====================================================================================================
+	// Literal segments take precedence over {var} segments.
+	//====================================================================================================
+	@Test
+	public void testLiteralVsVar() throws Exception {
+		assertEquals("literal", get("/lit/foo"));
+		assertEquals("var:baz", get("/lit/baz"));
+		assertEquals("literal-bar", get("/lit/foo/bar"));
+		assertEquals("var-bar:baz", get("/lit/baz/bar"));
+		assertEquals("var-bar:foo2", get("/lit/foo2/bar"));
+		assertStatus("/lit/foo/baz", SC_NOT_FOUND);
+		assertStatus("/lit", SC_NOT_FOUND);
+	}
+
+	//====================================================================================================
+	// Trailing slashes are ignored on patterns without a /* remainder.
+	//====================================================================================================
+	@Test
+	public void testTrailingSlashes() throws Exception {
+		assertEquals("literal", get("/lit/foo/"));
+		assertEquals("var:baz", get("/lit/baz/"));
+		assertEquals("literal-bar", get("/lit/foo/bar/"));
+		assertEquals("var-bar:baz", get("/lit/baz/bar/"));
+	}
+
+	//====================================================================================================
+	// /* remainders match the path itself and anything below it.
+	//====================================================================================================
+	@Test
+	public void testRemainders() throws Exception {
+		assertEquals("rem:null", get("/rem"));
+		assertEquals("rem:x", get("/rem/x"));
+		assertEquals("rem:x/y/z", get("/rem/x/y/z"));
+		assertEquals("rem:ab", get("/rem/ab"));
+		assertEquals("rem-a:null", get("/rem/a"));
+		assertEquals("rem-a:b", get("/rem/a/b"));
+		assertEquals("rem-a:b/c", get("/rem/a/b/c"));
+		assertEquals("var-b:x", get("/rem/x/b"));
+		assertEquals("rem:x/b/c", get("/rem/x/b/c"));
+	}
+
+	//====================================================================================================
+	// Priorities order overlapping patterns ahead of the path heuristic.
+	//====================================================================================================
+	@Test
+	public void testPriorities() throws Exception {
+		// "/prio/*" has priority -1 so it's tried before "/prio/foo" and "/prio/{id}" (priority 0).
+		assertEquals("prio-rem:foo", get("/prio/foo"));
+		assertEquals("prio-rem:x", get("/prio/x"));
+		assertEquals("prio-rem:x/y", get("/prio/x/y"));
+	}
+
+	//====================================================================================================
+	// Requests rejected by a matcher fall through to the next candidate, whose guards are then applied.
+	//====================================================================================================
+	@Test
+	public void testFallthrough() throws Exception {
+		assertEquals("matched:x", get("/match/x?m=1"));
+		assertEquals("matched:x", get("/match/x?m=1&g=1"));
+		assertEquals("guarded:x", get("/match/x?g=1"));
+		assertEquals("guarded:x/y", get("/match/x/y?m=1&g=1"));
+		assertStatus("/match/x", SC_FORBIDDEN, "Access denied by guard");
+		assertStatus("/match/x/y?m=1", SC_FORBIDDEN, "Access denied by guard");
+
+		// Nothing to fall through to.
+		assertEquals("matched:x", get("/matchOnly/x?m=1"));
+		assertStatus("/matchOnly/x", SC_PRECONDITION_FAILED);
+		assertStatus("/matchOnly/x/y?m=1", SC_NOT_FOUND);
+	}
+}
@@ -14,6 +14,11 @@ package org.apache.juneau.rest.test;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+
+import org.apache.http.*;
+import org.apache.juneau.http.*;
+import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.client.*;
 import org.junit.*;
 
@@ -50,4 +55,184 @@ public class StaticFilesTest extends RestTestcase {
 			assertEquals(404, e.getResponseCode());
 		}
 	}
+
+	//====================================================================================================
+	// Conditional requests.
+	//====================================================================================================
+	@Test
+	public void testETag() throws Exception {
+		RestCall c = get("Accept-Encoding", "identity");
+		HttpResponse r = c.getResponse();
+		assertEquals(200, r.getStatusLine().getStatusCode());
+		String etag = header(r, "ETag");
+		assertTrue(etag.matches("\"[0-9A-F]+\""));
+		assertTrue(c.getResponseAsString().endsWith("OK-1"));
+
+		assertEquals(304, status(get("Accept-Encoding", "identity", "If-None-Match", etag)));
+		assertEquals(304, status(get("Accept-Encoding", "identity", "If-None-Match", "\"foo\", " + etag)));
+		assertEquals(304, status(get("Accept-Encoding", "identity", "If-None-Match", "*")));
+		assertEquals(200, status(get("Accept-Encoding", "identity", "If-None-Match", "\"foo\"")));
+
+		// If-None-Match takes precedence over If-Modified-Since.
+		String lm = header(r, "Last-Modified");
+		assertEquals(200, status(get("Accept-Encoding", "identity", "If-None-Match", "\"foo\"", "If-Modified-Since", lm)));
+	}
+
+	@Test
+	public void testIfModifiedSince() throws Exception {
+		RestCall c = get("Accept-Encoding", "identity");
+		String lm = header(c.getResponse(), "Last-Modified");
+		c.close();
+		assertNotNull(lm);
+
+		assertEquals(304, status(get("Accept-Encoding", "identity", "If-Modified-Since", lm)));
+		assertEquals(200, status(get("Accept-Encoding", "identity", "If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT")));
+		assertEquals(200, status(get("Accept-Encoding", "identity", "If-Modified-Since", "garbage")));
+	}
+
+	//====================================================================================================
+	// Range requests.
+	//====================================================================================================
+	@Test
+	public void testRange() throws Exception {
+		RestCall c = get("Accept-Encoding", "identity");
+		String etag = header(c.getResponse(), "ETag"), all = c.getResponseAsString();
+		int len = all.length();
+
+		c = get("Accept-Encoding", "identity", "Range", "bytes=0-4");
+		HttpResponse r = c.getResponse();
+		assertEquals(206, r.getStatusLine().getStatusCode());
+		assertEquals("bytes 0-4/" + len, header(r, "Content-Range"));
+		assertEquals("5", header(r, "Content-Length"));
+		assertEquals(all.substring(0, 5), c.getResponseAsString());
+
+		c = get("Accept-Encoding", "identity", "Range", "bytes=-4");
+		r = c.getResponse();
+		assertEquals(206, r.getStatusLine().getStatusCode());
+		assertEquals("bytes " + (len-4) + '-' + (len-1) + '/' + len, header(r, "Content-Range"));
+		assertEquals("OK-1", c.getResponseAsString());
+
+		c = get("Accept-Encoding", "identity", "Range", "bytes=" + (len-2) + "-");
+		assertEquals("-1", c.getResponseAsString());
+
+		// Ranges past the end of the file can't be satisfied.
+		c = get("Accept-Encoding", "identity", "Range", "bytes=" + len + "-");
+		r = c.getResponse();
+		assertEquals(416, r.getStatusLine().getStatusCode());
+		assertEquals("bytes */" + len, header(r, "Content-Range"));
+		c.close();
+
+		// Multiple ranges and malformed ranges get the whole file.
+		assertEquals(all, get("Accept-Encoding", "identity", "Range", "bytes=0-1,3-4").getResponseAsString());
+		assertEquals(all, get("Accept-Encoding", "identity", "Range", "bytes=4-1").getResponseAsString());
+
+		// If-Range only honors the range if the file hasn't changed.
+		c = get("Accept-Encoding", "identity", "Range", "bytes=0-4", "If-Range", etag);
+		assertEquals(206, status(c));
+		c = get("Accept-Encoding", "identity", "Range", "bytes=0-4", "If-Range", "\"foo\"");
+		assertEquals(200, c.getResponse().getStatusLine().getStatusCode());
+		assertEquals(all, c.getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Encoding on the fly when there's no pre-compressed variant.
+	//====================================================================================================
+	@Test
+	public void testDynamicEncoding() throws Exception {
+		RestCall c = get("Accept-Encoding", "identity");
+		String etag = header(c.getResponse(), "ETag"), all = c.getResponseAsString();
+
+		c = get("Accept-Encoding", "gzip");
+		HttpResponse r = c.getResponse();
+		assertEquals(200, r.getStatusLine().getStatusCode());
+		String etag2 = header(r, "ETag");
+		assertEquals(etag.substring(0, etag.length()-1) + "-gzip\"", etag2);
+		assertEquals("Accept-Encoding", header(r, "Vary"));
+		assertEquals(all, c.getResponseAsString());  // Decompressed by the client.
+
+		// Either tag identifies the same contents.
+		assertEquals(304, status(get("Accept-Encoding", "gzip", "If-None-Match", etag2)));
+		assertEquals(304, status(get("Accept-Encoding", "gzip", "If-None-Match", etag)));
+
+		// Ranges are always served unencoded.
+		c = get("Accept-Encoding", "gzip", "Range", "bytes=0-4");
+		r = c.getResponse();
+		assertEquals(206, r.getStatusLine().getStatusCode());
+		assertEquals(etag, header(r, "ETag"));
+		assertEquals(all.substring(0, 5), c.getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Files smaller than the compression threshold aren't encoded on the fly.
+	//====================================================================================================
+	@Test
+	public void testCompressionThreshold() throws Exception {
+		RestCall c = getFrom("/testStaticFilesThreshold", "Accept-Encoding", "identity");
+		String etag = header(c.getResponse(), "ETag"), all = c.getResponseAsString();
+
+		c = getFrom("/testStaticFilesThreshold", "Accept-Encoding", "gzip");
+		HttpResponse r = c.getResponse();
+		assertEquals(200, r.getStatusLine().getStatusCode());
+		assertEquals(etag, header(r, "ETag"));
+		assertEquals(String.valueOf(all.length()), header(r, "Content-Length"));
+		assertEquals("Accept-Encoding", header(r, "Vary"));
+		assertEquals(all, c.getResponseAsString());
+
+		// Still encoded if the client won't accept the identity encoding.
+		c = getFrom("/testStaticFilesThreshold", "Accept-Encoding", "gzip, identity;q=0");
+		r = c.getResponse();
+		assertEquals(etag.substring(0, etag.length()-1) + "-gzip\"", header(r, "ETag"));
+		assertEquals(all, c.getResponseAsString());
+	}
+
+	//====================================================================================================
+	// Files on disk are checked for changes at most once per interval.
+	//====================================================================================================
+	@Test
+	public void testStaleCheckInterval() throws Exception {
+		File f = File.createTempFile("juneau", ".txt");
+		try {
+			try (Writer w = new FileWriter(f)) {
+				w.write("foo");
+			}
+			StaticFile sf = new StaticFile(f.toURI().toURL(), MediaType.forString("text/plain"), null, null, null, 1024);
+			assertFalse(sf.isStale(0));
+
+			try (Writer w = new FileWriter(f)) {
+				w.write("foobar");
+			}
+			f.setLastModified(f.lastModified() + 10000);
+
+			// Checked less than an hour ago, so the change isn't seen yet.
+			assertFalse(sf.isStale(3600000));
+			assertTrue(sf.isStale(0));
+			assertTrue(sf.isStale());
+		} finally {
+			f.delete();
+		}
+	}
+
+	private static RestCall get(String...headers) throws Exception {
+		return getFrom(URL, headers);
+	}
+
+	private static RestCall getFrom(String url, String...headers) throws Exception {
+		RestCall c = TestMicroservice.DEFAULT_CLIENT_PLAINTEXT.doGet(url + "/xdocs/test.txt").ignoreErrors();
+		for (int i = 0; i < headers.length; i += 2)
+			c.getRequest().setHeader(headers[i], headers[i+1]);  // Set as-is, without part serialization.
+		return c;
+	}
+
+	private static int status(RestCall c) throws Exception {
+		try {
+			return c.getResponse().getStatusLine().getStatusCode();
+		} finally {
+			c.close();
+		}
+	}
+
+	private static String header(HttpResponse r, String name) {
+		Header h = r.getFirstHeader(name);
+		return h == null ? null : h.getValue();
+	}
 }
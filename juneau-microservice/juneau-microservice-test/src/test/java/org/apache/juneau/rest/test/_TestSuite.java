@@ -12,6 +12,7 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest.test;
 
+import org.apache.juneau.rest.client.*;
 import org.junit.*;
 import org.junit.runner.*;
 import org.junit.runners.*;
@@ -33,6 +34,7 @@ import org.junit.runners.Suite.*;
 	ConfigTest.class,
 	ContentTest.class,
 	DefaultContentTypesTest.class,
+	DeferredOutputTest.class,
 	ErrorConditionsTest.class,
 	FormDataTest.class,
 	GroupsTest.class,
@@ -44,7 +46,9 @@ import org.junit.runners.Suite.*;
 	InterfaceProxyTest.class,
 	JacocoDummyTest.class,
 	LargePojosTest.class,
+	LazyRequestTest.class,
 	MessagesTest.class,
+	MethodInvocationTest.class,
 	NlsPropertyTest.class,
 	NlsTest.class,
 	NoParserInputTest.class,
@@ -60,8 +64,11 @@ import org.junit.runners.Suite.*;
 	PropertiesTest.class,
 	QueryTest.class,
 	RequestBeanProxyTest.class,
+	RequestEntityTest.class,
+	RestCallSchedulerTest.class,
 	RestClientTest.class,
 	RestUtilsTest.class,
+	RoutingTest.class,
 	SerializersTest.class,
 	StaticFilesTest.class,
 	ThirdPartyProxyTest.class,
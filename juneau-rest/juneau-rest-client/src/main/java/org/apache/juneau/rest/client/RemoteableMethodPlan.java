@@ -0,0 +1,256 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.remoteable.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Precomputed binding of a remoteable proxy method to the HTTP request it produces.
+ *
+ * <p>
+ * Built once per {@link RemoteableMethodMeta} so that the annotations on {@link RequestBean @RequestBean} properties
+ * are inspected and their part serializers instantiated only the first time a bean class is seen, instead of on
+ * every call.
+ */
+final class RemoteableMethodPlan {
+
+	private final RemoteableMethodMeta meta;
+	private final String httpMethod;
+	private final boolean hasContent;
+	private final RequestBeanArg[] requestBeanArgs;
+	private final boolean async;
+	private final Class<?> returnType;
+	private final Type genericReturnType;
+
+	RemoteableMethodPlan(RemoteableMethodMeta meta, Method m) {
+		this.meta = meta;
+		this.httpMethod = meta.getHttpMethod();
+		this.hasContent = "POST".equals(httpMethod) || "PUT".equals(httpMethod);
+		RemoteMethodArg[] rb = meta.getRequestBeanArgs();
+		this.requestBeanArgs = new RequestBeanArg[rb.length];
+		for (int i = 0; i < rb.length; i++)
+			requestBeanArgs[i] = new RequestBeanArg(rb[i]);
+
+		// Methods returning Future<T> are run asynchronously and produce a T.
+		Class<?> rt = m.getReturnType();
+		Type grt = m.getGenericReturnType();
+		this.async = rt == Future.class || rt == RestCallFuture.class;
+		if (async) {
+			grt = grt instanceof ParameterizedType ? ((ParameterizedType)grt).getActualTypeArguments()[0] : Object.class;
+			rt = grt instanceof Class ? (Class<?>)grt : grt instanceof ParameterizedType ? (Class<?>)((ParameterizedType)grt).getRawType() : Object.class;
+		}
+		this.returnType = rt;
+		this.genericReturnType = grt;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the Java method returns a {@link Future}.
+	 *
+	 * @return <jk>true</jk> if the call should be run asynchronously.
+	 */
+	boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 * Returns the metadata on the Java method.
+	 *
+	 * @return The metadata on the Java method.
+	 */
+	RemoteableMethodMeta getMeta() {
+		return meta;
+	}
+
+	/**
+	 * Creates the HTTP call for this method.
+	 *
+	 * @param client The client to create the call on.
+	 * @return A new call.
+	 * @throws RestCallException
+	 */
+	RestCall createCall(RestClient client) throws RestCallException {
+		return client.doCall(httpMethod, meta.getUrl(), hasContent);
+	}
+
+	/**
+	 * Runs the call and converts the response to the value returned by the Java method.
+	 *
+	 * <p>
+	 * For asynchronous methods, this is the value of the returned {@link Future}.
+	 *
+	 * @param rc The call to run.
+	 * @return The value to return from the Java method.
+	 * @throws IOException
+	 * @throws ParseException
+	 */
+	Object getResult(RestCall rc) throws IOException, ParseException {
+		if (meta.getReturns() == ReturnValue.HTTP_STATUS) {
+			rc.ignoreErrors();
+			int returnCode = rc.run();
+			if (returnType == Integer.class || returnType == int.class)
+				return returnCode;
+			if (returnType == Boolean.class || returnType == boolean.class)
+				return returnCode < 400;
+			throw new RestCallException("Invalid return type on method annotated with @RemoteableMethod(returns=HTTP_STATUS).  Only integer and booleans types are valid.");
+		}
+
+		Object v = rc.getResponse(genericReturnType);
+		if (v == null && returnType.isPrimitive())
+			v = ClassUtils.getPrimitiveDefault(returnType);
+		return v;
+	}
+
+	/**
+	 * Adds the path, query, form-data, and header parts defined on the {@link RequestBean @RequestBean} arguments.
+	 *
+	 * @param rc The call to add the parts to.
+	 * @param bs The bean session used to read the bean properties.
+	 * @param args The arguments passed to the Java method.
+	 * @throws RestCallException
+	 */
+	void addRequestBeanParts(RestCall rc, BeanSession bs, Object[] args) throws RestCallException {
+		for (RequestBeanArg rba : requestBeanArgs) {
+			Object bean = args[rba.arg.index];
+			BeanMap<?> bm = null;
+			for (Part p : rba.getParts(bs, bean.getClass())) {
+				if (p.meta.isDyna()) {
+					if (bm == null)
+						bm = bs.toBeanMap(bean);
+					Map<String,Object> dm;
+					try {
+						dm = p.meta.getDynaMap(bean);
+					} catch (Exception e) {
+						throw propertyException(p, bean, e);
+					}
+					for (String pName : dm.keySet()) {
+						Object val;
+						try {
+							val = p.meta.get(bm, pName);
+						} catch (Exception e) {
+							throw propertyException(p, bean, e);
+						}
+						p.apply(rc, val, rba.arg.serializer);
+					}
+				} else {
+					Object val;
+					try {
+						val = p.meta.get(bs, bean);
+					} catch (Exception e) {
+						throw propertyException(p, bean, e);
+					}
+					p.apply(rc, val, rba.arg.serializer);
+				}
+			}
+		}
+	}
+
+	private static RestCallException propertyException(Part p, Object bean, Exception e) {
+		return new RestCallException("Could not read property '" + p.meta.getName() + "' of request bean of type '" + bean.getClass().getName() + "'.").initCause(e);
+	}
+
+	/**
+	 * A {@link RequestBean @RequestBean} argument and the parts resolved for each bean class passed through it.
+	 */
+	private static final class RequestBeanArg {
+		final RemoteMethodArg arg;
+		final ConcurrentHashMap<Class<?>,Part[]> parts = new ConcurrentHashMap<>();
+
+		RequestBeanArg(RemoteMethodArg arg) {
+			this.arg = arg;
+		}
+
+		Part[] getParts(BeanSession bs, Class<?> c) {
+			Part[] p = parts.get(c);
+			if (p == null) {
+				BeanMeta<?> bm = bs.getClassMeta(c).getBeanMeta();
+				if (bm == null)
+					throw new BeanRuntimeException(c, "Class is not a bean.  Reason=''{0}''", bs.getClassMeta(c).getNotABeanReason());
+				List<Part> l = new ArrayList<>();
+				for (BeanPropertyMeta pMeta : bm.getPropertyMetas())
+					addParts(l, pMeta);
+				p = l.toArray(new Part[l.size()]);
+				Part[] p2 = parts.putIfAbsent(c, p);
+				if (p2 != null)
+					p = p2;
+			}
+			return p;
+		}
+
+		// Same order as the annotations were originally checked in.
+		private static void addParts(List<Part> l, BeanPropertyMeta pMeta) {
+			Path p = pMeta.getAnnotation(Path.class);
+			if (p != null)
+				l.add(new Part(pMeta, PartType.PATH, p.name(), p.value(), false, p.serializer()));
+			Query q1 = pMeta.getAnnotation(Query.class);
+			if (q1 != null)
+				l.add(new Part(pMeta, PartType.QUERY, q1.name(), q1.value(), q1.skipIfEmpty(), q1.serializer()));
+			QueryIfNE q2 = pMeta.getAnnotation(QueryIfNE.class);
+			if (q2 != null)
+				l.add(new Part(pMeta, PartType.QUERY, q2.name(), q2.value(), true, q2.serializer()));
+			FormData f1 = pMeta.getAnnotation(FormData.class);
+			if (f1 != null)
+				l.add(new Part(pMeta, PartType.FORM_DATA, f1.name(), f1.value(), f1.skipIfEmpty(), f1.serializer()));
+			FormDataIfNE f2 = pMeta.getAnnotation(FormDataIfNE.class);
+			if (f2 != null)
+				l.add(new Part(pMeta, PartType.FORM_DATA, f2.name(), f2.value(), true, f2.serializer()));
+			Header h1 = pMeta.getAnnotation(Header.class);
+			if (h1 != null)
+				l.add(new Part(pMeta, PartType.HEADER, h1.name(), h1.value(), h1.skipIfEmpty(), h1.serializer()));
+			HeaderIfNE h2 = pMeta.getAnnotation(HeaderIfNE.class);
+			if (h2 != null)
+				l.add(new Part(pMeta, PartType.HEADER, h2.name(), h2.value(), true, h2.serializer()));
+		}
+	}
+
+	/**
+	 * A single annotated bean property with its resolved part name and serializer.
+	 */
+	private static final class Part {
+		final BeanPropertyMeta meta;
+		final PartType type;
+		final String name;
+		final boolean skipIfNE;
+		final PartSerializer serializer;
+
+		Part(BeanPropertyMeta meta, PartType type, String name1, String name2, boolean skipIfNE, Class<? extends PartSerializer> serializer) {
+			this.meta = meta;
+			this.type = type;
+			this.name = RestClient.getName(name1, name2, meta);
+			this.skipIfNE = skipIfNE;
+			this.serializer = RestClient.getPartSerializer(serializer, null);
+		}
+
+		void apply(RestCall rc, Object val, PartSerializer beanSerializer) throws RestCallException {
+			PartSerializer s = beanSerializer != null ? beanSerializer : serializer;
+			if (type == PartType.PATH)
+				rc.path(name, val, s);
+			else if (val == null)
+				return;
+			else if (type == PartType.QUERY)
+				rc.query(name, val, skipIfNE, s);
+			else if (type == PartType.FORM_DATA)
+				rc.formData(name, val, skipIfNE, s);
+			else
+				rc.header(name, val, skipIfNE, s);
+		}
+	}
+}
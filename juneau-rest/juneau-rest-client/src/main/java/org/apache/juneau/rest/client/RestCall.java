@@ -1445,8 +1445,8 @@ public final class RestCall {
 	 * @see RestClientBuilder#executorService(ExecutorService, boolean) for defining the executor service for creating
 	 * {@link Future Futures}.
 	 */
-	public Future<Integer> runFuture() throws RestCallException {
-		return client.getExecutorService(true).submit(
+	public RestCallFuture<Integer> runFuture() throws RestCallException {
+		return submit(
 			new Callable<Integer>() {
 				@Override /* Callable */
 				public Integer call() throws Exception {
@@ -1456,6 +1456,21 @@ public final class RestCall {
 		);
 	}
 
+	/**
+	 * Runs the specified task asynchronously against the route of this call.
+	 *
+	 * <p>
+	 * The task is subject to the per-route limits defined through
+	 * {@link RestClientBuilder#maxConcurrentCallsPerRoute(int)} and {@link RestClientBuilder#maxQueuedCallsPerRoute(int)}.
+	 *
+	 * @param task The task to run.
+	 * @return The pending result of the task.
+	 */
+	<T> RestCallFuture<T> submit(Callable<T> task) {
+		String route = RestCallScheduler.route(uriBuilder.getScheme(), uriBuilder.getHost(), uriBuilder.getPort());
+		return client.getScheduler().submit(route, task);
+	}
+
 	/**
 	 * Connects to the REST resource.
 	 *
@@ -1495,8 +1510,11 @@ public final class RestCall {
 					entity = new UrlEncodedFormEntity((NameValuePairs)input);
 				else if (input instanceof HttpEntity)
 					entity = (HttpEntity)input;
-				else
-					entity = new RestRequestEntity(input, getSerializer());
+				else {
+					// Streams can only be read once, so they have to be buffered to be retried.
+					boolean buffered = client.bufferRequestBodies || (retries > 1 && (input instanceof InputStream || input instanceof Reader));
+					entity = new RestRequestEntity(input, getSerializer(), buffered, client.requestBodyMaxInMemorySize);
+				}
 
 				if (retries > 1 && ! entity.isRepeatable())
 					throw new RestCallException("Rest call set to retryable, but entity is not repeatable.");
@@ -1757,8 +1775,8 @@ public final class RestCall {
 	 * 	RestClientBuilder#executorService(ExecutorService, boolean) for defining the executor service for creating
 	 * 	{@link Future Futures}.
 	 */
-	public Future<String> getResponseAsStringFuture() throws RestCallException {
-		return client.getExecutorService(true).submit(
+	public RestCallFuture<String> getResponseAsStringFuture() throws RestCallException {
+		return submit(
 			new Callable<String>() {
 				@Override /* Callable */
 				public String call() throws Exception {
@@ -1832,8 +1850,8 @@ public final class RestCall {
 	 * 	RestClientBuilder#executorService(ExecutorService, boolean) for defining the executor service for creating
 	 * 	{@link Future Futures}.
 	 */
-	public <T> Future<T> getResponseFuture(final Class<T> type) throws RestCallException {
-		return client.getExecutorService(true).submit(
+	public <T> RestCallFuture<T> getResponseFuture(final Class<T> type) throws RestCallException {
+		return submit(
 			new Callable<T>() {
 				@Override /* Callable */
 				public T call() throws Exception {
@@ -1931,8 +1949,8 @@ public final class RestCall {
 	 * 	RestClientBuilder#executorService(ExecutorService, boolean) for defining the executor service for creating
 	 * 	{@link Future Futures}.
 	 */
-	public <T> Future<T> getResponseFuture(final Type type, final Type...args) throws RestCallException {
-		return client.getExecutorService(true).submit(
+	public <T> RestCallFuture<T> getResponseFuture(final Type type, final Type...args) throws RestCallException {
+		return submit(
 			new Callable<T>() {
 				@Override /* Callable */
 				public T call() throws Exception {
@@ -2053,6 +2071,11 @@ public final class RestCall {
 	public RestCall close() throws RestCallException {
 		if (response != null)
 			EntityUtils.consumeQuietly(response.getEntity());
+		if (request instanceof HttpEntityEnclosingRequestBase) {
+			HttpEntity e = ((HttpEntityEnclosingRequestBase)request).getEntity();
+			if (e instanceof RestRequestEntity)
+				((RestRequestEntity)e).release();
+		}
 		isClosed = true;
 		if (! isFailed)
 			for (RestCallInterceptor r : intercepters)
@@ -0,0 +1,145 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+/**
+ * The pending result of an asynchronous HTTP call.
+ *
+ * <p>
+ * Returned by the asynchronous methods on {@link RestCall} (e.g. {@link RestCall#getResponseFuture(Class)}) and by
+ * remoteable proxy methods declared to return {@link Future}.
+ *
+ * <p>
+ * In addition to blocking on {@link #get()}, callers can register a {@link Callback} to be notified when the call
+ * completes, so that fanning out to many backends doesn't require a waiting thread per call.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	client.doGet(url).getResponseFuture(MyBean.<jk>class</jk>).addCallback(
+ * 		<jk>new</jk> RestCallFuture.Callback&lt;MyBean&gt;() {
+ * 			<jk>public void</jk> onSuccess(MyBean result) {...}
+ * 			<jk>public void</jk> onFailure(Throwable t) {...}
+ * 		}
+ * 	);
+ * </p>
+ *
+ * @param <T> The result type.
+ */
+public final class RestCallFuture<T> extends FutureTask<T> {
+
+	/**
+	 * Notified when a {@link RestCallFuture} completes.
+	 *
+	 * <p>
+	 * Callbacks are invoked on the thread that completed the call, or on the thread registering the callback if the
+	 * call has already completed.  They should not block.
+	 * Exceptions thrown by a callback invoked on the completing thread are logged and don't prevent the other
+	 * callbacks from being notified.
+	 *
+	 * @param <T> The result type.
+	 */
+	public interface Callback<T> {
+
+		/**
+		 * Called when the call completes successfully.
+		 *
+		 * @param result The result of the call.
+		 */
+		void onSuccess(T result);
+
+		/**
+		 * Called when the call fails or is cancelled.
+		 *
+		 * @param t
+		 * 	The exception thrown by the call, or a {@link CancellationException} if the call was cancelled, or a
+		 * 	{@link RejectedExecutionException} if the call was rejected because too many calls were queued.
+		 */
+		void onFailure(Throwable t);
+	}
+
+	private static final Logger LOG = Logger.getLogger(RestCallFuture.class.getName());
+
+	private List<Callback<? super T>> callbacks = new ArrayList<>(2);  // Set to null once completed.
+
+	RestCallFuture(Callable<T> callable) {
+		super(callable);
+	}
+
+	/**
+	 * Registers a callback to be notified when this call completes.
+	 *
+	 * <p>
+	 * If the call has already completed, the callback is notified immediately on the current thread.
+	 *
+	 * @param callback The callback.
+	 * @return This object (for method chaining).
+	 */
+	public RestCallFuture<T> addCallback(Callback<? super T> callback) {
+		synchronized (this) {
+			if (callbacks != null) {
+				callbacks.add(callback);
+				return this;
+			}
+		}
+		fire(callback);
+		return this;
+	}
+
+	/**
+	 * Fails this call without running it.
+	 *
+	 * @param t The reason the call failed.
+	 */
+	void fail(Throwable t) {
+		setException(t);
+	}
+
+	@Override /* FutureTask */
+	protected void done() {
+		List<Callback<? super T>> l;
+		synchronized (this) {
+			l = callbacks;
+			callbacks = null;
+		}
+		for (Callback<? super T> c : l) {
+			try {
+				fire(c);
+			} catch (Throwable t) {
+				LOG.log(Level.WARNING, "Callback " + c + " threw an exception.", t);
+			}
+		}
+	}
+
+	private void fire(Callback<? super T> c) {
+		T result;
+		try {
+			result = get();
+		} catch (ExecutionException e) {
+			c.onFailure(e.getCause());
+			return;
+		} catch (CancellationException e) {
+			c.onFailure(e);
+			return;
+		} catch (InterruptedException e) {
+			// Can't happen since the call has completed.
+			Thread.currentThread().interrupt();
+			c.onFailure(e);
+			return;
+		}
+		c.onSuccess(result);
+	}
+}
@@ -0,0 +1,171 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Dispatches asynchronous calls to an executor while limiting the number of concurrent calls per route.
+ *
+ * <p>
+ * A route is the scheme, host, and port of the target URL.
+ * Calls beyond the concurrency limit of their route wait in a per-route queue without occupying an executor thread,
+ * and are dispatched as earlier calls to the same route complete.
+ * Once the queue of a route is full, new calls to that route fail immediately with a
+ * {@link RejectedExecutionException} so that callers see backpressure instead of unbounded queueing.
+ *
+ * <p>
+ * Routes are discarded once they have no running or queued calls, so clients that talk to many hosts don't
+ * accumulate state for each of them.
+ */
+final class RestCallScheduler {
+
+	private final RestClient client;
+	private final int maxConcurrentPerRoute, maxQueuedPerRoute;
+	private final ConcurrentHashMap<String,Route> routes = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param client The client whose executor service runs the calls.
+	 * @param maxConcurrentPerRoute The maximum number of calls running at the same time against a single route.
+	 * @param maxQueuedPerRoute The maximum number of calls waiting to run against a single route.
+	 */
+	RestCallScheduler(RestClient client, int maxConcurrentPerRoute, int maxQueuedPerRoute) {
+		this.client = client;
+		this.maxConcurrentPerRoute = maxConcurrentPerRoute;
+		this.maxQueuedPerRoute = maxQueuedPerRoute;
+	}
+
+	/**
+	 * Schedules a call against the specified route.
+	 *
+	 * @param route The route key (e.g. <js>"http://localhost:8080"</js>).
+	 * @param callable The call to run.
+	 * @return The pending result of the call.
+	 */
+	<T> RestCallFuture<T> submit(String route, Callable<T> callable) {
+		RestCallFuture<T> f = new RestCallFuture<>(callable);
+		while (true) {
+			Route r = routes.get(route);
+			if (r == null) {
+				Route r2 = new Route(route);
+				r = routes.putIfAbsent(route, r2);
+				if (r == null)
+					r = r2;
+			}
+			// Try again if the route was discarded after we looked it up.
+			if (r.submit(f))
+				return f;
+		}
+	}
+
+	/**
+	 * Returns the number of routes with running or queued calls.
+	 *
+	 * @return The number of routes with running or queued calls.
+	 */
+	int getRouteCount() {
+		return routes.size();
+	}
+
+	/**
+	 * Returns the route key for the specified target.
+	 *
+	 * <p>
+	 * Hosts and schemes are case-insensitive, and a missing port is replaced with the default port of the scheme, so
+	 * that <js>"http://host/x"</js> and <js>"http://HOST:80/x"</js> share the same limits.
+	 *
+	 * @param scheme The URL scheme.  Can be <jk>null</jk>.
+	 * @param host The URL host.  Can be <jk>null</jk>.
+	 * @param port The URL port, or <code>-1</code> if not specified.
+	 * @return The route key.
+	 */
+	static String route(String scheme, String host, int port) {
+		if (host == null)
+			return "";
+		scheme = scheme == null ? "http" : scheme.toLowerCase(Locale.ENGLISH);
+		if (port < 0)
+			port = "https".equals(scheme) ? 443 : 80;
+		return scheme + "://" + host.toLowerCase(Locale.ENGLISH) + ':' + port;
+	}
+
+	private final class Route {
+		private final String name;
+		private final ArrayDeque<RestCallFuture<?>> queue = new ArrayDeque<>();
+		private int active;
+		private boolean removed;
+
+		Route(String name) {
+			this.name = name;
+		}
+
+		/*
+		 * Returns false if this route has been discarded and the call needs to be submitted to a new one.
+		 */
+		boolean submit(RestCallFuture<?> f) {
+			synchronized (this) {
+				if (removed)
+					return false;
+				if (active >= maxConcurrentPerRoute) {
+					if (queue.size() >= maxQueuedPerRoute) {
+						f.fail(new RejectedExecutionException("Too many calls queued against route '" + name + "'.  maxConcurrentPerRoute=" + maxConcurrentPerRoute + ", maxQueuedPerRoute=" + maxQueuedPerRoute));
+						return true;
+					}
+					queue.add(f);
+					return true;
+				}
+				active++;
+			}
+			execute(f);
+			return true;
+		}
+
+		private void execute(final RestCallFuture<?> f) {
+			try {
+				client.getExecutorService(true).execute(
+					new Runnable() {
+						@Override /* Runnable */
+						public void run() {
+							try {
+								f.run();
+							} finally {
+								next();
+							}
+						}
+					}
+				);
+			} catch (RejectedExecutionException e) {
+				f.fail(e);
+				next();
+			}
+		}
+
+		private void next() {
+			RestCallFuture<?> f;
+			synchronized (this) {
+				// Skip calls that were cancelled while they were queued.
+				do {
+					f = queue.poll();
+				} while (f != null && f.isDone());
+				if (f == null && --active == 0) {
+					removed = true;
+					routes.remove(name, this);
+				}
+			}
+			if (f != null)
+				execute(f);
+		}
+	}
+}
@@ -82,12 +82,15 @@ public class RestClient extends CoreObject {
 	final RetryOn retryOn;
 	final int retries;
 	final long retryInterval;
+	final boolean bufferRequestBodies;
+	final int requestBodyMaxInMemorySize;
 	final boolean debug;
 	final RestCallInterceptor[] intercepters;
 
 	// This is lazy-created.
 	private volatile ExecutorService executorService;
 	boolean executorServiceShutdownOnClose = true;
+	private final RestCallScheduler scheduler;
 
 	/**
 	 * Instantiates a new clean-slate {@link RestClientBuilder} object.
@@ -115,9 +118,13 @@ public class RestClient extends CoreObject {
 			RetryOn retryOn,
 			int retries,
 			long retryInterval,
+			boolean bufferRequestBodies,
+			int requestBodyMaxInMemorySize,
 			boolean debug,
 			ExecutorService executorService,
-			boolean executorServiceShutdownOnClose) {
+			boolean executorServiceShutdownOnClose,
+			int maxConcurrentCallsPerRoute,
+			int maxQueuedCallsPerRoute) {
 		super(propertyStore);
 		this.httpClient = httpClient;
 		this.keepHttpClientOpen = keepHttpClientOpen;
@@ -133,6 +140,8 @@ public class RestClient extends CoreObject {
 		this.retryOn = retryOn;
 		this.retries = retries;
 		this.retryInterval = retryInterval;
+		this.bufferRequestBodies = bufferRequestBodies;
+		this.requestBodyMaxInMemorySize = requestBodyMaxInMemorySize;
 		this.debug = debug;
 
 		List<RestCallInterceptor> l = new ArrayList<>(intercepters);
@@ -148,6 +157,7 @@ public class RestClient extends CoreObject {
 
 		this.executorService = executorService;
 		this.executorServiceShutdownOnClose = executorServiceShutdownOnClose;
+		this.scheduler = new RestCallScheduler(this, maxConcurrentCallsPerRoute, maxQueuedCallsPerRoute);
 	}
 
 	/**
@@ -354,7 +364,7 @@ public class RestClient extends CoreObject {
 	 */
 	public RestCall doFormPost(Object url, Object o) throws RestCallException {
 		return doCall("POST", url, true)
-			.input(o instanceof HttpEntity ? o : new RestRequestEntity(o, urlEncodingSerializer));
+			.input(o instanceof HttpEntity ? o : new RestRequestEntity(o, urlEncodingSerializer, bufferRequestBodies, requestBodyMaxInMemorySize));
 	}
 
 	/**
@@ -637,28 +647,22 @@ public class RestClient extends CoreObject {
 				new InvocationHandler() {
 
 					final RemoteableMeta rm = new RemoteableMeta(interfaceClass, restUrl2);
+					final ConcurrentHashMap<Method,RemoteableMethodPlan> plans = new ConcurrentHashMap<>();
 
 					@Override /* InvocationHandler */
 					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-						RemoteableMethodMeta rmm = rm.getMethodMeta(method);
-
-						if (rmm == null)
-							throw new RuntimeException("Method is not exposed as a remoteable method.");
+						RemoteableMethodPlan plan = plans.get(method);
+						if (plan == null) {
+							RemoteableMethodMeta rmm = rm.getMethodMeta(method);
+							if (rmm == null)
+								throw new RuntimeException("Method is not exposed as a remoteable method.");
+							plans.putIfAbsent(method, new RemoteableMethodPlan(rmm, method));
+							plan = plans.get(method);
+						}
+						RemoteableMethodMeta rmm = plan.getMeta();
 
 						try {
-							String url = rmm.getUrl();
-							String httpMethod = rmm.getHttpMethod();
-							RestCall rc;
-							// this could be a switch at language level 7
-							if (httpMethod.equals("DELETE")) {
-								rc = doDelete(url);
-							} else if (httpMethod.equals("POST")) {
-								rc = doPost(url);
-							} else if (httpMethod.equals("GET")) {
-								rc = doGet(url);
-							} else if (httpMethod.equals("PUT")) {
-								rc = doPut(url);
-							} else throw new RuntimeException("Unsupported method.");
+							final RestCall rc = plan.createCall(RestClient.this);
 
 							rc.serializer(serializer).parser(parser);
 
@@ -677,47 +681,8 @@ public class RestClient extends CoreObject {
 							if (rmm.getBodyArg() != null)
 								rc.input(args[rmm.getBodyArg()]);
 
-							if (rmm.getRequestBeanArgs().length > 0) {
-								BeanSession bs = getBeanContext().createSession();
-								for (RemoteMethodArg rma : rmm.getRequestBeanArgs()) {
-									BeanMap<?> bm = bs.toBeanMap(args[rma.index]); 
-
-									for (BeanPropertyValue bpv : bm.getValues(false)) {
-										BeanPropertyMeta pMeta = bpv.getMeta();
-										Object val = bpv.getValue();
-
-										Path p = pMeta.getAnnotation(Path.class);
-										if (p != null)
-											rc.path(getName(p.name(), p.value(), pMeta), val, getPartSerializer(p.serializer(), rma.serializer));
-
-										if (val != null) {
-											Query q1 = pMeta.getAnnotation(Query.class);
-											if (q1 != null)
-												rc.query(getName(q1.name(), q1.value(), pMeta), val, q1.skipIfEmpty(), getPartSerializer(q1.serializer(), rma.serializer));
-
-											QueryIfNE q2 = pMeta.getAnnotation(QueryIfNE.class);
-											if (q2 != null)
-												rc.query(getName(q2.name(), q2.value(), pMeta), val, true, getPartSerializer(q2.serializer(), rma.serializer));
-
-											FormData f1 = pMeta.getAnnotation(FormData.class);
-											if (f1 != null)
-												rc.formData(getName(f1.name(), f1.value(), pMeta), val, f1.skipIfEmpty(), getPartSerializer(f1.serializer(), rma.serializer));
-
-											FormDataIfNE f2 = pMeta.getAnnotation(FormDataIfNE.class);
-											if (f2 != null)
-												rc.formData(getName(f2.name(), f2.value(), pMeta), val, true, getPartSerializer(f2.serializer(), rma.serializer));
-
-											org.apache.juneau.remoteable.Header h1 = pMeta.getAnnotation(org.apache.juneau.remoteable.Header.class);
-											if (h1 != null)
-												rc.header(getName(h1.name(), h1.value(), pMeta), val, h1.skipIfEmpty(), getPartSerializer(h1.serializer(), rma.serializer));
-
-											HeaderIfNE h2 = pMeta.getAnnotation(HeaderIfNE.class);
-											if (h2 != null)
-												rc.header(getName(h2.name(), h2.value(), pMeta), val, true, getPartSerializer(h2.serializer(), rma.serializer));
-										}
-									}
-								}
-							}
+							if (rmm.getRequestBeanArgs().length > 0)
+								plan.addRequestBeanParts(rc, getBeanContext().createSession(), args);
 
 							if (rmm.getOtherArgs().length > 0) {
 								Object[] otherArgs = new Object[rmm.getOtherArgs().length];
@@ -727,21 +692,33 @@ public class RestClient extends CoreObject {
 								rc.input(otherArgs);
 							}
 
-							if (rmm.getReturns() == ReturnValue.HTTP_STATUS) {
-								rc.ignoreErrors();
-								int returnCode = rc.run();
-								Class<?> rt = method.getReturnType();
-								if (rt == Integer.class || rt == int.class)
-									return returnCode;
-								if (rt == Boolean.class || rt == boolean.class)
-									return returnCode < 400;
-								throw new RestCallException("Invalid return type on method annotated with @RemoteableMethod(returns=HTTP_STATUS).  Only integer and booleans types are valid.");
+							if (plan.isAsync()) {
+								final RemoteableMethodPlan plan2 = plan;
+								return rc.submit(
+									new Callable<Object>() {
+										@Override /* Callable */
+										public Object call() throws Exception {
+											try {
+												return plan2.getResult(rc);
+											} catch (RestCallException e) {
+												// Try to throw original exception if possible.
+												try {
+													e.throwServerException(interfaceClass.getClassLoader());
+												} catch (Exception e2) {
+													throw e2;
+												} catch (Error e2) {
+													throw e2;
+												} catch (Throwable e2) {
+													throw new RuntimeException(e2);
+												}
+												throw e;
+											}
+										}
+									}
+								);
 							}
 
-							Object v = rc.getResponse(method.getGenericReturnType());
-							if (v == null && method.getReturnType().isPrimitive())
-								v = ClassUtils.getPrimitiveDefault(method.getReturnType());
-							return v;
+							return plan.getResult(rc);
 
 						} catch (RestCallException e) {
 							// Try to throw original exception if possible.
@@ -820,6 +797,10 @@ public class RestClient extends CoreObject {
 		}
 	}
 
+	RestCallScheduler getScheduler() {
+		return scheduler;
+	}
+
 	@Override
 	protected void finalize() throws Throwable {
 		if (! isClosed && ! keepHttpClientOpen) {
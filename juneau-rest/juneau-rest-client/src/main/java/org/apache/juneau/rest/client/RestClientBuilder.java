@@ -78,8 +78,11 @@ public class RestClientBuilder extends CoreObjectBuilder {
 	private int retries = 1;
 	private long retryInterval = -1;
 	private RetryOn retryOn = RetryOn.DEFAULT;
+	private boolean bufferRequestBodies;
+	private int requestBodyMaxInMemorySize = RestRequestEntity.DEFAULT_MAX_IN_MEMORY_SIZE;
 	private boolean debug, executorServiceShutdownOnClose;
 	private ExecutorService executorService;
+	private int maxConcurrentCallsPerRoute = Integer.MAX_VALUE, maxQueuedCallsPerRoute = Integer.MAX_VALUE;
 
 	/**
 	 * Constructor, default settings.
@@ -157,7 +160,7 @@ public class RestClientBuilder extends CoreObjectBuilder {
 					pf = partSerializerClass.newInstance();
 			}
 
-			return new RestClient(propertyStore, httpClient, keepHttpClientOpen, s, p, us, pf, headers, intercepters, rootUrl, retryOn, retries, retryInterval, debug, executorService, executorServiceShutdownOnClose);
+			return new RestClient(propertyStore, httpClient, keepHttpClientOpen, s, p, us, pf, headers, intercepters, rootUrl, retryOn, retries, retryInterval, bufferRequestBodies, requestBodyMaxInMemorySize, debug, executorService, executorServiceShutdownOnClose, maxConcurrentCallsPerRoute, maxQueuedCallsPerRoute);
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -356,6 +359,42 @@ public class RestClientBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	/**
+	 * Serialize request bodies once into a buffer instead of streaming them to the connection.
+	 *
+	 * <p>
+	 * By default, POJOs passed as request bodies are serialized straight to the connection using chunked transfer
+	 * encoding, and serialized again if the request needs to be resent.
+	 * Buffered bodies are sent with a <code>Content-Length</code> header and replayed from the buffer on retries and
+	 * redirects, which also makes {@link java.io.InputStream} and {@link java.io.Reader} bodies retryable.
+	 *
+	 * <p>
+	 * Bodies of retryable calls with {@link java.io.InputStream} or {@link java.io.Reader} inputs are always buffered.
+	 *
+	 * @param value The new value for this setting.  The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 * @see #requestBodyMaxInMemorySize(int)
+	 */
+	public RestClientBuilder bufferRequestBodies(boolean value) {
+		this.bufferRequestBodies = value;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of bytes of a buffered request body to hold in memory.
+	 *
+	 * <p>
+	 * Larger bodies are spilled to a temporary file that is deleted when the call is closed.
+	 *
+	 * @param bytes The new value for this setting.  The default is {@link RestRequestEntity#DEFAULT_MAX_IN_MEMORY_SIZE}.
+	 * @return This object (for method chaining).
+	 * @see #bufferRequestBodies(boolean)
+	 */
+	public RestClientBuilder requestBodyMaxInMemorySize(int bytes) {
+		this.requestBodyMaxInMemorySize = bytes;
+		return this;
+	}
+
 	/**
 	 * When called, the {@link #createConnectionManager()} method will return a {@link PoolingHttpClientConnectionManager}
 	 * instead of a {@link BasicHttpClientConnectionManager}.
@@ -480,6 +519,7 @@ public class RestClientBuilder extends CoreObjectBuilder {
 	 * 	<li>{@link RestCall#getResponseFuture(Class)}
 	 * 	<li>{@link RestCall#getResponseFuture(Type,Type...)}
 	 * 	<li>{@link RestCall#getResponseAsString()}
+	 * 	<li>Remoteable proxy methods that return a {@link Future}.
 	 * </ul>
 	 *
 	 * <p>
@@ -496,6 +536,42 @@ public class RestClientBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	/**
+	 * Limits the number of asynchronous calls running at the same time against a single route.
+	 *
+	 * <p>
+	 * A route is the scheme, host, and port of the request URL.
+	 * Asynchronous calls beyond this limit wait in a per-route queue without occupying a thread of the
+	 * {@link #executorService(ExecutorService, boolean) executor service}, and run as earlier calls to the same route
+	 * complete.
+	 * This keeps a fan-out to many backends from being held up by a single slow backend, and bounds the number of
+	 * threads needed to roughly the number of routes times this limit.
+	 *
+	 * @param value The new value for this setting.  The default is unlimited.
+	 * @return This object (for method chaining).
+	 * @see #maxQueuedCallsPerRoute(int)
+	 */
+	public RestClientBuilder maxConcurrentCallsPerRoute(int value) {
+		this.maxConcurrentCallsPerRoute = value;
+		return this;
+	}
+
+	/**
+	 * Limits the number of asynchronous calls waiting to run against a single route.
+	 *
+	 * <p>
+	 * Once the queue of a route is full, new asynchronous calls to that route fail immediately with a
+	 * {@link RejectedExecutionException}.
+	 *
+	 * @param value The new value for this setting.  The default is unlimited.
+	 * @return This object (for method chaining).
+	 * @see #maxConcurrentCallsPerRoute(int)
+	 */
+	public RestClientBuilder maxQueuedCallsPerRoute(int value) {
+		this.maxQueuedCallsPerRoute = value;
+		return this;
+	}
+
 
 	//--------------------------------------------------------------------------------
 	// HTTP headers
@@ -1290,6 +1366,12 @@ public class RestClientBuilder extends CoreObjectBuilder {
 		return this;
 	}
 
+	@Override /* CoreObjectBuilder */
+	public RestClientBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* CoreObjectBuilder */
 	public RestClientBuilder ignoreUnknownBeanProperties(boolean value) {
 		super.ignoreUnknownBeanProperties(value);
@@ -15,36 +15,87 @@ package org.apache.juneau.rest.client;
 import static org.apache.juneau.internal.IOUtils.*;
 
 import java.io.*;
+import java.util.*;
 
 import org.apache.http.entity.*;
 import org.apache.http.message.*;
+import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.utils.*;
 
 /**
  * HttpEntity for serializing POJOs as the body of HTTP requests.
+ *
+ * <p>
+ * Entities are either streaming or buffered:
+ * <ul>
+ * 	<li>Streaming entities (the default) are serialized straight to the connection using chunked transfer encoding.
+ * 		If the request has to be sent again (e.g. retries or redirects), the POJO is simply serialized again.
+ * 		Entities wrapping an {@link InputStream} or {@link Reader} can only be sent once.
+ * 	<li>Buffered entities are serialized once and sent with a <code>Content-Length</code> header.
+ * 		Bodies larger than the maximum in-memory size are spilled to a temporary file instead of being held in the
+ * 		heap.
+ * </ul>
  */
 public final class RestRequestEntity extends BasicHttpEntity {
+
+	/**
+	 * Default maximum number of bytes of a buffered request body to keep in memory before spilling to a temporary file.
+	 */
+	public static final int DEFAULT_MAX_IN_MEMORY_SIZE = 1024*1024;
+
 	final Object output;
 	final Serializer serializer;
-	byte[] outputBytes;
+	private final boolean buffered;
+	private final int maxInMemorySize;
+	private SpillBuffer buffer;
+	private List<SpillBuffer> contentBuffers;
 
 	/**
 	 * Constructor.
 	 *
+	 * <p>
+	 * Creates a streaming entity.
+	 *
 	 * @param input The POJO to serialize.  Can also be a {@link Reader} or {@link InputStream}.
 	 * @param serializer The serializer to use to serialize this response.
 	 */
 	public RestRequestEntity(Object input, Serializer serializer) {
+		this(input, serializer, false, DEFAULT_MAX_IN_MEMORY_SIZE);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param input The POJO to serialize.  Can also be a {@link Reader} or {@link InputStream}.
+	 * @param serializer The serializer to use to serialize this response.
+	 * @param buffered
+	 * 	If <jk>true</jk>, the body is serialized once and replayed from a buffer.
+	 * 	If <jk>false</jk>, the body is streamed to the connection using chunked transfer encoding.
+	 * @param maxInMemorySize
+	 * 	The maximum number of bytes of the body to hold in memory.
+	 * 	Larger bodies are spilled to a temporary file.
+	 */
+	public RestRequestEntity(Object input, Serializer serializer, boolean buffered, int maxInMemorySize) {
 		this.output = input;
 		this.serializer = serializer;
+		this.buffered = buffered;
+		this.maxInMemorySize = maxInMemorySize;
+		setChunked(! buffered);
 		if (serializer != null && serializer.getResponseContentType() != null)
 			setContentType(new BasicHeader("Content-Type", serializer.getResponseContentType().toString()));
 	}
 
 	@Override /* BasicHttpEntity */
 	public void writeTo(OutputStream os) throws IOException {
+		if (buffered)
+			getBuffer().writeTo(os);
+		else
+			serialize(os);
+	}
+
+	private void serialize(OutputStream os) throws IOException {
 		os = new NoCloseOutputStream(os);
 		if (output instanceof InputStream) {
 			IOPipe.create(output, os).run();
@@ -69,21 +120,178 @@ public final class RestRequestEntity extends BasicHttpEntity {
 		}
 	}
 
+	private synchronized SpillBuffer getBuffer() throws IOException {
+		if (buffer == null) {
+			SpillBuffer b = new SpillBuffer(maxInMemorySize);
+			try {
+				serialize(b);
+				b.close();
+			} catch (IOException e) {
+				b.delete();
+				throw e;
+			}
+			buffer = b;
+		}
+		return buffer;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this entity is serialized once and replayed from a buffer.
+	 *
+	 * @return <jk>true</jk> if this entity is buffered.
+	 */
+	public boolean isBuffered() {
+		return buffered;
+	}
+
 	@Override /* BasicHttpEntity */
 	public boolean isRepeatable() {
-		return true;
+		return buffered || ! (output instanceof InputStream || output instanceof Reader);
+	}
+
+	@Override /* BasicHttpEntity */
+	public long getContentLength() {
+		if (! buffered)
+			return -1;
+		try {
+			return getBuffer().size();
+		} catch (IOException e) {
+			throw new BeanRuntimeException(e);
+		}
 	}
 
 	@Override /* BasicHttpEntity */
 	public InputStream getContent() {
-		if (outputBytes == null) {
-			try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-				writeTo(baos);
-				outputBytes = baos.toByteArray();
+		try {
+			if (buffered)
+				return getBuffer().getInputStream(false);
+			SpillBuffer b = new SpillBuffer(maxInMemorySize);
+			try {
+				serialize(b);
+				b.close();
 			} catch (IOException e) {
-				throw new RuntimeException(e);
+				b.delete();
+				throw e;
 			}
+			synchronized (this) {
+				if (contentBuffers == null)
+					contentBuffers = new ArrayList<>();
+				contentBuffers.add(b);
+			}
+			return b.getInputStream(true);
+		} catch (IOException e) {
+			throw new BeanRuntimeException(e);
+		}
+	}
+
+	/**
+	 * Deletes the temporary files holding the body of this entity, if there are any.
+	 *
+	 * <p>
+	 * This includes the buffer of a buffered entity and the files behind streams returned by {@link #getContent()} that
+	 * the caller never closed.
+	 */
+	synchronized void release() {
+		if (buffer != null) {
+			buffer.delete();
+			buffer = null;
+		}
+		if (contentBuffers != null) {
+			for (SpillBuffer b : contentBuffers)
+				b.delete();
+			contentBuffers = null;
+		}
+	}
+
+	/**
+	 * Output stream that keeps the first bytes written in memory, and spills to a temporary file past a threshold.
+	 */
+	private static final class SpillBuffer extends OutputStream {
+		private final int maxInMemorySize;
+		private Bytes bytes = new Bytes();
+		private File file;
+		private OutputStream fos;
+		private long size;
+
+		SpillBuffer(int maxInMemorySize) {
+			this.maxInMemorySize = maxInMemorySize;
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) throws IOException {
+			if (file == null && size + 1 > maxInMemorySize)
+				spill();
+			if (file == null)
+				bytes.write(b);
+			else
+				fos.write(b);
+			size++;
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (file == null && size + len > maxInMemorySize)
+				spill();
+			if (file == null)
+				bytes.write(b, off, len);
+			else
+				fos.write(b, off, len);
+			size += len;
+		}
+
+		private void spill() throws IOException {
+			file = FileUtils.createTempFile("juneau.body");
+			fos = new BufferedOutputStream(new FileOutputStream(file));
+			bytes.writeTo(fos);
+			bytes = null;
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			if (fos != null)
+				fos.close();
+		}
+
+		long size() {
+			return size;
+		}
+
+		void writeTo(OutputStream os) throws IOException {
+			if (file == null) {
+				bytes.writeTo(os);
+			} else {
+				try (InputStream is = new FileInputStream(file)) {
+					pipe(is, os);
+				}
+			}
+		}
+
+		InputStream getInputStream(boolean deleteOnClose) throws IOException {
+			if (file == null)
+				return bytes.getInputStream();
+			if (! deleteOnClose)
+				return new FileInputStream(file);
+			return new FilterInputStream(new FileInputStream(file)) {
+				@Override /* InputStream */
+				public void close() throws IOException {
+					super.close();
+					delete();
+				}
+			};
+		}
+
+		void delete() {
+			if (file != null)
+				file.delete();
+		}
+	}
+
+	/**
+	 * ByteArrayOutputStream that can be read back without copying its contents.
+	 */
+	private static final class Bytes extends ByteArrayOutputStream {
+		InputStream getInputStream() {
+			return new ByteArrayInputStream(buf, 0, count);
 		}
-		return new ByteArrayInputStream(outputBytes);
 	}
 }
@@ -20,6 +20,7 @@ import static org.apache.juneau.internal.Utils.*;
 import static org.apache.juneau.rest.annotation.Inherit.*;
 
 import java.lang.annotation.*;
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
 
@@ -55,6 +56,8 @@ class CallMethod implements Comparable<CallMethod>  {
 	private final UrlEncodingParser urlEncodingParser;
 	private final UrlEncodingSerializer urlEncodingSerializer;
 	private final ObjectMap properties;
+	private final Map<String,VarTemplate> propertyTemplates;  // Precompiled property values that contain vars.
+	private final boolean sessionPooling;
 	private final Map<String,String> defaultRequestHeaders, defaultQuery, defaultFormData;
 	private final String defaultCharset;
 	private final long maxInput;
@@ -66,6 +69,9 @@ class CallMethod implements Comparable<CallMethod>  {
 	private final RestContext context;
 	private final BeanContext beanContext;
 	private final Map<String,Widget> widgets;
+	private final MethodHandle invoker;  // (Object[])Object handle bound to the resource, or null to use reflection.
+	private final Class<?>[] invokerArgTypes;  // Boxed parameter types accepted by the invoker.
+	private final boolean[] invokerArgPrimitive;  // Parameters that can't be passed null.
 
 	CallMethod(Object servlet, java.lang.reflect.Method method, RestContext context) throws RestServletException {
 		Builder b = new Builder(servlet, method, context);
@@ -85,6 +91,8 @@ class CallMethod implements Comparable<CallMethod>  {
 		this.urlEncodingSerializer = b.urlEncodingSerializer;
 		this.beanContext = b.beanContext;
 		this.properties = b.properties;
+		this.propertyTemplates = compileVars(context.getVarResolver(), b.properties);
+		this.sessionPooling = b.sessionPooling;
 		this.defaultRequestHeaders = b.defaultRequestHeaders;
 		this.defaultQuery = b.defaultQuery;
 		this.defaultFormData = b.defaultFormData;
@@ -99,6 +107,82 @@ class CallMethod implements Comparable<CallMethod>  {
 		this.parameters = b.parameters;
 		this.responses = b.responses;
 		this.widgets = Collections.unmodifiableMap(b.widgets);
+		this.invoker = createInvoker(servlet, method);
+		Class<?>[] pt = method.getParameterTypes();
+		this.invokerArgTypes = new Class<?>[pt.length];
+		this.invokerArgPrimitive = new boolean[pt.length];
+		for (int i = 0; i < pt.length; i++) {
+			invokerArgTypes[i] = getWrapperIfPrimitive(pt[i]);
+			invokerArgPrimitive[i] = pt[i].isPrimitive();
+		}
+	}
+
+	/*
+	 * Compiles the string values (and elements of string array values such as the @HtmlDoc settings) of the properties
+	 * that contain vars, so that they aren't rescanned every time they're read during a request.
+	 */
+	private static Map<String,VarTemplate> compileVars(VarResolver vr, ObjectMap properties) {
+		Map<String,VarTemplate> m = new HashMap<>();
+		for (Map<String,Object> p = properties; p != null; p = p instanceof ObjectMap ? ((ObjectMap)p).getInner() : null) {
+			for (Object o : p.values()) {
+				if (o instanceof String)
+					compileVar(vr, m, (String)o);
+				else if (o instanceof String[])
+					for (String s : (String[])o)
+						compileVar(vr, m, s);
+			}
+		}
+		return Collections.unmodifiableMap(m);
+	}
+
+	private static void compileVar(VarResolver vr, Map<String,VarTemplate> m, String s) {
+		if (s != null && s.indexOf('$') != -1 && ! m.containsKey(s))
+			m.put(s, vr.compile(s));
+	}
+
+	/*
+	 * Creates a method handle that takes the resolved arguments as an Object[] and returns the method output.
+	 * Returns null if the method can't be converted to a handle, in which case reflection is used instead.
+	 */
+	private static MethodHandle createInvoker(Object resource, java.lang.reflect.Method method) {
+		try {
+			MethodHandle mh = MethodHandles.lookup().unreflect(method).asFixedArity();
+			if (! Modifier.isStatic(method.getModifiers()))
+				mh = mh.bindTo(resource);
+			return mh
+				.asSpreader(Object[].class, method.getParameterTypes().length)
+				.asType(MethodType.methodType(Object.class, Object[].class));
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Invokes the Java method.
+	 * Errors are reported exactly as Method.invoke() reports them.
+	 */
+	private Object invokeMethod(Object[] args) throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		if (invoker == null || ! isInvokerCompatible(args))
+			return method.invoke(context.getResource(), args);
+		try {
+			return invoker.invokeExact(args);
+		} catch (Throwable t) {
+			// Arguments were validated above, so anything thrown here came from the method itself.
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	/*
+	 * Returns true if the arguments can be passed to the invoker without conversion.
+	 * Otherwise Method.invoke() is used so that it can apply widening conversions or throw IllegalArgumentException.
+	 */
+	private boolean isInvokerCompatible(Object[] args) {
+		for (int i = 0; i < args.length; i++) {
+			Object a = args[i];
+			if (a == null ? invokerArgPrimitive[i] : ! invokerArgTypes[i].isInstance(a))
+				return false;
+		}
+		return true;
 	}
 
 	private static final class Builder  {
@@ -116,7 +200,7 @@ class CallMethod implements Comparable<CallMethod>  {
 		BeanContext beanContext;
 		ObjectMap properties;
 		Map<String,String> defaultRequestHeaders, defaultQuery, defaultFormData;
-		boolean plainParams, deprecated;
+		boolean plainParams, deprecated, sessionPooling;
 		long maxInput;
 		Integer priority;
 		org.apache.juneau.rest.annotation.Parameter[] parameters;
@@ -307,6 +391,10 @@ class CallMethod implements Comparable<CallMethod>  {
 						properties.put(p1, true);
 				}
 
+				// Serializer and parser sessions can only be reused across requests if none of the properties
+				// resolve to request-specific values.
+				sessionPooling = ! RestUtils.containsVars(properties);
+
 				if (m.encoders().length > 0 || ! m.inheritEncoders()) {
 					EncoderGroupBuilder g = EncoderGroup.create();
 					if (m.inheritEncoders())
@@ -765,9 +853,9 @@ class CallMethod implements Comparable<CallMethod>  {
 			req.getPathMatch().put(pathPattern.getVars()[i], patternVals[i]);
 		req.getPathMatch().setRemainder(remainder);
 
-		ObjectMap requestProperties = new ResolvingObjectMap(req.getVarResolverSession()).setInner(properties);
+		ObjectMap requestProperties = new ResolvingObjectMap(req.getVarResolverSession(), propertyTemplates).setInner(properties);
 
-		req.init(method, requestProperties, defaultRequestHeaders, defaultQuery, defaultFormData, defaultCharset,
+		req.init(method, requestProperties, sessionPooling, defaultRequestHeaders, defaultQuery, defaultFormData, defaultCharset,
 			maxInput, serializers, parsers, urlEncodingParser, beanContext, encoders, widgets);
 		res.init(requestProperties, defaultCharset, serializers, urlEncodingSerializer, encoders);
 
@@ -810,7 +898,7 @@ class CallMethod implements Comparable<CallMethod>  {
 				if (! guard.guard(req, res))
 					return SC_OK;
 
-			Object output = method.invoke(context.getResource(), args);
+			Object output = invokeMethod(args);
 			if (! method.getReturnType().equals(Void.TYPE))
 				if (output != null || ! res.getOutputStreamCalled())
 					res.setOutput(output);
@@ -819,9 +907,14 @@ class CallMethod implements Comparable<CallMethod>  {
 
 			if (res.hasOutput()) {
 				output = res.getOutput();
-				for (RestConverter converter : converters)
-					output = converter.convert(req, output, beanContext.getClassMetaForObject(output));
-				res.setOutput(output);
+				if (output instanceof DeferredOutput) {
+					// Converters are applied once the output is available.
+					((DeferredOutput<?>)output).converters = converters;
+				} else {
+					for (RestConverter converter : converters)
+						output = converter.convert(req, output, beanContext.getClassMetaForObject(output));
+					res.setOutput(output);
+				}
 			}
 		} catch (IllegalArgumentException e) {
 			throw new RestException(SC_BAD_REQUEST,
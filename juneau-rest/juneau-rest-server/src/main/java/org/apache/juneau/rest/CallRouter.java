@@ -25,12 +25,28 @@ import javax.servlet.http.*;
  * <p>
  * Incoming requests for a particular HTTP method type (e.g. <js>"GET"</js>) are handed off to this class and then
  * dispatched to the appropriate CallMethod.
+ *
+ * <p>
+ * Path patterns are indexed in a segment trie (literal segments, then <js>"{var}"</js> segments, then
+ * <js>"/*"</js> remainders) so that only the CallMethods whose paths can possibly match the request are tried.
+ * Candidates are still tried in {@link CallMethod#compareTo(CallMethod)} order, and guards, matchers, and the path
+ * regular expression itself are only evaluated on the candidates.
  */
 class CallRouter {
 	private final CallMethod[] callMethods;
+	private final Node root;
+	private final int[] always;  // Indexes of methods whose paths can't be indexed and must always be tried.
 
 	CallRouter(CallMethod[] callMethods) {
 		this.callMethods = callMethods;
+		this.root = new Node();
+		List<Integer> l = new ArrayList<>();
+		for (int i = 0; i < callMethods.length; i++)
+			if (! root.add(callMethods[i].getPathPattern(), i))
+				l.add(i);
+		this.always = new int[l.size()];
+		for (int i = 0; i < always.length; i++)
+			always[i] = l.get(i);
 	}
 
 	/**
@@ -79,9 +95,12 @@ class CallRouter {
 		if (callMethods.length == 1)
 			return callMethods[0].invoke(pathInfo, req, res);
 
-		int maxRc = 0;
-		for (CallMethod m : callMethods) {
-			int rc = m.invoke(pathInfo, req, res);
+		BitSet candidates = findCandidates(pathInfo);
+
+		// Methods skipped by the trie would have returned SC_NOT_FOUND.
+		int maxRc = candidates.cardinality() < callMethods.length ? SC_NOT_FOUND : 0;
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i+1)) {
+			int rc = callMethods[i].invoke(pathInfo, req, res);
 			if (rc == SC_OK)
 				return SC_OK;
 			maxRc = Math.max(maxRc, rc);
@@ -89,6 +108,140 @@ class CallRouter {
 		return maxRc;
 	}
 
+	/**
+	 * Returns the indexes of the CallMethods whose path patterns could match the specified path.
+	 *
+	 * <p>
+	 * The result is a superset of the methods that actually match.
+	 */
+	BitSet findCandidates(String pathInfo) {
+		BitSet b = new BitSet(callMethods.length);
+		for (int i : always)
+			b.set(i);
+		if (pathInfo == null) {
+			// Only the "/" and "/*" patterns match a null path.
+			root.collectTerminal(b);
+		} else {
+			int start = pathInfo.startsWith("/") ? 1 : 0;
+			root.find(pathInfo.substring(start).split("/", -1), 0, b);
+		}
+		return b;
+	}
+
+	/**
+	 * A node in the path segment trie.
+	 */
+	private static final class Node {
+		private Map<String,Node> literals;
+		private Node var;
+		private List<Integer> terminal, remainder;
+
+		/**
+		 * Adds the specified path pattern to this trie.
+		 *
+		 * @return <jk>false</jk> if the pattern cannot be represented in the trie.
+		 */
+		boolean add(String pattern, int index) {
+			if (pattern.startsWith("/"))
+				pattern = pattern.substring(1);
+			if (pattern.equals("*"))
+				return false;
+			boolean isRemainder = pattern.endsWith("/*");
+			if (isRemainder)
+				pattern = pattern.substring(0, pattern.length()-2);
+			String[] segments = pattern.isEmpty() ? new String[0] : pattern.split("/", -1);
+			for (String s : segments)
+				if (getSegmentType(s) == OPAQUE)
+					return false;
+			Node n = this;
+			for (String s : segments) {
+				if (getSegmentType(s) == LITERAL) {
+					if (n.literals == null)
+						n.literals = new HashMap<>();
+					Node n2 = n.literals.get(s);
+					if (n2 == null) {
+						n2 = new Node();
+						n.literals.put(s, n2);
+					}
+					n = n2;
+				} else {
+					if (n.var == null)
+						n.var = new Node();
+					n = n.var;
+				}
+			}
+			if (isRemainder) {
+				if (n.remainder == null)
+					n.remainder = new ArrayList<>();
+				n.remainder.add(index);
+			} else {
+				if (n.terminal == null)
+					n.terminal = new ArrayList<>();
+				n.terminal.add(index);
+			}
+			return true;
+		}
+
+		void find(String[] segments, int i, BitSet b) {
+			if (remainder != null)
+				for (int x : remainder)
+					b.set(x);
+			if (terminal != null && isTrailingSlashes(segments, i))
+				for (int x : terminal)
+					b.set(x);
+			if (i == segments.length)
+				return;
+			String s = segments[i];
+			if (literals != null) {
+				Node n = literals.get(s);
+				if (n != null)
+					n.find(segments, i+1, b);
+			}
+			if (var != null && ! s.isEmpty())
+				var.find(segments, i+1, b);
+		}
+
+		void collectTerminal(BitSet b) {
+			if (terminal != null)
+				for (int x : terminal)
+					b.set(x);
+		}
+
+		// Non-remainder patterns ignore trailing slashes on the path.
+		private static boolean isTrailingSlashes(String[] segments, int i) {
+			for (; i < segments.length; i++)
+				if (! segments[i].isEmpty())
+					return false;
+			return true;
+		}
+	}
+
+	private static final int LITERAL = 0, VAR = 1, OPAQUE = 2;
+
+	/*
+	 * Path patterns are turned into regular expressions without escaping, so only segments made up of plain characters
+	 * can be indexed as literals.  A segment containing a "{var}" anywhere matches any non-empty segment.
+	 * Anything else (regex characters, wildcards in the middle of the path) can't be indexed.
+	 */
+	private static int getSegmentType(String s) {
+		if (s.isEmpty())
+			return OPAQUE;
+		boolean hasVar = false;
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c == '{') {
+				int j = s.indexOf('}', i);
+				if (j == -1)
+					return OPAQUE;
+				hasVar = true;
+				i = j;
+			} else if ("\\.[]{}()*+?^$|".indexOf(c) != -1) {
+				return OPAQUE;
+			}
+		}
+		return hasVar ? VAR : LITERAL;
+	}
+
 	@Override /* Object */
 	public String toString() {
 		StringBuilder sb = new StringBuilder("CallRouter: [\n");
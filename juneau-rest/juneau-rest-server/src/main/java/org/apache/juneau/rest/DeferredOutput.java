@@ -0,0 +1,178 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static javax.servlet.http.HttpServletResponse.*;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * Output of a {@link RestMethod @RestMethod} method that becomes available later.
+ *
+ * <p>
+ * Returning one of these from a Java method lets the container thread go back to the pool while the output is being
+ * produced (e.g. while waiting on calls to slow backends).
+ * The response is serialized and sent once {@link #complete(Object)} or {@link #fail(Throwable)} is called, from
+ * whichever thread calls it.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	<ja>@RestMethod</ja>(name=<js>"GET"</js>, path=<js>"/quote"</js>)
+ * 	<jk>public</jk> DeferredOutput&lt;Quote&gt; getQuote() {
+ * 		<jk>final</jk> DeferredOutput&lt;Quote&gt; d = <jk>new</jk> DeferredOutput&lt;&gt;(5000);
+ * 		backend.getResponseFuture(Quote.<jk>class</jk>).addCallback(<jk>new</jk> RestCallFuture.Callback&lt;Quote&gt;() {
+ * 			<jk>public void</jk> onSuccess(Quote q) { d.complete(q); }
+ * 			<jk>public void</jk> onFailure(Throwable t) { d.fail(t); }
+ * 		});
+ * 		<jk>return</jk> d;
+ * 	}
+ * </p>
+ *
+ * <p>
+ * Asynchronous processing requires the servlet to be registered with async support enabled
+ * (e.g. <code>&lt;async-supported&gt;true&lt;/async-supported&gt;</code> in <code>web.xml</code>).
+ * Otherwise, the container thread simply waits for the output.
+ *
+ * @param <T> The output type.
+ */
+public final class DeferredOutput<T> {
+
+	private final long timeout;
+	private final CountDownLatch latch = new CountDownLatch(1);
+	private T output;
+	private Throwable error;
+	private boolean done;
+	private Runnable listener;
+	RestConverter[] converters = new RestConverter[0];
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Uses the default asynchronous timeout of the servlet container.
+	 */
+	public DeferredOutput() {
+		this(0);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param timeout
+	 * 	The maximum time in milliseconds to wait for the output.
+	 * 	If the output isn't available in time, the request fails with a <code>503 Service Unavailable</code>.
+	 * 	If <code>0</code>, the default asynchronous timeout of the servlet container is used.
+	 */
+	public DeferredOutput(long timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Sets the output of the Java method.
+	 *
+	 * @param output The output to serialize in the response.
+	 * @return <jk>true</jk> if the output was set, <jk>false</jk> if this object was already completed or failed.
+	 */
+	public boolean complete(T output) {
+		return finish(output, null);
+	}
+
+	/**
+	 * Fails the request.
+	 *
+	 * <p>
+	 * {@link RestException RestExceptions} are rendered with their own status code.
+	 * Other exceptions are rendered as <code>500 Internal Server Error</code>.
+	 *
+	 * @param t The exception that caused the failure.
+	 * @return <jk>true</jk> if the failure was set, <jk>false</jk> if this object was already completed or failed.
+	 */
+	public boolean fail(Throwable t) {
+		return finish(null, t == null ? new NullPointerException() : t);
+	}
+
+	private boolean finish(T output, Throwable error) {
+		Runnable l;
+		synchronized (this) {
+			if (done)
+				return false;
+			this.output = output;
+			this.error = error;
+			this.done = true;
+			l = listener;
+		}
+		latch.countDown();
+		if (l != null)
+			l.run();
+		return true;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this object has been completed or failed.
+	 *
+	 * @return <jk>true</jk> if this object has been completed or failed.
+	 */
+	public synchronized boolean isDone() {
+		return done;
+	}
+
+	/**
+	 * Returns the maximum time to wait for the output.
+	 *
+	 * @return The maximum time in milliseconds to wait for the output, or <code>0</code> to use the container default.
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Registers the code to run once this object is completed or failed.
+	 *
+	 * <p>
+	 * If this object is already done, the listener is run immediately on the current thread.
+	 */
+	void onDone(Runnable listener) {
+		synchronized (this) {
+			if (! done) {
+				this.listener = listener;
+				return;
+			}
+		}
+		listener.run();
+	}
+
+	/**
+	 * Returns the output, waiting for it if necessary.
+	 *
+	 * <p>
+	 * Used when the servlet does not support asynchronous processing.
+	 *
+	 * @return The output.
+	 * @throws Throwable The exception passed to {@link #fail(Throwable)}.
+	 */
+	T get() throws Throwable {
+		if (timeout > 0) {
+			if (! latch.await(timeout, TimeUnit.MILLISECONDS))
+				fail(new RestException(SC_SERVICE_UNAVAILABLE, "Timed out waiting for the response."));
+		} else {
+			latch.await();
+		}
+		synchronized (this) {
+			if (error != null)
+				throw error;
+			return output;
+		}
+	}
+}
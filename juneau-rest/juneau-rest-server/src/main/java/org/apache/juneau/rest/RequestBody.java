@@ -373,9 +373,14 @@ public class RequestBody {
 				MediaType mediaType = pm.getMediaType();
 				try {
 					req.getProperties().append("mediaType", mediaType).append("characterEncoding", req.getCharacterEncoding());
-					ParserSession session = p.createSession(new ParserSessionArgs(req.getProperties(), req.getJavaMethod(), locale, timeZone, mediaType, req.getContext().getResource()));
+					ParserSessionArgs args = new ParserSessionArgs(req.getProperties(), req.getJavaMethod(), locale, timeZone, mediaType, req.getContext().getResource());
+					boolean pooled = req.canPoolSessions();
+					ParserSession session = pooled ? p.acquireSession(args) : p.createSession(args);
 					try (Closeable in = session.isReaderParser() ? getUnbufferedReader() : getInputStream()) {
-						return session.parse(in, cm);
+						T o = session.parse(in, cm);
+						if (pooled)
+							p.releaseSession(session);
+						return o;
 					}
 				} catch (ParseException e) {
 					throw new RestException(SC_BAD_REQUEST,
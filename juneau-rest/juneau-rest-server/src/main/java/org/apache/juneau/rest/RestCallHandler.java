@@ -23,6 +23,10 @@ import java.util.*;
 import javax.servlet.*;
 import javax.servlet.http.*;
 
+import org.apache.juneau.*;
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.http.*;
+import org.apache.juneau.parser.*;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.vars.*;
 
@@ -138,18 +142,17 @@ public class RestCallHandler {
 			String method = req.getMethod();
 			String methodUC = method.toUpperCase(Locale.ENGLISH);
 
-			StreamResource r = null;
+			StaticFile r = null;
 			if (pathInfo != null) {
 				String p = pathInfo.substring(1);
 				if (context.isStaticFile(p))
-					r = context.resolveStaticFile(p);
+					r = context.getStaticFile(p);
 				else if (p.equals("favicon.ico"))
 					res.setOutput(null);
 			}
 
 			if (r != null) {
-				res.setStatus(SC_OK);
-				res.setOutput(r);
+				handleStaticFile(req, res, r);
 			} else {
 				// If the specified method has been defined in a subclass, invoke it.
 				int rc = SC_METHOD_NOT_ALLOWED;
@@ -164,22 +167,17 @@ public class RestCallHandler {
 					handleNotFound(rc, req, res);
 			}
 
-			if (res.hasOutput()) {
-				Object output = res.getOutput();
-
-				// Do any class-level transforming.
-				for (RestConverter converter : context.getConverters())
-					output = converter.convert(req, output, context.getBeanContext().getClassMetaForObject(output));
-
-				res.setOutput(output);
-
-				// Now serialize the output if there was any.
-				// Some subclasses may write to the OutputStream or Writer directly.
-				handleResponse(req, res, output);
+			if (res.getOutput() instanceof DeferredOutput) {
+				DeferredOutput<?> d = (DeferredOutput<?>)res.getOutput();
+				if (r1.isAsyncSupported() && ! res.getOutputStreamCalled()) {
+					startAsync(r1, r2, req, res, d, startTime);
+					return;
+				}
+				// The container doesn't support async processing, so just wait on this thread.
+				resolveDeferredOutput(req, res, d);
 			}
 
-			// Make sure our writer in RestResponse gets written.
-			res.flushBuffer();
+			renderOutput(req, res);
 
 			r1.setAttribute("ExecTime", System.currentTimeMillis() - startTime);
 
@@ -199,6 +197,153 @@ public class RestCallHandler {
 		logger.log(FINE, "HTTP: [{0} {1}] finished in {2}ms", r1.getMethod(), r1.getRequestURI(), System.currentTimeMillis()-startTime);
 	}
 
+	/*
+	 * Applies the class-level converters to the output and serializes it.
+	 */
+	private void renderOutput(RestRequest req, RestResponse res) throws Exception {
+		if (res.hasOutput()) {
+			Object output = res.getOutput();
+
+			// Do any class-level transforming.
+			for (RestConverter converter : context.getConverters())
+				output = converter.convert(req, output, context.getBeanContext().getClassMetaForObject(output));
+
+			res.setOutput(output);
+
+			// Now serialize the output if there was any.
+			// Some subclasses may write to the OutputStream or Writer directly.
+			handleResponse(req, res, output);
+		}
+
+		// Make sure our writer in RestResponse gets written.
+		res.flushBuffer();
+	}
+
+	/*
+	 * Replaces a deferred output on the response with its value, waiting for it if necessary.
+	 */
+	private void resolveDeferredOutput(RestRequest req, RestResponse res, DeferredOutput<?> d) throws Exception {
+		Object output;
+		try {
+			output = d.get();
+		} catch (RestException e) {
+			throw e;
+		} catch (ParseException e) {
+			throw new RestException(SC_BAD_REQUEST, e);
+		} catch (InvalidDataConversionException e) {
+			throw new RestException(SC_BAD_REQUEST, e);
+		} catch (Throwable e) {
+			throw new RestException(SC_INTERNAL_SERVER_ERROR, e);
+		}
+		for (RestConverter converter : d.converters)
+			output = converter.convert(req, output, context.getBeanContext().getClassMetaForObject(output));
+		res.setOutput(output);
+	}
+
+	/*
+	 * Releases the container thread and finishes the request once the deferred output is available.
+	 * The response is rendered into memory and then written using non-blocking I/O.
+	 */
+	private void startAsync(final HttpServletRequest r1, final HttpServletResponse r2, final RestRequest req,
+			final RestResponse res, final DeferredOutput<?> d, final long startTime) {
+		final AsyncContext ac = r1.startAsync(r1, r2);
+		if (d.getTimeout() > 0)
+			ac.setTimeout(d.getTimeout());
+		ac.addListener(new AsyncListener() {
+			@Override /* AsyncListener */
+			public void onTimeout(AsyncEvent e) {
+				d.fail(new RestException(SC_SERVICE_UNAVAILABLE, "Timed out waiting for the response."));
+			}
+			@Override /* AsyncListener */
+			public void onError(AsyncEvent e) {
+				d.fail(e.getThrowable());
+			}
+			@Override /* AsyncListener */
+			public void onComplete(AsyncEvent e) {}
+			@Override /* AsyncListener */
+			public void onStartAsync(AsyncEvent e) {}
+		});
+		res.bufferOutput();
+		d.onDone(new Runnable() {
+			@Override /* Runnable */
+			public void run() {
+				completeAsync(ac, r1, r2, req, res, d, startTime);
+			}
+		});
+	}
+
+	private void completeAsync(AsyncContext ac, HttpServletRequest r1, HttpServletResponse r2, RestRequest req,
+			RestResponse res, DeferredOutput<?> d, long startTime) {
+		boolean ok = false;
+		try {
+			resolveDeferredOutput(req, res, d);
+			renderOutput(req, res);
+			r1.setAttribute("ExecTime", System.currentTimeMillis() - startTime);
+			ok = true;
+		} catch (Throwable e) {
+			RestException e2 = e instanceof RestException ? (RestException)e : new RestException(SC_INTERNAL_SERVER_ERROR, e);
+			r1.setAttribute("Exception", e);
+			r1.setAttribute("ExecTime", System.currentTimeMillis() - startTime);
+			try {
+				handleError(r1, r2, e2);
+			} catch (Throwable e3) {
+				logger.log(WARNING, e3, "Could not render error for {0} {1}", r1.getMethod(), r1.getRequestURI());
+			}
+		}
+
+		RestResponse.BufferedServletOutputStream buffer = res.getOutputBuffer();
+		if (ok && buffer.size() > 0) {
+			try {
+				writeAsync(ac, r1, r2, buffer.getBytes(), buffer.size(), startTime);
+				return;
+			} catch (Throwable e) {
+				logger.log(WARNING, e, "Could not write response for {0} {1}", r1.getMethod(), r1.getRequestURI());
+			}
+		}
+		finishAsync(ac, r1, r2, startTime);
+	}
+
+	/*
+	 * Writes the buffered response body as the container reports the connection is ready, without blocking.
+	 */
+	private void writeAsync(final AsyncContext ac, final HttpServletRequest r1, final HttpServletResponse r2,
+			final byte[] b, final int len, final long startTime) throws IOException {
+		if (! r2.containsHeader("Content-Length"))
+			r2.setHeader("Content-Length", String.valueOf(len));
+		final ServletOutputStream out = r2.getOutputStream();
+		out.setWriteListener(new WriteListener() {
+			private int pos;
+
+			@Override /* WriteListener */
+			public void onWritePossible() throws IOException {
+				while (out.isReady()) {
+					if (pos == len) {
+						finishAsync(ac, r1, r2, startTime);
+						return;
+					}
+					int n = Math.min(len - pos, 8192);
+					out.write(b, pos, n);
+					pos += n;
+				}
+			}
+
+			@Override /* WriteListener */
+			public void onError(Throwable t) {
+				logger.log(WARNING, t, "Could not write response for {0} {1}", r1.getMethod(), r1.getRequestURI());
+				finishAsync(ac, r1, r2, startTime);
+			}
+		});
+	}
+
+	private void finishAsync(AsyncContext ac, HttpServletRequest r1, HttpServletResponse r2, long startTime) {
+		try {
+			context.finishCall(r1, r2);
+		} finally {
+			ac.complete();
+		}
+		logger.log(FINE, "HTTP: [{0} {1}] finished in {2}ms", r1.getMethod(), r1.getRequestURI(), System.currentTimeMillis()-startTime);
+	}
+
 	/**
 	 * The main method for serializing POJOs passed in through the {@link RestResponse#setOutput(Object)} method or
 	 * returned by the Java method.
@@ -226,6 +371,166 @@ public class RestCallHandler {
 		throw new RestException(SC_NOT_IMPLEMENTED, "No response handlers found to process output of type '"+(output == null ? null : output.getClass().getName())+"'");
 	}
 
+	/**
+	 * Sends a static file resolved through {@link RestContext#getStaticFile(String)}.
+	 *
+	 * <p>
+	 * The default implementation supports the following:
+	 * <ul>
+	 * 	<li>Conditional requests through the <code>If-None-Match</code> and <code>If-Modified-Since</code> headers,
+	 * 		answered with <code>304 Not Modified</code>.
+	 * 	<li>Single byte-range requests through the <code>Range</code> and <code>If-Range</code> headers, answered with
+	 * 		<code>206 Partial Content</code> or <code>416 Range Not Satisfiable</code>.
+	 * 		Requests for multiple ranges get the whole file.
+	 * 	<li>Pre-compressed <js>".gz"</js> variants of the file for clients that accept <js>"gzip"</js> encoding.
+	 * 	<li>Otherwise, compression on the fly through the encoders defined on the resource (see
+	 * 		{@link RestContext#getEncoders()}).
+	 * 		Files smaller than {@link RestContext#getCompressionThreshold()} are sent as-is if the client accepts the
+	 * 		identity encoding.
+	 * 		The encoding is appended to the <code>ETag</code> of the encoded representation (e.g.
+	 * 		<js>"\"1234abcd-gzip\""</js>).
+	 * </ul>
+	 *
+	 * @param req The HTTP request.
+	 * @param res The HTTP response.
+	 * @param f The static file.
+	 * @throws IOException
+	 */
+	protected void handleStaticFile(RestRequest req, RestResponse res, StaticFile f) throws IOException {
+		String range = req.getHeader("Range"), ae = req.getHeader("Accept-Encoding");
+
+		if (f.getGzipped() != null) {
+			res.setHeader("Vary", "Accept-Encoding");
+			if (range == null && ae != null && AcceptEncoding.forString(ae).findMatch(new String[]{"gzip"}) >= 0)
+				f = f.getGzipped();
+		}
+
+		// Fall back to encoding the file on the fly if there's no pre-compressed variant to send.
+		// Range requests always get the identity encoding since the ranges are positions in the unencoded file.
+		EncoderMatch em = null;
+		if (range == null && ae != null && f.getContentEncoding() == null) {
+			res.setHeader("Vary", "Accept-Encoding");
+			em = context.getEncoders().getEncoderMatch(ae);
+			if (em != null && em.getEncoding().equals("identity"))
+				em = null;
+			// Small files aren't worth compressing.
+			if (em != null && f.getLength() < context.getCompressionThreshold() && AcceptEncoding.forString(ae).isIdentityAcceptable())
+				em = null;
+		}
+		String encoding = em != null ? em.getEncoding() : f.getContentEncoding();
+
+		res.setContentType(f.getMediaType().toString());
+		for (Map.Entry<String,String> h : f.getHeaders().entrySet())
+			res.setHeader(h.getKey(), h.getValue());
+		if (encoding != null)
+			res.setHeader("Content-Encoding", encoding);
+		res.setHeader("ETag", em != null ? f.getETag(encoding) : f.getETag());
+		res.setDateHeader("Last-Modified", f.getLastModified());
+		res.setHeader("Accept-Ranges", "bytes");
+
+		// If-None-Match takes precedence over If-Modified-Since.
+		String inm = req.getHeader("If-None-Match");
+		boolean notModified = inm != null ? f.matchesETag(inm) : f.isUnmodifiedSince(getDateHeader(req, "If-Modified-Since"));
+		if (notModified) {
+			res.setStatus(SC_NOT_MODIFIED);
+			return;
+		}
+
+		long length = f.getLength(), start = 0, count = length;
+		if (range != null && isRangeCurrent(req, f)) {
+			long[] r = parseRange(range, length);
+			if (r == RANGE_UNSATISFIABLE) {
+				res.setStatus(SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+				res.setHeader("Content-Range", "bytes */" + length);
+				return;
+			}
+			if (r != null) {
+				start = r[0];
+				count = r[1] - r[0] + 1;
+				res.setStatus(SC_PARTIAL_CONTENT);
+				res.setHeader("Content-Range", "bytes " + r[0] + '-' + r[1] + '/' + length);
+			}
+		}
+
+		if (em != null) {
+			// The encoded length isn't known until the file has been written.
+			if (! "HEAD".equalsIgnoreCase(req.getMethod()))
+				try (OutputStream os = em.getEncoder().getOutputStream(res.getOutputStream(), context.getCompressionLevel())) {
+					f.streamTo(os);
+				}
+			return;
+		}
+
+		res.setHeader("Content-Length", String.valueOf(count));
+		if (! "HEAD".equalsIgnoreCase(req.getMethod()))
+			f.streamTo(res.getOutputStream(), start, count);
+	}
+
+	private static final long[] RANGE_UNSATISFIABLE = new long[0];
+
+	/*
+	 * Returns true if the If-Range header (if present) still identifies the file, so the Range header can be honored.
+	 */
+	private static boolean isRangeCurrent(RestRequest req, StaticFile f) {
+		String ir = req.getHeader("If-Range");
+		if (ir == null)
+			return true;
+		ir = ir.trim();
+		if (ir.startsWith("\"") || ir.startsWith("W/"))
+			return ir.equals(f.getETag());  // Strong comparison.
+		long d = getDateHeader(req, "If-Range");
+		return d >= 0 && f.getLastModified() / 1000 == d / 1000;
+	}
+
+	/*
+	 * Parses a single "bytes=" range into inclusive start and end positions.
+	 * Returns null if the range should be ignored, or RANGE_UNSATISFIABLE if it cannot be satisfied.
+	 */
+	private static long[] parseRange(String range, long length) {
+		range = range.trim();
+		if (! range.startsWith("bytes=") || range.indexOf(',') != -1)
+			return null;
+		String r = range.substring(6).trim();
+		int i = r.indexOf('-');
+		if (i == -1)
+			return null;
+		try {
+			String s1 = r.substring(0, i).trim(), s2 = r.substring(i+1).trim();
+			long start, end;
+			if (s1.isEmpty()) {
+				if (s2.isEmpty())
+					return null;
+				long suffix = Long.parseLong(s2);
+				if (suffix <= 0 || length == 0)
+					return RANGE_UNSATISFIABLE;
+				start = Math.max(0, length - suffix);
+				end = length - 1;
+			} else {
+				start = Long.parseLong(s1);
+				end = s2.isEmpty() ? Long.MAX_VALUE : Long.parseLong(s2);
+				if (start < 0 || end < start)
+					return null;
+				if (start >= length)
+					return RANGE_UNSATISFIABLE;
+				end = Math.min(end, length - 1);
+			}
+			return new long[]{start, end};
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Same as HttpServletRequest.getDateHeader(String) but returns -1 instead of throwing on malformed dates.
+	 */
+	private static long getDateHeader(RestRequest req, String name) {
+		try {
+			return req.getDateHeader(name);
+		} catch (IllegalArgumentException e) {
+			return -1;
+		}
+	}
+
 	/**
 	 * Handle the case where a matching method was not found.
 	 *
@@ -262,12 +567,15 @@ public class RestCallHandler {
 	 * <p>
 	 * Subclasses can override this method to provide their own custom error response handling.
 	 *
+	 * <p>
+	 * This method is called concurrently for failing requests and must not rely on external synchronization.
+	 *
 	 * @param req The servlet request.
 	 * @param res The servlet response.
 	 * @param e The exception that occurred.
 	 * @throws IOException Can be thrown if a problem occurred trying to write to the output stream.
 	 */
-	protected synchronized void handleError(HttpServletRequest req, HttpServletResponse res, RestException e) throws IOException {
+	protected void handleError(HttpServletRequest req, HttpServletResponse res, RestException e) throws IOException {
 		e.setOccurrence(context == null ? 0 : context.getStackTraceOccurrence(e));
 		logger.onError(req, res, e);
 		renderError(req, res, e);
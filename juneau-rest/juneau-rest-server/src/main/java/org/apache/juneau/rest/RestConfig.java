@@ -120,7 +120,7 @@ public class RestConfig implements ServletConfig {
 	Object logger = RestLogger.Normal.class;
 	Object callHandler = RestCallHandler.class;
 	Object infoProvider = RestInfoProvider.class;
-	Object allowHeaderParams, allowMethodParam, allowBodyParam, renderResponseStackTraces, useStackTraceHashes, defaultCharset, paramFormat, maxInput;
+	Object allowHeaderParams, allowMethodParam, allowBodyParam, renderResponseStackTraces, useStackTraceHashes, defaultCharset, paramFormat, maxInput, compressionLevel, compressionThreshold;
 
 	Class<?> resourceClass;
 
@@ -248,6 +248,10 @@ public class RestConfig implements ServletConfig {
 					setParamFormat(vr.resolve(r.paramFormat()));
 				if (! r.maxInput().isEmpty())
 					setMaxInput(vr.resolve(r.maxInput()));
+				if (! r.compressionLevel().isEmpty())
+					setCompressionLevel(vr.resolve(r.compressionLevel()));
+				if (! r.compressionThreshold().isEmpty())
+					setCompressionThreshold(vr.resolve(r.compressionThreshold()));
 
 				HtmlDoc hd = r.htmldoc();
 				for (Class<? extends Widget> cw : hd.widgets())
@@ -1166,6 +1170,34 @@ public class RestConfig implements ServletConfig {
 		return this;
 	}
 
+	/**
+	 * Sets the <code>compressionLevel</code> setting on this resource.
+	 *
+	 * <p>
+	 * This is the programmatic equivalent to the {@link RestResource#compressionLevel() RestResource.compressionLevel()} annotation.
+	 *
+	 * @param value The new value for this setting.
+	 * @return This object (for method chaining).
+	 */
+	public RestConfig setCompressionLevel(String value) {
+		this.compressionLevel = value;
+		return this;
+	}
+
+	/**
+	 * Sets the <code>compressionThreshold</code> setting on this resource.
+	 *
+	 * <p>
+	 * This is the programmatic equivalent to the {@link RestResource#compressionThreshold() RestResource.compressionThreshold()} annotation.
+	 *
+	 * @param value The new value for this setting.
+	 * @return This object (for method chaining).
+	 */
+	public RestConfig setCompressionThreshold(String value) {
+		this.compressionThreshold = value;
+		return this;
+	}
+
 	/**
 	 * Sets the URL path of the resource <js>"/foobar"</js>.
 	 *
@@ -23,6 +23,7 @@ import java.io.*;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.lang.reflect.Method;
+import java.net.*;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
@@ -70,6 +71,9 @@ public final class RestContext extends Context {
 		contextPath;
 	private final long
 		maxInput;
+	private final int
+		compressionLevel,
+		compressionThreshold;
 	
 	final String fullPath;
 
@@ -131,8 +135,48 @@ public final class RestContext extends Context {
 		endCallMethodParams,
 		destroyMethodParams;
 
-	// In-memory cache of images and stylesheets in the org.apache.juneau.rest.htdocs package.
-	private final Map<String,StreamResource> staticFilesCache = new ConcurrentHashMap<>();
+	/**
+	 * Maximum number of resolved static files to cache per resource.
+	 *
+	 * <p>
+	 * Can be set through the <js>"juneau.staticFiles.cacheSize"</js> system property.
+	 */
+	public static final int STATIC_FILES_CACHE_SIZE = Integer.getInteger("juneau.staticFiles.cacheSize", 1000);
+
+	/**
+	 * Static files up to this size (in bytes) are held in memory.  Larger files are streamed on every request.
+	 *
+	 * <p>
+	 * Can be set through the <js>"juneau.staticFiles.maxInMemorySize"</js> system property.
+	 */
+	public static final int STATIC_FILES_MAX_IN_MEMORY_SIZE = Integer.getInteger("juneau.staticFiles.maxInMemorySize", 256*1024);
+
+	/**
+	 * Maximum total number of bytes of static file contents held in memory by the cache of each resource.
+	 *
+	 * <p>
+	 * Least-recently-used files are evicted from the cache once this limit is exceeded.
+	 *
+	 * <p>
+	 * Can be set through the <js>"juneau.staticFiles.cacheMaxBytes"</js> system property.
+	 */
+	public static final long STATIC_FILES_CACHE_MAX_BYTES = Long.getLong("juneau.staticFiles.cacheMaxBytes", 16*1024*1024);
+
+	/**
+	 * Minimum number of milliseconds between checks of whether a cached static file has changed on disk.
+	 *
+	 * <p>
+	 * Can be set through the <js>"juneau.staticFiles.checkInterval"</js> system property.
+	 */
+	public static final long STATIC_FILES_CHECK_INTERVAL = Long.getLong("juneau.staticFiles.checkInterval", 1000);
+
+	// Bounded cache of resolved static files (e.g. images and stylesheets in the org.apache.juneau.rest.htdocs package).
+	private final Cache<String,StaticFile> staticFilesCache = new Cache<String,StaticFile>(false, STATIC_FILES_CACHE_SIZE, STATIC_FILES_CACHE_MAX_BYTES, false) {
+		@Override /* Cache */
+		protected long weigh(StaticFile f) {
+			return f.getMemorySize();
+		}
+	};
 
 	private final ResourceFinder resourceFinder;
 	private final ConcurrentHashMap<Integer,AtomicInteger> stackTraceHashes = new ConcurrentHashMap<>();
@@ -167,6 +211,8 @@ public final class RestContext extends Context {
 			this.defaultCharset = b.defaultCharset;
 			this.paramFormat = b.paramFormat;
 			this.maxInput = b.maxInput;
+			this.compressionLevel = b.compressionLevel;
+			this.compressionThreshold = b.compressionThreshold;
 			this.varResolver = b.varResolver;
 			this.configFile = b.configFile;
 			this.properties = b.properties;
@@ -463,6 +509,7 @@ public final class RestContext extends Context {
 		EncoderGroup encoders;
 		String clientVersionHeader = "", defaultCharset, paramFormat;
 		long maxInput;
+		int compressionLevel, compressionThreshold;
 
 		List<MediaType> supportedContentTypes, supportedAcceptTypes;
 		Map<String,String> defaultRequestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
@@ -497,6 +544,12 @@ public final class RestContext extends Context {
 			paramFormat = getString(sc.paramFormat, "juneau.paramFormat", "UON");
 			resourceResolver = sc.resourceResolver;
 			maxInput = getLong(sc.maxInput, "juneau.maxInput", 100_000_000l);
+			compressionLevel = (int)getLong(sc.compressionLevel, "juneau.compressionLevel", -1);
+			compressionThreshold = (int)getLong(sc.compressionThreshold, "juneau.compressionThreshold", 0);
+			if (compressionLevel < -1 || compressionLevel > 9)
+				throw new RestServletException("Invalid compressionLevel setting on class ''{0}'':  {1}.  Must be between -1 and 9.", resource.getClass().getName(), compressionLevel);
+			if (compressionThreshold < 0)
+				throw new RestServletException("Invalid compressionThreshold setting on class ''{0}'':  {1}.  Must not be negative.", resource.getClass().getName(), compressionThreshold);
 
 			String amp = getString(sc.allowMethodParam, "juneau.allowMethodParam", "HEAD,OPTIONS");
 			if ("true".equals(amp))
@@ -742,36 +795,78 @@ public final class RestContext extends Context {
 	 * 	<li>{@link RestConfig#addStaticFiles(Class, String)} method.
 	 * </ul>
 	 *
+	 * <p>
+	 * The returned resource streams the file contents from the {@link StaticFile} each time it's written, so large
+	 * files are never buffered in memory.
+	 * Use {@link #getStaticFile(String)} to support conditional and range requests.
+	 *
 	 * @param pathInfo The unencoded path info.
 	 * @return The resource, or <jk>null</jk> if the resource could not be resolved.
 	 * @throws IOException
 	 */
 	public StreamResource resolveStaticFile(String pathInfo) throws IOException {
-		if (! staticFilesCache.containsKey(pathInfo)) {
-			String p = urlDecode(trimSlashes(pathInfo));
-			if (p.indexOf("..") != -1)
-				throw new RestException(SC_NOT_FOUND, "Invalid path");
-			for (Map.Entry<String,String> e : staticFilesMap.entrySet()) {
-				String key = trimSlashes(e.getKey());
-				if (p.startsWith(key)) {
-					String remainder = (p.equals(key) ? "" : p.substring(key.length()));
-					if (remainder.isEmpty() || remainder.startsWith("/")) {
-						String p2 = trimSlashes(e.getValue()) + remainder;
-						try (InputStream is = getResource(p2, null)) {
-							if (is != null) {
-								int i = p2.lastIndexOf('/');
-								String name = (i == -1 ? p2 : p2.substring(i+1));
-								String mediaType = mimetypesFileTypeMap.getContentType(name);
-								ObjectMap headers = new ObjectMap().append("Cache-Control", "max-age=86400, public");
-								staticFilesCache.put(pathInfo, new StreamResource(MediaType.forString(mediaType), headers, is));
-								return staticFilesCache.get(pathInfo);
-							}
-						}
+		final StaticFile f = getStaticFile(pathInfo);
+		if (f == null)
+			return null;
+		return new StreamResource(f.getMediaType(), new LinkedHashMap<String,Object>(f.getHeaders())) {
+			@Override /* Streamable */
+			public void streamTo(OutputStream os) throws IOException {
+				f.streamTo(os);
+			}
+		};
+	}
+
+	/**
+	 * Resolve a static file along with the validators needed to serve conditional and range requests.
+	 *
+	 * <p>
+	 * The location of static resources are defined via one of the following:
+	 * <ul>
+	 * 	<li>{@link RestResource#staticFiles() @RestResource.staticFiles()} annotation.
+	 * 	<li>{@link RestConfig#addStaticFiles(Class, String)} method.
+	 * </ul>
+	 *
+	 * <p>
+	 * Resolved files are kept in a bounded cache.
+	 * Files on the local file system are reloaded when they change.
+	 *
+	 * @param pathInfo The unencoded path info.
+	 * @return The file, or <jk>null</jk> if the file could not be resolved.
+	 * @throws IOException
+	 */
+	public StaticFile getStaticFile(String pathInfo) throws IOException {
+		StaticFile f = staticFilesCache.get(pathInfo);
+		if (f != null) {
+			if (! f.isStale(STATIC_FILES_CHECK_INTERVAL))
+				return f;
+			staticFilesCache.remove(pathInfo);
+		}
+		String p = urlDecode(trimSlashes(pathInfo));
+		if (p.indexOf("..") != -1)
+			throw new RestException(SC_NOT_FOUND, "Invalid path");
+		for (Map.Entry<String,String> e : staticFilesMap.entrySet()) {
+			String key = trimSlashes(e.getKey());
+			if (p.startsWith(key)) {
+				String remainder = (p.equals(key) ? "" : p.substring(key.length()));
+				if (remainder.isEmpty() || remainder.startsWith("/")) {
+					String p2 = trimSlashes(e.getValue()) + remainder;
+					URL url = resourceFinder.getResourceUrl(p2, null);
+					if (url != null) {
+						int i = p2.lastIndexOf('/');
+						String name = (i == -1 ? p2 : p2.substring(i+1));
+						MediaType mediaType = MediaType.forString(mimetypesFileTypeMap.getContentType(name));
+						Map<String,String> headers = Collections.singletonMap("Cache-Control", "max-age=86400, public");
+						StaticFile gz = null;
+						URL gzUrl = resourceFinder.getResourceUrl(p2 + ".gz", null);
+						if (gzUrl != null)
+							gz = new StaticFile(gzUrl, mediaType, headers, "gzip", null, STATIC_FILES_MAX_IN_MEMORY_SIZE);
+						f = new StaticFile(url, mediaType, headers, null, gz, STATIC_FILES_MAX_IN_MEMORY_SIZE);
+						return staticFilesCache.put(pathInfo, f);
 					}
 				}
 			}
 		}
-		return staticFilesCache.get(pathInfo);
+		return null;
 	}
 
 	/**
@@ -1091,8 +1186,13 @@ public final class RestContext extends Context {
 		if (! useStackTraceHashes)
 			return 0;
 		int h = e.hashCode();
-		stackTraceHashes.putIfAbsent(h, new AtomicInteger());
-		return stackTraceHashes.get(h).incrementAndGet();
+		AtomicInteger i = stackTraceHashes.get(h);
+		if (i == null) {
+			AtomicInteger i2 = stackTraceHashes.putIfAbsent(h, i = new AtomicInteger());
+			if (i2 != null)
+				i = i2;
+		}
+		return i.incrementAndGet();
 	}
 
 	/**
@@ -1149,6 +1249,24 @@ public final class RestContext extends Context {
 		return maxInput;
 	}
 
+	/**
+	 * Returns the value of the {@link RestResource#compressionLevel()} setting.
+	 *
+	 * @return The value of the {@link RestResource#compressionLevel()} setting.
+	 */
+	protected int getCompressionLevel() {
+		return compressionLevel;
+	}
+
+	/**
+	 * Returns the value of the {@link RestResource#compressionThreshold()} setting.
+	 *
+	 * @return The value of the {@link RestResource#compressionThreshold()} setting.
+	 */
+	protected int getCompressionThreshold() {
+		return compressionThreshold;
+	}
+
 	/**
 	 * Returns the name of the client version header name used by this resource.
 	 *
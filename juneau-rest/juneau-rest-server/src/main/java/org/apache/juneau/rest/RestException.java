@@ -33,6 +33,7 @@ public class RestException extends FormattedRuntimeException {
 
 	private final int status;
 	private int occurrence;
+	private int stackTraceHash;  // Lazily computed by hashCode().
 
 	/**
 	 * Constructor.
@@ -67,6 +68,7 @@ public class RestException extends FormattedRuntimeException {
 	@Override /* Throwable */
 	public synchronized RestException initCause(Throwable cause) {
 		super.initCause(cause);
+		stackTraceHash = 0;
 		return this;
 	}
 
@@ -128,12 +130,16 @@ public class RestException extends FormattedRuntimeException {
 
 	@Override /* Object */
 	public int hashCode() {
-		int i = 0;
-		Throwable t = this;
-		while (t != null) {
-			for (StackTraceElement e : t.getStackTrace())
-			i ^= e.hashCode();
-			t = t.getCause();
+		// Walking the stack traces is expensive and this gets called several times per failed request.
+		int i = stackTraceHash;
+		if (i == 0) {
+			Throwable t = this;
+			while (t != null) {
+				for (StackTraceElement e : t.getStackTrace())
+				i ^= e.hashCode();
+				t = t.getCause();
+			}
+			stackTraceHash = i;
 		}
 		return i;
 	}
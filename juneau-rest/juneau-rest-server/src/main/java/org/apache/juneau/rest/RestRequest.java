@@ -75,29 +75,38 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	private final RestContext context;
 
 	private final String method;
-	private RequestBody body;
+	private final String bodyParam;                // The value of the "body" query parameter, if allowed.
+	private RequestBody body;                      // Created on first access.
 	private Method javaMethod;
 	private ObjectMap properties;
+	private boolean sessionPooling;
 	private SerializerGroup serializerGroup;
 	private ParserGroup parserGroup;
-	private final boolean debug;
+	private EncoderGroup encoders;
+	private long maxInput;
+	private boolean debug;
 	private UrlEncodingParser urlEncodingParser;   // The parser used to parse URL attributes and parameters (beanContext also used to parse headers)
-	private BeanSession beanSession;
+	private BeanSession beanSession;               // Set by init().  Null until the request has been routed.
 	private VarResolverSession varSession;
-	private final RequestQuery queryParams;
+	private RequestQuery queryParams;              // Created on first access.
 	private RequestFormData formData;
-	private Map<String,String> defFormData;
-	private RequestPathMatch pathParams;
-	private boolean isPost;
+	private Map<String,String> defHeader, defQuery, defFormData;
+	private RequestPathMatch pathParams;           // Created on first access.
+	private final boolean isPost;
 	private UriContext uriContext;
 	private String charset, defaultCharset;
-	private RequestHeaders headers;
+	private RequestHeaders headers;                // Created on first access.
 	private ConfigFile cf;
 	private Swagger swagger, fileSwagger;
 	private Map<String,Widget> widgets;
 
 	/**
 	 * Constructor.
+	 *
+	 * <p>
+	 * The headers, query parameters, path variables, and body are not copied here.
+	 * They're created from the underlying request the first time they're accessed, so requests that are rejected
+	 * during routing or served as static files never pay for them.
 	 */
 	RestRequest(RestContext context, HttpServletRequest req) throws ServletException {
 		super(req);
@@ -106,47 +115,20 @@ public final class RestRequest extends HttpServletRequestWrapper {
 		try {
 			isPost = req.getMethod().equalsIgnoreCase("POST");
 
-			// If this is a POST, we want to parse the query parameters ourselves to prevent
-			// the servlet code from processing the HTTP body as URL-Encoded parameters.
-			queryParams = new RequestQuery();
-			if (isPost)
-				context.getUrlEncodingParser().parseIntoSimpleMap(getQueryString(), queryParams);
-			else
-				queryParams.putAll(req.getParameterMap());
-
-
 			// Get the HTTP method.
 			// Can be overridden through a "method" GET attribute.
-			String _method = super.getMethod();
-
-			String m = getQuery().getString("method");
-			if (context.allowMethodParam(m))
-				_method = m;
-
-			method = _method;
-
-			headers = new RequestHeaders();
-			for (Enumeration<String> e = getHeaderNames(); e.hasMoreElements();) {
-				String name = e.nextElement();
-				headers.put(name, super.getHeaders(name));
-			}
-
-			body = new RequestBody(this);
-
-			if (context.isAllowBodyParam()) {
-				String b = getQuery().getString("body");
-				if (b != null) {
-					headers.put("Content-Type", UonSerializer.DEFAULT.getResponseContentType());
-					body.load(b.getBytes(UTF8));
-				}
+			String _method = super.getMethod(), b = null;
+
+			if (mayHaveQuery()) {
+				String m = getQuery().getString("method");
+				if (context.allowMethodParam(m))
+					_method = m;
+				if (context.isAllowBodyParam())
+					b = getQuery().getString("body");
 			}
 
-			if (context.isAllowHeaderParams())
-				headers.setQueryParams(queryParams);
-
-			debug = "true".equals(getQuery().getString("debug", "false")) || "true".equals(getHeaders().getString("Debug", "false"));
-
-			this.pathParams = new RequestPathMatch();
+			method = _method;
+			bodyParam = b;
 
 		} catch (RestException e) {
 			throw e;
@@ -155,46 +137,59 @@ public final class RestRequest extends HttpServletRequestWrapper {
 		}
 	}
 
+	/*
+	 * Returns false if this request is known to have no query parameters without having to parse them.
+	 * Only POST query strings are parsed by us, and only POST (and on some containers PUT) bodies are merged into
+	 * the servlet parameter map, so a GET or HEAD without a query string can't have any.
+	 */
+	private boolean mayHaveQuery() {
+		if (queryParams != null || getQueryString() != null || (defQuery != null && ! defQuery.isEmpty()))
+			return true;
+		String m = super.getMethod();
+		return ! (isPost || "GET".equalsIgnoreCase(m) || "HEAD".equalsIgnoreCase(m));
+	}
+
 	/*
 	 * Called from RestServlet after a match has been made but before the guard or method invocation.
 	 */
-	final void init(Method javaMethod, ObjectMap properties, Map<String,String> defHeader,
+	final void init(Method javaMethod, ObjectMap properties, boolean sessionPooling, Map<String,String> defHeader,
 			Map<String,String> defQuery, Map<String,String> defFormData, String defaultCharset, long maxInput,
 			SerializerGroup mSerializers, ParserGroup mParsers, UrlEncodingParser mUrlEncodingParser,
 			BeanContext beanContext, EncoderGroup encoders, Map<String,Widget> widgets) {
+		// Evaluated before the defaults are added.
+		this.debug = (mayHaveQuery() && "true".equals(getQuery().getString("debug", "false")))
+			|| "true".equals(getHeaders().getString("Debug", "false"));
+
 		this.javaMethod = javaMethod;
 		this.properties = properties;
+		this.sessionPooling = sessionPooling;
 		this.urlEncodingParser = mUrlEncodingParser;
 		this.beanSession = beanContext.createSession();
-		this.pathParams
-			.setParser(urlEncodingParser)
-			.setBeanSession(beanSession);
-		this.queryParams
-			.addDefault(defQuery)
-			.setParser(urlEncodingParser)
-			.setBeanSession(beanSession);
-		this.headers
-			.addDefault(defHeader)
-			.addDefault(context.getDefaultRequestHeaders())
-			.setParser(urlEncodingParser)
-			.setBeanSession(beanSession);
-		this.body
-			.setEncoders(encoders)
-			.setParsers(mParsers)
-			.setHeaders(headers)
-			.setBeanSession(beanSession)
-			.setUrlEncodingParser(mUrlEncodingParser)
-			.setMaxInput(maxInput);
 		this.serializerGroup = mSerializers;
 		this.parserGroup = mParsers;
+		this.encoders = encoders;
+		this.maxInput = maxInput;
 		this.defaultCharset = defaultCharset;
+		this.defHeader = defHeader;
+		this.defQuery = defQuery;
 		this.defFormData = defFormData;
 		this.widgets = widgets;
 
-		String stylesheet = getQuery().getString("stylesheet");
+		// Views created before routing get their defaults now.  Later ones get them when they're created.
+		if (pathParams != null)
+			initPathMatch(pathParams);
+		if (queryParams != null)
+			initQuery(queryParams);
+		if (headers != null)
+			initHeaders(headers);
+		if (body != null)
+			initBody(body);
+
+		String stylesheet = mayHaveQuery() ? getQuery().getString("stylesheet") : null;
 		if (stylesheet != null)
 			getSession().setAttribute("stylesheet", stylesheet.replace(' ', '$'));  // Prevent SVL insertion.
-		stylesheet = (String)getSession().getAttribute("stylesheet");
+		HttpSession session = getSession(false);
+		stylesheet = session == null ? null : (String)session.getAttribute("stylesheet");
 		if (stylesheet != null)
 			properties.put(HTMLDOC_stylesheet, new String[]{stylesheet});
 
@@ -208,6 +203,11 @@ public final class RestRequest extends HttpServletRequestWrapper {
 
 		if (isPlainText())
 			this.properties.put(SERIALIZER_useWhitespace, true);
+
+		// The method-level properties were checked when the method was initialized, so only the properties added
+		// to this request need to be checked here.
+		if (this.sessionPooling && RestUtils.containsVars(properties.values()))
+			this.sessionPooling = false;
 	}
 
 	/**
@@ -391,9 +391,25 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	 */
 	public RestRequest prop(String name, Object value) {
 		this.properties.append(name, value);
+		if (sessionPooling && RestUtils.containsVars(value))
+			sessionPooling = false;
 		return this;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if serializer and parser sessions for this request can be reused from previous requests.
+	 *
+	 * <p>
+	 * Sessions capture their properties when they're created, so this is only the case when none of the properties
+	 * can resolve to request-specific values through variables.
+	 * This is decided once when the request is initialized.
+	 * It's only turned off afterwards if a property containing variables is added through {@link #prop(String, Object)},
+	 * in which case sessions already acquired are simply not returned to the pool.
+	 */
+	boolean canPoolSessions() {
+		return sessionPooling;
+	}
+
 
 	//--------------------------------------------------------------------------------
 	// Headers
@@ -405,17 +421,42 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	 * @return The headers on this request.  Never <jk>null</jk>.
 	 */
 	public RequestHeaders getHeaders() {
+		if (headers == null) {
+			RequestHeaders h = new RequestHeaders();
+			for (Enumeration<String> e = super.getHeaderNames(); e.hasMoreElements();) {
+				String name = e.nextElement();
+				h.put(name, super.getHeaders(name));
+			}
+			if (bodyParam != null)
+				h.put("Content-Type", UonSerializer.DEFAULT.getResponseContentType());
+			if (context.isAllowHeaderParams() && mayHaveQuery())
+				h.setQueryParams(getQuery());
+			if (beanSession != null)
+				initHeaders(h);
+			headers = h;
+		}
 		return headers;
 	}
 
+	private void initHeaders(RequestHeaders h) {
+		h.addDefault(defHeader)
+			.addDefault(context.getDefaultRequestHeaders())
+			.setParser(urlEncodingParser)
+			.setBeanSession(beanSession);
+	}
+
 	@Override /* ServletRequest */
 	public String getHeader(String name) {
+		// Before routing, a request without query parameters has no header overrides or defaults, so there's no
+		// need to copy the headers just to look up one value.
+		if (headers == null && beanSession == null && ! mayHaveQuery())
+			return super.getHeader(name);
 		return getHeaders().getString(name);
 	}
 
 	@Override /* ServletRequest */
 	public Enumeration<String> getHeaders(String name) {
-		String[] v = headers.get(name);
+		String[] v = getHeaders().get(name);
 		if (v == null || v.length == 0)
 			return Collections.enumeration(Collections.EMPTY_LIST);
 		return Collections.enumeration(Arrays.asList(v));
@@ -463,7 +504,7 @@ public final class RestRequest extends HttpServletRequestWrapper {
 
 	@Override /* ServletRequest */
 	public Locale getLocale() {
-		String h = headers.getString("Accept-Language");
+		String h = getHeader("Accept-Language");
 		if (h != null) {
 			MediaTypeRange[] mr = MediaTypeRange.parse(h);
 			if (mr.length > 0)
@@ -474,7 +515,7 @@ public final class RestRequest extends HttpServletRequestWrapper {
 
 	@Override /* ServletRequest */
 	public Enumeration<Locale> getLocales() {
-		String h = headers.getString("Accept-Language");
+		String h = getHeader("Accept-Language");
 		if (h != null) {
 			MediaTypeRange[] mr = MediaTypeRange.parse(h);
 			if (mr.length > 0) {
@@ -505,9 +546,32 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	 * @return The query parameters as a modifiable map.
 	 */
 	public RequestQuery getQuery() {
+		if (queryParams == null) {
+			RequestQuery q = new RequestQuery();
+			// If this is a POST, we want to parse the query parameters ourselves to prevent
+			// the servlet code from processing the HTTP body as URL-Encoded parameters.
+			if (isPost) {
+				try {
+					context.getUrlEncodingParser().parseIntoSimpleMap(getQueryString(), q);
+				} catch (Exception e) {
+					throw new RestException(SC_BAD_REQUEST, e);
+				}
+			} else {
+				q.putAll(super.getParameterMap());
+			}
+			if (beanSession != null)
+				initQuery(q);
+			queryParams = q;
+		}
 		return queryParams;
 	}
 
+	private void initQuery(RequestQuery q) {
+		q.addDefault(defQuery)
+			.setParser(urlEncodingParser)
+			.setBeanSession(beanSession);
+	}
+
 	/**
 	 * Shortcut for calling <code>getQuery().getString(name)</code>.
 	 *
@@ -533,10 +597,10 @@ public final class RestRequest extends HttpServletRequestWrapper {
 			if (formData == null) {
 				formData = new RequestFormData();
 				formData.setParser(urlEncodingParser).setBeanSession(beanSession);
-				if (! body.isLoaded()) {
+				if (! getBody().isLoaded()) {
 					formData.putAll(getParameterMap());
 				} else {
-					Map<String,String> m = urlEncodingParser.parse(body.getReader(), Map.class, String.class, String.class);
+					Map<String,String> m = urlEncodingParser.parse(getBody().getReader(), Map.class, String.class, String.class);
 					for (Map.Entry<String,String> e : m.entrySet()) {
 						formData.put(e.getKey(), e.getValue());
 					}
@@ -570,9 +634,20 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	 * @return The URL-encoded form data from the request.
 	 */
 	public RequestPathMatch getPathMatch() {
+		if (pathParams == null) {
+			RequestPathMatch pm = new RequestPathMatch();
+			if (beanSession != null)
+				initPathMatch(pm);
+			pathParams = pm;
+		}
 		return pathParams;
 	}
 
+	private void initPathMatch(RequestPathMatch pm) {
+		pm.setParser(urlEncodingParser)
+			.setBeanSession(beanSession);
+	}
+
 	/**
 	 * Shortcut for calling <code>getPathMatch().get(name)</code>.
 	 *
@@ -593,9 +668,26 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	 * @return The body of this HTTP request.
 	 */
 	public RequestBody getBody() {
+		if (body == null) {
+			RequestBody b = new RequestBody(this);
+			if (bodyParam != null)
+				b.load(bodyParam.getBytes(UTF8));
+			if (beanSession != null)
+				initBody(b);
+			body = b;
+		}
 		return body;
 	}
 
+	private void initBody(RequestBody b) {
+		b.setEncoders(encoders)
+			.setParsers(parserGroup)
+			.setHeaders(getHeaders())
+			.setBeanSession(beanSession)
+			.setUrlEncodingParser(urlEncodingParser)
+			.setMaxInput(maxInput);
+	}
+
 	/**
 	 * Returns the HTTP body content as a {@link Reader}.
 	 *
@@ -705,7 +797,7 @@ public final class RestRequest extends HttpServletRequestWrapper {
 		String uri = getRequestURI();
 		if (includeQuery || addQueryParams != null) {
 			StringBuilder sb = new StringBuilder(uri);
-			RequestQuery rq = this.queryParams.copy();
+			RequestQuery rq = getQuery().copy();
 			if (addQueryParams != null)
 				for (Map.Entry<String,?> e : addQueryParams.entrySet())
 					rq.put(e.getKey(), e.getValue());
@@ -1092,9 +1184,9 @@ public final class RestRequest extends HttpServletRequestWrapper {
 		} else if (method.equals("PUT") || method.equals("POST")) {
 			try {
 				sb.append("---Body UTF-8---\n");
-				sb.append(body.asString()).append("\n");
+				sb.append(getBody().asString()).append("\n");
 				sb.append("---Body Hex---\n");
-				sb.append(body.asSpacedHex()).append("\n");
+				sb.append(getBody().asSpacedHex()).append("\n");
 			} catch (Exception e1) {
 				sb.append(e1.getLocalizedMessage());
 				context.getLogger().log(WARNING, e1, "Error occurred while trying to read debug input.");
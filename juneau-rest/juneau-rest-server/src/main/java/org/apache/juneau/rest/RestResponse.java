@@ -61,8 +61,10 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	SerializerGroup serializerGroup;
 	UrlEncodingSerializer urlEncodingSerializer; // The serializer used to convert arguments passed into Redirect objects.
 	private EncoderGroup encoders;
+	private final int compressionLevel, compressionThreshold;
 	private ServletOutputStream os;
 	private PrintWriter w;
+	private BufferedServletOutputStream buffer;
 	private HtmlDocBuilder htmlDocBuilder;
 
 	/**
@@ -71,6 +73,8 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	RestResponse(RestContext context, RestRequest req, HttpServletResponse res) {
 		super(res);
 		this.request = req;
+		this.compressionLevel = context.getCompressionLevel();
+		this.compressionThreshold = context.getCompressionThreshold();
 
 		for (Map.Entry<String,Object> e : context.getDefaultResponseHeaders().entrySet())
 			setHeader(e.getKey(), e.getValue().toString());
@@ -216,6 +220,38 @@ public final class RestResponse extends HttpServletResponseWrapper {
 		return properties;
 	}
 
+	/**
+	 * Creates a session for serializing the response body.
+	 *
+	 * <p>
+	 * If none of the properties on this request resolve to request-specific values, this reuses a session released by
+	 * a previous request (see {@link Serializer#acquireSession(SerializerSessionArgs)}).
+	 * Sessions created through this method should be passed to
+	 * {@link #releaseSerializerSession(Serializer, SerializerSession)} once the response has been serialized.
+	 *
+	 * @param s The serializer.
+	 * @param args The session arguments.
+	 * @return A new or reused session.
+	 */
+	public SerializerSession createSerializerSession(Serializer s, SerializerSessionArgs args) {
+		return request.canPoolSessions() ? s.acquireSession(args) : s.createSession(args);
+	}
+
+	/**
+	 * Releases a session created through {@link #createSerializerSession(Serializer, SerializerSessionArgs)} so
+	 * that it can be reused by later requests.
+	 *
+	 * <p>
+	 * The session must not be used after it's been released.
+	 *
+	 * @param s The serializer that created the session.
+	 * @param session The session to release.
+	 */
+	public void releaseSerializerSession(Serializer s, SerializerSession session) {
+		if (request.canPoolSessions())
+			s.releaseSession(session);
+	}
+
 	/**
 	 * Shortcut method that allows you to use var-args to simplify setting array output.
 	 *
@@ -283,25 +319,32 @@ public final class RestResponse extends HttpServletResponseWrapper {
 				EncoderMatch match = encoders != null ? encoders.getEncoderMatch(ae) : null;
 				if (match == null) {
 					// Identity should always match unless "identity;q=0" or "*;q=0" is specified.
-					if (ae.matches(".*(identity|\\*)\\s*;\\s*q\\s*=\\s*(0(?!\\.)|0\\.0).*")) {
+					if (! AcceptEncoding.forString(ae).isIdentityAcceptable()) {
 						throw new RestException(SC_NOT_ACCEPTABLE,
 							"Unsupported encoding in request header ''Accept-Encoding'': ''{0}''\n\tSupported codings: {1}",
-							ae, encoders.getSupportedEncodings()
+							ae, encoders == null ? Collections.emptyList() : encoders.getSupportedEncodings()
 						);
 					}
 				} else {
 					encoder = match.getEncoder();
-					String encoding = match.getEncoding().toString();
+					String encoding = match.getEncoding();
 
 					// Some clients don't recognize identity as an encoding, so don't set it.
-					if (! encoding.equals("identity"))
+					if (encoding.equals("identity")) {
+						encoder = null;
+					} else if (compressionThreshold > 0 && AcceptEncoding.forString(ae).isIdentityAcceptable()) {
+						// Small responses can be sent as-is, so hold off on committing to the encoding.
+						os = new ThresholdEncodingOutputStream(getOutputStream(), encoder, encoding);
+						return os;
+					} else {
 						setHeader("content-encoding", encoding);
+					}
 				}
 			}
 			os = getOutputStream();
 			if (encoder != null) {
 				@SuppressWarnings("resource")
-				final OutputStream os2 = encoder.getOutputStream(os);
+				final OutputStream os2 = encoder.getOutputStream(os, compressionLevel);
 				os = new ServletOutputStream(){
 					@Override /* OutputStream */
 					public final void write(byte[] b, int off, int len) throws IOException {
@@ -336,10 +379,32 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	@Override /* ServletResponse */
 	public ServletOutputStream getOutputStream() throws IOException {
 		if (os == null)
-			os = super.getOutputStream();
+			os = buffer != null ? buffer : super.getOutputStream();
 		return os;
 	}
 
+	/**
+	 * Causes everything written to this response to be held in memory instead of being written to the underlying
+	 * response.
+	 *
+	 * <p>
+	 * Used for asynchronous requests, where the buffered body is then written using non-blocking I/O.
+	 * Must be called before the output stream or writer is retrieved.
+	 */
+	void bufferOutput() {
+		if (buffer == null)
+			buffer = new BufferedServletOutputStream();
+	}
+
+	/**
+	 * Returns the buffer holding the body of this response.
+	 *
+	 * @return The buffer holding the body of this response, or <jk>null</jk> if {@link #bufferOutput()} was not called.
+	 */
+	BufferedServletOutputStream getOutputBuffer() {
+		return buffer;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if {@link #getOutputStream()} has been called.
 	 *
@@ -457,8 +522,144 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	public void flushBuffer() throws IOException {
 		if (w != null)
 			w.flush();
+		if (os instanceof ThresholdEncodingOutputStream)
+			((ThresholdEncodingOutputStream)os).commit();
 		if (os != null)
 			os.flush();
-		super.flushBuffer();
+		if (buffer == null)
+			super.flushBuffer();
+	}
+
+	/**
+	 * Output stream that only starts encoding once the body grows past the compression threshold.
+	 *
+	 * <p>
+	 * Bodies that are closed or committed before reaching the threshold are written unencoded, and no
+	 * <code>Content-Encoding</code> header is set.
+	 * Flushes are deferred until the encoding decision has been made.
+	 */
+	private final class ThresholdEncodingOutputStream extends ServletOutputStream {
+		private final ServletOutputStream raw;
+		private final Encoder encoder;
+		private final String encoding;
+		private byte[] buf = new byte[compressionThreshold];
+		private int count;
+		private OutputStream out;
+
+		ThresholdEncodingOutputStream(ServletOutputStream raw, Encoder encoder, String encoding) {
+			this.raw = raw;
+			this.encoder = encoder;
+			this.encoding = encoding;
+		}
+
+		private void startEncoding() throws IOException {
+			setHeader("content-encoding", encoding);
+			out = encoder.getOutputStream(raw, compressionLevel);
+			out.write(buf, 0, count);
+			buf = null;
+		}
+
+		/*
+		 * Called when the response is being committed.
+		 * If the threshold hasn't been reached yet, the body is sent unencoded.
+		 */
+		void commit() throws IOException {
+			if (out == null) {
+				out = raw;
+				out.write(buf, 0, count);
+				buf = null;
+			}
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) throws IOException {
+			if (out == null) {
+				if (count < buf.length) {
+					buf[count++] = (byte)b;
+					return;
+				}
+				startEncoding();
+			}
+			out.write(b);
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (out == null) {
+				if (count + len <= buf.length) {
+					System.arraycopy(b, off, buf, count, len);
+					count += len;
+					return;
+				}
+				startEncoding();
+			}
+			out.write(b, off, len);
+		}
+
+		@Override /* OutputStream */
+		public void flush() throws IOException {
+			if (out != null)
+				out.flush();
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			commit();
+			out.close();
+		}
+
+		@Override /* ServletOutputStream */
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override /* ServletOutputStream */
+		public void setWriteListener(WriteListener arg0) {
+			throw new NoSuchMethodError();
+		}
+	}
+
+	/**
+	 * In-memory output stream for buffered responses.
+	 */
+	static final class BufferedServletOutputStream extends ServletOutputStream {
+		private final Bytes bytes = new Bytes();
+
+		@Override /* OutputStream */
+		public void write(int b) {
+			bytes.write(b);
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) {
+			bytes.write(b, off, len);
+		}
+
+		@Override /* ServletOutputStream */
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override /* ServletOutputStream */
+		public void setWriteListener(WriteListener arg0) {
+			throw new NoSuchMethodError();
+		}
+
+		/**
+		 * Returns the internal buffer.  Only the first {@link #size()} bytes are valid.
+		 */
+		byte[] getBytes() {
+			return bytes.getBytes();
+		}
+
+		int size() {
+			return bytes.size();
+		}
+	}
+
+	private static final class Bytes extends ByteArrayOutputStream {
+		byte[] getBytes() {
+			return buf;
+		}
 	}
 }
\ No newline at end of file
@@ -160,6 +160,38 @@ public final class RestUtils {
 		}
 	}
 
+	/**
+	 * Returns <jk>true</jk> if any of the string values in the specified object might contain SVL variables.
+	 *
+	 * <p>
+	 * Looks inside arrays, collections, and map values.
+	 * For {@link ObjectMap ObjectMaps}, inner maps are also searched.
+	 */
+	static boolean containsVars(Object o) {
+		if (o == null)
+			return false;
+		if (o instanceof CharSequence)
+			return o.toString().indexOf('$') != -1;
+		if (o instanceof Object[]) {
+			for (Object o2 : (Object[])o)
+				if (containsVars(o2))
+					return true;
+			return false;
+		}
+		if (o instanceof Collection) {
+			for (Object o2 : (Collection<?>)o)
+				if (containsVars(o2))
+					return true;
+			return false;
+		}
+		if (o instanceof Map) {
+			if (o instanceof ObjectMap && containsVars(((ObjectMap)o).getInner()))
+				return true;
+			return containsVars(((Map<?,?>)o).values());
+		}
+		return false;
+	}
+
 	static String[] parseHeader(String s) {
 		int i = s.indexOf(':');
 		if (i == -1)
@@ -0,0 +1,373 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.security.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.http.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * A static file resolved from one of the locations defined through {@link RestResource#staticFiles()} or
+ * {@link RestConfig#addStaticFiles(Class, String)}.
+ *
+ * <p>
+ * Holds the validators needed for conditional and range requests:  a strong <code>ETag</code> computed from a hash of
+ * the file contents, and the <code>Last-Modified</code> time.
+ *
+ * <p>
+ * Small files are kept in memory.
+ * Larger files are streamed from disk (or from the classpath) on every request so that they never sit in the heap.
+ *
+ * <p>
+ * If a pre-compressed copy of the file exists next to it with a <js>".gz"</js> extension, it's available through
+ * {@link #getGzipped()} so that it can be served to clients that accept <js>"gzip"</js> encoding.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class StaticFile implements Streamable {
+
+	private final URL url;
+	private final File file;           // Non-null if the file is on the local file system.
+	private final MediaType mediaType;
+	private final Map<String,String> headers;
+	private final String contentEncoding;
+	private final byte[] contents;     // Non-null if the file is small enough to be held in memory.
+	private final long length, lastModified;
+	private final String etag;
+	private final StaticFile gzipped;
+	private volatile long lastChecked = System.currentTimeMillis();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param url The location of the file.
+	 * @param mediaType The media type of the file.
+	 * @param headers Additional HTTP response headers to send with the file (e.g. <js>"Cache-Control"</js>).
+	 * @param contentEncoding The content encoding of the file (e.g. <js>"gzip"</js>), or <jk>null</jk> if not encoded.
+	 * @param gzipped The pre-compressed variant of this file, or <jk>null</jk> if there isn't one.
+	 * @param maxInMemorySize Files up to this size are held in memory.  Larger files are streamed.
+	 * @throws IOException If the file could not be read.
+	 */
+	public StaticFile(URL url, MediaType mediaType, Map<String,String> headers, String contentEncoding,
+			StaticFile gzipped, int maxInMemorySize) throws IOException {
+		this.url = url;
+		this.file = toFile(url);
+		this.mediaType = mediaType;
+		this.headers = headers == null ? Collections.<String,String>emptyMap() : Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+		this.contentEncoding = contentEncoding;
+		this.gzipped = gzipped;
+
+		// Read the contents once to compute the hash, keeping them only if they're small.
+		// For URLs, the timestamp comes from the same connection so that only one connection (and for jar: URLs, only
+		// one uncached JarFile) is opened, and it's released when the stream is closed.
+		MessageDigest md = newDigest();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		long lm, len = 0;
+		URLConnection c = null;
+		if (file == null) {
+			c = url.openConnection();
+			c.setUseCaches(false);
+		}
+		InputStream is = c != null ? c.getInputStream() : new FileInputStream(file);
+		try {
+			lm = c != null ? c.getLastModified() : Files.getLastModifiedTime(file.toPath()).toMillis();
+			byte[] buff = new byte[8192];
+			for (int n = is.read(buff); n != -1; n = is.read(buff)) {
+				md.update(buff, 0, n);
+				len += n;
+				if (baos != null) {
+					if (len <= maxInMemorySize)
+						baos.write(buff, 0, n);
+					else
+						baos = null;
+				}
+			}
+		} finally {
+			is.close();
+		}
+		this.lastModified = lm <= 0 && file == null ? System.currentTimeMillis() : lm;
+		this.length = len;
+		this.contents = baos == null ? null : baos.toByteArray();
+		this.etag = '"' + toHex(md.digest()) + '"';
+	}
+
+	private static File toFile(URL url) {
+		if (! "file".equals(url.getProtocol()))
+			return null;
+		try {
+			return new File(url.toURI());
+		} catch (URISyntaxException e) {
+			return null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static MessageDigest newDigest() throws IOException {
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Returns the location of this file.
+	 *
+	 * @return The location of this file.  Never <jk>null</jk>.
+	 */
+	public URL getUrl() {
+		return url;
+	}
+
+	/**
+	 * Returns the HTTP response headers to send with this file.
+	 *
+	 * @return The HTTP response headers.  An unmodifiable map.  Never <jk>null</jk>.
+	 */
+	public Map<String,String> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Returns the content encoding of this file.
+	 *
+	 * @return The content encoding of this file (e.g. <js>"gzip"</js>), or <jk>null</jk> if it's not encoded.
+	 */
+	public String getContentEncoding() {
+		return contentEncoding;
+	}
+
+	/**
+	 * Returns the pre-compressed variant of this file.
+	 *
+	 * @return The <js>"gzip"</js>-encoded variant of this file, or <jk>null</jk> if there isn't one.
+	 */
+	public StaticFile getGzipped() {
+		return gzipped;
+	}
+
+	/**
+	 * Returns the size of this file in bytes.
+	 *
+	 * @return The size of this file in bytes.
+	 */
+	public long getLength() {
+		return length;
+	}
+
+	/**
+	 * Returns the time this file was last modified.
+	 *
+	 * @return The time this file was last modified, in milliseconds since the epoch.
+	 */
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Returns the strong entity tag of this file.
+	 *
+	 * @return The quoted entity tag computed from a hash of the file contents.
+	 */
+	public String getETag() {
+		return etag;
+	}
+
+	/**
+	 * Returns the entity tag of this file when it's encoded on the fly with the specified content encoding.
+	 *
+	 * <p>
+	 * The encoding is appended to the tag (e.g. <js>"\"1234abcd-gzip\""</js>) so that caches don't mistake the
+	 * encoded representation for the unencoded one.
+	 *
+	 * @param encoding The content encoding (e.g. <js>"gzip"</js>), or <jk>null</jk> if not encoded.
+	 * @return The quoted entity tag.
+	 */
+	public String getETag(String encoding) {
+		if (encoding == null)
+			return etag;
+		return etag.substring(0, etag.length()-1) + '-' + encoding + '"';
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this file is held in memory.
+	 *
+	 * @return <jk>true</jk> if this file is held in memory.
+	 */
+	public boolean isInMemory() {
+		return contents != null;
+	}
+
+	/**
+	 * Returns the number of bytes of file contents held in memory by this file and its pre-compressed variant.
+	 *
+	 * @return The number of bytes held in memory, or <code>0</code> if the contents are streamed.
+	 */
+	public long getMemorySize() {
+		return (contents == null ? 0 : contents.length) + (gzipped == null ? 0 : gzipped.getMemorySize());
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this file (or its pre-compressed variant) has changed on disk since it was loaded.
+	 *
+	 * <p>
+	 * Always returns <jk>false</jk> for files that are not on the local file system (e.g. files inside jars).
+	 *
+	 * @return <jk>true</jk> if this file needs to be reloaded.
+	 */
+	public boolean isStale() {
+		if (file != null) {
+			try {
+				BasicFileAttributes a = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+				if (a.lastModifiedTime().toMillis() != lastModified || a.size() != length)
+					return true;
+			} catch (IOException e) {
+				return true;  // Deleted or no longer readable.
+			}
+		}
+		return gzipped != null && gzipped.isStale();
+	}
+
+	/**
+	 * Same as {@link #isStale()}, but only checks the file on disk if it hasn't been checked in the specified interval.
+	 *
+	 * <p>
+	 * Returns <jk>false</jk> without checking if the file was loaded or last checked less than
+	 * <code>checkInterval</code> milliseconds ago.
+	 *
+	 * @param checkInterval The minimum number of milliseconds between checks.
+	 * @return <jk>true</jk> if this file needs to be reloaded.
+	 */
+	public boolean isStale(long checkInterval) {
+		long now = System.currentTimeMillis();
+		if (now - lastChecked < checkInterval)
+			return false;
+		lastChecked = now;
+		return isStale();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified <code>If-None-Match</code> header matches this file.
+	 *
+	 * <p>
+	 * Uses the weak comparison function, as allowed for <code>GET</code> and <code>HEAD</code> requests.
+	 * Tags of representations encoded on the fly (see {@link #getETag(String)}) also match, since they were produced
+	 * from the same contents.
+	 *
+	 * @param ifNoneMatch The header value.  Can be <jk>null</jk>.
+	 * @return <jk>true</jk> if any of the entity tags in the header match this file, or the header is <js>"*"</js>.
+	 */
+	public boolean matchesETag(String ifNoneMatch) {
+		if (ifNoneMatch == null)
+			return false;
+		String e = etag.substring(1, etag.length()-1);
+		for (EntityValidator v : IfNoneMatch.forString(ifNoneMatch).asValidators()) {
+			if (v.isAny())
+				return true;
+			String s = v.asString();
+			int i = s.indexOf('-');
+			if ((i == -1 ? s : s.substring(0, i)).equals(e))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this file has not been modified since the specified time.
+	 *
+	 * <p>
+	 * HTTP dates have a resolution of one second, so the comparison ignores milliseconds.
+	 *
+	 * @param time The time in milliseconds since the epoch, or <code>-1</code> if not known.
+	 * @return <jk>true</jk> if this file has not been modified since the specified time.
+	 */
+	public boolean isUnmodifiedSince(long time) {
+		return time >= 0 && lastModified / 1000 <= time / 1000;
+	}
+
+	@Override /* Streamable */
+	public void streamTo(OutputStream os) throws IOException {
+		streamTo(os, 0, length);
+	}
+
+	/**
+	 * Streams a range of bytes of this file to the specified output stream.
+	 *
+	 * <p>
+	 * Files on the local file system that aren't held in memory are transferred through a {@link FileChannel}, which
+	 * lets the operating system copy the bytes directly where supported.
+	 *
+	 * @param os The output stream to write to.
+	 * @param start The index of the first byte to write.
+	 * @param count The number of bytes to write.
+	 * @throws IOException
+	 */
+	public void streamTo(OutputStream os, long start, long count) throws IOException {
+		if (contents != null) {
+			os.write(contents, (int)start, (int)count);
+		} else if (file != null) {
+			try (FileInputStream fis = new FileInputStream(file); FileChannel fc = fis.getChannel()) {
+				WritableByteChannel out = Channels.newChannel(os);
+				long pos = start, end = start + count;
+				while (pos < end) {
+					long n = fc.transferTo(pos, end - pos, out);
+					if (n <= 0)
+						throw new EOFException("File '" + file + "' was truncated while being read.");
+					pos += n;
+				}
+			}
+		} else {
+			try (InputStream is = url.openStream()) {
+				for (long n = start; n > 0; ) {
+					long skipped = is.skip(n);
+					if (skipped <= 0) {
+						if (is.read() == -1)
+							throw new EOFException();
+						skipped = 1;
+					}
+					n -= skipped;
+				}
+				byte[] buff = new byte[8192];
+				for (long n = count; n > 0; ) {
+					int r = is.read(buff, 0, (int)Math.min(buff.length, n));
+					if (r == -1)
+						throw new EOFException();
+					os.write(buff, 0, r);
+					n -= r;
+				}
+			}
+		}
+	}
+
+	@Override /* Streamable */
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return url.toString();
+	}
+}
@@ -878,4 +878,41 @@ public @interface RestResource {
 	 * </ul>
 	 */
 	String maxInput() default "";
+
+	/**
+	 * The compression level passed to the matched {@link Encoder} when encoding responses.
+	 *
+	 * <p>
+	 * For the built-in {@link org.apache.juneau.encoders.GzipEncoder} and
+	 * {@link org.apache.juneau.encoders.DeflateEncoder}, this is a value between <js>"0"</js> (no
+	 * compression) and <js>"9"</js> (best compression).
+	 * Lower values trade compression ratio for speed.
+	 *
+	 * <ul>
+	 * 	<li>String value that gets resolved to an <jk>int</jk>.
+	 * 	<li>Can contain variables.
+	 * 	<li>Defaults to system property <js>"juneau.compressionLevel"</js>, or <js>"-1"</js> (the encoder default) if
+	 * 		not specified.
+	 * 	<li>Values outside the range <js>"-1"</js> to <js>"9"</js> cause the resource to fail initialization.
+	 * </ul>
+	 */
+	String compressionLevel() default "";
+
+	/**
+	 * The minimum response size (in bytes) before the response body is encoded.
+	 *
+	 * <p>
+	 * Responses smaller than this are sent unencoded, since compressing tiny bodies costs more CPU than it saves in
+	 * bandwidth.
+	 * The threshold is ignored if the <code>Accept-Encoding</code> header does not allow an unencoded response.
+	 *
+	 * <ul>
+	 * 	<li>String value that gets resolved to an <jk>int</jk>.
+	 * 	<li>Can contain variables.
+	 * 	<li>Can be suffixed with <js>'K'</js> to represent kilobytes.
+	 * 	<li>Defaults to system property <js>"juneau.compressionThreshold"</js>, or <js>"0"</js> (always encode) if
+	 * 		not specified.
+	 * </ul>
+	 */
+	String compressionThreshold() default "";
 }
@@ -58,7 +58,7 @@ public class DefaultHandler implements ResponseHandler {
 				}
 				p.append("mediaType", mediaType).append("characterEncoding", res.getCharacterEncoding());
 
-				SerializerSession session = s.createSession(new SerializerSessionArgs(p, req.getJavaMethod(), req.getLocale(), req.getHeaders().getTimeZone(), mediaType, req.getUriContext()));
+				SerializerSession session = res.createSerializerSession(s, new SerializerSessionArgs(p, req.getJavaMethod(), req.getLocale(), req.getHeaders().getTimeZone(), mediaType, req.getUriContext()));
 
 				for (Map.Entry<String,String> h : session.getResponseHeaders().entrySet())
 					res.setHeader(h.getKey(), h.getValue());
@@ -80,6 +80,7 @@ public class DefaultHandler implements ResponseHandler {
 					session.serialize(output, w);
 					w.close();  // Leave open if exception occurs.
 				}
+				res.releaseSerializerSession(s, session);
 			} catch (SerializeException e) {
 				throw new RestException(SC_INTERNAL_SERVER_ERROR, e);
 			}